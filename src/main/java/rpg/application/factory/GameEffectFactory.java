@@ -7,7 +7,6 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.function.BiFunction;
 import org.slf4j.Logger;
@@ -20,6 +19,7 @@ import rpg.domain.item.effect.HealHpEffect;
 import rpg.domain.item.effect.HealMpEffect;
 import rpg.domain.item.effect.PlaceholderEffect;
 import rpg.shared.constant.GameConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 게임 효과 팩토리 (최신 interface 기반 버전) GameEffect interface를 기반으로 모든 효과를 생성
@@ -264,7 +264,7 @@ public class GameEffectFactory {
       return createHealHpEffect(GameConstants.NUMBER_FIFTY); // 기본값
     }
 
-    Random random = new Random();
+    RandomUtils random = RandomUtils.session();
     GameEffectType randomType = implementedTypes.get(random.nextInt(implementedTypes.size()));
     int randomValue = GameConstants.NUMBER_TWENTY + random.nextInt(GameConstants.NUMBER_EIGHTY_ONE); // 20-100
 
@@ -281,7 +281,7 @@ public class GameEffectFactory {
       return createHealHpEffect(level * GameConstants.NUMBER_TEN); // 기본값
     }
 
-    Random random = new Random();
+    RandomUtils random = RandomUtils.session();
     GameEffectType randomType = availableTypes.get(random.nextInt(availableTypes.size()));
 
     // 레벨에 따른 효과 강도 조정
@@ -7,7 +7,6 @@ import java.util.HashMap;
 import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,30 +17,46 @@ import rpg.domain.item.GameItem;
 import rpg.domain.item.GameItemData;
 import rpg.domain.item.ItemRarity;
 import rpg.domain.item.effect.GameEffect;
-import rpg.infrastructure.data.loader.ConfigDataLoader;
+import rpg.infrastructure.data.loader.ItemCatalog;
+import rpg.infrastructure.data.loader.ItemCatalogLoader;
 import rpg.shared.constant.GameConstants;
 import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 통일된 게임 아이템 팩토리 (최신 버전) BasicItemFactory를 대체하는 메인 팩토리
  */
 public class GameItemFactory {
   private static final Logger logger = LoggerFactory.getLogger(GameItemFactory.class);
-  private static final Random random = new Random();
+  private static final RandomUtils random = RandomUtils.session();
+  private static final ItemRarity[] RARITIES = ItemRarity.values();
+  // 희귀도별 가중치 (ItemRarity 순서, 낮을수록 더 흔함)
+  private static final int[] RARITY_WEIGHTS = {50, 25, 15, 7, 3};
+  private static final int RARITY_WEIGHT_TOTAL = 100;
+  // 상점 아이템 타입 (장비류 위주)
+  private static final String[] SHOP_TYPES = {"WEAPON", "ARMOR", "ACCESSORY", "CONSUMABLE"};
   // 싱글톤 인스턴스
   private static GameItemFactory instance;
 
-  // 아이템 데이터베이스
-  private Map<String, GameItemData> itemDatabase;
+  // 현재 카탈로그 버전에서 만든 팩토리 데이터 (리로드 시 통째로 교체)
+  private volatile Snapshot snapshot;
 
-  // 초기화 상태
-  private boolean initialized = false;
+  /**
+   * 카탈로그 한 버전에서 만든 불변 팩토리 데이터
+   * - database: 아이템 ID → 데이터 (카탈로그의 기본 아이템, 비어 있으면 내장 기본 아이템)
+   * - prototypes: 아이템 ID → 로드 시 한 번 만든 인스턴스. 상태가 없는 소비 아이템은 그대로 공유하고,
+   *   착용 여부를 인스턴스로 구분하는 장비만 createItem에서 복사해 반환
+   * - queryIndex: 희귀도/타입/효과/레벨별 조회 인덱스
+   */
+  private record Snapshot(long version, Map<String, GameItemData> database, Map<String, GameItem> prototypes, ItemQueryIndex queryIndex) {
+  }
 
   /**
    * private 생성자 (싱글톤)
    */
   private GameItemFactory() {
-    initialize();
+    logger.info("GameItemFactory 초기화 중...");
+    snapshot();
   }
 
   /**
@@ -55,38 +70,64 @@ public class GameItemFactory {
   }
 
   /**
-   * 초기화 메서드 수정
+   * 현재 팩토리 데이터를 반환합니다. 카탈로그가 교체되었으면 새로 만듭니다. (평소에는 잠금 없이 volatile 읽기만 수행)
    */
-  private void initialize() {
-    if (initialized) {
-      return;
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
+    if (current == null || current.version() != catalog.getVersion()) {
+      current = rebuild(catalog);
     }
+    return current;
+  }
 
-    logger.info("GameItemFactory 초기화 중...");
+  private synchronized Snapshot rebuild(ItemCatalog catalog) {
+    Snapshot current = snapshot;
+    if (current != null && current.version() == catalog.getVersion()) {
+      return current;
+    }
 
+    Map<String, GameItemData> database;
     try {
-      // 모든 아이템 데이터 로드 (통합)
-      itemDatabase = ConfigDataLoader.loadAllItems();
-
-      if (itemDatabase.isEmpty()) {
+      database = catalog.getBasicItems();
+      if (database.isEmpty()) {
         logger.warn("아이템 데이터가 비어있음. 기본 아이템 생성...");
-        createDefaultItems();
+        database = createDefaultItems();
       }
-
-      logger.info("GameItemFactory 초기화 완료: {}개 아이템", itemDatabase.size());
-      logLoadedItems();
-
-      initialized = true;
-
     } catch (Exception e) {
       logger.error("GameItemFactory 초기화 실패", e);
-      createDefaultItems();
-      initialized = true;
+      database = createDefaultItems();
+    }
+
+    Snapshot built = new Snapshot(catalog.getVersion(), database, buildPrototypes(database), new ItemQueryIndex(database));
+    snapshot = built;
+    logger.info("GameItemFactory 초기화 완료: {}개 아이템 (카탈로그 v{})", database.size(), catalog.getVersion());
+    logLoadedItems(database);
+    return built;
+  }
+
+  /**
+   * 아이템 데이터마다 원형 인스턴스를 한 번 생성합니다. 생성에 실패한 아이템은 원형 없이 남습니다.
+   */
+  private Map<String, GameItem> buildPrototypes(Map<String, GameItemData> database) {
+    Map<String, GameItem> built = new HashMap<>(database.size() * 2);
+    for (Map.Entry<String, GameItemData> entry : database.entrySet()) {
+      try {
+        GameItem item = createItemFromData(entry.getValue());
+        if (item != null) {
+          built.put(entry.getKey(), item);
+        }
+      } catch (Exception e) {
+        logger.error("아이템 원형 생성 중 오류: {}", entry.getKey(), e);
+      }
     }
+    logger.debug("아이템 원형 생성 완료: {}/{}개", built.size(), database.size());
+    return built;
   }
 
   /**
    * 아이템 생성 (메인 메서드)
+   * - 소비 아이템은 공유 원형을 그대로, 장비는 원형의 복사본을 반환
    */
   public GameItem createItem(String itemId) {
     if (itemId == null || itemId.trim().isEmpty()) {
@@ -94,22 +135,19 @@ public class GameItemFactory {
       return null;
     }
 
-    GameItemData data = itemDatabase.get(itemId.toUpperCase());
-    if (data == null) {
-      logger.warn("아이템을 찾을 수 없음: {}", itemId);
-      return null;
-    }
-
-    try {
-      GameItem item = createItemFromData(data);
-      if (item != null) {
-        logger.debug("아이템 생성 성공: {} -> {}", itemId, item.getName());
+    String key = itemId.toUpperCase();
+    Snapshot current = snapshot();
+    GameItem prototype = current.prototypes().get(key);
+    if (prototype == null) {
+      if (current.database().containsKey(key)) {
+        logger.warn("생성할 수 없는 아이템: {}", itemId);
+      } else {
+        logger.warn("아이템을 찾을 수 없음: {}", itemId);
       }
-      return item;
-    } catch (Exception e) {
-      logger.error("아이템 생성 중 오류: {}", itemId, e);
       return null;
     }
+
+    return prototype instanceof GameEquipment equipment ? equipment.copy() : prototype;
   }
 
   /**
@@ -222,14 +260,14 @@ public class GameItemFactory {
    * 아이템 존재 여부 확인
    */
   public boolean itemExists(String itemId) {
-    return itemId != null && itemDatabase.containsKey(itemId.toUpperCase());
+    return itemId != null && snapshot().database().containsKey(itemId.toUpperCase());
   }
 
   /**
    * 중첩 가능 여부 확인
    */
   public boolean isStackable(String itemId) {
-    GameItemData data = itemDatabase.get(itemId.toUpperCase());
+    GameItemData data = snapshot().database().get(itemId.toUpperCase());
     return data != null && data.isStackable();
   }
 
@@ -237,69 +275,42 @@ public class GameItemFactory {
    * 모든 아이템 ID 목록 반환
    */
   public List<String> getAllItemIds() {
-    return new ArrayList<>(itemDatabase.keySet());
+    return snapshot().queryIndex().getAllIds();
   }
 
   /**
    * 특정 타입의 아이템 ID 목록 반환
    */
   public List<String> getItemIdsByType(String itemType) {
-    return itemDatabase.entrySet().stream().filter(entry -> entry.getValue().getType().equalsIgnoreCase(itemType)).map(Map.Entry::getKey).collect(Collectors.toList());
+    return snapshot().queryIndex().getIdsByType(itemType);
   }
 
   /**
    * 특정 효과를 가진 아이템 검색
    */
   public List<String> findItemsByEffect(String effectType) {
-    return itemDatabase.entrySet().stream().filter(entry -> hasEffectType(entry.getValue(), effectType)).map(Map.Entry::getKey).collect(Collectors.toList());
+    return snapshot().queryIndex().getIdsByEffect(effectType);
   }
 
   /**
-   * 아이템이 특정 효과를 가지고 있는지 확인
-   */
-  private boolean hasEffectType(GameItemData data, String effectType) {
-    return data.getEffects().stream().anyMatch(effect -> effect.getType().equalsIgnoreCase(effectType));
-  }
-
-  /**
-   * 레벨에 적합한 아이템 목록 반환
+   * 레벨에 적합한 아이템 목록 반환 (희귀도별 레벨 제한)
    */
   private List<String> getItemsForLevel(int level) {
-    // 간단한 로직: 레벨에 따라 등급 제한
-    List<String> suitableItems = new ArrayList<>();
-
-    for (Map.Entry<String, GameItemData> entry : itemDatabase.entrySet()) {
-      GameItemData data = entry.getValue();
-      ItemRarity rarity = data.getRarity();
-
-      boolean suitable = switch (rarity) {
-        case COMMON -> level >= GameConstants.NUMBER_ONE;
-        case UNCOMMON -> level >= ItemConstants.BEGINNER_LEVEL;
-        case RARE -> level >= ItemConstants.INTERMEDIATE_LEVEL;
-        case EPIC -> level >= ItemConstants.HIGH_LEVEL;
-        case LEGENDARY -> level >= ItemConstants.ULTRA_HIGH_LEVEL;
-      };
-
-      if (suitable) {
-        suitableItems.add(entry.getKey());
-      }
-    }
-
-    return suitableItems;
+    return snapshot().queryIndex().getIdsForLevel(level);
   }
 
   /**
    * 특정 등급의 아이템 목록 반환
    */
   public List<String> getItemsByRarity(ItemRarity rarity) {
-    return itemDatabase.entrySet().stream().filter(entry -> entry.getValue().getRarity() == rarity).map(Map.Entry::getKey).collect(Collectors.toList());
+    return snapshot().queryIndex().getIdsByRarity(rarity);
   }
 
   /**
    * 아이템 정보 출력
    */
   public void printItemInfo(String itemId) {
-    GameItemData data = itemDatabase.get(itemId.toUpperCase());
+    GameItemData data = snapshot().database().get(itemId.toUpperCase());
     if (data == null) {
       System.out.println("❌ 아이템을 찾을 수 없습니다: " + itemId);
       return;
@@ -327,6 +338,7 @@ public class GameItemFactory {
    * 모든 아이템 목록 출력
    */
   public void printAllItems() {
+    Map<String, GameItemData> itemDatabase = getItemDatabase();
     if (itemDatabase.isEmpty()) {
       System.out.println("❌ 등록된 아이템이 없습니다.");
       return;
@@ -356,6 +368,7 @@ public class GameItemFactory {
    * 아이템 통계 출력
    */
   public void printStatistics() {
+    Map<String, GameItemData> itemDatabase = getItemDatabase();
     if (itemDatabase.isEmpty()) {
       System.out.println("❌ 통계를 표시할 아이템이 없습니다.");
       return;
@@ -393,9 +406,9 @@ public class GameItemFactory {
   /**
    * 기본 아이템 생성 (수정된 버전)
    */
-  private void createDefaultItems() {
+  private Map<String, GameItemData> createDefaultItems() {
     logger.warn("기본 아이템 생성 중...");
-    itemDatabase = new HashMap<>();
+    Map<String, GameItemData> itemDatabase = new HashMap<>();
 
     try {
       // 🆕 기본 효과 데이터 생성
@@ -407,31 +420,25 @@ public class GameItemFactory {
       Map<String, Integer> basicArmorStats = Map.of("attack", 0, "defense", 5, "magic", 2);
 
       // 기본 소비 아이템 (cooldown 포함)
-      addDefaultItem("HEALTH_POTION", "체력 물약", "HP를 50 회복합니다", "CONSUMABLE", 25, ItemRarity.COMMON, true, hpEffect, null, basicSwordStats);
-      addDefaultItem("MANA_POTION", "마나 물약", "MP를 30 회복합니다", "CONSUMABLE", 30, ItemRarity.COMMON, true, mpEffect, null, null);
+      addDefaultItem(itemDatabase, "HEALTH_POTION", "체력 물약", "HP를 50 회복합니다", "CONSUMABLE", 25, ItemRarity.COMMON, true, hpEffect, null, basicSwordStats);
+      addDefaultItem(itemDatabase, "MANA_POTION", "마나 물약", "MP를 30 회복합니다", "CONSUMABLE", 30, ItemRarity.COMMON, true, mpEffect, null, null);
 
       // 기본 장비 아이템 (stats 포함)
-      addDefaultItem("BASIC_SWORD", "기본 검", "초보자용 검입니다", "EQUIPMENT", 50, ItemRarity.COMMON, false, null, null, basicSwordStats);
-      addDefaultItem("BASIC_ARMOR", "기본 갑옷", "초보자용 갑옷입니다", "EQUIPMENT", 40, ItemRarity.COMMON, false, null, null, basicArmorStats);
+      addDefaultItem(itemDatabase, "BASIC_SWORD", "기본 검", "초보자용 검입니다", "EQUIPMENT", 50, ItemRarity.COMMON, false, null, null, basicSwordStats);
+      addDefaultItem(itemDatabase, "BASIC_ARMOR", "기본 갑옷", "초보자용 갑옷입니다", "EQUIPMENT", 40, ItemRarity.COMMON, false, null, null, basicArmorStats);
 
       logger.info("기본 아이템 생성 완료: {}개", itemDatabase.size());
 
     } catch (Exception e) {
       logger.error("기본 아이템 생성 실패", e);
     }
-  }
-
-  /**
-   * 기본 아이템 추가 헬퍼 메서드 (기존 버전 - 호환성 유지)
-   */
-  private void addDefaultItem(String id, String name, String description, String type, int value, ItemRarity rarity, boolean stackable, List<GameEffectData> effects) {
-    addDefaultItem(id, name, description, type, value, rarity, stackable, effects, null, null);
+    return Collections.unmodifiableMap(itemDatabase);
   }
 
   /**
    * 기본 아이템 추가 헬퍼 메서드 (확장 버전)
    */
-  private void addDefaultItem(String id, String name, String description, String type, int value, ItemRarity rarity, boolean stackable, List<GameEffectData> effects, Integer cooldown,
+  private void addDefaultItem(Map<String, GameItemData> itemDatabase, String id, String name, String description, String type, int value, ItemRarity rarity, boolean stackable, List<GameEffectData> effects, Integer cooldown,
       Map<String, Integer> stats) {
     try {
       GameItemData item = new GameItemData(id, name, description, type, value, rarity.name(), stackable, effects, null, null, null, null, null, // 기존 장비 필드들 (equipmentType, attackBonus, defenseBonus, hpBonus, mpBonus)
@@ -447,7 +454,10 @@ public class GameItemFactory {
   /**
    * 로드된 아이템 로그 출력
    */
-  private void logLoadedItems() {
+  private void logLoadedItems(Map<String, GameItemData> itemDatabase) {
+    if (!logger.isDebugEnabled()) {
+      return;
+    }
     logger.debug("=== 로드된 아이템 목록 ===");
     for (GameItemData item : itemDatabase.values()) {
       logger.debug("아이템: {} (ID: {}, 타입: {}, 등급: {}, 효과: {}개)", item.getName(), item.getId(), item.getType(), item.getRarity(), item.getEffects().size());
@@ -460,30 +470,29 @@ public class GameItemFactory {
    */
   public void reinitialize() {
     logger.info("GameItemFactory 재초기화 중...");
-    initialized = false;
-    itemDatabase = null;
-    initialize();
+    ItemCatalogLoader.reload();
+    snapshot();
   }
 
   /**
    * 데이터베이스 직접 접근 (읽기 전용)
    */
   public Map<String, GameItemData> getItemDatabase() {
-    return Collections.unmodifiableMap(itemDatabase);
+    return snapshot().database();
   }
 
   /**
    * 초기화 상태 확인
    */
   public boolean isInitialized() {
-    return initialized;
+    return snapshot != null;
   }
 
   /**
    * 로드된 아이템 수 반환
    */
   public int getItemCount() {
-    return itemDatabase.size();
+    return snapshot().database().size();
   }
 
   // ==================== 랜덤 생성 메서드들 (클래스 하단에 추가) ====================
@@ -492,14 +501,13 @@ public class GameItemFactory {
    * 특정 희귀도의 랜덤 아이템 생성 - QuestFactory에서 요청한 메서드
    */
   public GameItem createRandomItemByRarity(ItemRarity rarity) {
-    List<GameItemData> itemsOfRarity = getItemDataByRarity(rarity);
+    GameItemData selectedData = snapshot().queryIndex().pickByRarity(rarity, random);
 
-    if (itemsOfRarity.isEmpty()) {
+    if (selectedData == null) {
       logger.warn("희귀도 {}에 해당하는 아이템이 없음", rarity);
       return createFallbackItemByRarity(rarity);
     }
 
-    GameItemData selectedData = itemsOfRarity.get(random.nextInt(itemsOfRarity.size()));
     GameItem item = createItem(selectedData.getId());
 
     if (item != null) {
@@ -512,8 +520,7 @@ public class GameItemFactory {
    * 희귀도별 아이템 데이터 목록 반환 (내부 헬퍼 메서드)
    */
   private List<GameItemData> getItemDataByRarity(ItemRarity rarity) {
-    return itemDatabase.values().stream().filter(data -> data.getRarity() == rarity) // 직접 enum 비교
-        .collect(Collectors.toList());
+    return snapshot().queryIndex().getByRarity(rarity);
   }
 
   /**
@@ -561,14 +568,13 @@ public class GameItemFactory {
    * 특정 타입의 랜덤 아이템 생성
    */
   public GameItem createRandomItemByType(String itemType) {
-    List<GameItemData> itemsOfType = getItemDataByType(itemType);
+    GameItemData selectedData = snapshot().queryIndex().pickByType(itemType, random);
 
-    if (itemsOfType.isEmpty()) {
+    if (selectedData == null) {
       logger.warn("타입 {}에 해당하는 아이템이 없음", itemType);
       return null;
     }
 
-    GameItemData selectedData = itemsOfType.get(random.nextInt(itemsOfType.size()));
     GameItem item = createItem(selectedData.getId());
 
     if (item != null) {
@@ -577,13 +583,6 @@ public class GameItemFactory {
     return item;
   }
 
-  /**
-   * 타입별 아이템 데이터 목록 반환 (내부 헬퍼 메서드)
-   */
-  private List<GameItemData> getItemDataByType(String itemType) {
-    return itemDatabase.values().stream().filter(data -> itemType.equalsIgnoreCase(data.getType())).collect(Collectors.toList());
-  }
-
   /**
    * 희귀도 가중치를 적용한 랜덤 아이템 생성
    */
@@ -596,17 +595,13 @@ public class GameItemFactory {
    * 희귀도 가중치 선택
    */
   private ItemRarity selectRarityByWeight() {
-    // 희귀도별 가중치 (낮을수록 더 흔함)
-    Map<ItemRarity, Integer> weights = Map.of(ItemRarity.COMMON, 50, ItemRarity.UNCOMMON, 25, ItemRarity.RARE, 15, ItemRarity.EPIC, 7, ItemRarity.LEGENDARY, 3);
-
-    int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
-    int randomValue = random.nextInt(totalWeight);
+    int randomValue = random.nextInt(RARITY_WEIGHT_TOTAL);
 
     int currentWeight = 0;
-    for (Map.Entry<ItemRarity, Integer> entry : weights.entrySet()) {
-      currentWeight += entry.getValue();
+    for (int i = 0; i < RARITY_WEIGHTS.length; i++) {
+      currentWeight += RARITY_WEIGHTS[i];
       if (randomValue < currentWeight) {
-        return entry.getKey();
+        return RARITIES[i];
       }
     }
 
@@ -619,9 +614,7 @@ public class GameItemFactory {
   public GameItem createRandomItemForLevel(int playerLevel) {
     // 레벨에 따른 희귀도 확률 조정
     ItemRarity maxRarity = getMaxRarityForLevel(playerLevel);
-    List<ItemRarity> availableRarities = getAvailableRarities(maxRarity);
-
-    ItemRarity selectedRarity = availableRarities.get(random.nextInt(availableRarities.size()));
+    ItemRarity selectedRarity = pickRarityUpTo(maxRarity);
     GameItem item = createRandomItemByRarity(selectedRarity);
 
     if (item != null) {
@@ -648,20 +641,10 @@ public class GameItemFactory {
   }
 
   /**
-   * 최대 희귀도까지의 사용 가능한 희귀도 목록
+   * 최대 희귀도까지의 희귀도 중 하나를 균등 추첨
    */
-  private List<ItemRarity> getAvailableRarities(ItemRarity maxRarity) {
-    List<ItemRarity> available = new ArrayList<>();
-    ItemRarity[] allRarities = ItemRarity.values();
-
-    for (ItemRarity rarity : allRarities) {
-      available.add(rarity);
-      if (rarity == maxRarity) {
-        break;
-      }
-    }
-
-    return available;
+  private ItemRarity pickRarityUpTo(ItemRarity maxRarity) {
+    return RARITIES[random.nextInt(maxRarity.ordinal() + 1)];
   }
 
   /**
@@ -709,11 +692,9 @@ public class GameItemFactory {
     }
 
     // 소비 아이템 위주로 드롭
-    List<GameItemData> consumables = getItemDataByType("CONSUMABLE");
-    List<GameItemData> targetItems = consumables.stream().filter(data -> data.getRarity() == rarity).collect(Collectors.toList());
+    GameItemData selectedData = snapshot().queryIndex().pickByType("CONSUMABLE", rarity, random);
 
-    if (!targetItems.isEmpty()) {
-      GameItemData selectedData = targetItems.get(random.nextInt(targetItems.size()));
+    if (selectedData != null) {
       GameItem item = createItem(selectedData.getId());
       if (item != null) {
         logger.debug("몬스터 드롭 아이템: {} (레벨 {})", item.getName(), monsterLevel);
@@ -733,16 +714,11 @@ public class GameItemFactory {
     ItemRarity maxRarity = getMaxRarityForLevel(shopLevel);
 
     // 상점은 장비류를 많이 팜
-    String[] shopTypes = {"WEAPON", "ARMOR", "ACCESSORY", "CONSUMABLE"};
-    String selectedType = shopTypes[random.nextInt(shopTypes.length)];
+    String selectedType = SHOP_TYPES[random.nextInt(SHOP_TYPES.length)];
 
-    List<GameItemData> typeItems = getItemDataByType(selectedType);
-    List<GameItemData> availableItems = typeItems.stream().filter(data -> {
-      return data.getRarity().ordinal() <= maxRarity.ordinal();
-    }).collect(Collectors.toList());
+    GameItemData selectedData = snapshot().queryIndex().pickByTypeUpTo(selectedType, maxRarity, random);
 
-    if (!availableItems.isEmpty()) {
-      GameItemData selectedData = availableItems.get(random.nextInt(availableItems.size()));
+    if (selectedData != null) {
       GameItem item = createItem(selectedData.getId());
       if (item != null) {
         logger.debug("상점 아이템 생성: {} (상점 레벨 {})", item.getName(), shopLevel);
@@ -762,18 +738,10 @@ public class GameItemFactory {
     ItemRarity maxRarity = getMaxRarityForLevel(questLevel);
 
     // 최소 희귀도보다 낮으면 최소 희귀도로 조정
-    List<ItemRarity> availableRarities = new ArrayList<>();
-    for (ItemRarity rarity : ItemRarity.values()) {
-      if (rarity.ordinal() >= minRarity.ordinal() && rarity.ordinal() <= maxRarity.ordinal()) {
-        availableRarities.add(rarity);
-      }
+    ItemRarity selectedRarity = minRarity;
+    if (maxRarity.ordinal() > minRarity.ordinal()) {
+      selectedRarity = RARITIES[minRarity.ordinal() + random.nextInt(maxRarity.ordinal() - minRarity.ordinal() + 1)];
     }
-
-    if (availableRarities.isEmpty()) {
-      availableRarities.add(minRarity);
-    }
-
-    ItemRarity selectedRarity = availableRarities.get(random.nextInt(availableRarities.size()));
     GameItem item = createRandomItemByRarity(selectedRarity);
 
     if (item != null) {
@@ -789,8 +757,7 @@ public class GameItemFactory {
     List<GameItem> items = new ArrayList<>();
 
     for (int i = 0; i < count; i++) {
-      List<ItemRarity> availableRarities = getAvailableRarities(maxRarity);
-      ItemRarity selectedRarity = availableRarities.get(random.nextInt(availableRarities.size()));
+      ItemRarity selectedRarity = pickRarityUpTo(maxRarity);
 
       GameItem item = createRandomItemByRarity(selectedRarity);
       if (item != null) {
@@ -807,15 +774,15 @@ public class GameItemFactory {
    */
   public List<GameItem> createItemSet(String itemType, int count) {
     List<GameItem> itemSet = new ArrayList<>();
-    List<GameItemData> typeItems = getItemDataByType(itemType);
 
-    if (typeItems.isEmpty()) {
+    ItemQueryIndex queryIndex = snapshot().queryIndex();
+    if (queryIndex.countByType(itemType) == 0) {
       logger.warn("타입 {}에 해당하는 아이템이 없어서 세트 생성 불가", itemType);
       return itemSet;
     }
 
     for (int i = 0; i < count; i++) {
-      GameItemData selectedData = typeItems.get(random.nextInt(typeItems.size()));
+      GameItemData selectedData = queryIndex.pickByType(itemType, random);
       GameItem item = createItem(selectedData.getId());
       if (item != null) {
         itemSet.add(item);
@@ -846,7 +813,7 @@ public class GameItemFactory {
   public Map<String, Integer> getTypeDistribution() {
     Map<String, Integer> distribution = new HashMap<>();
 
-    for (GameItemData data : itemDatabase.values()) {
+    for (GameItemData data : snapshot().database().values()) {
       String type = data.getType();
       distribution.merge(type, 1, Integer::sum);
     }
@@ -3,7 +3,6 @@ package rpg.application.factory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rpg.application.service.DynamicQuestDataProvider;
@@ -13,6 +12,7 @@ import rpg.domain.item.ItemRarity;
 import rpg.domain.monster.MonsterData;
 import rpg.domain.quest.Quest;
 import rpg.domain.quest.QuestReward;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 퀘스트를 생성하는 Factory 클래스
@@ -28,10 +28,11 @@ public class GameQuestFactory {
   private final GameEffectFactory effectFactory;
   private final DynamicQuestDataProvider dataProvider;
 
-  private Random random;
+  private final RandomUtils random;
 
   private GameQuestFactory() {
     this.itemFactory = GameItemFactory.getInstance();
+    this.random = RandomUtils.session();
     this.effectFactory = new GameEffectFactory();
     this.dataProvider = DynamicQuestDataProvider.getInstance();
   }
@@ -50,7 +51,7 @@ public class GameQuestFactory {
   public Quest createLevelAppropriateQuest(int playerLevel) {
     // 레벨에 따른 퀘스트 타입 결정
     Quest.QuestType[] types = Quest.QuestType.values();
-    Quest.QuestType selectedType = types[(int) (Math.random() * types.length)];
+    Quest.QuestType selectedType = types[random.nextInt(types.length)];
 
     return createDynamicQuest(selectedType, playerLevel);
   }
@@ -0,0 +1,243 @@
+package rpg.application.factory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import rpg.domain.item.GameEffectData;
+import rpg.domain.item.GameItemData;
+import rpg.domain.item.ItemRarity;
+import rpg.shared.constant.GameConstants;
+import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 아이템 데이터 조회용 불변 인덱스
+ * - 희귀도(EnumMap), 타입, 효과 타입별 배열을 로드 시 한 번 구성
+ * - 배열은 희귀도 순으로 정렬하고 희귀도별 누적 개수를 함께 보관하므로, "희귀도 X인 항목"과 "희귀도 X 이하인 항목"은 배열의 연속 구간
+ * - 레벨 제한도 희귀도 단위이므로 같은 누적 개수로 레벨별 항목 수를 구함
+ * - 추첨은 구간 안에서 인덱스 하나를 고르는 방식이라 호출마다 스트림이나 리스트를 만들지 않음
+ * - ID 목록 조회는 데이터베이스 순회 순서를 유지 (기존 스트림 필터와 같은 결과)
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능
+ */
+public final class ItemQueryIndex {
+  private static final ItemRarity[] RARITIES = ItemRarity.values();
+
+  /** 희귀도별 최소 레벨 (ItemRarity 순서) */
+  private static final int[] LEVEL_GATES = {
+      GameConstants.NUMBER_ONE,
+      ItemConstants.BEGINNER_LEVEL,
+      ItemConstants.INTERMEDIATE_LEVEL,
+      ItemConstants.HIGH_LEVEL,
+      ItemConstants.ULTRA_HIGH_LEVEL
+  };
+
+  private final List<String> allIds;
+  private final GameItemData[] ordered; // 데이터베이스 순회 순서
+  private final Group all;
+  private final Map<ItemRarity, List<GameItemData>> byRarity;
+  private final Map<String, Group> byType; // 키: 대문자 타입
+  private final Map<String, List<String>> idsByType; // 키: 대문자 타입, 데이터베이스 순서
+  private final Map<String, List<String>> byEffect; // 키: 대문자 효과 타입
+
+  /**
+   * 희귀도 순으로 정렬된 아이템 배열 (ends[r]: 희귀도 ordinal이 r 이하인 항목 수)
+   */
+  private record Group(GameItemData[] items, int[] ends) {
+
+    static Group of(List<GameItemData> source) {
+      GameItemData[] items = source.toArray(new GameItemData[0]);
+      Arrays.sort(items, Comparator.comparingInt(data -> data.getRarity().ordinal())); // 안정 정렬: 같은 희귀도는 원래 순서 유지
+      int[] ends = new int[RARITIES.length];
+      for (GameItemData data : items) {
+        ends[data.getRarity().ordinal()]++;
+      }
+      for (int i = 1; i < ends.length; i++) {
+        ends[i] += ends[i - 1];
+      }
+      return new Group(items, ends);
+    }
+
+    int start(ItemRarity rarity) {
+      return rarity.ordinal() == 0 ? 0 : ends[rarity.ordinal() - 1];
+    }
+
+    int end(ItemRarity rarity) {
+      return ends[rarity.ordinal()];
+    }
+
+    GameItemData pick(int from, int to, RandomUtils random) {
+      return from < to ? items[from + random.nextInt(to - from)] : null;
+    }
+  }
+
+  /**
+   * @param database 아이템 ID → 데이터 (ID 목록은 이 맵의 순회 순서를 따름)
+   */
+  public ItemQueryIndex(Map<String, GameItemData> database) {
+    if (LEVEL_GATES.length != RARITIES.length) {
+      throw new IllegalStateException("희귀도별 레벨 제한 수가 희귀도 수와 다릅니다.");
+    }
+
+    List<String> ids = new ArrayList<>(database.size());
+    List<GameItemData> items = new ArrayList<>(database.size());
+    Map<String, List<GameItemData>> types = new LinkedHashMap<>();
+    Map<String, List<String>> effects = new HashMap<>();
+
+    for (Map.Entry<String, GameItemData> entry : database.entrySet()) {
+      GameItemData data = entry.getValue();
+      ids.add(entry.getKey());
+      items.add(data);
+      if (data.getType() != null) {
+        types.computeIfAbsent(data.getType().toUpperCase(), k -> new ArrayList<>()).add(data);
+      }
+      Set<String> effectTypes = new LinkedHashSet<>();
+      for (GameEffectData effect : data.getEffects()) {
+        if (effect.getType() != null) {
+          effectTypes.add(effect.getType().toUpperCase());
+        }
+      }
+      for (String effectType : effectTypes) {
+        effects.computeIfAbsent(effectType, k -> new ArrayList<>()).add(entry.getKey());
+      }
+    }
+
+    this.allIds = Collections.unmodifiableList(ids);
+    this.ordered = items.toArray(new GameItemData[0]);
+    this.all = Group.of(items);
+
+    Map<ItemRarity, List<GameItemData>> rarities = new EnumMap<>(ItemRarity.class);
+    for (ItemRarity rarity : RARITIES) {
+      rarities.put(rarity, Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(all.items(), all.start(rarity), all.end(rarity)))));
+    }
+    this.byRarity = Collections.unmodifiableMap(rarities);
+
+    Map<String, Group> typeGroups = new HashMap<>(types.size() * 2);
+    Map<String, List<String>> typeIds = new HashMap<>(types.size() * 2);
+    types.forEach((type, list) -> {
+      typeGroups.put(type, Group.of(list));
+      typeIds.put(type, list.stream().map(GameItemData::getId).toList());
+    });
+    this.byType = typeGroups;
+    this.idsByType = typeIds;
+
+    Map<String, List<String>> effectIds = new HashMap<>(effects.size() * 2);
+    effects.forEach((type, list) -> effectIds.put(type, List.copyOf(list)));
+    this.byEffect = effectIds;
+  }
+
+  /**
+   * 모든 아이템 ID (읽기 전용)
+   */
+  public List<String> getAllIds() {
+    return allIds;
+  }
+
+  /**
+   * 희귀도별 아이템 데이터 (읽기 전용)
+   */
+  public List<GameItemData> getByRarity(ItemRarity rarity) {
+    return byRarity.get(rarity);
+  }
+
+  /**
+   * 희귀도별 아이템 ID (읽기 전용)
+   */
+  public List<String> getIdsByRarity(ItemRarity rarity) {
+    return toIds(all, all.start(rarity), all.end(rarity));
+  }
+
+  /**
+   * 타입별 아이템 ID (대소문자 무시, 읽기 전용)
+   */
+  public List<String> getIdsByType(String type) {
+    return type == null ? List.of() : idsByType.getOrDefault(type.toUpperCase(), List.of());
+  }
+
+  /**
+   * 효과 타입별 아이템 ID (대소문자 무시, 읽기 전용)
+   */
+  public List<String> getIdsByEffect(String effectType) {
+    return effectType == null ? List.of() : byEffect.getOrDefault(effectType.toUpperCase(), List.of());
+  }
+
+  /**
+   * 레벨 제한을 통과하는 아이템 ID (데이터베이스 순서, 읽기 전용)
+   */
+  public List<String> getIdsForLevel(int level) {
+    int gates = 0;
+    while (gates < LEVEL_GATES.length && level >= LEVEL_GATES[gates]) {
+      gates++;
+    }
+    String[] ids = new String[countForLevel(level)];
+    int count = 0;
+    for (GameItemData data : ordered) {
+      if (data.getRarity().ordinal() < gates) {
+        ids[count++] = data.getId();
+      }
+    }
+    return List.of(ids);
+  }
+
+  /**
+   * 레벨 제한을 통과하는 아이템 수 (희귀도 순 배열의 앞부분)
+   */
+  public int countForLevel(int level) {
+    int count = 0;
+    for (int i = 0; i < LEVEL_GATES.length && level >= LEVEL_GATES[i]; i++) {
+      count = all.ends()[i];
+    }
+    return count;
+  }
+
+  public int countByType(String type) {
+    Group group = type == null ? null : byType.get(type.toUpperCase());
+    return group == null ? 0 : group.items().length;
+  }
+
+  /**
+   * 해당 희귀도의 아이템 하나를 균등 추첨합니다. 없으면 null.
+   */
+  public GameItemData pickByRarity(ItemRarity rarity, RandomUtils random) {
+    return all.pick(all.start(rarity), all.end(rarity), random);
+  }
+
+  /**
+   * 해당 타입의 아이템 하나를 균등 추첨합니다. 없으면 null.
+   */
+  public GameItemData pickByType(String type, RandomUtils random) {
+    Group group = type == null ? null : byType.get(type.toUpperCase());
+    return group == null ? null : group.pick(0, group.items().length, random);
+  }
+
+  /**
+   * 해당 타입이면서 해당 희귀도인 아이템 하나를 균등 추첨합니다. 없으면 null.
+   */
+  public GameItemData pickByType(String type, ItemRarity rarity, RandomUtils random) {
+    Group group = type == null ? null : byType.get(type.toUpperCase());
+    return group == null ? null : group.pick(group.start(rarity), group.end(rarity), random);
+  }
+
+  /**
+   * 해당 타입이면서 희귀도가 maxRarity 이하인 아이템 하나를 균등 추첨합니다. 없으면 null.
+   */
+  public GameItemData pickByTypeUpTo(String type, ItemRarity maxRarity, RandomUtils random) {
+    Group group = type == null ? null : byType.get(type.toUpperCase());
+    return group == null ? null : group.pick(0, group.end(maxRarity), random);
+  }
+
+  private static List<String> toIds(Group group, int from, int to) {
+    String[] ids = new String[to - from];
+    for (int i = from; i < to; i++) {
+      ids[i - from] = group.items()[i].getId();
+    }
+    return List.of(ids);
+  }
+}
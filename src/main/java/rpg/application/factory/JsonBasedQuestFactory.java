@@ -11,6 +11,7 @@ import rpg.domain.quest.QuestReward;
 import rpg.domain.quest.QuestRewardData;
 import rpg.domain.quest.QuestTemplateData;
 import rpg.infrastructure.data.loader.QuestTemplateLoader;
+import rpg.shared.util.RandomUtils;
 
 /**
  * @formatter:off
@@ -179,7 +180,7 @@ public class JsonBasedQuestFactory {
     }
 
     // 랜덤 선택
-    QuestTemplateData selectedTemplate = suitableTemplates.get((int) (Math.random() * suitableTemplates.size()));
+    QuestTemplateData selectedTemplate = suitableTemplates.get(RandomUtils.session().nextInt(suitableTemplates.size()));
 
     Quest quest = converter.convertToQuest(selectedTemplate);
     if (quest != null) {
@@ -200,7 +201,7 @@ public class JsonBasedQuestFactory {
       return null;
     }
 
-    QuestTemplateData selectedTemplate = typeTemplates.get((int) (Math.random() * typeTemplates.size()));
+    QuestTemplateData selectedTemplate = typeTemplates.get(RandomUtils.session().nextInt(typeTemplates.size()));
 
     Quest quest = converter.convertToQuest(selectedTemplate);
     if (quest != null) {
@@ -3,7 +3,6 @@ package rpg.application.factory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rpg.application.manager.LocationManager;
@@ -18,12 +17,13 @@ import rpg.domain.quest.QuestReward;
 import rpg.domain.quest.QuestRewardData;
 import rpg.domain.quest.QuestTemplateData;
 import rpg.domain.quest.VariableQuantity;
-import rpg.infrastructure.data.loader.ConfigDataLoader;
+import rpg.infrastructure.data.loader.ItemCatalogLoader;
 import rpg.infrastructure.data.loader.MonsterDataLoader;
+import rpg.shared.util.RandomUtils;
 
 public class QuestTemplateConverter {
   private static final Logger logger = LoggerFactory.getLogger(QuestTemplateConverter.class);
-  private static final Random random = new Random();
+  private static final RandomUtils random = RandomUtils.session();
 
   private final GameItemFactory itemFactory;
   private final DynamicQuestDataProvider dataProvider;
@@ -320,7 +320,7 @@ public class QuestTemplateConverter {
    * variableTargets에서 실제 아이템 데이터 선택
    */
   private GameItemData selectItemFromVariableTargets(List<String> targets) {
-    Map<String, GameItemData> allItems = ConfigDataLoader.loadAllItems();
+    Map<String, GameItemData> allItems = ItemCatalogLoader.getCatalog().getBasicItems();
 
     for (String target : targets) {
       // 영문 ID인 경우 직접 검색
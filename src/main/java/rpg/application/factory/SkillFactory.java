@@ -11,8 +11,10 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import rpg.domain.battle.BattleCalculator;
 import rpg.domain.skill.Skill;
 import rpg.domain.skill.SkillType;
+import rpg.domain.status.StatusEffectType;
 import rpg.shared.constant.SystemConstants;
 
 /**
@@ -158,6 +160,10 @@ public class SkillFactory {
 
       // ID 설정 (Skill 클래스에 ID 필드 추가 필요)
       skill.setId(template.id);
+      configureStatusEffect(skill, template);
+      if (template.effect != null && Boolean.TRUE.equals(template.effect.get("areaEffect"))) {
+        skill.setAreaEffect(true);
+      }
 
       logger.debug("스킬 생성 성공: {} ({})", skillId, template.name);
       return skill;
@@ -168,6 +174,40 @@ public class SkillFactory {
     }
   }
 
+  /**
+   * 스킬 데이터의 effect를 상태 효과로 변환해 설정합니다.
+   * - 능력치 효과(value는 배율, 예: 1.5 / 0.7)는 천분율 증감으로 변환
+   * - 마나 실드(value는 흡수 비율)는 천분율로 변환
+   * - 재생(value)과 지속 피해(dotDamage)는 턴당 HP 그대로 사용
+   */
+  private static void configureStatusEffect(Skill skill, SkillTemplate template) {
+    if (template.effect == null) {
+      return;
+    }
+
+    String effectName = String.valueOf(template.effect.get("type"));
+    StatusEffectType effectType = StatusEffectType.fromEffectName(effectName);
+    if (effectType == null) {
+      return;
+    }
+
+    double value = toDouble(template.effect.get("value"));
+    int magnitude = switch (effectType) {
+      case ATTACK_UP, DEFENSE_UP, ATTACK_DOWN, DEFENSE_DOWN -> Math.abs(BattleCalculator.toPermille(value) - BattleCalculator.PERMILLE);
+      case MANA_SHIELD -> BattleCalculator.toPermille(value);
+      case POISON, BURN -> (int) (template.effect.containsKey("dotDamage") ? toDouble(template.effect.get("dotDamage")) : value);
+      case REGENERATION -> (int) value;
+    };
+    int duration = (int) toDouble(template.effect.get("duration"));
+
+    skill.configureStatusEffect(effectType, magnitude, duration);
+    logger.debug("스킬 상태 효과 설정: {} -> {} (수치: {}, 지속: {}턴)", template.id, effectType, magnitude, duration);
+  }
+
+  private static double toDouble(Object value) {
+    return value instanceof Number number ? number.doubleValue() : 0.0;
+  }
+
   /**
    * 레벨에 따라 사용 가능한 스킬 ID 목록 반환
    */
@@ -60,7 +60,8 @@ public class LocationManager {
       for (JsonNode locationNode : locationsNode) {
         LocationData locationData = objectMapper.treeToValue(locationNode, LocationData.class);
         locations.put(locationData.getId(), locationData);
-        logger.debug("지역 로드: {} ({})", locationData.getId(), locationData.getNameKo());
+        // properties는 LocationData 생성 시 LocationProperties로 컴파일됨 (플래그 비트셋, 생물군계/기후 enum)
+        logger.debug("지역 로드: {} ({}) {}", locationData.getId(), locationData.getNameKo(), locationData.getProperties());
       }
     }
   }
@@ -1,7 +1,6 @@
 package rpg.application.service;
 
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,12 +8,13 @@ import rpg.application.manager.LocationManager;
 import rpg.domain.item.GameItemData;
 import rpg.domain.location.LocationData;
 import rpg.domain.monster.MonsterData;
-import rpg.infrastructure.data.loader.ConfigDataLoader;
+import rpg.infrastructure.data.loader.ItemCatalogLoader;
 import rpg.infrastructure.data.loader.MonsterDataLoader;
+import rpg.shared.util.RandomUtils;
 
 public class DynamicQuestDataProvider {
   private static final Logger logger = LoggerFactory.getLogger(DynamicQuestDataProvider.class);
-  private static final Random random = new Random();
+  private static final RandomUtils random = RandomUtils.session();
 
   private static DynamicQuestDataProvider instance;
 
@@ -114,7 +114,7 @@ public class DynamicQuestDataProvider {
    * 특정 타입의 아이템 선택
    */
   public GameItemData selectItemByType(String itemType) {
-    List<GameItemData> typeItems = ConfigDataLoader.loadAllItems().values().stream().filter(item -> itemType.equalsIgnoreCase(item.getType())).filter(this::isCollectable).collect(Collectors.toList());
+    List<GameItemData> typeItems = ItemCatalogLoader.getCatalog().getBasicItems().values().stream().filter(item -> itemType.equalsIgnoreCase(item.getType())).filter(this::isCollectable).collect(Collectors.toList());
 
     if (typeItems.isEmpty()) {
       return selectRandomCollectableItem();
@@ -128,7 +128,7 @@ public class DynamicQuestDataProvider {
    */
   public GameItemData selectItemByRarity(String rarity) {
     List<GameItemData> rarityItems =
-        ConfigDataLoader.loadAllItems().values().stream().filter(item -> rarity.equalsIgnoreCase(item.getRarity().name())).filter(this::isCollectable).collect(Collectors.toList());
+        ItemCatalogLoader.getCatalog().getBasicItems().values().stream().filter(item -> rarity.equalsIgnoreCase(item.getRarity().name())).filter(this::isCollectable).collect(Collectors.toList());
 
     if (rarityItems.isEmpty()) {
       return selectRandomCollectableItem();
@@ -204,7 +204,7 @@ public class DynamicQuestDataProvider {
    * 수집 가능한 아이템 목록 반환
    */
   private List<GameItemData> getCollectableItems() {
-    return ConfigDataLoader.loadAllItems().values().stream().filter(this::isCollectable).collect(Collectors.toList());
+    return ItemCatalogLoader.getCatalog().getBasicItems().values().stream().filter(this::isCollectable).collect(Collectors.toList());
   }
 
   /**
@@ -226,7 +226,7 @@ public class DynamicQuestDataProvider {
    * 기본 아이템 반환 (폴백)
    */
   private GameItemData getDefaultItem() {
-    return ConfigDataLoader.loadAllItems().get("HEALTH_POTION");
+    return ItemCatalogLoader.getCatalog().getBasicItems().get("HEALTH_POTION");
   }
 
   /**
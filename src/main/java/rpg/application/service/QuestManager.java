@@ -24,6 +24,7 @@ import rpg.domain.player.Player;
 import rpg.domain.quest.Quest;
 import rpg.domain.quest.Quest.QuestStatus;
 import rpg.domain.quest.QuestReward;
+import rpg.shared.util.RandomUtils;
 
 /**@formatter:off
  * 퀘스트를 관리하는 서비스 클래스 (QuestFactory 패턴 적용)
@@ -41,6 +42,9 @@ public class QuestManager {
 
   private List<String> claimedRewardIds; // 보상 수령한 퀘스트 ID 목록
 
+  // 목표 키("kill_FOREST_SLIME" 등) -> 해당 목표를 가진 활성 퀘스트, activeQuests가 바뀌면 무효화하고 다음 조회 시 재구성
+  private Map<String, List<Quest>> objectiveIndex;
+
   // 팩토리 인스턴스 - JsonBasedQuestFactory 사용
   private final GameItemFactory itemFactory;
   private final JsonBasedQuestFactory jsonQuestFactory; // 변경
@@ -303,6 +307,7 @@ public class QuestManager {
       if (quest.accept(character)) {
         availableQuests.remove(quest);
         activeQuests.add(quest);
+        invalidateObjectiveIndex();
 
         // 레벨 퀘스트의 경우 추가적으로 진행도 업데이트
         if (quest.getType() == Quest.QuestType.LEVEL) {
@@ -342,28 +347,19 @@ public class QuestManager {
    * 몬스터 처치 시 퀘스트 진행도 업데이트 - 수정된 버전
    */
   public void updateKillProgress(String monsterId) {
+    updateKillProgress(monsterId, 1);
+  }
+
+  /**
+   * 몬스터 처치 수만큼 퀘스트 진행도를 업데이트합니다. (같은 턴의 처치를 합쳐서 한 번에 반영)
+   * 목표 키 인덱스로 해당 목표를 가진 퀘스트만 확인합니다.
+   */
+  public void updateKillProgress(String monsterId, int count) {
     // 정확한 몬스터 ID 사용
     String objectiveKey = "kill_" + monsterId; // 예: "kill_FOREST_SLIME"
 
-    logger.debug("몬스터 처치 진행도 업데이트 시도: {} -> {}", monsterId, objectiveKey);
-
-    boolean progressUpdated = false;
-    for (Quest quest : new ArrayList<>(activeQuests)) {
-      if (quest.getType() == Quest.QuestType.KILL) {
-        logger.debug("퀘스트 {} 목표 확인: {}", quest.getId(), quest.getObjectives().keySet());
-
-        if (quest.updateProgress(objectiveKey, 1)) {
-          completeQuest(quest);
-          progressUpdated = true;
-          break;
-        }
-      }
-    }
-
-    if (!progressUpdated) {
-      logger.warn("몬스터 {} 처치에 대한 퀘스트를 찾을 수 없음. 목표 키: {}", monsterId, objectiveKey);
-      // 디버깅을 위해 현재 활성 퀘스트 목표들 출력
-      debugActiveQuestObjectives();
+    if (!updateIndexedProgress(Quest.QuestType.KILL, objectiveKey, count)) {
+      logger.debug("몬스터 {} 처치에 해당하는 활성 퀘스트 없음 (목표 키: {})", monsterId, objectiveKey);
     }
   }
 
@@ -379,7 +375,7 @@ public class QuestManager {
     boolean anyQuestCompleted = false;
 
     // 활성 퀘스트 중 레벨 퀘스트 확인
-    for (Quest quest : new ArrayList<>(activeQuests)) {
+    for (Quest quest : findActiveQuestsByObjective(objectiveKey)) {
       if (quest.getType() == Quest.QuestType.LEVEL) {
         logger.debug("레벨 퀘스트 {} 확인: 목표 {}", quest.getId(), quest.getObjectives());
 
@@ -405,43 +401,58 @@ public class QuestManager {
     // 정확한 아이템 ID 사용
     String objectiveKey = "collect_" + itemId; // 예: "collect_HEALTH_POTION"
 
-    logger.debug("아이템 수집 진행도 업데이트 시도: {} x{} -> {}", itemId, quantity, objectiveKey);
-
-    boolean progressUpdated = false;
-    for (Quest quest : new ArrayList<>(activeQuests)) {
-      if (quest.getType() == Quest.QuestType.COLLECT) {
-        logger.debug("퀘스트 {} 목표 확인: {}", quest.getId(), quest.getObjectives().keySet());
-
-        if (quest.updateProgress(objectiveKey, quantity)) {
-          completeQuest(quest);
-          progressUpdated = true;
-          break;
-        }
-      }
+    if (!updateIndexedProgress(Quest.QuestType.COLLECT, objectiveKey, quantity)) {
+      logger.debug("아이템 {} 수집에 해당하는 활성 퀘스트 없음 (목표 키: {})", itemId, objectiveKey);
     }
+  }
 
-    if (!progressUpdated) {
-      logger.warn("아이템 {} 수집에 대한 퀘스트를 찾을 수 없음. 목표 키: {}", itemId, objectiveKey);
-      // 디버깅을 위해 현재 활성 퀘스트 목표들 출력
-      debugActiveQuestObjectives();
+  /**
+   * 목표 키를 가진 활성 퀘스트들의 진행도를 순서대로 올리고, 처음 완료된 퀘스트를 처리한 뒤 멈춥니다.
+   * (기존 전체 순회 방식과 같이 한 번의 처치/수집으로는 퀘스트 하나만 완료)
+   *
+   * @return 목표 키를 가진 퀘스트가 하나라도 있었는지 여부
+   */
+  private boolean updateIndexedProgress(Quest.QuestType type, String objectiveKey, int value) {
+    List<Quest> quests = findActiveQuestsByObjective(objectiveKey);
+    boolean found = false;
+    for (Quest quest : quests) {
+      if (quest.getType() != type) {
+        continue;
+      }
+      found = true;
+      if (quest.updateProgress(objectiveKey, value)) {
+        completeQuest(quest);
+        break;
+      }
     }
+    return found;
   }
 
-
   /**
-   * 디버깅용 - 현재 활성 퀘스트의 목표들 출력
+   * 목표 키를 가진 활성 퀘스트 목록을 인덱스에서 찾습니다.
+   * 반환 목록은 인덱스 재구성 시 교체되므로 순회 중 퀘스트가 완료되어도 안전합니다.
    */
-  private void debugActiveQuestObjectives() {
-    if (activeQuests.isEmpty()) {
-      logger.debug("현재 활성 퀘스트가 없음");
-      return;
+  private List<Quest> findActiveQuestsByObjective(String objectiveKey) {
+    if (objectiveIndex == null) {
+      Map<String, List<Quest>> index = new HashMap<>();
+      for (Quest quest : activeQuests) {
+        if (quest.getObjectives() == null) {
+          continue;
+        }
+        for (String key : quest.getObjectives().keySet()) {
+          index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(quest);
+        }
+      }
+      objectiveIndex = index;
+      if (logger.isDebugEnabled()) {
+        logger.debug("퀘스트 목표 인덱스 재구성: 활성 퀘스트 {}개, 목표 키 {}개", activeQuests.size(), index.size());
+      }
     }
+    return objectiveIndex.getOrDefault(objectiveKey, List.of());
+  }
 
-    logger.debug("=== 현재 활성 퀘스트 목표들 ===");
-    for (Quest quest : activeQuests) {
-      logger.debug("퀘스트 {}: {}", quest.getId(), quest.getObjectives().keySet());
-    }
-    logger.debug("===============================");
+  private void invalidateObjectiveIndex() {
+    objectiveIndex = null;
   }
 
   /**
@@ -449,6 +460,7 @@ public class QuestManager {
    */
   public void completeQuest(Quest quest) {
     activeQuests.remove(quest);
+    invalidateObjectiveIndex();
     completedQuests.add(quest);
     quest.setStatus(QuestStatus.COMPLETED);
 
@@ -667,6 +679,7 @@ public class QuestManager {
       }
       return false;
     });
+    invalidateObjectiveIndex();
 
     // 사용 가능한 퀘스트에서도 만료된 퀘스트 제거
     availableQuests.removeIf(quest -> dailyQuestManager.isQuestExpired(quest));
@@ -762,6 +775,7 @@ public class QuestManager {
     } else {
       activeQuests = new ArrayList<>();
     }
+    invalidateObjectiveIndex();
 
     if (completedQuests != null) {
       completedQuests.clear();
@@ -781,6 +795,7 @@ public class QuestManager {
     }
     if (newActive != null) {
       activeQuests.addAll(newActive);
+      invalidateObjectiveIndex();
     }
     if (newCompleted != null) {
       completedQuests.addAll(newCompleted);
@@ -801,6 +816,7 @@ public class QuestManager {
   public void addToActiveQuests(Quest quest) {
     if (quest != null && !activeQuests.contains(quest)) {
       activeQuests.add(quest);
+      invalidateObjectiveIndex();
     }
   }
 
@@ -813,6 +829,7 @@ public class QuestManager {
   public void clearAllQuests() {
     availableQuests.clear();
     activeQuests.clear();
+    invalidateObjectiveIndex();
     completedQuests.clear();
   }
 
@@ -874,6 +891,7 @@ public class QuestManager {
     if (quest != null && quest.isCompleted()) {
       // 기존 완료 처리
       activeQuests.remove(quest);
+      invalidateObjectiveIndex();
       completedQuests.add(quest);
       quest.setStatus(Quest.QuestStatus.COMPLETED);
 
@@ -961,6 +979,7 @@ public class QuestManager {
     // null 또는 무효한 퀘스트 제거
     availableQuests.removeIf(quest -> quest == null || quest.getId() == null);
     activeQuests.removeIf(quest -> quest == null || quest.getId() == null);
+    invalidateObjectiveIndex();
     completedQuests.removeIf(quest -> quest == null || quest.getId() == null);
   }
   // ==================== Getters ====================
@@ -1106,8 +1125,8 @@ public class QuestManager {
 
     // 기본 수집 아이템 (하드코딩)
     String[] collectableItemIds = {"HEALTH_POTION", "MANA_POTION", "IRON_ORE", "HEALING_HERB", "LEATHER", "BONE"};
-    String targetItemId = collectableItemIds[(int) (Math.random() * collectableItemIds.length)];
-    int collectCount = 3 + (int) (Math.random() * 3); // 3-5개
+    String targetItemId = collectableItemIds[RandomUtils.session().nextInt(collectableItemIds.length)];
+    int collectCount = 3 + RandomUtils.session().nextInt(3); // 3-5개
 
     objectives.put("collect_" + targetItemId, collectCount);
 
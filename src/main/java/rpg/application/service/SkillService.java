@@ -236,6 +236,13 @@ public class SkillService {
     skillCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
   }
 
+  /**
+   * 모든 쿨다운을 초기화합니다. (시뮬레이션에서 전투마다 같은 조건으로 시작할 때)
+   */
+  public void resetCooldowns() {
+    skillCooldowns.clear();
+  }
+
   /**
    * 사용 가능한 스킬 목록을 반환합니다.
    */
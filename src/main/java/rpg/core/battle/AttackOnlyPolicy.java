@@ -0,0 +1,28 @@
+package rpg.core.battle;
+
+import java.util.List;
+import rpg.domain.inventory.ItemStack;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+import rpg.domain.skill.Skill;
+
+/**
+ * 일반 공격만 사용하는 전투 행동 정책 (밸런스 기준선 측정용)
+ */
+public class AttackOnlyPolicy implements BattleActionPolicy {
+
+  @Override
+  public BattleEngine.BattleAction chooseAction(Player player, Monster monster) {
+    return BattleEngine.BattleAction.ATTACK;
+  }
+
+  @Override
+  public Skill chooseSkill(Player player, Monster monster, List<Skill> availableSkills) {
+    return null;
+  }
+
+  @Override
+  public ItemStack chooseItem(Player player, List<ItemStack> consumables) {
+    return null;
+  }
+}
@@ -0,0 +1,64 @@
+package rpg.core.battle;
+
+import java.util.List;
+import rpg.domain.inventory.ItemStack;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+import rpg.domain.skill.Skill;
+
+/**
+ * 전투 행동 결정 정책 인터페이스
+ * 콘솔 입력, 자동 전투, 시뮬레이션 등 행동을 선택하는 주체를 BattleEngine에서 분리
+ */
+public interface BattleActionPolicy {
+
+  /**
+   * 이번 턴에 수행할 행동을 선택합니다
+   *
+   * @param player 플레이어 캐릭터
+   * @param monster 적 몬스터
+   * @return 선택된 전투 행동
+   */
+  BattleEngine.BattleAction chooseAction(Player player, Monster monster);
+
+  /**
+   * 살아 있는 몬스터 전체를 보고 이번 턴에 수행할 행동을 선택합니다
+   *
+   * @param player 플레이어 캐릭터
+   * @param aliveMonsters 살아 있는 몬스터 목록 (비어있지 않음)
+   * @return 선택된 전투 행동, 기본은 첫 번째 몬스터 기준 chooseAction
+   */
+  default BattleEngine.BattleAction chooseAction(Player player, List<Monster> aliveMonsters) {
+    return chooseAction(player, aliveMonsters.get(0));
+  }
+
+  /**
+   * 사용할 스킬을 선택합니다
+   *
+   * @param player 플레이어 캐릭터
+   * @param monster 적 몬스터
+   * @param availableSkills 현재 사용 가능한 스킬 목록 (비어있지 않음)
+   * @return 선택된 스킬, 취소 시 null
+   */
+  Skill chooseSkill(Player player, Monster monster, List<Skill> availableSkills);
+
+  /**
+   * 공격 또는 스킬 대상을 선택합니다 (몬스터가 두 마리 이상일 때만 호출됨)
+   *
+   * @param player 플레이어 캐릭터
+   * @param aliveMonsters 살아 있는 몬스터 목록 (두 마리 이상)
+   * @return 대상 몬스터, 기본은 첫 번째 몬스터
+   */
+  default Monster chooseTarget(Player player, List<Monster> aliveMonsters) {
+    return aliveMonsters.get(0);
+  }
+
+  /**
+   * 사용할 소비 아이템을 선택합니다
+   *
+   * @param player 플레이어 캐릭터
+   * @param consumables 소비 아이템 스택 목록 (비어있지 않음)
+   * @return 선택된 아이템 스택, 취소 시 null
+   */
+  ItemStack chooseItem(Player player, List<ItemStack> consumables);
+}
@@ -1,5 +0,0 @@
-package rpg.core.battle;
-
-public class BattleCalculator {
-
-}
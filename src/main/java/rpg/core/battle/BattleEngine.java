@@ -1,37 +1,117 @@
 package rpg.core.battle;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import rpg.application.service.QuestManager;
-import rpg.application.validator.InputValidator;
-import rpg.core.engine.GameState;
+import rpg.core.event.GameEventBus;
+import rpg.core.event.MonsterKilledEvent;
+import rpg.domain.battle.BattleCalculator;
+import rpg.domain.inventory.ItemStack;
 import rpg.domain.item.GameConsumable;
 import rpg.domain.item.GameEquipment;
 import rpg.domain.item.GameItem;
 import rpg.domain.item.ItemRarity;
+import rpg.domain.monster.AbilityContext;
 import rpg.domain.monster.Monster;
+import rpg.domain.monster.MonsterAbility;
 import rpg.domain.player.Player;
 import rpg.domain.skill.Skill;
 import rpg.domain.skill.SkillResult;
+import rpg.domain.skill.SkillType;
 import rpg.shared.constant.BattleConstants;
+import rpg.shared.constant.SystemConstants;
 import rpg.shared.util.ConsoleColors;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 전투 시스템을 전담하는 컨트롤러
  */
 public class BattleEngine {
   private static final Logger logger = LoggerFactory.getLogger(BattleEngine.class);
+  private static final int PLAYER_SLOT = 0; // 행동 순서 큐에서 플레이어 슬롯 (몬스터는 목록 순서 + 1)
+
+  private final RandomUtils random;
+  private final GameEventBus eventBus;
+  private final BattleActionPolicy actionPolicy;
+  private final BattleOutput output;
+  private final boolean applyRewards;
+  private final BattleEventLog eventLog;
+  private final InitiativeQueue initiative;
+  private final List<Monster> aliveMonsters;
+  private final AbilityContext abilityContext = new AbilityContext(); // 특수 능력 발동 시 재사용
+  private boolean hitAbilityTriggered; // 마지막 applyHitAbilities에서 피격 시 능력이 발동했는지
+  private List<Monster> encounter;
+  private int lastTurnCount;
 
-  private final Random random;
-  private final QuestManager questManager;
-  private final GameState gameState;
+  /**
+   * 대화형 콘솔 전투 엔진을 생성합니다. (줄 단위 콘솔 출력, 화면 출력기는 표현 계층에서 주입)
+   *
+   * @param eventBus 처치 이벤트를 발행할 버스 (null이면 발행하지 않음)
+   */
+  public BattleEngine(GameEventBus eventBus) {
+    this(eventBus, new ConsoleBattlePolicy(), BattleOutput.console(System.out));
+  }
+
+  /**
+   * 행동 정책과 출력 대상을 지정하여 전투 엔진을 생성합니다.
+   */
+  public BattleEngine(GameEventBus eventBus, BattleActionPolicy actionPolicy, BattleOutput output) {
+    this(eventBus, actionPolicy, output, RandomUtils.session(), true);
+  }
 
-  public BattleEngine(QuestManager questManager, GameState gameState) {
-    this.random = new Random();
-    this.questManager = questManager;
-    this.gameState = gameState;
-    logger.debug("BattleController 초기화 완료");
+  private BattleEngine(GameEventBus eventBus, BattleActionPolicy actionPolicy, BattleOutput output, RandomUtils random, boolean applyRewards) {
+    if (actionPolicy == null || output == null || random == null) {
+      throw new IllegalArgumentException("전투 행동 정책, 출력 대상, 난수 생성기는 null일 수 없습니다.");
+    }
+    this.random = random;
+    this.eventBus = eventBus;
+    this.actionPolicy = actionPolicy;
+    this.output = output;
+    this.applyRewards = applyRewards;
+    this.eventLog = new BattleEventLog();
+    this.initiative = new InitiativeQueue(BattleConstants.MAX_ENCOUNTER_SIZE + 1);
+    this.aliveMonsters = new ArrayList<>(BattleConstants.MAX_ENCOUNTER_SIZE);
+    logger.debug("BattleController 초기화 완료 (정책: {})", actionPolicy.getClass().getSimpleName());
+  }
+
+  /**
+   * 헤드리스 전투 엔진을 생성합니다. (이벤트 발행 없음, 무출력, 보상 적용)
+   * 밸런스 시뮬레이션과 회귀 테스트용이므로 게임 세션 스트림 대신 호출 측의 난수 스트림을 사용
+   *
+   * @param random 이 엔진 전용 난수 스트림 (스레드 간 공유 금지)
+   */
+  public static BattleEngine headless(BattleActionPolicy actionPolicy, RandomUtils random) {
+    return new BattleEngine(null, actionPolicy, BattleOutput.silent(), random, true);
+  }
+
+  /**
+   * 자동 전투 엔진을 생성합니다. (기대값 정책, 무출력, 보상 적용)
+   * 전투 진행은 출력하지 않으므로 호출 측에서 getLastBattleLog()로 요약을 출력합니다.
+   *
+   * @param eventBus 처치 이벤트를 발행할 버스 (null이면 발행하지 않음)
+   */
+  public static BattleEngine auto(GameEventBus eventBus) {
+    return new BattleEngine(eventBus, new ExpectedValuePolicy(), BattleOutput.silent());
+  }
+
+  /**
+   * 시뮬레이션용 전투 엔진을 생성합니다.
+   * 무출력이며, 승리 보상과 전투 후 회복을 적용하지 않아 같은 플레이어로 전투를 반복할 수 있음
+   *
+   * @param actionPolicy 전투 행동 정책
+   * @param random 전투 전용 난수 스트림 (시드 고정 시 재현 가능)
+   */
+  public static BattleEngine simulation(BattleActionPolicy actionPolicy, RandomUtils random) {
+    return simulation(actionPolicy, random, BattleOutput.silent());
+  }
+
+  /**
+   * 출력 대상을 지정한 시뮬레이션용 전투 엔진을 생성합니다. (출력 비용 측정 등)
+   */
+  public static BattleEngine simulation(BattleActionPolicy actionPolicy, RandomUtils random, BattleOutput output) {
+    return new BattleEngine(null, actionPolicy, output, random, false);
   }
 
   /**
@@ -42,49 +122,112 @@ public class BattleEngine {
    * @return 전투 결과 (승리, 패배, 도망)
    */
   public BattleResult startBattle(Player player, Monster monster) {
+    return startBattle(player, List.of(monster));
+  }
+
+  /**
+   * 여러 몬스터와 전투를 시작합니다. 행동 순서는 속도 기반 InitiativeQueue로 정합니다.
+   *
+   * @param player 플레이어 캐릭터
+   * @param monsters 적 몬스터 목록 (모두 쓰러뜨리면 승리)
+   * @return 전투 결과 (승리, 패배, 도망)
+   */
+  public BattleResult startBattle(Player player, List<Monster> monsters) {
+    if (monsters == null || monsters.isEmpty()) {
+      throw new IllegalArgumentException("전투할 몬스터가 없습니다.");
+    }
+    lastTurnCount = 0;
+    eventLog.begin(player, monsters);
+    BattleResult result = runBattle(player, monsters);
+    player.clearStatusEffects();
+    for (Monster monster : monsters) {
+      monster.clearStatusEffects();
+    }
+    aliveMonsters.clear();
+    output.flush();
+    eventLog.finish(result);
+    logger.debug("전투 종료: {} vs 몬스터 {}마리 -> {} ({}턴, 이벤트 {}건)", player.getName(), monsters.size(), result, lastTurnCount, eventLog.size());
+    return result;
+  }
+
+  private BattleResult runBattle(Player player, List<Monster> monsters) {
     try {
-      System.out.println("\n⚔️ 전투 시작!");
-      System.out.println("⚔️ " + monster.getName() + "이(가) 나타났습니다!");
-      logger.info("전투 시작: {} vs {}", player.getName(), monster.getName());
+      output.println("\n⚔️ 전투 시작!");
+      for (Monster monster : monsters) {
+        output.printf("⚔️ %s이(가) 나타났습니다!%n", monster.getName());
+      }
+      logger.debug("전투 시작: {} vs 몬스터 {}마리", player.getName(), monsters.size());
+
+      setUpInitiative(player, monsters);
+
+      while (player.isAlive() && !aliveMonsters.isEmpty()) {
+        int slot = initiative.next();
+
+        // 몬스터 차례: 쓰러진 몬스터는 다시 예약하지 않으므로 큐에서 자연히 빠짐
+        if (slot != PLAYER_SLOT) {
+          Monster monster = monsters.get(slot - 1);
+          if (monster.isAlive()) {
+            applyTurnStartAbilities(monster, slot - 1);
+            handleMonsterAttack(player, monster, slot - 1);
+            endMonsterTurn(monster, slot - 1);
+            if (monster.isAlive()) {
+              initiative.reschedule(slot);
+            } else {
+              removeIfDefeated(monster);
+            }
+          }
+          continue;
+        }
 
-      while (player.isAlive() && monster.isAlive()) {
-        showBattleStatus(player, monster);
+        if (++lastTurnCount > BattleConstants.MAX_BATTLE_TURNS) {
+          logger.warn("최대 전투 턴 초과: {} vs 몬스터 {}마리 ({}턴)", player.getName(), monsters.size(), BattleConstants.MAX_BATTLE_TURNS);
+          return BattleResult.ERROR;
+        }
+        showBattleStatus(player, monsters);
+        output.flush(); // 이전 턴 결과와 현재 상황을 한 프레임으로 출력
 
-        BattleAction action = getBattleAction();
+        BattleAction action = actionPolicy.chooseAction(player, Collections.unmodifiableList(aliveMonsters));
         boolean playerTurnUsed = false;
 
         switch (action) {
           case ATTACK:
-            handlePlayerAttack(player, monster);
+            handlePlayerAttack(player, selectTarget(player));
             playerTurnUsed = true;
             break;
           case SKILL:
-            playerTurnUsed = useSkillInBattle(player, monster);
+            playerTurnUsed = useSkillInBattle(player);
             break;
           case ITEM:
             playerTurnUsed = useItemInBattle(player);
             break;
           case ESCAPE:
             if (attemptEscape()) {
-              player.postBattleRegeneration(); // 도망 성공 시 회복
+              if (applyRewards) {
+                output.flush();
+                handleEscapeRewards(player, monsters);
+                player.postBattleRegeneration(); // 도망 성공 시 회복
+              }
               return BattleResult.ESCAPED;
             }
             playerTurnUsed = true;
             break;
         }
 
-        // 몬스터가 살아있고 플레이어가 턴을 사용했으면 몬스터 공격
-        if (monster.isAlive() && playerTurnUsed) {
-          handleMonsterAttack(player, monster);
+        // 턴을 사용했으면 턴 종료 처리 후 다음 행동 예약, 취소했으면 곧바로 다시 선택
+        if (playerTurnUsed) {
+          endPlayerTurn(player);
+          initiative.reschedule(PLAYER_SLOT);
+        } else {
+          initiative.retry(PLAYER_SLOT);
         }
-
-        // 턴 종료 처리
-        player.endTurn();
       }
 
-      if (!monster.isAlive()) {
-        handleVictory(player, monster);
-        player.postBattleRegeneration(); // 승리 후 회복
+      if (aliveMonsters.isEmpty()) {
+        if (applyRewards) {
+          output.flush();
+          handleVictory(player, monsters);
+          player.postBattleRegeneration(); // 승리 후 회복
+        }
         return BattleResult.VICTORY;
       } else {
         return BattleResult.DEFEAT;
@@ -92,118 +235,220 @@ public class BattleEngine {
 
     } catch (Exception e) {
       logger.error("전투 중 오류", e);
-      System.out.println("전투 중 오류가 발생했습니다.");
+      output.println("전투 중 오류가 발생했습니다.");
       return BattleResult.ERROR;
     }
   }
 
   /**
-   * 전투 행동을 선택받습니다.
-   */
-  private BattleAction getBattleAction() {
-    System.out.println("\n전투 행동:");
-    System.out.println("1. 일반 공격");
-    System.out.println("2. 스킬 사용");
-    System.out.println("3. 아이템 사용");
-    System.out.println("4. 도망");
-
-    int choice = InputValidator.getIntInput("선택: ", 1, 4);
-
-    return switch (choice) {
-      case 1 -> BattleAction.ATTACK;
-      case 2 -> BattleAction.SKILL;
-      case 3 -> BattleAction.ITEM;
-      case 4 -> BattleAction.ESCAPE;
-      default -> BattleAction.ATTACK;
-    };
-  }
-
-private void showBattleStatus(Player player, Monster monster) {
-    System.out.println("\n--- ⚔️ 전투 상황 ---");
-    //@formatter:off
-    // 플레이어 상태
-    System.out.printf("🧙 %s%n❤️ HP (%d/%d) | 💙 MP (%d/%d)%n",
-        player.getName(),
-        player.getHp(),
-        player.getTotalMaxHp(),
-        player.getMp(),
-        player.getMaxMp());
-    System.out.println();
-    // 몬스터 상태
-    System.out.printf("👹 %s%n❤️ HP (%d/%d)%n",
-        monster.getName(),
-        monster.getHp(),
-        monster.getMaxHp());
-    //@formatter:on
-    System.out.println("-------------------");
-}
+   * 행동 순서 큐와 생존 몬스터 목록을 전투 시작 상태로 준비합니다.
+   */
+  private void setUpInitiative(Player player, List<Monster> monsters) {
+    if (monsters.size() >= InitiativeQueue.MAX_SLOTS) {
+      throw new IllegalArgumentException("한 전투의 몬스터 수가 너무 많습니다: " + monsters.size());
+    }
+    encounter = monsters;
+    aliveMonsters.clear();
+    initiative.reset();
+    initiative.add(PLAYER_SLOT, player.getSpeed());
+    for (int i = 0; i < monsters.size(); i++) {
+      Monster monster = monsters.get(i);
+      if (monster.isAlive()) {
+        aliveMonsters.add(monster);
+        initiative.add(i + 1, monster.getSpeed());
+      }
+    }
+  }
 
   /**
-   * 커스텀 체력 바 생성 (하트 아이콘 옵션 포함)
+   * 공격 대상을 정합니다. 두 마리 이상 살아 있을 때만 행동 정책에 묻습니다.
    */
-  private String createHealthBar(int current, int max, int barLength, boolean includeHeart) {
-    int filledLength = (int) ((double) current / max * barLength);
+  private Monster selectTarget(Player player) {
+    if (aliveMonsters.size() == 1) {
+      return aliveMonsters.get(0);
+    }
+    output.flush();
+    Monster target = actionPolicy.chooseTarget(player, Collections.unmodifiableList(aliveMonsters));
+    return target != null && target.isAlive() && slotOf(target) >= 0 ? target : aliveMonsters.get(0);
+  }
 
-    StringBuilder bar = new StringBuilder();
-    bar.append("[");
+  /**
+   * 몬스터의 전투 내 슬롯 번호 (같은 종류의 몬스터도 구분하도록 참조로 비교)
+   */
+  private int slotOf(Monster monster) {
+    for (int i = 0; i < encounter.size(); i++) {
+      if (encounter.get(i) == monster) {
+        return i;
+      }
+    }
+    return -1;
+  }
 
-    // 채워진 부분 (빨간색)
-    bar.append(ConsoleColors.BRIGHT_RED);
-    for (int i = 0; i < filledLength; i++) {
-      bar.append("█");
+  /**
+   * 쓰러진 몬스터를 생존 목록에서 제거합니다.
+   */
+  private void removeIfDefeated(Monster monster) {
+    if (monster.isAlive()) {
+      return;
     }
+    for (int i = 0; i < aliveMonsters.size(); i++) {
+      if (aliveMonsters.get(i) == monster) {
+        aliveMonsters.remove(i);
+        return;
+      }
+    }
+  }
 
-    // 빈 부분 (회색)
-    bar.append(ConsoleColors.BRIGHT_BLACK);
-    for (int i = filledLength; i < barLength; i++) {
-      bar.append("░");
+  /**
+   * 플레이어 턴 종료 처리: 쿨다운 감소와 상태 효과 진행, 지속 효과로 인한 HP 변화를 기록합니다.
+   */
+  private void endPlayerTurn(Player player) {
+    int playerHpBefore = player.getHp();
+    player.endTurn();
+    int playerDelta = player.getHp() - playerHpBefore;
+    if (playerDelta != 0) {
+      eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.STATUS, 0, 0, playerDelta, player.getHp());
+      output.printf("%s %s: 상태 효과로 HP %+d%n", playerDelta > 0 ? "💚" : "☠️", player.getName(), playerDelta);
     }
+  }
 
-    bar.append(ConsoleColors.RESET);
-    bar.append("] ");
+  /**
+   * 몬스터 턴 종료 처리: 상태 효과 진행과 지속 효과로 인한 HP 변화를 기록합니다.
+   */
+  private void endMonsterTurn(Monster monster, int slot) {
+    int monsterHpBefore = monster.getHp();
+    monster.endTurn();
+    int monsterDelta = monster.getHp() - monsterHpBefore;
+    if (monsterDelta != 0) {
+      eventLog.record(lastTurnCount, BattleEventLog.Actor.MONSTER, slot, BattleEventLog.Action.STATUS, 0, 0, monsterDelta, monster.getHp());
+      output.printf("%s %s: 상태 효과로 HP %+d%n", monsterDelta > 0 ? "💚" : "☠️", monster.getName(), monsterDelta);
+      if (!monster.isAlive()) {
+        output.printf("%s을(를) 물리쳤습니다!%n", monster.getName());
+      }
+    }
+  }
 
-    // 하트 아이콘과 수치 (옵션)
-    if (includeHeart) {
-      bar.append("❤️ " + current + "/" + max);
-    } else {
-      bar.append(String.format("%d/%d", current, max));
+  /**
+   * 몬스터 턴 시작 시 능력(재생/회복)을 발동하고 HP 변화를 기록합니다.
+   */
+  private void applyTurnStartAbilities(Monster monster, int slot) {
+    MonsterAbility[] onTurnStart = monster.getTemplate().getCompiledAbilities().onTurnStart();
+    if (!SystemConstants.ENABLE_MONSTER_ABILITIES || onTurnStart.length == 0) {
+      return;
+    }
+    int monsterHpBefore = monster.getHp();
+    abilityContext.reset(monster, null, random, 0);
+    if (dispatchAbilities(monster, onTurnStart)) {
+      recordAbilityHeal(monster, slot, monsterHpBefore);
     }
+  }
+
+  /**
+   * 한 시점의 능력을 순서대로 발동합니다. 발동한 능력은 이름을 출력합니다.
+   *
+   * @return 하나라도 발동했으면 true
+   */
+  private boolean dispatchAbilities(Monster monster, MonsterAbility[] abilities) {
+    boolean triggered = false;
+    for (MonsterAbility ability : abilities) {
+      if (ability.apply(abilityContext)) {
+        triggered = true;
+        output.printf("🌀 %s의 [%s]!%n", monster.getName(), ability.name());
+      }
+    }
+    return triggered;
+  }
 
-    return bar.toString();
+  /**
+   * 피격 시 능력(경감/회피)으로 몬스터가 받을 데미지를 조정합니다. 일반 공격과 공격 스킬(광역 추가 대상 포함)에 모두 적용하며,
+   * 발동 여부는 hitAbilityTriggered에 남깁니다.
+   *
+   * @return 방어력 적용 전 데미지 (0이면 회피)
+   */
+  private int applyHitAbilities(Monster monster, int damage) {
+    hitAbilityTriggered = false;
+    MonsterAbility[] onHit = monster.getTemplate().getCompiledAbilities().onHit();
+    if (SystemConstants.ENABLE_MONSTER_ABILITIES && onHit.length > 0) {
+      abilityContext.reset(monster, null, random, damage);
+      if (dispatchAbilities(monster, onHit)) {
+        hitAbilityTriggered = true;
+        return abilityContext.getDamage();
+      }
+    }
+    return damage;
+  }
+
+  /**
+   * 특수 능력으로 회복한 몬스터 HP를 기록합니다. (변화가 없으면 기록하지 않음)
+   */
+  private void recordAbilityHeal(Monster monster, int slot, int monsterHpBefore) {
+    int healed = monster.getHp() - monsterHpBefore;
+    if (healed != 0) {
+      eventLog.record(lastTurnCount, BattleEventLog.Actor.MONSTER, slot, BattleEventLog.Action.STATUS, BattleEventLog.FLAG_ABILITY, 0, healed, monster.getHp());
+      output.printf("💚 %s: 특수 능력으로 HP %+d%n", monster.getName(), healed);
+    }
+  }
+
+  private void showBattleStatus(Player player, List<Monster> monsters) {
+    if (!output.isEnabled()) {
+      return;
+    }
+    output.showStatus(player, monsters);
   }
 
   /**
    * 색상이 적용된 플레이어 공격
    */
   private void handlePlayerAttack(Player player, Monster monster) {
-    int damage = player.getAttack();// + random.nextInt(5);
-    boolean isCritical = random.nextInt(100) < 15; // 15% 크리티컬 확률
-    int actualDamage = 0;
-    if (isCritical) {
-      damage = (int) (damage * 1.5);
-      actualDamage = monster.takeDamage(damage);
-      System.out.println("💥 크리티컬 히트! "+ player.getName() + "이(가) " + monster.getName() + "에게 " + String.valueOf(actualDamage) + "의 강력한 데미지를 입혔습니다!");
+    boolean isCritical = BattleCalculator.isSuccess(random.nextInt(100), BattleConstants.PLAYER_CRITICAL_CHANCE);
+    int damage = BattleCalculator.playerAttackDamage(player.getAttack(), isCritical);
+    int flags = isCritical ? BattleEventLog.FLAG_CRITICAL : 0;
+
+    // 피격 시 능력(경감/회피)으로 받는 데미지 조정, 완전히 회피하면 방어력 계산 없이 0
+    int dealtDamage = applyHitAbilities(monster, damage);
+    if (hitAbilityTriggered) {
+      flags |= BattleEventLog.FLAG_ABILITY;
+    }
+    int actualDamage = dealtDamage > 0 ? monster.takeDamage(dealtDamage) : 0;
+    eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, slotOf(monster), BattleEventLog.Action.ATTACK, flags, damage, actualDamage, monster.getHp());
+    if (actualDamage == 0) {
+      output.printf("💨 %s이(가) %s의 공격을 피했습니다!%n", monster.getName(), player.getName());
+    } else if (isCritical) {
+      output.printf("💥 크리티컬 히트! %s이(가) %s에게 %d의 강력한 데미지를 입혔습니다!%n", player.getName(), monster.getName(), actualDamage);
     } else {
-      actualDamage = monster.takeDamage(damage);
-      System.out.println("⚔️ " + player.getName() + "이(가) " + monster.getName() + "에게 " + String.valueOf(actualDamage) + "의 데미지를 입혔습니다!");
+      output.printf("⚔️ %s이(가) %s에게 %d의 데미지를 입혔습니다!%n", player.getName(), monster.getName(), actualDamage);
     }
 
     if (!monster.isAlive()) {
-      System.out.println(monster.getName() + "을(를) 물리쳤습니다!");
+      output.printf("%s을(를) 물리쳤습니다!%n", monster.getName());
+      removeIfDefeated(monster);
     }
-
-    logger.info("플레이어 공격: {} -> {} (데미지: {}, 크리티컬: {})", player.getName(), monster.getName(), actualDamage, isCritical);
   }
 
 
   /**
    * 색상이 적용된 몬스터 공격 (handleMonsterAttack 메서드 수정)
    */
-  private void handleMonsterAttack(Player player, Monster monster) {
-    int monsterDamage = monster.getAttack() + random.nextInt(3);
+  private void handleMonsterAttack(Player player, Monster monster, int slot) {
+    int monsterDamage = BattleCalculator.monsterAttackDamage(monster.getAttack(), random.nextInt(BattleConstants.MONSTER_DAMAGE_VARIANCE));
+    int flags = 0;
+    int monsterHpBefore = monster.getHp();
+
+    // 공격 시 능력(강타/상태 이상/흡수)은 데미지 계산 직후, 플레이어가 피해를 받기 전에 발동
+    MonsterAbility[] onAttack = monster.getTemplate().getCompiledAbilities().onAttack();
+    if (SystemConstants.ENABLE_MONSTER_ABILITIES && onAttack.length > 0) {
+      abilityContext.reset(monster, player.getStatusEffects(), random, monsterDamage);
+      if (dispatchAbilities(monster, onAttack)) {
+        flags = BattleEventLog.FLAG_ABILITY | (abilityContext.isStatusApplied() ? BattleEventLog.FLAG_STATUS_EFFECT : 0);
+        monsterDamage = abilityContext.getDamage();
+      }
+    }
+
     int actualDamage = player.takeDamage(monsterDamage);
+    eventLog.record(lastTurnCount, BattleEventLog.Actor.MONSTER, slot, BattleEventLog.Action.ATTACK, flags, monsterDamage, actualDamage, player.getHp());
+    recordAbilityHeal(monster, slot, monsterHpBefore);
 
-    System.out.println("💢 " + monster.getName() + "이(가) " + player.getName() + "에게 " + String.valueOf(actualDamage) + "의 데미지를 입혔습니다!");
+    output.printf("💢 %s이(가) %s에게 %d의 데미지를 입혔습니다!%n", monster.getName(), player.getName(), actualDamage);
 
     // 현재 체력 표시 (색상 적용)
     double hpPercent = (double) player.getHp() / player.getTotalMaxHp();
@@ -216,46 +461,59 @@ private void showBattleStatus(Player player, Monster monster) {
       hpColor = ConsoleColors.BRIGHT_RED;
     }
 
-    System.out.println("현재 체력: " + String.format("%d/%d", player.getHp(), player.getTotalMaxHp()));
+    output.printf("현재 체력: %d/%d%n", player.getHp(), player.getTotalMaxHp());
 
     // 체력이 위험 수준일 때 경고
     if (hpPercent <= 0.2) {
-      System.out.println("⚠️ 위험! 체력이 매우 부족합니다!");
+      output.println("⚠️ 위험! 체력이 매우 부족합니다!");
     } else if (hpPercent <= 0.4) {
-      System.out.println("체력이 부족합니다!");
+      output.println("체력이 부족합니다!");
     }
-
-    logger.debug("몬스터 공격: {} -> {} (데미지: {})", monster.getName(), player.getName(), actualDamage);
   }
 
   /**
    * 전투 중 스킬을 사용합니다.
+   * 광역 스킬은 사용 시점에 살아 있는 모든 몬스터에게, 그 외 대상 스킬은 선택한 한 마리에게 적용합니다.
    */
-  private boolean useSkillInBattle(Player player, Monster monster) {
+  private boolean useSkillInBattle(Player player) {
     var availableSkills = player.getSkillManager().getAvailableSkills(player);
 
     if (availableSkills.isEmpty()) {
-      System.out.println("사용할 수 있는 스킬이 없습니다.");
+      output.println("사용할 수 있는 스킬이 없습니다.");
       return false;
     }
 
-    System.out.println("\n사용 가능한 스킬:");
-    for (int i = 0; i < availableSkills.size(); i++) {
-      Skill skill = availableSkills.get(i);
-      System.out.printf("%d. %s (마나: %d)%n", i + 1, skill.getName(), skill.getManaCost());
-    }
-
-    int skillIndex = InputValidator.getIntInput("사용할 스킬 번호 (0: 취소): ", 0, availableSkills.size()) - 1;
-    if (skillIndex < 0)
+    output.flush();
+    Skill skill = actionPolicy.chooseSkill(player, aliveMonsters.get(0), availableSkills);
+    if (skill == null)
       return false;
 
-    Skill skill = availableSkills.get(skillIndex);
-    SkillResult result = skill.useSkill(player, monster);
+    boolean targeted = skill.getType() == SkillType.ATTACK || skill.getType() == SkillType.DEBUFF;
+    boolean areaSkill = targeted && skill.isAreaEffect() && aliveMonsters.size() > 1;
+    Monster target = targeted && !areaSkill ? selectTarget(player) : aliveMonsters.get(0);
+    List<Monster> additionalTargets = areaSkill ? List.copyOf(aliveMonsters.subList(1, aliveMonsters.size())) : List.of();
+
+    int monsterHpBefore = target.getHp();
+    int playerHpBefore = player.getHp();
+    SkillResult result = skill.useSkill(player, target, this::applyHitAbilities);
 
-    System.out.println("✨ " + result.getMessage());
+    output.printf("✨ %s%n", result.getMessage());
 
     if (result.isSuccess()) {
-      logger.debug("전투 중 스킬 사용 성공: {}", skill.getName());
+      player.getSkillManager().setSkillCooldown(skill.getId(), skill.getCooldown());
+      if (skill.getType() == SkillType.HEAL) {
+        eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.HEAL, BattleEventLog.FLAG_SUCCESS, result.getValue(),
+            player.getHp() - playerHpBefore, player.getHp());
+      } else {
+        recordSkillHit(skill, target, result, monsterHpBefore);
+        for (Monster additionalTarget : additionalTargets) {
+          int hpBefore = additionalTarget.getHp();
+          SkillResult additionalResult = skill.applyToAdditionalTarget(player, additionalTarget, this::applyHitAbilities);
+          output.printf("✨ %s%n", additionalResult.getMessage());
+          recordSkillHit(skill, additionalTarget, additionalResult, hpBefore);
+        }
+      }
+      logger.debug("전투 중 스킬 사용 성공: {}{}", skill.getName(), areaSkill ? " (광역 " + (additionalTargets.size() + 1) + "마리)" : "");
       return true;
     } else {
       logger.debug("전투 중 스킬 사용 실패: {}", skill.getName());
@@ -263,6 +521,23 @@ private void showBattleStatus(Player player, Monster monster) {
     }
   }
 
+  /**
+   * 대상 하나에 대한 스킬 결과를 기록하고, 쓰러졌으면 생존 목록에서 제거합니다.
+   */
+  private void recordSkillHit(Skill skill, Monster target, SkillResult result, int monsterHpBefore) {
+    int rawDamage = skill.getType() == SkillType.ATTACK ? result.getValue() : 0;
+    int flags = BattleEventLog.FLAG_SUCCESS | (skill.getStatusEffect() != null ? BattleEventLog.FLAG_STATUS_EFFECT : 0);
+    if (skill.getType() == SkillType.ATTACK && hitAbilityTriggered) {
+      flags |= BattleEventLog.FLAG_ABILITY;
+    }
+    eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, slotOf(target), BattleEventLog.Action.SKILL, flags, rawDamage,
+        monsterHpBefore - target.getHp(), target.getHp());
+    if (!target.isAlive()) {
+      output.printf("%s을(를) 물리쳤습니다!%n", target.getName());
+      removeIfDefeated(target);
+    }
+  }
+
   /**
    * 전투 중 아이템을 사용합니다.
    */
@@ -271,28 +546,25 @@ private void showBattleStatus(Player player, Monster monster) {
     var consumables = items.stream().filter(stack -> stack.getItem() instanceof GameConsumable).toList();
 
     if (consumables.isEmpty()) {
-      System.out.println("사용할 수 있는 아이템이 없습니다.");
+      output.println("사용할 수 있는 아이템이 없습니다.");
       return false;
     }
 
-    System.out.println("\n사용 가능한 아이템:");
-    for (int i = 0; i < consumables.size(); i++) {
-      var stack = consumables.get(i);
-      System.out.printf("%d. %s x%d%n", i + 1, stack.getItem().getName(), stack.getQuantity());
-    }
-
-    int itemIndex = InputValidator.getIntInput("사용할 아이템 번호 (0: 취소): ", 0, consumables.size()) - 1;
-    if (itemIndex < 0)
+    output.flush();
+    ItemStack selectedStack = actionPolicy.chooseItem(player, consumables);
+    if (selectedStack == null)
       return false;
 
-    var selectedStack = consumables.get(itemIndex);
-    boolean used = player.getInventory().useItem(selectedStack.getItem().getName(), player);
+    int hpBefore = player.getHp();
+    boolean used = player.getInventory().useItemById(selectedStack.getItem().getId(), player);
 
     if (used) {
-      System.out.println("🧪 아이템을 사용했습니다!");
+      eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.ITEM, BattleEventLog.FLAG_SUCCESS, 0, player.getHp() - hpBefore,
+          player.getHp());
+      output.println("🧪 아이템을 사용했습니다!");
       return true;
     } else {
-      System.out.println("아이템 사용에 실패했습니다.");
+      output.println("아이템 사용에 실패했습니다.");
       return false;
     }
   }
@@ -301,12 +573,14 @@ private void showBattleStatus(Player player, Monster monster) {
    * 도망 시도를 처리합니다.
    */
   private boolean attemptEscape() {
-    if (random.nextInt(100) < BattleConstants.ESCAPE_CHANCE) {
-      System.out.println("🏃 성공적으로 도망쳤습니다!");
+    boolean escaped = random.nextInt(100) < BattleConstants.ESCAPE_CHANCE;
+    eventLog.record(lastTurnCount, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.ESCAPE, escaped ? BattleEventLog.FLAG_SUCCESS : 0, 0, 0, 0);
+    if (escaped) {
+      output.println("🏃 성공적으로 도망쳤습니다!");
       logger.debug("도망 성공");
       return true;
     } else {
-      System.out.println("❌ 도망치지 못했습니다!");
+      output.println("❌ 도망치지 못했습니다!");
       logger.debug("도망 실패");
       return false;
     }
@@ -314,44 +588,79 @@ private void showBattleStatus(Player player, Monster monster) {
 
   /**
    * 색상이 적용된 승리 처리 (handleVictory 메서드 수정)
+   * 쓰러뜨린 몬스터마다 경험치, 골드, 처치 통계, 퀘스트 진행도를 반영합니다.
+   */
+  private void handleVictory(Player player, List<Monster> monsters) {
+    output.println("\n🏆 승리!");
+    grantDefeatedRewards(player, monsters);
+  }
+
+  /**
+   * 도망 성공 시 처리
+   * 여러 마리 전투에서 도망치기 전에 쓰러뜨린 몬스터의 경험치, 골드, 처치 통계, 퀘스트 진행도는 반영합니다.
+   * (탐험 아이템 드롭은 승리했을 때만 판정)
+   */
+  private void handleEscapeRewards(Player player, List<Monster> monsters) {
+    for (Monster monster : monsters) {
+      if (!monster.isAlive()) {
+        output.println("\n🏃 쓰러뜨린 몬스터의 보상을 챙겨 도망쳤습니다.");
+        grantDefeatedRewards(player, monsters);
+        return;
+      }
+    }
+  }
+
+  /**
+   * 쓰러뜨린 몬스터마다 보상을 지급합니다.
+   */
+  private void grantDefeatedRewards(Player player, List<Monster> monsters) {
+    // 같은 전투의 처치/레벨 변경 이벤트는 합쳐서 한 번씩 전달
+    if (eventBus != null) {
+      eventBus.beginBatch();
+    }
+    try {
+      for (Monster monster : monsters) {
+        if (!monster.isAlive()) {
+          grantVictoryRewards(player, monster);
+        }
+      }
+    } finally {
+      if (eventBus != null) {
+        eventBus.endBatch();
+      }
+    }
+  }
+
+  /**
+   * 몬스터 한 마리에 대한 승리 보상을 지급합니다.
    */
-  private void handleVictory(Player player, Monster monster) {
+  private void grantVictoryRewards(Player player, Monster monster) {
     try {
-      System.out.println("\n🏆 승리!");
+      output.flush(); // 레벨업 메시지는 Player가 직접 출력
 
       boolean levelUp = player.gainExperience(monster.getExpReward());
       player.setGold(player.getGold() + monster.getGoldReward());
 
       // 보상 표시 (색상 적용)
-      System.out.println("경험치 : " + monster.getExpReward() + " 획득!");
-      System.out.println("골드 : " + monster.getGoldReward() + " 획득!");
+      output.printf("경험치 : %d 획득!%n", monster.getExpReward());
+      output.printf("골드 : %d 획득!%n", monster.getGoldReward());
 
       if (levelUp) {
-        System.out.println("🎉 축하합니다! 레벨이 올랐습니다! 🎉");
+        output.println("🎉 축하합니다! 레벨이 올랐습니다! 🎉");
 
         // 레벨업 효과 표시
-        System.out.println("✨ 새로운 힘이 몸에 스며듭니다!");
+        output.println("✨ 새로운 힘이 몸에 스며듭니다!");
       }
 
-      // 게임 통계 업데이트
-      if (gameState != null) {
-        gameState.incrementMonstersKilled();
-      }
-
-      // 🔧 퀘스트 진행도 업데이트 - 중요한 수정!
-      if (questManager != null) {
+      // 처치 이벤트 발행 (퀘스트 진행도와 게임 통계는 구독자가 한 번씩 처리)
+      output.flush();
+      if (eventBus != null) {
         String monsterId = monster.getId(); // ← name 대신 ID 사용
-
-        if (monsterId != null && !monsterId.isEmpty()) {
-          questManager.updateKillProgress(monsterId);
-          logger.debug("몬스터 처치 퀘스트 업데이트: {} ({})", monster.getName(), monsterId);
-        } else {
+        if (monsterId == null || monsterId.isEmpty()) {
           logger.warn("몬스터 ID가 null이거나 비어있음: {}", monster.getName());
-          // 폴백: 이름 기반으로 시도 (호환성 유지)
-          questManager.updateKillProgress(monster.getName());
+          monsterId = monster.getName(); // 폴백: 이름 기반으로 시도 (호환성 유지)
         }
-      } else {
-        logger.warn("QuestManager가 null - 퀘스트 진행도 업데이트 불가");
+        eventBus.publish(new MonsterKilledEvent(monsterId, monster.getName(), 1));
       }
 
       // 아이템 드롭 (20% 확률)
@@ -363,7 +672,7 @@ private void showBattleStatus(Player player, Monster monster) {
 
     } catch (Exception e) {
       logger.error("승리 처리 중 오류", e);
-      System.out.println("승리 보상 처리 중 오류가 발생했습니다.");
+      output.println("승리 보상 처리 중 오류가 발생했습니다.");
     }
   }
 
@@ -379,12 +688,26 @@ private void showBattleStatus(Player player, Monster monster) {
     GameItem droppedItem = possibleDrops[random.nextInt(possibleDrops.length)];
 
     if (player.getInventory().addItem(droppedItem, 1)) {
-      System.out.println("🎁 " + droppedItem.getName() + "을(를) 획득했습니다!");
+      output.printf("🎁 %s을(를) 획득했습니다!%n", droppedItem.getName());
     } else {
-      System.out.println("💼 인벤토리가 가득 차서 " + droppedItem.getName() + "을(를) 획득할 수 없습니다!");
+      output.printf("💼 인벤토리가 가득 차서 %s을(를) 획득할 수 없습니다!%n", droppedItem.getName());
     }
   }
 
+  /**
+   * 마지막 전투의 이벤트 로그를 반환합니다. 다음 전투에서 재사용되므로 보관하려면 copy()를 사용합니다.
+   */
+  public BattleEventLog getLastBattleLog() {
+    return eventLog;
+  }
+
+  /**
+   * 마지막 전투에서 진행된 턴 수를 반환합니다.
+   */
+  public int getLastTurnCount() {
+    return lastTurnCount;
+  }
+
   /**
    * 전투 행동 열거형
    */
@@ -0,0 +1,375 @@
+package rpg.core.battle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+
+/**
+ * 고정 길이 이진 레코드로 기록하는 전투 이벤트 로그
+ * - 레코드 하나 = 턴, 행동 주체, 행동, 플래그, 몬스터 슬롯, 원본 데미지, 실제 데미지, 행동 후 대상 HP (20바이트)
+ * - 버퍼는 전투마다 비우고 재사용하므로 평소 전투에서는 문자열/객체를 만들지 않음
+ * - 전투 시작 시 양쪽 능력치를 헤더로 남겨 BattleReplayer가 재현 및 검증에 사용
+ * - 다수 몬스터 전투는 몬스터마다 헤더를 두고, 레코드의 슬롯으로 관련 몬스터를 가리킴
+ */
+public class BattleEventLog {
+  //@formatter:off
+  public static final int RECORD_SIZE = 20;
+  private static final int OFFSET_TURN   = 0;  // int
+  private static final int OFFSET_ACTOR  = 4;  // byte
+  private static final int OFFSET_ACTION = 5;  // byte
+  private static final int OFFSET_FLAGS  = 6;  // byte
+  private static final int OFFSET_SLOT   = 7;  // byte (플레이어 행동은 대상, 몬스터 행동은 행동 주체)
+  private static final int OFFSET_RAW    = 8;  // int
+  private static final int OFFSET_ACTUAL = 12; // int
+  private static final int OFFSET_HP     = 16; // int
+  //@formatter:on
+
+  public static final int FLAG_CRITICAL = 1;
+  public static final int FLAG_SUCCESS = 1 << 1;
+  public static final int FLAG_STATUS_EFFECT = 1 << 2; // 스킬이나 몬스터 특수 능력이 상태 효과를 걸었음
+  public static final int FLAG_ABILITY = 1 << 3; // 몬스터 특수 능력이 데미지나 HP를 바꿨음
+
+  private static final int INITIAL_CAPACITY = 64 * RECORD_SIZE;
+  private static final int FILE_MAGIC = 0x42544C47; // "BTLG"
+  private static final short FILE_VERSION = 2; // 이 버전만 읽음
+  public static final int MAX_MONSTERS = Byte.MAX_VALUE;
+
+  /**
+   * 행동 주체
+   */
+  public enum Actor {
+    PLAYER, MONSTER
+  }
+
+  /**
+   * 기록되는 행동 종류
+   * - ATTACK, SKILL: 대상은 상대방, HP는 상대방 HP
+   * - HEAL, ITEM: 대상은 자신, 실제 값은 회복량
+   * - ESCAPE: 성공 여부는 FLAG_SUCCESS
+   * - STATUS: 턴 종료 시 상태 효과(재생/중독/화상)에 의한 HP 변화, 대상은 행동 주체 자신
+   *   (FLAG_ABILITY이면 몬스터 특수 능력에 의한 회복)
+   */
+  public enum Action {
+    ATTACK, SKILL, HEAL, ITEM, ESCAPE, STATUS
+  }
+
+  private static final Actor[] ACTORS = Actor.values();
+  private static final Action[] ACTIONS = Action.values();
+  private static final BattleEngine.BattleResult[] RESULTS = BattleEngine.BattleResult.values();
+
+  private ByteBuffer buffer;
+  private int size;
+
+  // 헤더 (전투 시작 시점 스냅샷)
+  private String playerName;
+  private int playerHp;
+  private int playerMaxHp;
+  private int playerAttack;
+  private int playerDefense;
+  private int monsterCount;
+  private String[] monsterNames = new String[1];
+  private int[] monsterHp = new int[1];
+  private int[] monsterMaxHp = new int[1];
+  private int[] monsterAttack = new int[1];
+  private int[] monsterDefense = new int[1];
+  private BattleEngine.BattleResult result;
+
+  public BattleEventLog() {
+    this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * 새 전투를 시작합니다. 이전 기록은 지우고 버퍼는 재사용합니다.
+   */
+  public void begin(Player player, List<Monster> monsters) {
+    if (monsters.size() > MAX_MONSTERS) {
+      throw new IllegalArgumentException("기록할 수 있는 몬스터 수를 초과했습니다: " + monsters.size());
+    }
+    size = 0;
+    result = null;
+    playerName = player.getName();
+    playerHp = player.getHp();
+    playerMaxHp = player.getTotalMaxHp();
+    playerAttack = player.getAttack();
+    playerDefense = player.getTotalDefense();
+
+    ensureMonsterCapacity(monsters.size());
+    monsterCount = monsters.size();
+    for (int slot = 0; slot < monsterCount; slot++) {
+      Monster monster = monsters.get(slot);
+      monsterNames[slot] = monster.getName();
+      monsterHp[slot] = monster.getHp();
+      monsterMaxHp[slot] = monster.getMaxHp();
+      monsterAttack[slot] = monster.getAttack();
+      monsterDefense[slot] = monster.getDefense();
+    }
+  }
+
+  private void ensureMonsterCapacity(int count) {
+    if (monsterNames.length < count) {
+      monsterNames = Arrays.copyOf(monsterNames, count);
+      monsterHp = Arrays.copyOf(monsterHp, count);
+      monsterMaxHp = Arrays.copyOf(monsterMaxHp, count);
+      monsterAttack = Arrays.copyOf(monsterAttack, count);
+      monsterDefense = Arrays.copyOf(monsterDefense, count);
+    }
+  }
+
+  /**
+   * 이벤트 하나를 기록합니다.
+   *
+   * @param slot 관련 몬스터 슬롯 (플레이어 행동은 대상, 몬스터 행동은 행동 주체, 대상이 없으면 0)
+   */
+  public void record(int turn, Actor actor, int slot, Action action, int flags, int rawValue, int actualValue, int hpAfter) {
+    if (buffer.capacity() < (size + 1) * RECORD_SIZE) {
+      grow();
+    }
+    int base = size * RECORD_SIZE;
+    buffer.putInt(base + OFFSET_TURN, turn);
+    buffer.put(base + OFFSET_ACTOR, (byte) actor.ordinal());
+    buffer.put(base + OFFSET_ACTION, (byte) action.ordinal());
+    buffer.put(base + OFFSET_FLAGS, (byte) flags);
+    buffer.put(base + OFFSET_SLOT, (byte) slot);
+    buffer.putInt(base + OFFSET_RAW, rawValue);
+    buffer.putInt(base + OFFSET_ACTUAL, actualValue);
+    buffer.putInt(base + OFFSET_HP, hpAfter);
+    size++;
+  }
+
+  /**
+   * 전투 결과를 기록합니다.
+   */
+  public void finish(BattleEngine.BattleResult result) {
+    this.result = result;
+  }
+
+  private void grow() {
+    ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+    larger.put(0, buffer, 0, size * RECORD_SIZE);
+    buffer = larger;
+  }
+
+  /**
+   * 현재 기록의 독립 사본을 만듭니다. (다음 전투로 덮어쓰기 전에 보관할 때 사용)
+   */
+  public BattleEventLog copy() {
+    BattleEventLog copy = new BattleEventLog();
+    copy.buffer = ByteBuffer.allocate(Math.max(INITIAL_CAPACITY, size * RECORD_SIZE));
+    copy.buffer.put(0, buffer, 0, size * RECORD_SIZE);
+    copy.size = size;
+    copy.copyHeaderFrom(this);
+    return copy;
+  }
+
+  private void copyHeaderFrom(BattleEventLog other) {
+    playerName = other.playerName;
+    playerHp = other.playerHp;
+    playerMaxHp = other.playerMaxHp;
+    playerAttack = other.playerAttack;
+    playerDefense = other.playerDefense;
+    monsterCount = other.monsterCount;
+    monsterNames = Arrays.copyOf(other.monsterNames, Math.max(1, monsterCount));
+    monsterHp = Arrays.copyOf(other.monsterHp, Math.max(1, monsterCount));
+    monsterMaxHp = Arrays.copyOf(other.monsterMaxHp, Math.max(1, monsterCount));
+    monsterAttack = Arrays.copyOf(other.monsterAttack, Math.max(1, monsterCount));
+    monsterDefense = Arrays.copyOf(other.monsterDefense, Math.max(1, monsterCount));
+    result = other.result;
+  }
+
+  // === 파일 저장/불러오기 ===
+
+  /**
+   * 기록을 이진 파일로 저장합니다.
+   */
+  public void save(Path path) throws IOException {
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(FILE_MAGIC);
+      out.writeShort(FILE_VERSION);
+      out.writeUTF(playerName != null ? playerName : "");
+      out.writeInt(playerHp);
+      out.writeInt(playerMaxHp);
+      out.writeInt(playerAttack);
+      out.writeInt(playerDefense);
+      out.writeByte(monsterCount);
+      for (int slot = 0; slot < monsterCount; slot++) {
+        out.writeUTF(monsterNames[slot] != null ? monsterNames[slot] : "");
+        out.writeInt(monsterHp[slot]);
+        out.writeInt(monsterMaxHp[slot]);
+        out.writeInt(monsterAttack[slot]);
+        out.writeInt(monsterDefense[slot]);
+      }
+      out.writeByte(result != null ? result.ordinal() : -1);
+      out.writeInt(size);
+      out.write(buffer.array(), 0, size * RECORD_SIZE);
+    }
+  }
+
+  /**
+   * 이진 파일에서 기록을 불러옵니다. (FILE_VERSION이 아니면 거부)
+   */
+  public static BattleEventLog load(Path path) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != FILE_MAGIC) {
+        throw new IOException("전투 기록 파일이 아닙니다: " + path);
+      }
+      short version = in.readShort();
+      if (version != FILE_VERSION) {
+        throw new IOException("지원하지 않는 전투 기록 버전: " + version);
+      }
+
+      BattleEventLog log = new BattleEventLog();
+      log.playerName = in.readUTF();
+      log.playerHp = in.readInt();
+      log.playerMaxHp = in.readInt();
+      log.playerAttack = in.readInt();
+      log.playerDefense = in.readInt();
+      int monsterCount = in.readUnsignedByte();
+      log.ensureMonsterCapacity(monsterCount);
+      log.monsterCount = monsterCount;
+      for (int slot = 0; slot < monsterCount; slot++) {
+        log.monsterNames[slot] = in.readUTF();
+        log.monsterHp[slot] = in.readInt();
+        log.monsterMaxHp[slot] = in.readInt();
+        log.monsterAttack[slot] = in.readInt();
+        log.monsterDefense[slot] = in.readInt();
+      }
+      byte resultOrdinal = in.readByte();
+      log.result = resultOrdinal >= 0 && resultOrdinal < RESULTS.length ? RESULTS[resultOrdinal] : null;
+
+      int count = in.readInt();
+      if (count < 0) {
+        throw new IOException("잘못된 레코드 수: " + count);
+      }
+      log.buffer = ByteBuffer.allocate(Math.max(INITIAL_CAPACITY, count * RECORD_SIZE));
+      in.readFully(log.buffer.array(), 0, count * RECORD_SIZE);
+      log.size = count;
+      return log;
+    }
+  }
+
+  // === 레코드 조회 ===
+
+  public int size() {
+    return size;
+  }
+
+  public int getTurn(int index) {
+    return buffer.getInt(offset(index) + OFFSET_TURN);
+  }
+
+  public Actor getActor(int index) {
+    return ACTORS[buffer.get(offset(index) + OFFSET_ACTOR)];
+  }
+
+  public Action getAction(int index) {
+    return ACTIONS[buffer.get(offset(index) + OFFSET_ACTION)];
+  }
+
+  /**
+   * 레코드가 가리키는 몬스터 슬롯 (버전 1 기록은 항상 0)
+   */
+  public int getSlot(int index) {
+    return buffer.get(offset(index) + OFFSET_SLOT);
+  }
+
+  public int getFlags(int index) {
+    return buffer.get(offset(index) + OFFSET_FLAGS);
+  }
+
+  public boolean isCritical(int index) {
+    return (getFlags(index) & FLAG_CRITICAL) != 0;
+  }
+
+  public boolean isSuccess(int index) {
+    return (getFlags(index) & FLAG_SUCCESS) != 0;
+  }
+
+  public boolean hasStatusEffect(int index) {
+    return (getFlags(index) & FLAG_STATUS_EFFECT) != 0;
+  }
+
+  public boolean isAbility(int index) {
+    return (getFlags(index) & FLAG_ABILITY) != 0;
+  }
+
+  public int getRawValue(int index) {
+    return buffer.getInt(offset(index) + OFFSET_RAW);
+  }
+
+  public int getActualValue(int index) {
+    return buffer.getInt(offset(index) + OFFSET_ACTUAL);
+  }
+
+  public int getHpAfter(int index) {
+    return buffer.getInt(offset(index) + OFFSET_HP);
+  }
+
+  private int offset(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("레코드 인덱스 범위 초과: " + index + " (크기: " + size + ")");
+    }
+    return index * RECORD_SIZE;
+  }
+
+  // === 헤더 조회 ===
+
+  public String getPlayerName() {
+    return playerName;
+  }
+
+  public int getMonsterCount() {
+    return monsterCount;
+  }
+
+  public String getMonsterName(int slot) {
+    return monsterNames[slot];
+  }
+
+  public int getPlayerHp() {
+    return playerHp;
+  }
+
+  public int getPlayerMaxHp() {
+    return playerMaxHp;
+  }
+
+  public int getPlayerAttack() {
+    return playerAttack;
+  }
+
+  public int getPlayerDefense() {
+    return playerDefense;
+  }
+
+  public int getMonsterHp(int slot) {
+    return monsterHp[slot];
+  }
+
+  public int getMonsterMaxHp(int slot) {
+    return monsterMaxHp[slot];
+  }
+
+  public int getMonsterAttack(int slot) {
+    return monsterAttack[slot];
+  }
+
+  public int getMonsterDefense(int slot) {
+    return monsterDefense[slot];
+  }
+
+  public BattleEngine.BattleResult getResult() {
+    return result;
+  }
+}
@@ -0,0 +1,179 @@
+package rpg.core.battle;
+
+import java.io.PrintStream;
+import java.util.List;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+
+/**
+ * 전투 출력 대상 인터페이스
+ * 대화형 전투는 콘솔로, 헤드리스 전투는 무출력 또는 버퍼로 출력을 보냄
+ */
+public interface BattleOutput {
+
+  /**
+   * 한 줄을 출력합니다
+   *
+   * @param line 출력할 문자열
+   */
+  void println(String line);
+
+  /**
+   * 서식 문자열을 출력합니다
+   *
+   * @param format 서식 문자열
+   * @param args 서식 인자
+   */
+  void printf(String format, Object... args);
+
+  /**
+   * 출력이 실제로 어딘가에 기록되는지 확인합니다 (무출력이면 false)
+   *
+   * @return 출력 활성 여부
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * 턴 시작 시 전투 상황을 출력합니다
+   *
+   * @param player 플레이어
+   * @param monster 몬스터
+   */
+  default void showStatus(Player player, Monster monster) {
+    showStatus(player, List.of(monster));
+  }
+
+  /**
+   * 플레이어와 살아 있는 모든 몬스터의 현재 상태를 출력합니다
+   */
+  default void showStatus(Player player, List<Monster> monsters) {
+    println("\n--- ⚔️ 전투 상황 ---");
+    //@formatter:off
+    // 플레이어 상태
+    printf("🧙 %s%n❤️ HP (%d/%d) | 💙 MP (%d/%d)%n",
+        player.getName(),
+        player.getHp(),
+        player.getTotalMaxHp(),
+        player.getMp(),
+        player.getMaxMp());
+    if (player.getStatusEffects().hasAny()) {
+      printf("✨ 효과: %s%n", player.getStatusEffects().describe());
+    }
+    println("");
+    // 몬스터 상태
+    for (Monster monster : monsters) {
+      if (!monster.isAlive()) {
+        continue;
+      }
+      printf("👹 %s%n❤️ HP (%d/%d)%n",
+          monster.getName(),
+          monster.getHp(),
+          monster.getMaxHp());
+      if (monster.hasStatusEffects()) {
+        printf("✨ 효과: %s%n", monster.getStatusEffects().describe());
+      }
+    }
+    //@formatter:on
+    println("-------------------");
+  }
+
+  /**
+   * 모아 둔 출력을 내보냅니다 (프레임 버퍼를 쓰는 출력만 의미 있음)
+   * 엔진은 턴마다, 그리고 다른 코드가 콘솔에 직접 출력하기 전에 호출함
+   */
+  default void flush() {}
+
+  /**
+   * 콘솔 출력
+   */
+  static BattleOutput console() {
+    return Console.INSTANCE;
+  }
+
+  /**
+   * 지정한 스트림에 줄 단위로 바로 쓰는 출력
+   */
+  static BattleOutput console(PrintStream out) {
+    return new Console(out);
+  }
+
+  /**
+   * 아무것도 출력하지 않는 출력
+   */
+  static BattleOutput silent() {
+    return Silent.INSTANCE;
+  }
+
+  /**
+   * 주어진 버퍼에 누적하는 출력
+   */
+  static BattleOutput buffered(StringBuilder buffer) {
+    return new Buffered(buffer);
+  }
+
+  /**
+   * PrintStream(기본 System.out) 기반 줄 단위 출력
+   */
+  final class Console implements BattleOutput {
+    private static final Console INSTANCE = new Console(System.out);
+
+    private final PrintStream out;
+
+    private Console(PrintStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void println(String line) {
+      out.println(line);
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+      out.printf(format, args);
+    }
+  }
+
+  /**
+   * 무출력 (서식 처리 비용도 발생하지 않음)
+   */
+  final class Silent implements BattleOutput {
+    private static final Silent INSTANCE = new Silent();
+
+    private Silent() {}
+
+    @Override
+    public void println(String line) {}
+
+    @Override
+    public void printf(String format, Object... args) {}
+
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+  }
+
+  /**
+   * StringBuilder 버퍼 출력 (회귀 테스트 비교용)
+   */
+  final class Buffered implements BattleOutput {
+    private final StringBuilder buffer;
+
+    private Buffered(StringBuilder buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void println(String line) {
+      buffer.append(line).append(System.lineSeparator());
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+      buffer.append(String.format(format, args));
+    }
+  }
+}
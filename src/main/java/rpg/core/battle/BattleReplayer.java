@@ -0,0 +1,235 @@
+package rpg.core.battle;
+
+import java.util.ArrayList;
+import java.util.List;
+import rpg.domain.battle.BattleCalculator;
+import rpg.shared.constant.BattleConstants;
+
+/**
+ * 전투 이벤트 로그 재생기
+ * - render: 기록만으로 전투 진행을 다시 출력
+ * - summarize: 자동 전투 결과 한 줄 요약
+ * - verify: 헤더 능력치와 BattleCalculator 규칙으로 각 레코드의 데미지와 HP 흐름을 재검증
+ *   (상태 효과가 걸린 이후나 몬스터 특수 능력이 발동한 공격은 데미지 상한만, HP 흐름은 그대로 검증)
+ */
+public class BattleReplayer {
+
+  private BattleReplayer() {}
+
+  /**
+   * 기록된 전투를 출력 대상으로 다시 그립니다.
+   */
+  public static void render(BattleEventLog log, BattleOutput output) {
+    String playerName = log.getPlayerName();
+
+    output.println("\n🎞️ === 전투 재생 ===");
+    output.printf("%s (HP %d/%d, 공격 %d, 방어 %d) vs%n", playerName, log.getPlayerHp(), log.getPlayerMaxHp(), log.getPlayerAttack(),
+        log.getPlayerDefense());
+    for (int slot = 0; slot < log.getMonsterCount(); slot++) {
+      output.printf("  %s (HP %d/%d, 공격 %d, 방어 %d)%n", log.getMonsterName(slot), log.getMonsterHp(slot), log.getMonsterMaxHp(slot),
+          log.getMonsterAttack(slot), log.getMonsterDefense(slot));
+    }
+
+    int currentTurn = -1; // 0턴은 플레이어 첫 행동 전 몬스터 선공
+    for (int i = 0; i < log.size(); i++) {
+      int turn = log.getTurn(i);
+      if (turn != currentTurn) {
+        currentTurn = turn;
+        output.printf("--- %d턴 ---%n", turn);
+      }
+
+      boolean byPlayer = log.getActor(i) == BattleEventLog.Actor.PLAYER;
+      String monsterName = log.getMonsterName(log.getSlot(i));
+      String actorName = byPlayer ? playerName : monsterName;
+      String targetName = byPlayer ? monsterName : playerName;
+
+      switch (log.getAction(i)) {
+        case ATTACK -> output.printf("%s%s → %s: %d 데미지 (원본 %d)%s | %s HP %d%n", log.isCritical(i) ? "💥 " : "⚔️ ", actorName, targetName,
+            log.getActualValue(i), log.getRawValue(i), log.isAbility(i) ? " [특수 능력]" : "", targetName, log.getHpAfter(i));
+        case SKILL -> output.printf("✨ %s 스킬 → %s: %d 데미지 (원본 %d) | %s HP %d%n", actorName, targetName, log.getActualValue(i),
+            log.getRawValue(i), targetName, log.getHpAfter(i));
+        case HEAL -> output.printf("💚 %s 회복 스킬: +%d | HP %d%n", actorName, log.getActualValue(i), log.getHpAfter(i));
+        case ITEM -> output.printf("🧪 %s 아이템 사용: HP %+d | HP %d%n", actorName, log.getActualValue(i), log.getHpAfter(i));
+        case ESCAPE -> output.printf("🏃 %s 도망 %s%n", actorName, log.isSuccess(i) ? "성공" : "실패");
+        case STATUS -> output.printf("%s %s %s: HP %+d | HP %d%n", log.getActualValue(i) > 0 ? "💚" : "☠️", actorName,
+            log.isAbility(i) ? "특수 능력" : "상태 효과", log.getActualValue(i), log.getHpAfter(i));
+      }
+    }
+
+    output.printf("결과: %s (%d턴, 이벤트 %d건)%n", log.getResult() != null ? log.getResult() : "기록 없음", Math.max(0, currentTurn), log.size());
+  }
+
+  /**
+   * 기록된 전투를 한 줄로 요약합니다. (예: "승리 | 7턴 | 공격 5, 스킬 2, 아이템 0 | 가한 피해 120, 받은 피해 34")
+   */
+  public static String summarize(BattleEventLog log) {
+    int attacks = 0;
+    int skills = 0;
+    int items = 0;
+    int damageDealt = 0;
+    int damageTaken = 0;
+    int lastTurn = 0;
+    for (int i = 0; i < log.size(); i++) {
+      lastTurn = Math.max(lastTurn, log.getTurn(i));
+      boolean byPlayer = log.getActor(i) == BattleEventLog.Actor.PLAYER;
+      switch (log.getAction(i)) {
+        case ATTACK -> {
+          if (byPlayer) {
+            attacks++;
+            damageDealt += log.getActualValue(i);
+          } else {
+            damageTaken += log.getActualValue(i);
+          }
+        }
+        case SKILL -> {
+          // 광역 스킬은 대상마다 레코드가 남으므로 같은 턴에 연속된 스킬 레코드는 한 번으로 셈
+          if (i == 0 || log.getAction(i - 1) != BattleEventLog.Action.SKILL || log.getTurn(i - 1) != log.getTurn(i)) {
+            skills++;
+          }
+          damageDealt += log.getActualValue(i);
+        }
+        case HEAL -> skills++;
+        case ITEM -> items++;
+        case ESCAPE, STATUS -> {
+          // 행동 횟수와 피해 합계에 포함하지 않음
+        }
+      }
+    }
+
+    String result = log.getResult() == null ? "기록 없음" : switch (log.getResult()) {
+      case VICTORY -> "승리";
+      case DEFEAT -> "패배";
+      case ESCAPED -> "도망";
+      case ERROR -> "오류";
+    };
+    return String.format("%s | %d턴 | 공격 %d, 스킬 %d, 아이템 %d | 가한 피해 %d, 받은 피해 %d", result, lastTurn, attacks, skills, items, damageDealt,
+        damageTaken);
+  }
+
+  /**
+   * 기록을 전투 규칙으로 재검증합니다.
+   *
+   * @return 불일치 목록 (비어 있으면 정상)
+   */
+  public static List<String> verify(BattleEventLog log) {
+    List<String> problems = new ArrayList<>();
+    int playerHp = log.getPlayerHp();
+    int[] monsterHp = new int[log.getMonsterCount()];
+    for (int slot = 0; slot < monsterHp.length; slot++) {
+      monsterHp[slot] = log.getMonsterHp(slot);
+    }
+    int previousTurn = 0;
+    boolean statsModified = false;
+
+    for (int i = 0; i < log.size(); i++) {
+      int turn = log.getTurn(i);
+      int raw = log.getRawValue(i);
+      int actual = log.getActualValue(i);
+      int hpAfter = log.getHpAfter(i);
+      boolean byPlayer = log.getActor(i) == BattleEventLog.Actor.PLAYER;
+      int slot = log.getSlot(i);
+      if (slot < 0 || slot >= monsterHp.length) {
+        problems.add(String.format("#%d: 잘못된 몬스터 슬롯 (%d)", i, slot));
+        continue;
+      }
+
+      if (turn < previousTurn) {
+        problems.add(String.format("#%d: 턴 순서 역전 (%d → %d)", i, previousTurn, turn));
+      }
+      previousTurn = turn;
+
+      switch (log.getAction(i)) {
+        case ATTACK -> {
+          if (statsModified || log.isAbility(i)) {
+            // 버프/디버프/마나 실드나 특수 능력으로 데미지가 바뀌었으므로 원본 데미지 이하인지만 확인
+            if (actual < 0 || actual > Math.max(raw, BattleCalculator.MIN_DAMAGE)) {
+              problems.add(String.format("#%d: 실제 데미지가 원본을 초과 (기록 %d, 원본 %d)", i, actual, raw));
+            }
+          } else {
+            verifyAttack(problems, log, i, byPlayer, slot, raw, actual);
+          }
+          if (byPlayer) {
+            monsterHp[slot] = checkHp(problems, i, monsterHp[slot] - actual, hpAfter);
+          } else {
+            playerHp = checkHp(problems, i, playerHp - actual, hpAfter);
+          }
+          statsModified |= log.hasStatusEffect(i);
+        }
+        case SKILL -> {
+          if (log.isAbility(i)) {
+            // 피격 시 능력(경감/회피)으로 데미지가 바뀌었으므로 원본 데미지 이하인지만 확인
+            if (actual < 0 || actual > Math.max(raw, BattleCalculator.MIN_DAMAGE)) {
+              problems.add(String.format("#%d: 스킬 실제 데미지가 원본을 초과 (기록 %d, 원본 %d)", i, actual, raw));
+            }
+          } else if (!statsModified && raw > 0 && hpAfter > 0 && actual != BattleCalculator.mitigate(raw, log.getMonsterDefense(slot))) {
+            problems.add(String.format("#%d: 스킬 실제 데미지 불일치 (기록 %d, 원본 %d)", i, actual, raw));
+          }
+          monsterHp[slot] = checkHp(problems, i, monsterHp[slot] - actual, hpAfter);
+          statsModified |= log.hasStatusEffect(i);
+        }
+        case HEAL, ITEM -> {
+          if (hpAfter != playerHp + actual || hpAfter > log.getPlayerMaxHp()) {
+            problems.add(String.format("#%d: 회복 후 HP 불일치 (이전 %d, 회복 %d, 기록 %d)", i, playerHp, actual, hpAfter));
+          }
+          playerHp = hpAfter;
+        }
+        case ESCAPE -> {
+          // 도망은 HP 변화 없음
+        }
+        case STATUS -> {
+          int maxHp = byPlayer ? log.getPlayerMaxHp() : log.getMonsterMaxHp(slot);
+          int previousHp = byPlayer ? playerHp : monsterHp[slot];
+          int expectedHp = Math.max(0, Math.min(previousHp + actual, maxHp));
+          if (hpAfter != expectedHp) {
+            problems.add(String.format("#%d: 상태 효과 후 HP 불일치 (이전 %d, 변화 %+d, 기록 %d)", i, previousHp, actual, hpAfter));
+          }
+          if (byPlayer) {
+            playerHp = hpAfter;
+          } else {
+            monsterHp[slot] = hpAfter;
+          }
+        }
+      }
+    }
+
+    BattleEngine.BattleResult result = log.getResult();
+    if (result == BattleEngine.BattleResult.VICTORY) {
+      for (int slot = 0; slot < monsterHp.length; slot++) {
+        if (monsterHp[slot] > 0) {
+          problems.add(String.format("승리로 기록되었지만 몬스터 %s(슬롯 %d)의 HP가 남아 있음: %d", log.getMonsterName(slot), slot, monsterHp[slot]));
+        }
+      }
+    } else if (result == BattleEngine.BattleResult.DEFEAT && playerHp > 0) {
+      problems.add("패배로 기록되었지만 플레이어 HP가 남아 있음: " + playerHp);
+    }
+
+    return problems;
+  }
+
+  /**
+   * 헤더 능력치 기준으로 일반 공격의 원본/실제 데미지를 검증합니다.
+   */
+  private static void verifyAttack(List<String> problems, BattleEventLog log, int i, boolean byPlayer, int slot, int raw, int actual) {
+    if (byPlayer) {
+      int expectedRaw = BattleCalculator.playerAttackDamage(log.getPlayerAttack(), log.isCritical(i));
+      if (raw != expectedRaw) {
+        problems.add(String.format("#%d: 플레이어 원본 데미지 불일치 (기록 %d, 계산 %d)", i, raw, expectedRaw));
+      }
+    } else if (raw < log.getMonsterAttack(slot) || raw >= log.getMonsterAttack(slot) + BattleConstants.MONSTER_DAMAGE_VARIANCE) {
+      problems.add(String.format("#%d: 몬스터 원본 데미지 범위 벗어남 (%d)", i, raw));
+    }
+
+    int expectedActual = BattleCalculator.mitigate(raw, byPlayer ? log.getMonsterDefense(slot) : log.getPlayerDefense());
+    if (actual != expectedActual) {
+      problems.add(String.format("#%d: 실제 데미지 불일치 (기록 %d, 계산 %d)", i, actual, expectedActual));
+    }
+  }
+
+  private static int checkHp(List<String> problems, int index, int expectedHp, int recordedHp) {
+    int expected = Math.max(0, expectedHp);
+    if (expected != recordedHp) {
+      problems.add(String.format("#%d: 대상 HP 불일치 (기록 %d, 계산 %d)", index, recordedHp, expected));
+    }
+    return recordedHp;
+  }
+}
@@ -0,0 +1,69 @@
+package rpg.core.battle;
+
+import java.util.List;
+import rpg.application.validator.InputValidator;
+import rpg.domain.inventory.ItemStack;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+import rpg.domain.skill.Skill;
+
+/**
+ * 콘솔 입력 기반 전투 행동 정책 (기존 대화형 전투)
+ */
+public class ConsoleBattlePolicy implements BattleActionPolicy {
+
+  @Override
+  public BattleEngine.BattleAction chooseAction(Player player, Monster monster) {
+    System.out.println("\n전투 행동:");
+    System.out.println("1. 일반 공격");
+    System.out.println("2. 스킬 사용");
+    System.out.println("3. 아이템 사용");
+    System.out.println("4. 도망");
+
+    int choice = InputValidator.getIntInput("선택: ", 1, 4);
+
+    return switch (choice) {
+      case 1 -> BattleEngine.BattleAction.ATTACK;
+      case 2 -> BattleEngine.BattleAction.SKILL;
+      case 3 -> BattleEngine.BattleAction.ITEM;
+      case 4 -> BattleEngine.BattleAction.ESCAPE;
+      default -> BattleEngine.BattleAction.ATTACK;
+    };
+  }
+
+  @Override
+  public Skill chooseSkill(Player player, Monster monster, List<Skill> availableSkills) {
+    System.out.println("\n사용 가능한 스킬:");
+    for (int i = 0; i < availableSkills.size(); i++) {
+      Skill skill = availableSkills.get(i);
+      System.out.printf("%d. %s (마나: %d)%n", i + 1, skill.getName(), skill.getManaCost());
+    }
+
+    int skillIndex = InputValidator.getIntInput("사용할 스킬 번호 (0: 취소): ", 0, availableSkills.size()) - 1;
+    return skillIndex < 0 ? null : availableSkills.get(skillIndex);
+  }
+
+  @Override
+  public Monster chooseTarget(Player player, List<Monster> aliveMonsters) {
+    System.out.println("\n대상 선택:");
+    for (int i = 0; i < aliveMonsters.size(); i++) {
+      Monster monster = aliveMonsters.get(i);
+      System.out.printf("%d. %s (HP %d/%d)%n", i + 1, monster.getName(), monster.getHp(), monster.getMaxHp());
+    }
+
+    int targetIndex = InputValidator.getIntInput("대상 번호: ", 1, aliveMonsters.size()) - 1;
+    return aliveMonsters.get(targetIndex);
+  }
+
+  @Override
+  public ItemStack chooseItem(Player player, List<ItemStack> consumables) {
+    System.out.println("\n사용 가능한 아이템:");
+    for (int i = 0; i < consumables.size(); i++) {
+      var stack = consumables.get(i);
+      System.out.printf("%d. %s x%d%n", i + 1, stack.getItem().getName(), stack.getQuantity());
+    }
+
+    int itemIndex = InputValidator.getIntInput("사용할 아이템 번호 (0: 취소): ", 0, consumables.size()) - 1;
+    return itemIndex < 0 ? null : consumables.get(itemIndex);
+  }
+}
@@ -0,0 +1,264 @@
+package rpg.core.battle;
+
+import java.util.List;
+import rpg.domain.battle.BattleCalculator;
+import rpg.domain.inventory.ItemStack;
+import rpg.domain.item.GameConsumable;
+import rpg.domain.item.effect.GameEffect;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+import rpg.domain.skill.Skill;
+import rpg.domain.skill.SkillType;
+import rpg.shared.constant.BattleConstants;
+
+/**
+ * 기대값 기반 자동 전투 정책 (자동 전투, 밸런스 시뮬레이션 공용)
+ * - 일반 공격과 공격 스킬의 기대 데미지를 BattleCalculator 규칙으로 계산해 비교
+ *   (스킬은 일반 공격보다 더 주는 데미지를 MP 1당 얼마나 버는지로 점수화, 대상 HP를 넘는 데미지는 버림)
+ * - 쿨다운 중이거나 MP가 부족한 스킬은 SkillService의 사용 가능 목록에서 이미 빠져 있음
+ * - HP가 임계치 이하이거나 다음 차례 전까지의 몬스터 공격에 쓰러질 수 있으면 회복 스킬 → 회복 물약 순으로 회복,
+ *   (빠른 몬스터는 속도 비율만큼 여러 번 공격하는 것으로 계산)
+ *   회복 수단이 없고 쓰러질 수 있으면 도망
+ * - 대상은 남은 HP 대비 공격력이 가장 높은(가장 빨리 위협을 줄이는) 몬스터
+ * - 버프/디버프 스킬은 사용하지 않음
+ * - 난수를 사용하지 않으므로 전투 엔진의 난수 스트림과 재현성에 영향이 없음
+ * 선택한 스킬/아이템을 다음 호출까지 기억하므로 전투 엔진마다 인스턴스를 하나씩 사용
+ */
+public class ExpectedValuePolicy implements BattleActionPolicy {
+  /** 기본 회복 임계치 (최대 HP 대비 %) */
+  public static final int DEFAULT_HEAL_THRESHOLD_PERCENT = 35;
+
+  private final int healThresholdPercent;
+  private Skill plannedSkill;
+  private ItemStack plannedItem;
+  private int plannedHp = -1;
+  private int plannedMp = -1;
+
+  public ExpectedValuePolicy() {
+    this(DEFAULT_HEAL_THRESHOLD_PERCENT);
+  }
+
+  /**
+   * @param healThresholdPercent 회복을 시도할 HP 비율 (0~100, 최대 HP 대비 %)
+   */
+  public ExpectedValuePolicy(int healThresholdPercent) {
+    if (healThresholdPercent < 0 || healThresholdPercent > 100) {
+      throw new IllegalArgumentException("회복 임계치는 0~100 사이여야 합니다: " + healThresholdPercent);
+    }
+    this.healThresholdPercent = healThresholdPercent;
+  }
+
+  @Override
+  public BattleEngine.BattleAction chooseAction(Player player, Monster monster) {
+    return chooseAction(player, List.of(monster));
+  }
+
+  @Override
+  public BattleEngine.BattleAction chooseAction(Player player, List<Monster> aliveMonsters) {
+    // 직전에 계획한 스킬/아이템이 아무 변화 없이 다시 호출되면 사용에 실패해 턴이 취소된 것이므로 일반 공격
+    boolean stalled = (plannedSkill != null || plannedItem != null) && player.getHp() == plannedHp && player.getMp() == plannedMp;
+    plannedSkill = null;
+    plannedItem = null;
+    if (stalled) {
+      plannedHp = -1;
+      return BattleEngine.BattleAction.ATTACK;
+    }
+
+    plannedHp = player.getHp();
+    plannedMp = player.getMp();
+    List<Skill> availableSkills = player.getSkillManager().getAvailableSkills(player);
+
+    int maxHp = player.getTotalMaxHp();
+    int missingHp = maxHp - player.getHp();
+    boolean lethal = player.getHp() <= maxIncomingDamage(player, aliveMonsters);
+    if (lethal || player.getHp() * 100 <= maxHp * healThresholdPercent) {
+      plannedSkill = bestHealSkill(availableSkills, missingHp);
+      if (plannedSkill != null) {
+        return BattleEngine.BattleAction.SKILL;
+      }
+      plannedItem = bestPotion(player, missingHp);
+      if (plannedItem != null) {
+        return BattleEngine.BattleAction.ITEM;
+      }
+      if (lethal) {
+        return BattleEngine.BattleAction.ESCAPE;
+      }
+    }
+
+    Monster target = chooseTarget(player, aliveMonsters);
+    plannedSkill = bestAttackSkill(player, target, aliveMonsters, availableSkills);
+    return plannedSkill != null ? BattleEngine.BattleAction.SKILL : BattleEngine.BattleAction.ATTACK;
+  }
+
+  @Override
+  public Skill chooseSkill(Player player, Monster monster, List<Skill> availableSkills) {
+    if (plannedSkill == null) {
+      return null;
+    }
+    for (Skill skill : availableSkills) {
+      if (skill.equals(plannedSkill)) {
+        return skill;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Monster chooseTarget(Player player, List<Monster> aliveMonsters) {
+    Monster best = aliveMonsters.get(0);
+    long bestThreat = -1;
+    for (Monster monster : aliveMonsters) {
+      // 남은 HP 대비 공격력 (천분율 정수로 비교)
+      long threat = (long) monster.getAttack() * BattleCalculator.PERMILLE / Math.max(1, monster.getHp());
+      if (threat > bestThreat) {
+        bestThreat = threat;
+        best = monster;
+      }
+    }
+    return best;
+  }
+
+  @Override
+  public ItemStack chooseItem(Player player, List<ItemStack> consumables) {
+    if (plannedItem == null) {
+      return null;
+    }
+    for (ItemStack stack : consumables) {
+      if (stack.getItem().getId().equals(plannedItem.getItem().getId())) {
+        return stack;
+      }
+    }
+    return null;
+  }
+
+  // === 기대값 계산 ===
+
+  /**
+   * 크리티컬 확률을 반영한 일반 공격 기대 데미지 (대상 HP 초과분 제외)
+   */
+  static int expectedAttackDamage(int attack, Monster target) {
+    int normal = BattleCalculator.mitigate(BattleCalculator.playerAttackDamage(attack, false), target.getDefense());
+    int critical = BattleCalculator.mitigate(BattleCalculator.playerAttackDamage(attack, true), target.getDefense());
+    int chance = BattleConstants.PLAYER_CRITICAL_CHANCE;
+    int expected = (normal * (100 - chance) + critical * chance) / 100;
+    return Math.min(expected, target.getHp());
+  }
+
+  /**
+   * 공격 스킬의 기대 데미지 (대상 HP 초과분 제외, 광역 스킬은 살아 있는 모든 몬스터 합)
+   */
+  static int expectedSkillDamage(int attack, Skill skill, Monster target, List<Monster> aliveMonsters) {
+    int rawDamage = BattleCalculator.skillDamage(attack, BattleCalculator.toPermille(skill.getDamageMultiplier()));
+    if (!skill.isAreaEffect()) {
+      return Math.min(BattleCalculator.mitigate(rawDamage, target.getDefense()), target.getHp());
+    }
+    int total = 0;
+    for (Monster monster : aliveMonsters) {
+      total += Math.min(BattleCalculator.mitigate(rawDamage, monster.getDefense()), monster.getHp());
+    }
+    return total;
+  }
+
+  /**
+   * 플레이어의 다음 차례 전까지 살아 있는 몬스터가 모두 최대 편차로 공격할 때 받을 데미지
+   * 몬스터마다 속도 비율로 구한 최대 행동 횟수만큼 공격하는 것으로 계산
+   */
+  static int maxIncomingDamage(Player player, List<Monster> aliveMonsters) {
+    int defense = player.getTotalDefense();
+    int playerSpeed = player.getSpeed();
+    int total = 0;
+    for (Monster monster : aliveMonsters) {
+      int rawDamage = BattleCalculator.monsterAttackDamage(monster.getAttack(), BattleConstants.MONSTER_DAMAGE_VARIANCE - 1);
+      int actions = InitiativeQueue.maxActionsPerTurn(monster.getSpeed(), playerSpeed);
+      total += BattleCalculator.mitigate(rawDamage, defense) * actions;
+    }
+    return total;
+  }
+
+  /**
+   * 일반 공격 대비 추가 데미지를 MP 1당 가장 많이 버는 공격 스킬 (이득이 없으면 null)
+   */
+  private Skill bestAttackSkill(Player player, Monster target, List<Monster> aliveMonsters, List<Skill> availableSkills) {
+    int attack = player.getAttack();
+    int attackValue = expectedAttackDamage(attack, target);
+
+    Skill best = null;
+    long bestGain = 0;
+    int bestCost = 1;
+    for (Skill skill : availableSkills) {
+      if (skill.getType() != SkillType.ATTACK) {
+        continue;
+      }
+      long gain = expectedSkillDamage(attack, skill, target, aliveMonsters) - attackValue;
+      int cost = Math.max(1, skill.getManaCost());
+      // gain / cost > bestGain / bestCost 를 교차 곱으로 비교
+      if (gain > 0 && gain * bestCost > bestGain * cost) {
+        best = skill;
+        bestGain = gain;
+        bestCost = cost;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * 부족한 HP를 가장 많이 채우는 회복 스킬 (없으면 null)
+   */
+  private Skill bestHealSkill(List<Skill> availableSkills, int missingHp) {
+    Skill best = null;
+    int bestHeal = 0;
+    for (Skill skill : availableSkills) {
+      if (skill.getType() != SkillType.HEAL) {
+        continue;
+      }
+      int heal = Math.min(skill.getHealAmount(), missingHp);
+      if (heal > bestHeal) {
+        best = skill;
+        bestHeal = heal;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * 부족한 HP를 채우는 물약 중 회복량이 가장 작은 것, 모두 부족하면 회복량이 가장 큰 것 (없으면 null)
+   */
+  private ItemStack bestPotion(Player player, int missingHp) {
+    ItemStack best = null;
+    int bestHeal = 0;
+    for (ItemStack stack : player.getInventory().getItems()) {
+      if (!(stack.getItem() instanceof GameConsumable consumable)) {
+        continue;
+      }
+      int heal = potionHealAmount(consumable, player);
+      if (heal <= 0) {
+        continue;
+      }
+      boolean covers = heal >= missingHp;
+      boolean bestCovers = bestHeal >= missingHp;
+      if (best == null || (covers && (!bestCovers || heal < bestHeal)) || (!covers && !bestCovers && heal > bestHeal)) {
+        best = stack;
+        bestHeal = heal;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * 소비 아이템의 HP 회복량
+   */
+  private static int potionHealAmount(GameConsumable consumable, Player player) {
+    int heal = 0;
+    for (GameEffect effect : consumable.getEffects()) {
+      switch (effect.getType()) {
+        case HEAL_HP -> heal += effect.getValue();
+        case HEAL_HP_PERCENT -> heal += player.getTotalMaxHp() * effect.getValue() / 100;
+        case FULL_RESTORE -> heal += player.getTotalMaxHp();
+        default -> {
+          // HP 회복과 무관한 효과
+        }
+      }
+    }
+    return heal;
+  }
+}
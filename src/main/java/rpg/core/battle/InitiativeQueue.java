@@ -0,0 +1,155 @@
+package rpg.core.battle;
+
+import java.util.Arrays;
+
+/**
+ * 속도 기반 행동 순서 스케줄러
+ * - 참가자(슬롯)마다 다음 행동 시각을 두고, 가장 빠른 참가자부터 행동
+ * - 행동 간격은 INITIATIVE_SCALE / 속도이므로 속도가 두 배면 두 배 자주 행동
+ * - (행동 시각, 슬롯)을 long 하나로 묶은 이진 힙이므로 꺼내기/다시 넣기 모두 O(log N), 객체 생성 없음
+ * - 같은 시각이면 슬롯 번호가 작은 쪽(플레이어 = 0)이 먼저 행동
+ */
+public class InitiativeQueue {
+  /** 속도 1일 때의 행동 간격 */
+  public static final int INITIATIVE_SCALE = 10_000;
+  private static final int SLOT_BITS = 16;
+  private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+  public static final int MAX_SLOTS = 1 << SLOT_BITS;
+
+  private long[] heap;
+  private int[] intervals;
+  private int size;
+  private long currentTime;
+
+  public InitiativeQueue(int capacity) {
+    if (capacity <= 0 || capacity > MAX_SLOTS) {
+      throw new IllegalArgumentException("참가자 수는 1 이상 " + MAX_SLOTS + " 이하여야 합니다: " + capacity);
+    }
+    this.heap = new long[capacity];
+    this.intervals = new int[capacity];
+  }
+
+  /**
+   * 모든 참가자를 제거하고 시각을 0으로 되돌립니다. (전투마다 재사용)
+   */
+  public void reset() {
+    size = 0;
+    currentTime = 0;
+  }
+
+  /**
+   * 속도에 따른 행동 간격 (1 미만 속도는 1로, 매우 빠른 참가자도 간격 0이 되지 않도록 1 이상으로 보정)
+   */
+  static int interval(int speed) {
+    return Math.max(1, INITIATIVE_SCALE / Math.max(1, speed));
+  }
+
+  /**
+   * 기준 참가자가 한 번 행동하는 사이에 다른 참가자가 행동할 수 있는 최대 횟수 (1 이상)
+   * 예: 기준 속도 10, 속도 35 → 간격 1000 / 285 → 최대 4회
+   */
+  public static int maxActionsPerTurn(int speed, int referenceSpeed) {
+    int reference = interval(referenceSpeed);
+    int own = interval(speed);
+    return Math.max(1, (reference + own - 1) / own);
+  }
+
+  /**
+   * 참가자를 등록하고 첫 행동을 예약합니다.
+   *
+   * @param slot 참가자 번호 (0부터)
+   * @param speed 속도 (1 미만은 1로 보정)
+   */
+  public void add(int slot, int speed) {
+    if (slot < 0 || slot >= MAX_SLOTS) {
+      throw new IllegalArgumentException("잘못된 참가자 번호: " + slot);
+    }
+    if (slot >= intervals.length) {
+      int capacity = Math.min(MAX_SLOTS, Math.max(slot + 1, intervals.length * 2));
+      intervals = Arrays.copyOf(intervals, capacity);
+    }
+    intervals[slot] = interval(speed);
+    push(currentTime + intervals[slot], slot);
+  }
+
+  /**
+   * 다음에 행동할 참가자를 꺼냅니다. 꺼낸 참가자는 reschedule하기 전까지 큐에 없습니다.
+   *
+   * @return 참가자 번호, 큐가 비어 있으면 -1
+   */
+  public int next() {
+    if (size == 0) {
+      return -1;
+    }
+    long top = heap[0];
+    heap[0] = heap[--size];
+    siftDown(0);
+    currentTime = top >>> SLOT_BITS;
+    return (int) (top & SLOT_MASK);
+  }
+
+  /**
+   * 방금 행동한 참가자의 다음 행동을 예약합니다.
+   * 쓰러진 참가자는 다시 넣지 않으면 되므로 별도 제거 연산이 필요 없음
+   */
+  public void reschedule(int slot) {
+    push(currentTime + intervals[slot], slot);
+  }
+
+  /**
+   * 방금 꺼낸 참가자를 같은 시각에 다시 넣습니다. (행동을 취소해 턴을 쓰지 않은 경우)
+   * 같은 시각이면 슬롯 번호가 작은 쪽이 먼저이므로 플레이어는 곧바로 다시 꺼내짐
+   */
+  public void retry(int slot) {
+    push(currentTime, slot);
+  }
+
+  private void push(long time, int slot) {
+    if (size == heap.length) {
+      heap = Arrays.copyOf(heap, heap.length * 2);
+    }
+    heap[size] = time << SLOT_BITS | slot;
+    siftUp(size++);
+  }
+
+  private void siftUp(int index) {
+    long key = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent] <= key) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = key;
+  }
+
+  private void siftDown(int index) {
+    long key = heap[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      if (child + 1 < size && heap[child + 1] < heap[child]) {
+        child++;
+      }
+      if (key <= heap[child]) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = key;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 마지막으로 꺼낸 참가자의 행동 시각
+   */
+  public long getCurrentTime() {
+    return currentTime;
+  }
+}
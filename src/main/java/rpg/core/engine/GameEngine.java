@@ -1,11 +1,12 @@
 package rpg.core.engine;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,13 +16,26 @@ import rpg.application.manager.LocationManager;
 import rpg.application.service.QuestManager;
 import rpg.application.validator.InputValidator;
 import rpg.core.battle.BattleEngine;
+import rpg.core.battle.ConsoleBattlePolicy;
+import rpg.core.event.GameEventBus;
+import rpg.core.event.ItemAcquiredEvent;
+import rpg.core.event.LevelChangedEvent;
+import rpg.core.event.MonsterKilledEvent;
+import rpg.core.exploration.ExpeditionReport;
+import rpg.core.exploration.ExpeditionRunner;
+import rpg.core.exploration.ExplorationTelemetry;
 import rpg.core.exploration.ExploreEngine;
 import rpg.core.exploration.ExploreResult;
 import rpg.core.exploration.ExploreResultData;
 import rpg.domain.item.GameConsumable;
 import rpg.domain.item.GameItem;
+import rpg.domain.location.Biome;
+import rpg.domain.location.Climate;
 import rpg.domain.location.LocationData;
+import rpg.domain.location.LocationFlag;
+import rpg.domain.location.LocationProperties;
 import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterRarity;
 import rpg.domain.player.Player;
 import rpg.domain.skill.Skill;
 import rpg.infrastructure.data.loader.MonsterDataLoader;
@@ -29,6 +43,7 @@ import rpg.infrastructure.persistence.GameDataRepository;
 import rpg.presentation.controller.InventoryController;
 import rpg.presentation.controller.QuestController;
 import rpg.presentation.controller.ShopController;
+import rpg.presentation.display.BattleDisplay;
 import rpg.presentation.menu.GameMenu;
 import rpg.presentation.menu.MainMenu;
 import rpg.shared.constant.GameConstants;
@@ -36,6 +51,7 @@ import rpg.shared.constant.SystemConstants;
 import rpg.shared.debug.DebugController;
 import rpg.shared.persistence.SaveGameController;
 import rpg.shared.util.ConsoleColors;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 리팩토링된 메인 게임 컨트롤러
@@ -44,7 +60,7 @@ import rpg.shared.util.ConsoleColors;
 public class GameEngine {
   private static final Logger logger = LoggerFactory.getLogger(GameEngine.class);
   
-  private final Random random;
+  private final RandomUtils random;
   
   // 게임 상태
   private Player player;
@@ -60,6 +76,8 @@ public class GameEngine {
   private QuestController questController;
   private ShopController shopController;
   private ExploreEngine exploreController;
+  private ExpeditionRunner expeditionRunner;
+  private GameEventBus eventBus;
 
   private DebugController debugController;
   private SaveGameController saveGameController;
@@ -73,7 +91,7 @@ public class GameEngine {
     this.gameState = new GameState();
     this.gameStartTime = System.currentTimeMillis();
     this.currentSaveSlot = 0;
-    this.random = new Random();
+    this.random = RandomUtils.session();
 
     // 단계별 초기화
     initializeBasicControllers();
@@ -112,18 +130,23 @@ public class GameEngine {
     try {
       QuestManager questManager = player.getQuestManager();
 
+      // 0단계: 이벤트 버스 (퀘스트와 게임 통계는 이벤트마다 한 번씩 처리)
+      eventBus = createEventBus(questManager);
+      player.setLevelChangeListener((changed, oldLevel, newLevel) -> eventBus.publish(new LevelChangedEvent(changed, oldLevel, newLevel)));
+
       // 1단계: QuestController 먼저 초기화
       questController = new QuestController(questManager, gameState, player);
       logger.debug("QuestController 초기화 완료");
 
       // 2단계: 나머지 컨트롤러들 초기화
-      battleController = new BattleEngine(questManager, gameState);
+      battleController = new BattleEngine(eventBus, new ConsoleBattlePolicy(), new BattleDisplay());
       shopController = new ShopController(inventoryController);
-      exploreController = new ExploreEngine(battleController, questController, inventoryController, gameState);
+      exploreController = new ExploreEngine(battleController, BattleEngine.auto(eventBus), questController, inventoryController, gameState, eventBus);
+      expeditionRunner = new ExpeditionRunner(exploreController, eventBus);
 
       // 3단계: 디버그 컨트롤러 (선택적)
       if (SystemConstants.DEBUG_MODE) {
-        debugController = new DebugController(player);
+        debugController = new DebugController(player, battleController);
       }
 
       logger.debug("플레이어 종속 컨트롤러 초기화 완료");
@@ -134,12 +157,25 @@ public class GameEngine {
     }
   }
 
+  /**
+   * 게임 이벤트 버스를 만들고 구독자를 등록합니다.
+   */
+  private GameEventBus createEventBus(QuestManager questManager) {
+    GameEventBus bus = new GameEventBus();
+    bus.subscribe(MonsterKilledEvent.class, event -> questManager.updateKillProgress(event.monsterId(), event.count()));
+    bus.subscribe(MonsterKilledEvent.class, event -> gameState.addMonstersKilled(event.count()));
+    bus.subscribe(ItemAcquiredEvent.class, event -> questManager.updateCollectionProgress(event.player(), event.itemId(), event.quantity()));
+    bus.subscribe(LevelChangedEvent.class, event -> questManager.updateLevelProgress(event.player()));
+    return bus;
+  }
+
   /**
    * 게임을 시작합니다.
    */
   public void start() {
     try {
       logger.info("게임 시작 (v" + SystemConstants.GAME_VERSION + ")");
+      ExplorationTelemetry.getInstance().startPeriodicDump(getTelemetryFile(), SystemConstants.TELEMETRY_DUMP_INTERVAL_SECONDS);
       mainMenu.showWelcomeMessage();
 
       // 메인 메뉴 루프
@@ -164,10 +200,15 @@ public class GameEngine {
       logger.error("게임 실행 중 오류 발생", e);
       System.out.println("게임 실행 중 오류가 발생했습니다. 게임을 종료합니다.");
     } finally {
+      ExplorationTelemetry.getInstance().stopPeriodicDump(getTelemetryFile());
       logger.info("게임 종료");
     }
   }
 
+  private static Path getTelemetryFile() {
+    return Paths.get(SystemConstants.REPORT_DIRECTORY, SystemConstants.TELEMETRY_FILE);
+  }
+
   /**
    * 새 게임을 시작합니다.
    */
@@ -175,7 +216,8 @@ public class GameEngine {
     try {
       String name = InputValidator.getStringInput("캐릭터 이름: ", 2, 20);
 
-      // 1단계: 플레이어 생성
+      // 1단계: 플레이어 생성 (세션 난수 시드는 로그에 기록되어 재현에 사용)
+      RandomUtils.startSession();
       player = new Player(name);
       logger.info("새 플레이어 생성: {}", name);
 
@@ -249,6 +291,7 @@ public class GameEngine {
       gameState = result.getGameState();
       currentSaveSlot = result.getSlotNumber();
       gameStartTime = System.currentTimeMillis();
+      RandomUtils.startSession();
 
       // 2단계: 컨트롤러 재초기화
       initializePlayerDependentControllers();
@@ -413,9 +456,8 @@ public class GameEngine {
 
     monsters.forEach(monster -> {
       String rarity = getRarityIcon(monster.getRarity());
-      int level = estimateMonsterLevel(monster);
-
-      System.out.printf("%s %s (레벨 %d, 출현율 %.0f%%)%n", rarity, monster.getName(), level, monster.getSpawnRate() * 100);
+      System.out.printf("%s %s (레벨 %d-%d, 출현율 %.0f%%)%n", rarity, monster.getName(), monster.getMinLevel(), monster.getMaxLevel(),
+          monster.getSpawnRate() * 100);
 
       System.out.printf("   📝 %s%n", monster.getDescription());
 
@@ -423,7 +465,7 @@ public class GameEngine {
         System.out.printf("   💫 특수능력: %s%n", String.join(", ", monster.getAbilities()));
       }
 
-      System.out.printf("   💎 보상: 경험치 %d, 골드 %d%n", monster.getRewards().getExp(), monster.getRewards().getGold());
+      System.out.printf("   💎 보상: 경험치 %d, 골드 %d (최소 레벨 기준, 레벨이 오르면 함께 증가)%n", monster.getRewards().getExp(), monster.getRewards().getGold());
       System.out.println();
     });
   }
@@ -440,10 +482,6 @@ public class GameEngine {
     };
   }
 
-  private int estimateMonsterLevel(MonsterData monsterData) {
-    return Math.max(1, (monsterData.getStats().getHp() + monsterData.getStats().getAttack() * 2) / 15);
-  }
-
 
   /**
    * 메인 메뉴로 돌아갑니다.
@@ -472,7 +510,9 @@ public class GameEngine {
       showExplorationMenu();
 
       List<LocationData> availableLocations = LocationManager.getAvailableLocations(player.getLevel());
-      int maxChoice = availableLocations.size();
+      int autoBattleChoice = availableLocations.size() + 1;
+      int expeditionChoice = availableLocations.size() + 2;
+      int maxChoice = expeditionChoice;
 
       int choice = InputValidator.getIntInput("선택: ", 0, maxChoice);
 
@@ -481,6 +521,20 @@ public class GameEngine {
         break;
       }
 
+      if (choice == autoBattleChoice) {
+        exploreController.setAutoBattle(!exploreController.isAutoBattle());
+        System.out.println(exploreController.isAutoBattle() ? "⚡ 자동 전투를 켰습니다. 전투는 요약만 표시됩니다." : "⚔️ 자동 전투를 껐습니다.");
+        continue;
+      }
+
+      if (choice == expeditionChoice) {
+        handleExpedition(availableLocations);
+        if (!player.isAlive()) {
+          break;
+        }
+        continue;
+      }
+
       if (choice > 0 && choice <= availableLocations.size()) {
         LocationData selectedLocation = availableLocations.get(choice - 1);
         exploreSpecificLocation(selectedLocation);
@@ -506,10 +560,52 @@ public class GameEngine {
       System.out.printf("%d. %s %s%s\t%s %n", i + 1, location.getIcon(), location.getNameKo(), recommendationText, difficultyColor);
     }
 
+    System.out.printf("%d. ⚡ 자동 전투: %s%n", availableLocations.size() + 1, exploreController.isAutoBattle() ? "켜짐" : "꺼짐");
+    System.out.printf("%d. 🧭 원정 (연속 탐험)%n", availableLocations.size() + 2);
     System.out.println("0. 🏠 마을로 돌아가기");
     System.out.println("==================");
   }
 
+  /**
+   * 원정(연속 탐험)을 진행합니다. 전투는 자동 전투로 처리되고 결과는 요약만 표시됩니다.
+   */
+  private void handleExpedition(List<LocationData> availableLocations) {
+    if (availableLocations.isEmpty()) {
+      System.out.println("❌ 원정을 떠날 수 있는 지역이 없습니다.");
+      return;
+    }
+
+    System.out.println("\n=== 🧭 원정 ===");
+    for (int i = 0; i < availableLocations.size(); i++) {
+      LocationData location = availableLocations.get(i);
+      System.out.printf("%d. %s %s%n", i + 1, location.getIcon(), location.getNameKo());
+    }
+    System.out.println("0. 취소");
+
+    int locationChoice = InputValidator.getIntInput("원정 지역: ", 0, availableLocations.size());
+    if (locationChoice == 0) {
+      return;
+    }
+    LocationData location = availableLocations.get(locationChoice - 1);
+
+    int count = InputValidator.getIntInput("탐험 횟수 (1-10000): ", 1, 10000);
+    int minHpPercent = InputValidator.getIntInput("HP가 몇 % 미만이면 중단할까요? (0: 사용 안 함): ", 0, 100);
+    boolean stopWhenInventoryFull = InputValidator.getConfirmation("인벤토리가 가득 차면 중단할까요?");
+
+    gameState.setCurrentLocation(location.getNameKo());
+    System.out.println("🚀 " + location.getNameKo() + "(으)로 원정을 떠납니다...");
+
+    ExpeditionReport report = expeditionRunner.run(player, location, count, minHpPercent, stopWhenInventoryFull);
+    report.printSummary();
+    player.displayStats();
+
+    if (report.getStopReason() == ExpeditionReport.StopReason.DEFEATED) {
+      handleBattleDefeat();
+    }
+
+    InputValidator.waitForAnyKey("\n계속하려면 Enter를 누르세요...");
+  }
+
   /**
    * 특정 지역으로 탐험을 진행합니다. (LocationData 기반)
    */
@@ -677,9 +773,6 @@ public class GameEngine {
 
     // 현재 상태 표시
     showPlayerStatusBrief();
-
-    // 퀘스트 진행도 체크
-    checkQuestProgress();
   }
 
   /**
@@ -709,7 +802,6 @@ public class GameEngine {
   private void handleTreasureFound() {
     System.out.println("✨ 귀중한 보물을 발견했습니다!");
     playTreasureEffect();
-    updateTreasureStatistics();
   }
 
   /**
@@ -772,9 +864,6 @@ public class GameEngine {
   private void handleCommonPostProcessing(ExploreResultData resultData) {
     // 긍정적 결과에 대한 추가 보상
     if (resultData.isPositive()) {
-      // 통계 업데이트
-      updateGameStatistics(resultData.getResult());
-
       // 행운의 보너스 체크 (낮은 확률)
       checkLuckyBonus();
     }
@@ -955,11 +1044,6 @@ public class GameEngine {
   }
 
   // 기타 필요한 메서드들...
-  private void updateTreasureStatistics() { /* 구현 */ }
-
-  private void updateGameStatistics(ExploreResult result) { /* 구현 */ }
-
-  private void checkQuestProgress() { /* 구현 */ }
 
     private int getRecommendedLevelForNextArea() {
     return player.getLevel() + 5;
@@ -968,28 +1052,24 @@ public class GameEngine {
   /**
    * 지역 특성 표시
    */
-  private void showLocationProperties(Map<String, Object> properties) {
-    List<String> traits = new ArrayList<>();
-
-    if (Boolean.TRUE.equals(properties.get("magical"))) {
-      traits.add("🌟 마법의 기운");
-    }
-    if (Boolean.TRUE.equals(properties.get("hazardous"))) {
-      traits.add("⚠️ 위험");
-    }
-    if (Boolean.TRUE.equals(properties.get("healing"))) {
-      traits.add("💚 치유");
-    }
-    if (Boolean.TRUE.equals(properties.get("shelter"))) {
-      traits.add("🏠 은신처");
-    }
-    if (Boolean.TRUE.equals(properties.get("water"))) {
-      traits.add("💧 수중");
+  private void showLocationProperties(LocationProperties properties) {
+    if (properties.getBiome() != Biome.UNKNOWN || properties.getClimate() != Climate.UNKNOWN) {
+      System.out.println("환경: " + properties.getBiome().getDisplayName() + " / " + properties.getClimate().getDisplayName());
     }
 
+    List<String> traits = new ArrayList<>();
+    for (LocationFlag flag : properties.getFlags()) {
+      traits.add(flag.getDisplayName());
+    }
     if (!traits.isEmpty()) {
       System.out.println("특성: " + String.join(", ", traits));
     }
+
+    if (!properties.getExtras().isEmpty()) {
+      List<String> extras = new ArrayList<>();
+      properties.getExtras().forEach((key, value) -> extras.add(key + "=" + value));
+      System.out.println("기타: " + String.join(", ", extras));
+    }
   }
 
   /**
@@ -1083,7 +1163,7 @@ public class GameEngine {
     System.out.println("   " + location.getDescription());
 
     // 지역 특성
-    showLocationProperties(location.properties());
+    showLocationProperties(location.getProperties());
 
     // 현재 위치의 몬스터 정보
     exploreController.showCurrentLocationMonsters(player.getLevel());
@@ -1393,15 +1473,13 @@ public class GameEngine {
   private void showMonstersByRarity() {
     System.out.println("\n✨ === 희귀도별 몬스터 ===");
 
-    Map<String, List<MonsterData>> monstersByRarity =
-        MonsterDataLoader.loadAllMonsters().values().stream().collect(Collectors.groupingBy(MonsterData::getRarity));
-
-    String[] rarityOrder = {"COMMON", "UNCOMMON", "RARE", "EPIC", "LEGENDARY", "MYTHICAL"};
-
-    for (String rarity : rarityOrder) {
-      List<MonsterData> monsters = monstersByRarity.get(rarity);
-      if (monsters != null && !monsters.isEmpty()) {
-        System.out.println("\n" + getRarityEmoji(rarity) + " " + rarity + ":");
+    for (MonsterRarity rarity : MonsterRarity.values()) {
+      if (rarity == MonsterRarity.SPECIAL) {
+        continue; // 상인 등 특수 몬스터는 제외
+      }
+      List<MonsterData> monsters = MonsterDataLoader.getMonstersByRarity(rarity);
+      if (!monsters.isEmpty()) {
+        System.out.println("\n" + rarity.getEmoji() + " " + rarity.name() + ":");
 
         for (MonsterData monster : monsters) {
           System.out.printf("  • %s (레벨 %d-%d)%n", monster.getName(), monster.getMinLevel(), monster.getMaxLevel());
@@ -1410,21 +1488,6 @@ public class GameEngine {
     }
   }
 
-  /**
-   * 희귀도 이모지 반환
-   */
-  private String getRarityEmoji(String rarity) {
-    return switch (rarity) {
-      case "COMMON" -> "⚪";
-      case "UNCOMMON" -> "🟢";
-      case "RARE" -> "🔵";
-      case "EPIC" -> "🟣";
-      case "LEGENDARY" -> "🟡";
-      case "MYTHICAL" -> "🔴";
-      default -> "❓";
-    };
-  }
-
   /**
    * 몬스터 검색
    */
@@ -1438,9 +1501,7 @@ public class GameEngine {
 
     System.out.println("\n🔍 === '" + searchTerm + "' 검색 결과 ===");
 
-    List<MonsterData> allMonsters = new ArrayList<>(MonsterDataLoader.loadAllMonsters().values());
-    List<MonsterData> searchResults = allMonsters.stream()
-        .filter(monster -> monster.getName().contains(searchTerm) || monster.getDescription().contains(searchTerm)).collect(Collectors.toList());
+    List<MonsterData> searchResults = MonsterDataLoader.searchMonsters(searchTerm);
 
     if (searchResults.isEmpty()) {
       System.out.println("❌ 검색 결과가 없습니다.");
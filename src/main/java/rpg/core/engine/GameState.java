@@ -51,6 +51,10 @@ public class GameState {
     this.monstersKilled++;
   }
 
+  public void addMonstersKilled(int count) {
+    this.monstersKilled += count;
+  }
+
   public void incrementQuestsCompleted() {
     this.questsCompleted++;
   }
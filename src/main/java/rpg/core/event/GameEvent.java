@@ -0,0 +1,23 @@
+package rpg.core.event;
+
+/**
+ * GameEventBus로 전달되는 게임 이벤트
+ * - 같은 턴 안에서 coalesceKey가 같은 이벤트는 mergeWith로 하나로 합쳐서 전달됨
+ */
+public interface GameEvent {
+
+  /**
+   * 구독자 인덱싱에 사용하는 이벤트 종류
+   */
+  GameEventType type();
+
+  /**
+   * 같은 턴에 합칠 수 있는 이벤트를 구분하는 키 (같은 종류 안에서만 비교)
+   */
+  Object coalesceKey();
+
+  /**
+   * 같은 키를 가진 나중 이벤트와 합친 이벤트를 반환합니다.
+   */
+  GameEvent mergeWith(GameEvent later);
+}
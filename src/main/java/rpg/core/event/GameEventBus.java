@@ -0,0 +1,126 @@
+package rpg.core.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 동기식 게임 이벤트 버스 (게임 루프 스레드 전용)
+ * - 구독자는 GameEventType ordinal로 인덱싱한 리스트에 보관하므로 발행 시 타입 검색이 없음
+ * - 배치(beginBatch ~ endBatch) 중에 발행된 이벤트는 종류와 coalesceKey별로 합쳐 두었다가
+ *   배치가 끝날 때 한 번씩 전달 (예: 한 턴에 같은 몬스터 3마리 처치 -> 처치 이벤트 1건, count 3)
+ * - 배치 밖에서 발행하면 즉시 전달
+ * - 구독자 예외는 기록만 하고 나머지 구독자에게 계속 전달
+ */
+public class GameEventBus {
+  private static final Logger logger = LoggerFactory.getLogger(GameEventBus.class);
+  private static final GameEventType[] TYPES = GameEventType.values();
+
+  private final List<List<Consumer<GameEvent>>> subscribers;
+  private final List<Map<Object, GameEvent>> pending;
+  private int batchDepth;
+  private long publishedCount;
+  private long dispatchedCount;
+
+  public GameEventBus() {
+    this.subscribers = new ArrayList<>(TYPES.length);
+    this.pending = new ArrayList<>(TYPES.length);
+    for (int i = 0; i < TYPES.length; i++) {
+      subscribers.add(new ArrayList<>());
+      pending.add(new LinkedHashMap<>());
+    }
+  }
+
+  /**
+   * 이벤트 구독자를 등록합니다.
+   *
+   * @param eventClass 구독할 이벤트 클래스 (GameEventType에 등록된 클래스)
+   * @param subscriber 이벤트 처리기
+   */
+  public <E extends GameEvent> void subscribe(Class<E> eventClass, Consumer<? super E> subscriber) {
+    if (eventClass == null || subscriber == null) {
+      throw new IllegalArgumentException("이벤트 클래스와 구독자는 null일 수 없습니다.");
+    }
+    GameEventType type = GameEventType.of(eventClass);
+    subscribers.get(type.ordinal()).add(event -> subscriber.accept(eventClass.cast(event)));
+    logger.debug("이벤트 구독 등록: {} (구독자 {}명)", type, subscribers.get(type.ordinal()).size());
+  }
+
+  /**
+   * 이벤트를 발행합니다. 배치 중이면 같은 키의 이벤트와 합쳐 두고, 아니면 즉시 전달합니다.
+   */
+  public void publish(GameEvent event) {
+    if (event == null) {
+      throw new IllegalArgumentException("이벤트는 null일 수 없습니다.");
+    }
+    publishedCount++;
+    if (batchDepth == 0) {
+      dispatch(event);
+      return;
+    }
+    pending.get(event.type().ordinal()).merge(event.coalesceKey(), event, GameEvent::mergeWith);
+  }
+
+  /**
+   * 배치를 시작합니다. 중첩할 수 있으며 가장 바깥 배치가 끝날 때 전달됩니다.
+   */
+  public void beginBatch() {
+    batchDepth++;
+  }
+
+  /**
+   * 배치를 끝냅니다. 가장 바깥 배치이면 합쳐 둔 이벤트를 종류 순서대로 전달합니다.
+   */
+  public void endBatch() {
+    if (batchDepth == 0) {
+      throw new IllegalStateException("시작하지 않은 이벤트 배치를 종료할 수 없습니다.");
+    }
+    if (--batchDepth == 0) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    for (Map<Object, GameEvent> events : pending) {
+      if (events.isEmpty()) {
+        continue;
+      }
+      // 전달 중 새로 발행된 이벤트는 즉시 전달되므로 현재 묶음만 꺼내서 처리
+      List<GameEvent> batch = new ArrayList<>(events.values());
+      events.clear();
+      for (GameEvent event : batch) {
+        dispatch(event);
+      }
+    }
+  }
+
+  private void dispatch(GameEvent event) {
+    List<Consumer<GameEvent>> handlers = subscribers.get(event.type().ordinal());
+    for (int i = 0; i < handlers.size(); i++) {
+      try {
+        handlers.get(i).accept(event);
+      } catch (Exception e) {
+        logger.error("이벤트 처리 중 오류: {}", event, e);
+      }
+    }
+    dispatchedCount++;
+  }
+
+  /**
+   * 발행된 이벤트 수 (합쳐지기 전)
+   */
+  public long getPublishedCount() {
+    return publishedCount;
+  }
+
+  /**
+   * 구독자에게 실제로 전달된 이벤트 수 (합쳐진 후)
+   */
+  public long getDispatchedCount() {
+    return dispatchedCount;
+  }
+}
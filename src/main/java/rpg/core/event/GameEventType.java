@@ -0,0 +1,37 @@
+package rpg.core.event;
+
+/**
+ * 게임 이벤트 종류
+ * - GameEventBus는 ordinal로 구독자 배열을 인덱싱하므로 새 이벤트는 여기에 추가
+ */
+public enum GameEventType {
+  //@formatter:off
+  MONSTER_KILLED(MonsterKilledEvent.class)
+, ITEM_ACQUIRED(ItemAcquiredEvent.class)
+, LEVEL_CHANGED(LevelChangedEvent.class);
+  //@formatter:on
+
+  private static final GameEventType[] TYPES = values();
+
+  private final Class<? extends GameEvent> eventClass;
+
+  GameEventType(Class<? extends GameEvent> eventClass) {
+    this.eventClass = eventClass;
+  }
+
+  public Class<? extends GameEvent> getEventClass() {
+    return eventClass;
+  }
+
+  /**
+   * 이벤트 클래스로 종류를 찾습니다. (구독 시점에만 사용)
+   */
+  public static GameEventType of(Class<? extends GameEvent> eventClass) {
+    for (GameEventType type : TYPES) {
+      if (type.eventClass == eventClass) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("등록되지 않은 이벤트 클래스: " + eventClass.getName());
+  }
+}
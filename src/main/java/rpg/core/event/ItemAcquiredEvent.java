@@ -0,0 +1,28 @@
+package rpg.core.event;
+
+import rpg.domain.player.Player;
+
+/**
+ * 아이템 획득 이벤트 (같은 턴에 같은 아이템을 여러 번 얻으면 quantity로 합쳐짐)
+ *
+ * @param player 획득한 플레이어
+ * @param itemId 아이템 ID
+ * @param quantity 획득 수량
+ */
+public record ItemAcquiredEvent(Player player, String itemId, int quantity) implements GameEvent {
+
+  @Override
+  public GameEventType type() {
+    return GameEventType.ITEM_ACQUIRED;
+  }
+
+  @Override
+  public Object coalesceKey() {
+    return itemId;
+  }
+
+  @Override
+  public GameEvent mergeWith(GameEvent later) {
+    return new ItemAcquiredEvent(player, itemId, quantity + ((ItemAcquiredEvent) later).quantity());
+  }
+}
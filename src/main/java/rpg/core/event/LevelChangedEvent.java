@@ -0,0 +1,28 @@
+package rpg.core.event;
+
+import rpg.domain.player.Player;
+
+/**
+ * 플레이어 레벨 변경 이벤트 (같은 턴에 여러 번 오르면 처음 레벨 -> 마지막 레벨로 합쳐짐)
+ *
+ * @param player 레벨이 바뀐 플레이어
+ * @param oldLevel 이전 레벨
+ * @param newLevel 새 레벨
+ */
+public record LevelChangedEvent(Player player, int oldLevel, int newLevel) implements GameEvent {
+
+  @Override
+  public GameEventType type() {
+    return GameEventType.LEVEL_CHANGED;
+  }
+
+  @Override
+  public Object coalesceKey() {
+    return player.getName();
+  }
+
+  @Override
+  public GameEvent mergeWith(GameEvent later) {
+    return new LevelChangedEvent(player, oldLevel, ((LevelChangedEvent) later).newLevel());
+  }
+}
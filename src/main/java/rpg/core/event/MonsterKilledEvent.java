@@ -0,0 +1,26 @@
+package rpg.core.event;
+
+/**
+ * 몬스터 처치 이벤트 (같은 턴에 같은 몬스터를 여러 마리 처치하면 count로 합쳐짐)
+ *
+ * @param monsterId 몬스터 ID (퀘스트 목표 키에 사용, 없으면 이름)
+ * @param monsterName 몬스터 이름
+ * @param count 처치 수
+ */
+public record MonsterKilledEvent(String monsterId, String monsterName, int count) implements GameEvent {
+
+  @Override
+  public GameEventType type() {
+    return GameEventType.MONSTER_KILLED;
+  }
+
+  @Override
+  public Object coalesceKey() {
+    return monsterId;
+  }
+
+  @Override
+  public GameEvent mergeWith(GameEvent later) {
+    return new MonsterKilledEvent(monsterId, monsterName, count + ((MonsterKilledEvent) later).count());
+  }
+}
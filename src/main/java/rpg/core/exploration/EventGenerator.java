@@ -1,5 +1,108 @@
 package rpg.core.exploration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.application.manager.LocationManager;
+import rpg.domain.location.LocationData;
+import rpg.shared.util.AliasTable;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 지역별 가중치 기반 탐험 이벤트 생성기
+ * - locations.json의 eventWeights(이벤트 이름 → 가중치)를 지역마다 AliasTable로 컴파일해 두고 O(1)로 추첨
+ * - eventWeights가 없거나 유효한 항목이 없는 지역은 모든 이벤트를 균등하게 추첨
+ * - 지역 데이터가 리로드되면(LocationData 인스턴스가 바뀌면) 해당 지역 테이블을 다시 컴파일
+ */
 public class EventGenerator {
+  private static final Logger logger = LoggerFactory.getLogger(EventGenerator.class);
+
+  /** 가중치를 지정하지 않은 지역에서 균등하게 추첨하는 이벤트 */
+  private static final ExploreResult[] DEFAULT_EVENTS = {
+      ExploreResult.TREASURE,
+      ExploreResult.KNOWLEDGE,
+      ExploreResult.REST,
+      ExploreResult.HEALING_SPRING,
+      ExploreResult.MAGIC_CRYSTAL,
+      ExploreResult.SHRINE_BLESSING
+  };
+  private static final AliasTable DEFAULT_ALIAS_TABLE = new AliasTable(new double[DEFAULT_EVENTS.length]);
+
+  private final Map<String, CompiledEvents> tables = new HashMap<>();
+
+  /**
+   * 컴파일된 지역 이벤트 테이블 (source: 컴파일에 사용한 지역 데이터)
+   */
+  private record CompiledEvents(LocationData source, ExploreResult[] events, AliasTable aliasTable) {
+  }
+
+  /**
+   * 현재 로드된 모든 지역의 이벤트 테이블을 컴파일합니다.
+   */
+  public EventGenerator() {
+    for (LocationData location : LocationManager.getAllLocations()) {
+      tables.put(location.getId(), compile(location));
+    }
+    logger.debug("탐험 이벤트 테이블 컴파일 완료: {}개 지역", tables.size());
+  }
+
+  /**
+   * 지역 가중치에 따라 이벤트 하나를 추첨합니다.
+   */
+  public ExploreResult nextEvent(LocationData location, RandomUtils random) {
+    CompiledEvents compiled = tables.get(location.getId());
+    if (compiled == null || compiled.source() != location) {
+      compiled = compile(location);
+      tables.put(location.getId(), compiled);
+    }
+    return compiled.events()[compiled.aliasTable().pick(random)];
+  }
+
+  /**
+   * 지역의 eventWeights를 추첨 테이블로 컴파일합니다. 알 수 없는 이벤트와 0 이하 가중치는 건너뜁니다.
+   */
+  private static CompiledEvents compile(LocationData location) {
+    Map<String, Integer> weights = location.getEventWeights();
+    if (weights.isEmpty()) {
+      return new CompiledEvents(location, DEFAULT_EVENTS, DEFAULT_ALIAS_TABLE);
+    }
+
+    List<ExploreResult> events = new ArrayList<>(weights.size());
+    List<Integer> eventWeights = new ArrayList<>(weights.size());
+    for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+      ExploreResult event = parseEvent(entry.getKey());
+      if (event == null) {
+        logger.warn("지역 {}: 알 수 없는 탐험 이벤트 '{}' 무시", location.getId(), entry.getKey());
+        continue;
+      }
+      if (entry.getValue() == null || entry.getValue() <= 0) {
+        continue;
+      }
+      events.add(event);
+      eventWeights.add(entry.getValue());
+    }
+
+    if (events.isEmpty()) {
+      logger.warn("지역 {}: 유효한 이벤트 가중치가 없어 기본 이벤트 테이블 사용", location.getId());
+      return new CompiledEvents(location, DEFAULT_EVENTS, DEFAULT_ALIAS_TABLE);
+    }
+
+    double[] table = new double[eventWeights.size()];
+    for (int i = 0; i < table.length; i++) {
+      table[i] = eventWeights.get(i);
+    }
+    return new CompiledEvents(location, events.toArray(new ExploreResult[0]), new AliasTable(table));
+  }
 
+  private static ExploreResult parseEvent(String name) {
+    try {
+      ExploreResult event = ExploreResult.valueOf(name.trim().toUpperCase());
+      return event.isEventResult() ? event : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
 }
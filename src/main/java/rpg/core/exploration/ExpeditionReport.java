@@ -0,0 +1,138 @@
+package rpg.core.exploration;
+
+/**
+ * 원정(연속 탐험) 결과 집계
+ * - 탐험 결과 종류별 횟수는 ExploreResult ordinal로 인덱싱한 배열에 누적
+ * - 처치 수와 획득 아이템 수는 이벤트 버스 구독으로, 경험치/골드/레벨은 시작 시점 대비 변화량으로 집계
+ */
+public class ExpeditionReport {
+  private static final ExploreResult[] RESULTS = ExploreResult.values();
+
+  private final String locationName;
+  private final int[] resultCounts = new int[RESULTS.length];
+  private int explorations;
+  private int monstersKilled;
+  private int itemsAcquired;
+  private long expGained;
+  private int goldGained;
+  private int levelsGained;
+  private StopReason stopReason = StopReason.COMPLETED;
+  private long elapsedNanos;
+
+  /**
+   * 원정 종료 사유
+   */
+  public enum StopReason {
+    //@formatter:off
+      COMPLETED("목표 횟수 완료")
+    , LOW_HP("HP 기준 미달")
+    , INVENTORY_FULL("인벤토리 가득 참")
+    , DEFEATED("전투 패배")
+    ;
+    //@formatter:on
+
+    private final String displayName;
+
+    StopReason(String displayName) {
+      this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+      return displayName;
+    }
+  }
+
+  ExpeditionReport(String locationName) {
+    this.locationName = locationName;
+  }
+
+  void recordResult(ExploreResult result) {
+    resultCounts[result.ordinal()]++;
+    explorations++;
+  }
+
+  void addMonstersKilled(int count) {
+    monstersKilled += count;
+  }
+
+  void addItemsAcquired(int quantity) {
+    itemsAcquired += quantity;
+  }
+
+  void finish(StopReason stopReason, long expGained, int goldGained, int levelsGained, long elapsedNanos) {
+    this.stopReason = stopReason;
+    this.expGained = expGained;
+    this.goldGained = goldGained;
+    this.levelsGained = levelsGained;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * 요약 정보를 콘솔에 출력합니다.
+   */
+  public void printSummary() {
+    System.out.println("\n🧭 === " + locationName + " 원정 결과 ===");
+    System.out.printf("탐험: %,d회 | 종료 사유: %s | 소요 시간: %,d ms | 처리량: %,.0f 탐험/초%n", explorations, stopReason.getDisplayName(),
+        elapsedNanos / 1_000_000, getExplorationsPerSecond());
+    System.out.printf("⚔️ 처치: %,d마리 | 🎁 획득 아이템: %,d개 | 📈 경험치: %,d | 💰 골드: %+,d | 🎉 레벨업: %d회%n", monstersKilled, itemsAcquired,
+        expGained, goldGained, levelsGained);
+
+    StringBuilder outcomes = new StringBuilder();
+    for (ExploreResult result : RESULTS) {
+      int count = resultCounts[result.ordinal()];
+      if (count == 0) {
+        continue;
+      }
+      if (outcomes.length() > 0) {
+        outcomes.append(", ");
+      }
+      outcomes.append(result.name()).append(' ').append(count);
+    }
+    System.out.println("📊 결과: " + (outcomes.length() > 0 ? outcomes : "없음"));
+    System.out.println("==================");
+  }
+
+  public String getLocationName() {
+    return locationName;
+  }
+
+  public int getCount(ExploreResult result) {
+    return resultCounts[result.ordinal()];
+  }
+
+  public int getExplorations() {
+    return explorations;
+  }
+
+  public int getMonstersKilled() {
+    return monstersKilled;
+  }
+
+  public int getItemsAcquired() {
+    return itemsAcquired;
+  }
+
+  public long getExpGained() {
+    return expGained;
+  }
+
+  public int getGoldGained() {
+    return goldGained;
+  }
+
+  public int getLevelsGained() {
+    return levelsGained;
+  }
+
+  public StopReason getStopReason() {
+    return stopReason;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getExplorationsPerSecond() {
+    return elapsedNanos > 0 ? explorations * 1_000_000_000.0 / elapsedNanos : 0;
+  }
+}
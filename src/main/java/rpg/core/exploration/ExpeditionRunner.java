@@ -0,0 +1,117 @@
+package rpg.core.exploration;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.core.event.GameEventBus;
+import rpg.core.event.ItemAcquiredEvent;
+import rpg.core.event.MonsterKilledEvent;
+import rpg.domain.location.LocationData;
+import rpg.domain.player.Player;
+import rpg.infrastructure.config.LoggingConfig;
+
+/**
+ * 원정(연속 탐험) 실행기
+ * - 한 지역을 정해진 횟수만큼 ExploreEngine.exploreLocation으로 반복 탐험하고 결과를 ExpeditionReport 하나로 집계
+ * - 전투는 자동 전투로 진행하고, 원정 중에는 콘솔 출력과 INFO 이하 로그를 끔
+ * - HP 기준 미달, 인벤토리 가득 참, 전투 패배 시 조기 종료
+ */
+public class ExpeditionRunner {
+  private static final Logger logger = LoggerFactory.getLogger(ExpeditionRunner.class);
+  private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+  private final ExploreEngine exploreEngine;
+  private ExpeditionReport activeReport; // 원정 중에만 설정 (이벤트 구독자가 집계)
+
+  /**
+   * @param exploreEngine 탐험 엔진
+   * @param eventBus 처치/획득 이벤트를 집계할 버스
+   */
+  public ExpeditionRunner(ExploreEngine exploreEngine, GameEventBus eventBus) {
+    if (exploreEngine == null || eventBus == null) {
+      throw new IllegalArgumentException("탐험 엔진과 이벤트 버스는 null일 수 없습니다.");
+    }
+    this.exploreEngine = exploreEngine;
+    eventBus.subscribe(MonsterKilledEvent.class, event -> {
+      if (activeReport != null) {
+        activeReport.addMonstersKilled(event.count());
+      }
+    });
+    eventBus.subscribe(ItemAcquiredEvent.class, event -> {
+      if (activeReport != null) {
+        activeReport.addItemsAcquired(event.quantity());
+      }
+    });
+  }
+
+  /**
+   * 원정을 실행합니다.
+   *
+   * @param player 플레이어
+   * @param location 탐험할 지역
+   * @param maxExplorations 최대 탐험 횟수
+   * @param minHpPercent 탐험 전 HP가 최대 HP의 이 비율(%) 미만이면 종료 (0이면 사용 안 함)
+   * @param stopWhenInventoryFull 인벤토리가 가득 차면 종료할지 여부
+   * @return 원정 결과
+   */
+  public ExpeditionReport run(Player player, LocationData location, int maxExplorations, int minHpPercent, boolean stopWhenInventoryFull) {
+    if (player == null || location == null) {
+      throw new IllegalArgumentException("플레이어와 지역은 null일 수 없습니다.");
+    }
+    if (maxExplorations < 1) {
+      throw new IllegalArgumentException("탐험 횟수는 1 이상이어야 합니다: " + maxExplorations);
+    }
+    if (minHpPercent < 0 || minHpPercent > 100) {
+      throw new IllegalArgumentException("HP 기준은 0~100 사이여야 합니다: " + minHpPercent);
+    }
+
+    ExpeditionReport report = new ExpeditionReport(location.getNameKo());
+    long startExp = player.getTotalExperience();
+    int startGold = player.getGold();
+    int startLevel = player.getLevel();
+    ExpeditionReport.StopReason stopReason = ExpeditionReport.StopReason.COMPLETED;
+
+    logger.info("원정 시작: {} -> {} (최대 {}회, HP 기준 {}%)", player.getName(), location.getId(), maxExplorations, minHpPercent);
+    boolean previousAutoBattle = exploreEngine.isAutoBattle();
+    PrintStream console = System.out;
+    String previousLogLevel = LoggingConfig.setRootLevel("WARN");
+    activeReport = report;
+    exploreEngine.setAutoBattle(true);
+    System.setOut(NULL_OUT);
+    long startTime = System.nanoTime();
+
+    try {
+      for (int i = 0; i < maxExplorations; i++) {
+        if (player.getHp() * 100L < (long) player.getTotalMaxHp() * minHpPercent) {
+          stopReason = ExpeditionReport.StopReason.LOW_HP;
+          break;
+        }
+        if (stopWhenInventoryFull && player.getInventory().getCurrentSize() >= player.getInventory().getMaxSize()) {
+          stopReason = ExpeditionReport.StopReason.INVENTORY_FULL;
+          break;
+        }
+
+        ExploreResultData result = exploreEngine.exploreLocation(player, location.getId());
+        report.recordResult(result.getResult());
+
+        if (result.getResult() == ExploreResult.BATTLE_DEFEAT || !player.isAlive()) {
+          stopReason = ExpeditionReport.StopReason.DEFEATED;
+          break;
+        }
+      }
+    } finally {
+      long elapsedNanos = System.nanoTime() - startTime;
+      System.setOut(console);
+      exploreEngine.setAutoBattle(previousAutoBattle);
+      activeReport = null;
+      if (previousLogLevel != null) {
+        LoggingConfig.setRootLevel(previousLogLevel);
+      }
+      report.finish(stopReason, player.getTotalExperience() - startExp, player.getGold() - startGold, player.getLevel() - startLevel, elapsedNanos);
+    }
+
+    logger.info("원정 종료: {} -> {} ({}회, {})", player.getName(), location.getId(), report.getExplorations(), stopReason);
+    return report;
+  }
+}
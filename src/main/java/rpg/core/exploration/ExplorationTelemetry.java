@@ -0,0 +1,223 @@
+package rpg.core.exploration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.application.manager.LocationManager;
+import rpg.domain.item.ItemRarity;
+import rpg.domain.location.LocationData;
+
+/**
+ * 지역별 탐험 통계 수집기
+ * - 지역마다 탐험 횟수, 결과 종류별 횟수, 희귀도별 획득 아이템 수, 획득 경험치/골드를 LongAdder로 누적
+ * - 카운터는 지역 순번(ID 정렬 순서) × 결과/희귀도 ordinal로 인덱싱한 평면 배열이며, 기록은 잠금 없이 여러 세션에서 동시에 가능
+ * - 초기화 이후 새로 생긴 지역 ID는 마지막 "기타" 칸에 합산
+ * - snapshot()으로 현재 값을 복사해 조회하고, startPeriodicDump()로 주기적으로 CSV 파일에 기록
+ */
+public final class ExplorationTelemetry {
+  private static final Logger logger = LoggerFactory.getLogger(ExplorationTelemetry.class);
+  private static final ExplorationTelemetry INSTANCE = new ExplorationTelemetry();
+
+  static final String OTHER_LOCATION_ID = "OTHER";
+  static final String OTHER_LOCATION_NAME = "기타";
+  private static final int RESULT_COUNT = ExploreResult.values().length;
+  private static final int RARITY_COUNT = ItemRarity.values().length;
+
+  private volatile Counters counters;
+  private ScheduledExecutorService dumpExecutor;
+  private ScheduledFuture<?> dumpTask;
+
+  /**
+   * 지역 순번과 카운터 배열 (교체 단위)
+   */
+  private static final class Counters {
+    private final Map<String, Integer> ordinals;
+    private final String[] locationIds;
+    private final String[] locationNames;
+    private final LongAdder[] explorations;
+    private final LongAdder[] results; // [지역 순번 * RESULT_COUNT + 결과 ordinal]
+    private final LongAdder[] drops; // [지역 순번 * RARITY_COUNT + 희귀도 ordinal]
+    private final LongAdder[] exp;
+    private final LongAdder[] gold;
+
+    private Counters(List<LocationData> locations) {
+      int slots = locations.size() + 1; // 마지막 칸은 "기타"
+      Map<String, Integer> index = new HashMap<>();
+      locationIds = new String[slots];
+      locationNames = new String[slots];
+      for (int i = 0; i < locations.size(); i++) {
+        LocationData location = locations.get(i);
+        index.put(location.getId(), i);
+        locationIds[i] = location.getId();
+        locationNames[i] = location.getNameKo();
+      }
+      locationIds[slots - 1] = OTHER_LOCATION_ID;
+      locationNames[slots - 1] = OTHER_LOCATION_NAME;
+      ordinals = Map.copyOf(index);
+
+      explorations = newAdders(slots);
+      results = newAdders(slots * RESULT_COUNT);
+      drops = newAdders(slots * RARITY_COUNT);
+      exp = newAdders(slots);
+      gold = newAdders(slots);
+    }
+
+    private int ordinalOf(String locationId) {
+      Integer ordinal = locationId != null ? ordinals.get(locationId) : null;
+      return ordinal != null ? ordinal : locationIds.length - 1;
+    }
+
+    private static LongAdder[] newAdders(int size) {
+      LongAdder[] adders = new LongAdder[size];
+      for (int i = 0; i < size; i++) {
+        adders[i] = new LongAdder();
+      }
+      return adders;
+    }
+  }
+
+  private ExplorationTelemetry() {
+  }
+
+  public static ExplorationTelemetry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * 탐험 한 번의 결과를 기록합니다.
+   *
+   * @param locationId 지역 ID
+   * @param result 탐험 결과
+   * @param expGained 획득 경험치
+   * @param goldGained 골드 증감
+   */
+  public void recordExploration(String locationId, ExploreResult result, long expGained, long goldGained) {
+    Counters current = counters();
+    int ordinal = current.ordinalOf(locationId);
+    current.explorations[ordinal].increment();
+    current.results[ordinal * RESULT_COUNT + result.ordinal()].increment();
+    if (expGained != 0) {
+      current.exp[ordinal].add(expGained);
+    }
+    if (goldGained != 0) {
+      current.gold[ordinal].add(goldGained);
+    }
+  }
+
+  /**
+   * 탐험 중 획득한 아이템을 희귀도별로 기록합니다.
+   */
+  public void recordDrop(String locationId, ItemRarity rarity) {
+    if (rarity == null) {
+      return;
+    }
+    Counters current = counters();
+    current.drops[current.ordinalOf(locationId) * RARITY_COUNT + rarity.ordinal()].increment();
+  }
+
+  /**
+   * 현재 누적 값을 복사합니다. 기록과 동시에 호출되면 지역 간 값이 같은 시점이 아닐 수 있습니다.
+   */
+  public TelemetrySnapshot snapshot() {
+    Counters current = counters();
+    List<TelemetrySnapshot.LocationStats> stats = new ArrayList<>(current.locationIds.length);
+    for (int i = 0; i < current.locationIds.length; i++) {
+      long[] resultCounts = new long[RESULT_COUNT];
+      for (int r = 0; r < RESULT_COUNT; r++) {
+        resultCounts[r] = current.results[i * RESULT_COUNT + r].sum();
+      }
+      long[] dropCounts = new long[RARITY_COUNT];
+      for (int r = 0; r < RARITY_COUNT; r++) {
+        dropCounts[r] = current.drops[i * RARITY_COUNT + r].sum();
+      }
+      stats.add(new TelemetrySnapshot.LocationStats(current.locationIds[i], current.locationNames[i], current.explorations[i].sum(), resultCounts,
+          dropCounts, current.exp[i].sum(), current.gold[i].sum()));
+    }
+    return new TelemetrySnapshot(System.currentTimeMillis(), stats);
+  }
+
+  /**
+   * 모든 카운터를 0으로 되돌립니다. (지역 목록도 다시 읽음)
+   */
+  public void reset() {
+    counters = createCounters();
+    logger.info("탐험 통계 초기화");
+  }
+
+  /**
+   * 주기적으로 스냅샷을 CSV 파일에 기록합니다. 이미 실행 중이면 기존 작업을 교체합니다.
+   *
+   * @param file 기록할 파일 (매번 덮어씀)
+   * @param intervalSeconds 기록 주기(초)
+   */
+  public synchronized void startPeriodicDump(Path file, long intervalSeconds) {
+    if (file == null || intervalSeconds <= 0) {
+      throw new IllegalArgumentException("통계 파일 경로와 기록 주기(1초 이상)가 필요합니다.");
+    }
+    if (dumpExecutor == null) {
+      dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exploration-telemetry-dump");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    if (dumpTask != null) {
+      dumpTask.cancel(false);
+    }
+    dumpTask = dumpExecutor.scheduleAtFixedRate(() -> dump(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    logger.info("탐험 통계 주기 기록 시작: {} ({}초마다)", file, intervalSeconds);
+  }
+
+  /**
+   * 주기 기록을 멈추고, 마지막으로 한 번 더 기록합니다.
+   */
+  public synchronized void stopPeriodicDump(Path file) {
+    if (dumpTask != null) {
+      dumpTask.cancel(false);
+      dumpTask = null;
+      if (file != null) {
+        dump(file);
+      }
+      logger.info("탐험 통계 주기 기록 중지");
+    }
+  }
+
+  private void dump(Path file) {
+    try {
+      snapshot().writeCsv(file);
+    } catch (IOException | RuntimeException e) {
+      logger.warn("탐험 통계 기록 실패: {}", file, e);
+    }
+  }
+
+  private Counters counters() {
+    Counters current = counters;
+    if (current == null) {
+      synchronized (this) {
+        current = counters;
+        if (current == null) {
+          current = createCounters();
+          counters = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private static Counters createCounters() {
+    List<LocationData> locations = new ArrayList<>(LocationManager.getAllLocations());
+    locations.sort(Comparator.comparing(LocationData::getId));
+    return new Counters(locations);
+  }
+}
@@ -1,26 +1,34 @@
 package rpg.core.exploration;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rpg.application.factory.GameItemFactory;
 import rpg.application.manager.LocationManager;
 import rpg.core.battle.BattleEngine;
+import rpg.core.battle.BattleReplayer;
 import rpg.core.engine.GameState;
+import rpg.core.event.GameEventBus;
+import rpg.core.event.ItemAcquiredEvent;
 import rpg.domain.item.GameItem;
 import rpg.domain.item.ItemRarity;
 import rpg.domain.location.LocationData;
+import rpg.domain.location.LocationFlag;
+import rpg.domain.location.LocationProperties;
+import rpg.domain.monster.DropTable;
 import rpg.domain.monster.Monster;
 import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterPool;
+import rpg.domain.monster.MonsterSpawnTable;
 import rpg.domain.player.Player;
-import rpg.infrastructure.data.loader.ItemDataLoader;
 import rpg.infrastructure.data.loader.MonsterDataLoader;
+import rpg.infrastructure.data.loader.MonsterSpawnIndex;
 import rpg.presentation.controller.InventoryController;
 import rpg.presentation.controller.QuestController;
+import rpg.shared.constant.BattleConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 리팩토링된 탐험 시스템 엔진
@@ -31,34 +39,39 @@ import rpg.presentation.controller.QuestController;
 public class ExploreEngine {
   private static final Logger logger = LoggerFactory.getLogger(ExploreEngine.class);
 
-  private final Map<ExploreResult, BiFunction<Player, LocationData, ExploreResultData>> eventHandlers;
+  // ExploreResult ordinal로 인덱싱한 이벤트 처리기 (이벤트가 아닌 결과는 null)
+  private final ExploreEventHandler[] eventHandlers;
+  private final EventGenerator eventGenerator;
 
-  private final Random random;
+  private final RandomUtils random;
   private final BattleEngine battleController;
+  private final BattleEngine autoBattleController;
   private final QuestController questController;
   private final InventoryController inventoryController;
   private final GameState gameState;
-  // 이벤트 확률 가중치 (필요시 설정 파일로 분리 가능)
-  private static final ExploreResult[] EVENT_POOL = {
-      ExploreResult.TREASURE, 
-      ExploreResult.KNOWLEDGE,
-      ExploreResult.REST, 
-      ExploreResult.HEALING_SPRING, 
-      ExploreResult.MAGIC_CRYSTAL, 
-      ExploreResult.SHRINE_BLESSING
-  };
-
-  public ExploreEngine(BattleEngine battleController, QuestController questController, InventoryController inventoryController, GameState gameState) {
-    this.random = new Random();
+  private final GameEventBus eventBus;
+  private final ExplorationTelemetry telemetry;
+  private final MonsterPool monsterPool = new MonsterPool(BattleConstants.MAX_ENCOUNTER_SIZE);
+  private boolean autoBattle; // 자동 전투 모드 (전투 진행 대신 요약만 출력)
+
+
+  public ExploreEngine(BattleEngine battleController, BattleEngine autoBattleController, QuestController questController,
+      InventoryController inventoryController, GameState gameState, GameEventBus eventBus) {
+    if (eventBus == null) {
+      throw new IllegalArgumentException("이벤트 버스는 null일 수 없습니다.");
+    }
+    this.random = RandomUtils.session();
+    this.eventBus = eventBus;
+    this.telemetry = ExplorationTelemetry.getInstance();
     this.battleController = battleController;
+    this.autoBattleController = autoBattleController;
     this.questController = questController;
     this.inventoryController = inventoryController;
     this.gameState = gameState;
 
     // 이벤트 핸들러 초기화 - 메서드 레퍼런스 사용
-    this.eventHandlers = Map.of(ExploreResult.TREASURE, this::handleTreasureEvent, ExploreResult.KNOWLEDGE, this::handleKnowledgeEvent,
-        ExploreResult.REST, this::handleRestEvent, ExploreResult.HEALING_SPRING, this::handleHealingSpringEvent, ExploreResult.MAGIC_CRYSTAL,
-        this::handleMagicCrystalEvent, ExploreResult.SHRINE_BLESSING, this::handleShrineEvent);
+    this.eventHandlers = createEventHandlers();
+    this.eventGenerator = new EventGenerator();
 
     initializeDependencies();
     logger.info("ExploreEngine 초기화 완료 (LocationManager 기반)");
@@ -80,8 +93,26 @@ public class ExploreEngine {
 
   /**
    * 특정 지역에서 탐험을 진행합니다.
+   * 탐험 한 턴 동안 발행된 처치/획득/레벨 변경 이벤트는 합쳐서 턴이 끝날 때 한 번씩 전달됩니다.
+   * 결과와 획득 경험치/골드는 지역별 탐험 통계(ExplorationTelemetry)에 기록됩니다.
    */
   public ExploreResultData exploreLocation(Player player, String locationId) {
+    long startExp = player.getTotalExperience();
+    int startGold = player.getGold();
+    ExploreResultData resultData;
+
+    eventBus.beginBatch();
+    try {
+      resultData = explore(player, locationId);
+    } finally {
+      eventBus.endBatch();
+    }
+
+    telemetry.recordExploration(locationId, resultData.getResult(), player.getTotalExperience() - startExp, player.getGold() - startGold);
+    return resultData;
+  }
+
+  private ExploreResultData explore(Player player, String locationId) {
     try {
       LocationData location = LocationManager.getLocation(locationId);
       if (location == null) {
@@ -95,9 +126,7 @@ public class ExploreEngine {
 
       gameState.setCurrentLocation(locationName);
 
-      List<MonsterData> locationMonsters = MonsterDataLoader.getMonstersByLocation(locationId);
-
-      if (locationMonsters.isEmpty()) {
+      if (!MonsterDataLoader.getSpawnIndex().hasMonsters(locationId)) {
         logger.warn("지역 {}({})에 몬스터 데이터가 없습니다. 랜덤 이벤트만 진행", locationName, locationId);
         return handleRandomEvent(player, location);
       }
@@ -117,15 +146,30 @@ public class ExploreEngine {
     }
   }
 
+  private ExploreEventHandler[] createEventHandlers() {
+    ExploreEventHandler[] handlers = new ExploreEventHandler[ExploreResult.values().length];
+    handlers[ExploreResult.TREASURE.ordinal()] = this::handleTreasureEvent;
+    handlers[ExploreResult.KNOWLEDGE.ordinal()] = this::handleKnowledgeEvent;
+    handlers[ExploreResult.REST.ordinal()] = this::handleRestEvent;
+    handlers[ExploreResult.HEALING_SPRING.ordinal()] = this::handleHealingSpringEvent;
+    handlers[ExploreResult.MAGIC_CRYSTAL.ordinal()] = this::handleMagicCrystalEvent;
+    handlers[ExploreResult.SHRINE_BLESSING.ordinal()] = this::handleShrineEvent;
+    return handlers;
+  }
+
   /**
-   *   대폭 간소화된 랜덤 이벤트 처리
-   * - switch문 제거
-   * - Map 기반 Strategy 패턴 사용
-   * - 한 줄로 이벤트 실행
+   * 랜덤 이벤트 처리
+   * - 지역별 가중치(locations.json eventWeights)로 EventGenerator가 이벤트를 추첨
+   * - ordinal 배열로 처리기를 바로 찾아 실행
    */
   private ExploreResultData handleRandomEvent(Player player, LocationData location) {
-    ExploreResult eventType = EVENT_POOL[random.nextInt(EVENT_POOL.length)];
-    return eventHandlers.get(eventType).apply(player, location);
+    ExploreResult eventType = eventGenerator.nextEvent(location, random);
+    ExploreEventHandler handler = eventHandlers[eventType.ordinal()];
+    if (handler == null) {
+      logger.error("처리기가 없는 탐험 이벤트: {}", eventType);
+      return new ExploreResultData(ExploreResult.ERROR, "알 수 없는 이벤트입니다.");
+    }
+    return handler.handle(player, location);
   }
 
   private ExploreResultData handleTreasureEvent(Player player, LocationData location) {
@@ -143,6 +187,7 @@ public class ExploreEngine {
         GameItem treasureChest = GameItemFactory.getInstance().createTreasureChestItem();
         
         if (treasureChest != null && inventoryController.addItem(player, treasureChest, 1)) {
+            telemetry.recordDrop(location.getId(), treasureChest.getRarity());
             // 보물 상자 관련 퀘스트 진행도 업데이트
             questController.onTreasureChestFound(location.getNameKo());
             
@@ -161,7 +206,8 @@ public class ExploreEngine {
         GameItem treasure = GameItemFactory.getInstance().createRandomItemByRarity(rarity);
 
         if (treasure != null && inventoryController.addItem(player, treasure, 1)) {
-            questController.updateCollectionProgress(player, treasure.getId(), 1);
+            eventBus.publish(new ItemAcquiredEvent(player, treasure.getId(), 1));
+            telemetry.recordDrop(location.getId(), treasure.getRarity());
             System.out.println("🎁 " + treasure.getName() + "을(를) 획득했습니다!");
 
             String message = "보물 발견! " + treasure.getName() + " 획득!";
@@ -256,14 +302,14 @@ private double calculateTreasureChestChance(LocationData location) {
     int baseHeal = 20;
     int baseMana = 15;
 
-    Map<String, Object> properties = location.properties();
-    if (properties.containsKey("healing") && (Boolean) properties.get("healing")) {
+    LocationProperties properties = location.getProperties();
+    if (properties.has(LocationFlag.HEALING)) {
       baseHeal *= 1.5;
     }
-    if (properties.containsKey("shelter") && (Boolean) properties.get("shelter")) {
+    if (properties.has(LocationFlag.SHELTER)) {
       baseHeal *= 1.2;
     }
-    if (properties.containsKey("magical") && (Boolean) properties.get("magical")) {
+    if (properties.has(LocationFlag.MAGICAL)) {
       baseMana *= 1.5;
     }
 
@@ -308,53 +354,84 @@ private double calculateTreasureChestChance(LocationData location) {
    * 지역별 몬스터 조우 처리
    */
   private ExploreResultData handleLocationMonsterEncounter(Player player, String locationId, LocationData location) {
-    List<MonsterData> locationMonsters = MonsterDataLoader.getMonstersByLocation(locationId);
-    List<MonsterData> suitableMonsters = locationMonsters.stream()
-        .filter(monster -> player.getLevel() >= monster.getMinLevel() && player.getLevel() <= monster.getMaxLevel() + 2).collect(Collectors.toList());
-
-    if (suitableMonsters.isEmpty()) {
-      suitableMonsters =
-          locationMonsters.stream().filter(monster -> Math.abs(player.getLevel() - monster.getMinLevel()) <= 5).collect(Collectors.toList());
-    }
-
-    if (suitableMonsters.isEmpty()) {
+    // 레벨 적합/근접 레벨 규칙은 로드 시 출현 테이블에 미리 반영됨
+    MonsterSpawnIndex spawnIndex = MonsterDataLoader.getSpawnIndex();
+    MonsterSpawnTable spawnTable = spawnIndex.getSpawnTable(locationId, player.getLevel());
+    if (spawnTable == null) {
       logger.warn("지역 {}에서 적합한 몬스터를 찾을 수 없음", locationId);
       return handleRandomEvent(player, location);
     }
 
-    MonsterData selectedMonsterData = selectMonsterByWeight(suitableMonsters);
-    Monster monster = Monster.fromMonsterData(selectedMonsterData);
+    List<Monster> monsters = createEncounterGroup(spawnIndex, spawnTable, player.getLevel());
+    if (monsters.size() == 1) {
+      System.out.println("👹 " + monsters.get(0).getName() + "(Lv." + monsters.get(0).getLevel() + ")을(를) 만났습니다!");
+    } else {
+      System.out.println("👹 몬스터 " + monsters.size() + "마리를 만났습니다! ("
+          + monsters.stream().map(monster -> monster.getName() + " Lv." + monster.getLevel()).collect(Collectors.joining(", ")) + ")");
+    }
 
-    System.out.println("👹 " + monster.getName() + "을(를) 만났습니다!");
+    BattleEngine.BattleResult result;
+    if (autoBattle && autoBattleController != null) {
+      result = autoBattleController.startBattle(player, monsters);
+      showAutoBattleSummary(result, player, monsters);
+    } else {
+      result = battleController.startBattle(player, monsters);
+    }
 
-    BattleEngine.BattleResult result = battleController.startBattle(player, monster);
+    try {
+      return processBattleResult(result, player, monsters, location);
+    } finally {
+      monsterPool.releaseAll(monsters);
+    }
+  }
 
-    return processBattleResult(result, player, monster, location);
+  /**
+   * 자동 전투 결과를 요약해서 출력합니다.
+   */
+  private void showAutoBattleSummary(BattleEngine.BattleResult result, Player player, List<Monster> monsters) {
+    System.out.println("⚡ 자동 전투: " + BattleReplayer.summarize(autoBattleController.getLastBattleLog()));
+    if (result == BattleEngine.BattleResult.VICTORY) {
+      int exp = 0;
+      int gold = 0;
+      for (Monster monster : monsters) {
+        exp += monster.getExpReward();
+        gold += monster.getGoldReward();
+      }
+      System.out.printf("💎 보상: 경험치 %d, 골드 %d%n", exp, gold);
+    }
+    System.out.printf("❤️ HP %d/%d | 💙 MP %d/%d%n", player.getHp(), player.getTotalMaxHp(), player.getMp(), player.getTotalMaxMp());
+  }
+
+  /**
+   * 조우할 몬스터 무리를 구성합니다.
+   * 첫 몬스터 뒤로 EXTRA_MONSTER_CHANCE 확률마다 한 마리씩 더 나타나며 최대 MAX_ENCOUNTER_SIZE마리까지 조우합니다.
+   * 몬스터 레벨은 플레이어 레벨을 각 몬스터의 레벨 범위로 보정한 값이며, 능력치는 로드 시 계산된 레벨별 템플릿을 사용합니다.
+   */
+  private List<Monster> createEncounterGroup(MonsterSpawnIndex spawnIndex, MonsterSpawnTable spawnTable, int playerLevel) {
+    List<Monster> monsters = new ArrayList<>(BattleConstants.MAX_ENCOUNTER_SIZE);
+    monsters.add(monsterPool.acquire(spawnIndex.getTemplate(spawnTable.pickOrdinal(random), playerLevel)));
+    while (monsters.size() < BattleConstants.MAX_ENCOUNTER_SIZE && random.chancePercent(BattleConstants.EXTRA_MONSTER_CHANCE)) {
+      monsters.add(monsterPool.acquire(spawnIndex.getTemplate(spawnTable.pickOrdinal(random), playerLevel)));
+    }
+    return monsters;
   }
 
   /**
    * 전투 결과 처리
    */
-  private ExploreResultData processBattleResult(BattleEngine.BattleResult result, Player player, Monster monster, LocationData location) {
+  private ExploreResultData processBattleResult(BattleEngine.BattleResult result, Player player, List<Monster> monsters, LocationData location) {
     String message = switch (result) {
       case VICTORY -> {
-        String monsterId = monster.getId();
-        logger.debug("몬스터 처치: {} ({}) -> 퀘스트 진행도 업데이트", monster.getName(), monsterId);
-
-        questController.updateKillProgress(monsterId);
-
-        GameItem droppedItem = handleMonsterDrops(monster);
-        if (droppedItem != null && inventoryController.addItem(player, droppedItem, 1)) {
-          String itemId = droppedItem.getId();
-          questController.updateCollectionProgress(player, itemId, 1);
-
-          System.out.println("🎁 " + droppedItem.getName() + "을(를) 획득했습니다!");
-          logger.debug("아이템 획득: {} ({}) -> 퀘스트 진행도 업데이트", droppedItem.getName(), itemId);
-
-          yield "전투 승리! " + droppedItem.getName() + " 획득!";
-        } else {
-          yield "전투 승리!";
+        List<String> acquiredItems = new ArrayList<>();
+        for (Monster monster : monsters) {
+          // 처치 퀘스트 진행도는 BattleEngine이 발행한 처치 이벤트로 처리됨
+          for (DropTable.Drop drop : monster.getDropTable().roll(random)) {
+            acquireDrop(player, drop, location, acquiredItems);
+          }
         }
+
+        String victory = monsters.size() > 1 ? "전투 승리! (" + monsters.size() + "마리 처치)" : "전투 승리!";
+        yield acquiredItems.isEmpty() ? victory : victory + " " + String.join(", ", acquiredItems) + " 획득!";
       }
       case DEFEAT -> "전투 패배...";
       case ESCAPED -> "성공적으로 도망쳤습니다!";
@@ -368,7 +445,7 @@ private double calculateTreasureChestChance(LocationData location) {
       case ERROR -> ExploreResult.ERROR;
     };
 
-    logger.debug("전투 결과: {} vs {} at {} ({})", player.getName(), monster.getName(), location.getNameKo(), result);
+    logger.debug("전투 결과: {} vs 몬스터 {}마리 at {} ({})", player.getName(), monsters.size(), location.getNameKo(), result);
     return new ExploreResultData(resultType, message);
   }
 
@@ -385,69 +462,38 @@ private double calculateTreasureChestChance(LocationData location) {
     };
   }
 
-  private MonsterData selectMonsterByWeight(List<MonsterData> monsters) {
-    double totalWeight = monsters.stream().mapToDouble(MonsterData::getSpawnRate).sum();
-    double randomValue = random.nextDouble() * totalWeight;
-
-    double currentWeight = 0;
-    for (MonsterData monster : monsters) {
-      currentWeight += monster.getSpawnRate();
-      if (randomValue <= currentWeight) {
-        return monster;
-      }
-    }
-
-    return monsters.get(0);
-  }
-
-  private GameItem handleMonsterDrops(Monster monster) {
-    if (monster.getMonsterData() == null || monster.getMonsterData().getRewards() == null
-        || monster.getMonsterData().getRewards().getDropItems() == null) {
-      return null;
-    }
-
-    var dropItems = monster.getMonsterData().getRewards().getDropItems();
-    for (var dropItem : dropItems) {
-      if (random.nextDouble() < dropItem.getDropRate()) {
-        GameItemFactory factory = GameItemFactory.getInstance();
-        return factory.createItem(dropItem.getItemId());
-      }
+  /**
+   * 드롭 한 건을 아이템으로 만들어 인벤토리에 넣습니다. 아이템 인스턴스는 실제로 드롭된 항목만 생성합니다.
+   */
+  private void acquireDrop(Player player, DropTable.Drop drop, LocationData location, List<String> acquiredItems) {
+    GameItem droppedItem = GameItemFactory.getInstance().createItem(drop.itemId());
+    if (droppedItem == null || !inventoryController.addItem(player, droppedItem, drop.quantity())) {
+      return;
     }
 
-    return null;
-  }
+    String itemId = droppedItem.getId();
+    eventBus.publish(new ItemAcquiredEvent(player, itemId, drop.quantity()));
+    telemetry.recordDrop(location.getId(), droppedItem.getRarity());
 
-  private GameItem generateMerchantItem(LocationData location) {
-    return ItemDataLoader.generateSpecialMerchantItem();
+    String label = drop.quantity() > 1 ? droppedItem.getName() + " x" + drop.quantity() : droppedItem.getName();
+    System.out.println("🎁 " + label + "을(를) 획득했습니다!");
+    logger.debug("아이템 획득: {} ({}) x{} -> 획득 이벤트 발행", droppedItem.getName(), itemId, drop.quantity());
+    acquiredItems.add(label);
   }
 
-  private int calculateRestHeal(LocationData location) {
-    int baseHeal = 20;
-
-    Map<String, Object> properties = location.properties();
-    if (properties.containsKey("healing") && (Boolean) properties.get("healing")) {
-      baseHeal *= 1.5;
-    }
-    if (properties.containsKey("shelter") && (Boolean) properties.get("shelter")) {
-      baseHeal *= 1.2;
-    }
+  // === 정보 조회 메서드들 ===
 
-    return baseHeal + random.nextInt(baseHeal / 2);
+  public boolean isAutoBattle() {
+    return autoBattle;
   }
 
-  private int calculateRestMana(LocationData location) {
-    int baseMana = 15;
-
-    Map<String, Object> properties = location.properties();
-    if (properties.containsKey("magical") && (Boolean) properties.get("magical")) {
-      baseMana *= 1.5;
-    }
-
-    return baseMana + random.nextInt(baseMana / 2);
+  /**
+   * 자동 전투 모드를 설정합니다. 자동 전투 엔진이 없으면 켤 수 없습니다.
+   */
+  public void setAutoBattle(boolean autoBattle) {
+    this.autoBattle = autoBattle && autoBattleController != null;
   }
 
-  // === 정보 조회 메서드들 ===
-
   public void showCurrentLocationMonsters(int playerLevel) {
     String currentLocation = gameState.getCurrentLocation();
     String locationId = LocationManager.getLocationIdByKoreanName(currentLocation);
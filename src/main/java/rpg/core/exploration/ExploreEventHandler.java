@@ -0,0 +1,14 @@
+package rpg.core.exploration;
+
+import rpg.domain.location.LocationData;
+import rpg.domain.player.Player;
+
+/**
+ * 탐험 랜덤 이벤트 처리기
+ * - ExploreEngine이 ExploreResult ordinal로 인덱싱한 배열에 보관
+ */
+@FunctionalInterface
+interface ExploreEventHandler {
+
+  ExploreResultData handle(Player player, LocationData location);
+}
@@ -0,0 +1,130 @@
+package rpg.core.exploration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import rpg.domain.item.ItemRarity;
+
+/**
+ * 탐험 통계 스냅샷 (ExplorationTelemetry.snapshot() 시점의 복사본)
+ */
+public record TelemetrySnapshot(long capturedAt, List<LocationStats> locations) {
+  private static final ExploreResult[] RESULTS = ExploreResult.values();
+  private static final ItemRarity[] RARITIES = ItemRarity.values();
+
+  public TelemetrySnapshot {
+    locations = List.copyOf(locations);
+  }
+
+  /**
+   * 지역 하나의 누적 통계
+   *
+   * @param resultCounts ExploreResult ordinal별 횟수
+   * @param dropCounts ItemRarity ordinal별 획득 아이템 수
+   */
+  public record LocationStats(String locationId, String locationName, long explorations, long[] resultCounts, long[] dropCounts, long exp,
+      long gold) {
+
+    public long getCount(ExploreResult result) {
+      return resultCounts[result.ordinal()];
+    }
+
+    public long getDrops(ItemRarity rarity) {
+      return dropCounts[rarity.ordinal()];
+    }
+
+    public long getTotalDrops() {
+      long total = 0;
+      for (long count : dropCounts) {
+        total += count;
+      }
+      return total;
+    }
+  }
+
+  public long getTotalExplorations() {
+    long total = 0;
+    for (LocationStats stats : locations) {
+      total += stats.explorations();
+    }
+    return total;
+  }
+
+  /**
+   * 탐험 기록이 있는 지역만 콘솔에 출력합니다.
+   */
+  public void printSummary() {
+    System.out.println("\n📡 === 지역별 탐험 통계 ===");
+    System.out.printf("총 탐험: %,d회%n", getTotalExplorations());
+    for (LocationStats stats : locations) {
+      if (stats.explorations() == 0) {
+        continue;
+      }
+      System.out.printf("%n📍 %s (%s): 탐험 %,d회 | 경험치 %,d | 골드 %+,d%n", stats.locationName(), stats.locationId(), stats.explorations(),
+          stats.exp(), stats.gold());
+
+      StringBuilder results = new StringBuilder();
+      for (ExploreResult result : RESULTS) {
+        long count = stats.getCount(result);
+        if (count > 0) {
+          results.append(results.length() > 0 ? ", " : "").append(result.name()).append(' ').append(count);
+        }
+      }
+      System.out.println("   결과: " + results);
+
+      if (stats.getTotalDrops() > 0) {
+        StringBuilder drops = new StringBuilder();
+        for (ItemRarity rarity : RARITIES) {
+          long count = stats.getDrops(rarity);
+          if (count > 0) {
+            drops.append(drops.length() > 0 ? ", " : "").append(rarity.getDisplayName()).append(' ').append(count);
+          }
+        }
+        System.out.println("   획득: " + drops);
+      }
+    }
+    System.out.println("==================");
+  }
+
+  /**
+   * 지역당 한 줄씩 CSV로 기록합니다. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽이 중간 상태를 보지 않습니다.
+   */
+  public void writeCsv(Path file) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+      StringBuilder header = new StringBuilder("capturedAt,locationId,locationName,explorations,exp,gold");
+      for (ExploreResult result : RESULTS) {
+        header.append(',').append(result.name());
+      }
+      for (ItemRarity rarity : RARITIES) {
+        header.append(",drop_").append(rarity.name());
+      }
+      writer.write(header.toString());
+      writer.newLine();
+
+      for (LocationStats stats : locations) {
+        StringBuilder line = new StringBuilder();
+        line.append(capturedAt).append(',').append(stats.locationId()).append(',').append(stats.locationName()).append(',').append(stats.explorations())
+            .append(',').append(stats.exp()).append(',').append(stats.gold());
+        for (long count : stats.resultCounts()) {
+          line.append(',').append(count);
+        }
+        for (long count : stats.dropCounts()) {
+          line.append(',').append(count);
+        }
+        writer.write(line.toString());
+        writer.newLine();
+      }
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
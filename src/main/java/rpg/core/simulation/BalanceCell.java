@@ -0,0 +1,112 @@
+package rpg.core.simulation;
+
+import rpg.core.battle.BattleEngine;
+
+/**
+ * 몬스터 × 플레이어 레벨 한 칸의 시뮬레이션 누적 결과
+ * 한 칸은 하나의 작업 스레드에서만 누적되므로 동기화하지 않음
+ */
+public class BalanceCell {
+  private final String monsterId;
+  private final String monsterName;
+  private final String rarity;
+  private final int playerLevel;
+
+  private int battles;
+  private int wins;
+  private int defeats;
+  private int escapes;
+  private int errors;
+  private long totalTurns;
+  private long totalHpLost;
+  private long totalDrops;
+
+  public BalanceCell(String monsterId, String monsterName, String rarity, int playerLevel) {
+    this.monsterId = monsterId;
+    this.monsterName = monsterName;
+    this.rarity = rarity;
+    this.playerLevel = playerLevel;
+  }
+
+  /**
+   * 전투 한 번의 결과를 누적합니다.
+   */
+  void record(BattleEngine.BattleResult result, int turns, int hpLost) {
+    battles++;
+    totalTurns += turns;
+    totalHpLost += hpLost;
+
+    switch (result) {
+      case VICTORY -> wins++;
+      case DEFEAT -> defeats++;
+      case ESCAPED -> escapes++;
+      case ERROR -> errors++;
+    }
+  }
+
+  /**
+   * 승리한 전투들의 드롭 총 수량을 누적합니다.
+   */
+  void recordDrops(long quantity) {
+    totalDrops += quantity;
+  }
+
+  public double getWinRate() {
+    return battles == 0 ? 0.0 : (double) wins / battles;
+  }
+
+  public double getAverageTurns() {
+    return battles == 0 ? 0.0 : (double) totalTurns / battles;
+  }
+
+  public double getAverageHpLost() {
+    return battles == 0 ? 0.0 : (double) totalHpLost / battles;
+  }
+
+  /**
+   * 승리 한 번당 평균 드롭 수량
+   */
+  public double getAverageDropsPerWin() {
+    return wins == 0 ? 0.0 : (double) totalDrops / wins;
+  }
+
+  public String getMonsterId() {
+    return monsterId;
+  }
+
+  public String getMonsterName() {
+    return monsterName;
+  }
+
+  public String getRarity() {
+    return rarity;
+  }
+
+  public int getPlayerLevel() {
+    return playerLevel;
+  }
+
+  public int getBattles() {
+    return battles;
+  }
+
+  public int getWins() {
+    return wins;
+  }
+
+  public int getDefeats() {
+    return defeats;
+  }
+
+  public int getEscapes() {
+    return escapes;
+  }
+
+  public int getErrors() {
+    return errors;
+  }
+
+  public long getTotalDrops() {
+    return totalDrops;
+  }
+}
@@ -0,0 +1,141 @@
+package rpg.core.simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 밸런스 시뮬레이션 결과 (몬스터 × 플레이어 레벨 행렬)
+ */
+public class BalanceReport {
+  private static final Logger logger = LoggerFactory.getLogger(BalanceReport.class);
+  private static final double FAIR_WIN_RATE = 0.5; // 적정 레벨 판정 기준 승률
+
+  private final List<BalanceCell> cells;
+  private final int minLevel;
+  private final int maxLevel;
+  private final long elapsedNanos;
+
+  BalanceReport(List<BalanceCell> cells, int minLevel, int maxLevel, long elapsedNanos) {
+    this.cells = cells;
+    this.minLevel = minLevel;
+    this.maxLevel = maxLevel;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * 몬스터 ID별 행 (레벨 오름차순 칸 배열)로 묶어서 반환합니다.
+   */
+  public Map<String, BalanceCell[]> getRows() {
+    int levelCount = maxLevel - minLevel + 1;
+    Map<String, BalanceCell[]> rows = new LinkedHashMap<>();
+    for (BalanceCell cell : cells) {
+      rows.computeIfAbsent(cell.getMonsterId(), id -> new BalanceCell[levelCount])[cell.getPlayerLevel() - minLevel] = cell;
+    }
+    return rows;
+  }
+
+  /**
+   * 요약 정보를 콘솔에 출력합니다.
+   */
+  public void printSummary() {
+    System.out.println("\n⚖️ === 밸런스 시뮬레이션 결과 ===");
+    System.out.printf("총 전투: %,d회 | 소요 시간: %,d ms | 처리량: %,.0f 전투/초%n", getTotalBattles(), elapsedNanos / 1_000_000, getBattlesPerSecond());
+    System.out.printf("레벨 범위: %d ~ %d (적정 레벨 = 승률 %.0f%% 이상이 되는 최저 레벨)%n", minLevel, maxLevel, FAIR_WIN_RATE * 100);
+    System.out.println();
+    System.out.printf("%-14s %-10s %8s %10s %10s %10s %10s%n", "몬스터", "희귀도", "적정레벨", "해당승률", "평균턴", "평균HP손실", "승리당드롭");
+
+    for (BalanceCell[] row : getRows().values()) {
+      BalanceCell first = row[0];
+      BalanceCell fair = null;
+      for (BalanceCell cell : row) {
+        if (cell.getWinRate() >= FAIR_WIN_RATE) {
+          fair = cell;
+          break;
+        }
+      }
+
+      if (fair != null) {
+        System.out.printf("%-14s %-10s %8d %9.1f%% %10.1f %10.1f %10.2f%n", first.getMonsterName(), first.getRarity(), fair.getPlayerLevel(),
+            fair.getWinRate() * 100, fair.getAverageTurns(), fair.getAverageHpLost(), fair.getAverageDropsPerWin());
+      } else {
+        System.out.printf("%-14s %-10s %8s %10s %10s %10s %10s%n", first.getMonsterName(), first.getRarity(), "-", "-", "-", "-", "-");
+      }
+    }
+    System.out.println("==================");
+  }
+
+  /**
+   * 상세 CSV(칸별 지표)와 승률 행렬 CSV를 디렉토리에 기록합니다.
+   *
+   * @param directory 출력 디렉토리 (없으면 생성)
+   * @return 기록된 파일 경로 목록
+   */
+  public List<Path> writeCsv(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+    Path detailPath = directory.resolve("balance_" + timestamp + "_detail.csv");
+    Path matrixPath = directory.resolve("balance_" + timestamp + "_winrate.csv");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(detailPath, StandardCharsets.UTF_8)) {
+      writer.write("monsterId,monsterName,rarity,playerLevel,battles,wins,defeats,escapes,errors,winRate,avgTurns,avgHpLost,avgDropsPerWin");
+      writer.newLine();
+      for (BalanceCell cell : cells) {
+        writer.write(String.format("%s,%s,%s,%d,%d,%d,%d,%d,%d,%.4f,%.2f,%.2f,%.3f", cell.getMonsterId(), cell.getMonsterName(), cell.getRarity(),
+            cell.getPlayerLevel(), cell.getBattles(), cell.getWins(), cell.getDefeats(), cell.getEscapes(), cell.getErrors(), cell.getWinRate(),
+            cell.getAverageTurns(), cell.getAverageHpLost(), cell.getAverageDropsPerWin()));
+        writer.newLine();
+      }
+    }
+
+    try (BufferedWriter writer = Files.newBufferedWriter(matrixPath, StandardCharsets.UTF_8)) {
+      StringBuilder header = new StringBuilder("monsterId");
+      for (int level = minLevel; level <= maxLevel; level++) {
+        header.append(",Lv").append(level);
+      }
+      writer.write(header.toString());
+      writer.newLine();
+
+      for (Map.Entry<String, BalanceCell[]> row : getRows().entrySet()) {
+        StringBuilder line = new StringBuilder(row.getKey());
+        for (BalanceCell cell : row.getValue()) {
+          line.append(',').append(String.format("%.4f", cell.getWinRate()));
+        }
+        writer.write(line.toString());
+        writer.newLine();
+      }
+    }
+
+    logger.info("밸런스 리포트 저장: {}, {}", detailPath, matrixPath);
+    return List.of(detailPath, matrixPath);
+  }
+
+  public long getTotalBattles() {
+    long total = 0;
+    for (BalanceCell cell : cells) {
+      total += cell.getBattles();
+    }
+    return total;
+  }
+
+  public double getBattlesPerSecond() {
+    return elapsedNanos == 0 ? 0.0 : getTotalBattles() * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  public List<BalanceCell> getCells() {
+    return cells;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+}
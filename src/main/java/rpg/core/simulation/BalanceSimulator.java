@@ -0,0 +1,174 @@
+package rpg.core.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.application.factory.SkillFactory;
+import rpg.application.service.QuestManager;
+import rpg.application.service.SkillService;
+import rpg.core.battle.BattleActionPolicy;
+import rpg.core.battle.BattleEngine;
+import rpg.domain.inventory.PlayerInventory;
+import rpg.domain.monster.DropTable;
+import rpg.domain.monster.Monster;
+import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterPool;
+import rpg.domain.monster.MonsterTemplate;
+import rpg.domain.player.Player;
+import rpg.domain.player.PlayerStatusCondition;
+import rpg.infrastructure.config.LoggingConfig;
+import rpg.infrastructure.data.loader.MonsterDataLoader;
+import rpg.infrastructure.data.loader.MonsterLevelTable;
+import rpg.shared.constant.GameConstants;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 몬스터 × 플레이어 레벨 몬테카를로 밸런스 시뮬레이터
+ * - monsters.json의 모든 몬스터와 레벨별 합성 플레이어로 시드 고정 전투를 반복
+ * - (몬스터, 레벨) 칸 단위로 병렬 스트림(ForkJoin 공용 풀)에 분배
+ * - 기준 시드 스트림에서 칸마다 독립 스트림을 미리 분리하므로 스레드 수와 무관하게 결과가 재현됨
+ */
+public class BalanceSimulator {
+  private static final Logger logger = LoggerFactory.getLogger(BalanceSimulator.class);
+
+  private final int minLevel;
+  private final int maxLevel;
+  private final int battlesPerCell;
+  private final long seed;
+  private final Supplier<BattleActionPolicy> policyFactory;
+
+  /**
+   * @param minLevel 시뮬레이션 최소 플레이어 레벨
+   * @param maxLevel 시뮬레이션 최대 플레이어 레벨
+   * @param battlesPerCell (몬스터, 레벨) 칸마다 반복할 전투 수
+   * @param seed 기준 시드
+   * @param policyFactory 칸마다 새 전투 정책을 만드는 팩토리 (정책이 상태를 가져도 안전)
+   */
+  public BalanceSimulator(int minLevel, int maxLevel, int battlesPerCell, long seed, Supplier<BattleActionPolicy> policyFactory) {
+    if (minLevel < GameConstants.NUMBER_ONE || maxLevel < minLevel) {
+      throw new IllegalArgumentException("레벨 범위가 올바르지 않습니다: " + minLevel + "~" + maxLevel);
+    }
+    if (battlesPerCell < GameConstants.NUMBER_ONE) {
+      throw new IllegalArgumentException("칸당 전투 수는 1 이상이어야 합니다.");
+    }
+    if (policyFactory == null) {
+      throw new IllegalArgumentException("전투 정책 팩토리는 null일 수 없습니다.");
+    }
+    this.minLevel = minLevel;
+    this.maxLevel = maxLevel;
+    this.battlesPerCell = battlesPerCell;
+    this.seed = seed;
+    this.policyFactory = policyFactory;
+  }
+
+  /**
+   * 전체 스윕을 실행합니다.
+   */
+  public BalanceReport run() {
+    List<MonsterData> monsters = new ArrayList<>(MonsterDataLoader.getAllMonsters());
+    monsters.sort(Comparator.comparingInt(MonsterData::getMinLevel).thenComparing(MonsterData::getId));
+    MonsterLevelTable levelTable = MonsterDataLoader.getSpawnIndex().getLevelTable();
+
+    int levelCount = maxLevel - minLevel + 1;
+    int cellCount = monsters.size() * levelCount;
+
+    // 합성 플레이어는 레벨업/퀘스트를 사용하지 않으므로 하나의 QuestManager를 공유
+    QuestManager sharedQuestManager = new QuestManager();
+    SkillFactory.initialize();
+
+    // 병렬 실행 전에 칸 순서대로 분리해야 실행 순서와 무관하게 같은 스트림을 받음
+    RandomUtils root = new RandomUtils(seed);
+    RandomUtils[] streams = new RandomUtils[cellCount];
+    for (int i = 0; i < cellCount; i++) {
+      streams[i] = root.split();
+    }
+
+    logger.info("밸런스 시뮬레이션 시작: 몬스터 {}종 × 레벨 {}~{} × {}회 (시드: {})", monsters.size(), minLevel, maxLevel, battlesPerCell, seed);
+    String previousLogLevel = LoggingConfig.setRootLevel("WARN");
+    long startTime = System.nanoTime();
+
+    List<BalanceCell> cells;
+    try {
+      cells = IntStream.range(0, cellCount).parallel()
+          .mapToObj(cellIndex -> runCell(monsters.get(cellIndex / levelCount), minLevel + cellIndex % levelCount, levelTable, streams[cellIndex],
+              sharedQuestManager))
+          .toList();
+    } finally {
+      if (previousLogLevel != null) {
+        LoggingConfig.setRootLevel(previousLogLevel);
+      }
+    }
+
+    long elapsedNanos = System.nanoTime() - startTime;
+    BalanceReport report = new BalanceReport(cells, minLevel, maxLevel, elapsedNanos);
+    logger.info("밸런스 시뮬레이션 완료: {}회 전투, {} ms", report.getTotalBattles(), elapsedNanos / 1_000_000);
+    return report;
+  }
+
+  /**
+   * (몬스터, 레벨) 한 칸의 전투를 모두 실행합니다. 몬스터는 같은 레벨(몬스터 레벨 범위로 보정)의 능력치로 생성합니다.
+   */
+  private BalanceCell runCell(MonsterData monsterData, int level, MonsterLevelTable levelTable, RandomUtils random, QuestManager questManager) {
+    BalanceCell cell = new BalanceCell(monsterData.getId(), monsterData.getName(), monsterData.getRarity(), level);
+    BattleEngine engine = BattleEngine.simulation(policyFactory.get(), random);
+    Player player = createSyntheticPlayer(level, questManager);
+    MonsterPool monsterPool = new MonsterPool(1);
+    int ordinal = levelTable.ordinalOf(monsterData.getId());
+    MonsterTemplate template = ordinal >= 0 ? levelTable.getTemplate(ordinal, level) : monsterData.getTemplate();
+
+    for (int i = 0; i < battlesPerCell; i++) {
+      player.setHp(player.getTotalMaxHp());
+      player.restoreMp(player.getTotalMaxMp());
+      player.getSkillManager().resetCooldowns();
+
+      Monster monster = monsterPool.acquire(template);
+      int hpBefore = player.getHp();
+      BattleEngine.BattleResult result = engine.startBattle(player, monster);
+
+      cell.record(result, engine.getLastTurnCount(), hpBefore - player.getHp());
+      monsterPool.release(monster);
+    }
+
+    // 승리한 전투의 드롭은 전투마다 판정하지 않고 한꺼번에 판정
+    DropTable dropTable = monsterData.getDropTable();
+    if (!dropTable.isEmpty() && cell.getWins() > 0) {
+      cell.recordDrops(dropTable.rollBatch(random, cell.getWins(), new long[dropTable.size()]));
+    }
+
+    return cell;
+  }
+
+  /**
+   * 레벨업 규칙(GameConstants)을 그대로 적용한 해당 레벨의 기본 장비 없는 플레이어를 생성합니다.
+   */
+  public static Player createSyntheticPlayer(int level, QuestManager questManager) {
+    int gainedLevels = level - GameConstants.INITIAL_LEVEL;
+    int maxHp = GameConstants.INITIAL_MAX_HP + gainedLevels * GameConstants.LEVEL_UP_HP_BONUS;
+    int maxMp = GameConstants.INITIAL_MAX_MP + gainedLevels * GameConstants.LEVEL_UP_MANA_BONUS;
+
+    //@formatter:off
+    return new Player(
+        "시뮬레이션_Lv" + level
+      , level
+      , maxHp
+      , maxHp
+      , maxMp
+      , maxMp
+      , GameConstants.RESTORE_HP + gainedLevels * GameConstants.LEVEL_UP_RESTORE_HP
+      , GameConstants.RESTORE_MANA + gainedLevels * GameConstants.LEVEL_UP_RESTORE_MP
+      , GameConstants.INITIAL_EXP
+      , GameConstants.INITIAL_ATTACK + gainedLevels * GameConstants.LEVEL_UP_ATTACK_BONUS
+      , GameConstants.INITIAL_DEFENSE + gainedLevels * GameConstants.LEVEL_UP_DEFENSE_BONUS
+      , GameConstants.NUMBER_ZERO
+      , new PlayerInventory(GameConstants.DEFAULT_INVENTORY)
+      , new SkillService(SkillFactory.getAvailableSkillIds(level), new HashMap<>())
+      , PlayerStatusCondition.NORMAL
+      , questManager);
+    //@formatter:on
+  }
+}
@@ -0,0 +1,79 @@
+package rpg.domain.battle;
+
+import rpg.shared.constant.GameConstants;
+
+/**
+ * 전투 데미지 계산기
+ * - 공격력, 방어력, 크리티컬, 편차, 스킬 배율 계산을 한 곳으로 통일
+ * - 배율은 천분율(‰) 정수로 미리 변환해 두고 원시 타입 연산만 사용 (타격당 객체 생성 없음)
+ * - 난수는 호출 측에서 굴려서 전달하므로 계산 자체는 순수 함수
+ */
+public final class BattleCalculator {
+  public static final int PERMILLE = 1000;
+  public static final int MIN_DAMAGE = 1; // 방어력 적용 후 최소 데미지
+
+  /** 크리티컬 데미지 배율 (천분율, 기본 1500 = 1.5배) */
+  public static final int CRITICAL_MULTIPLIER_PERMILLE = toPermille(GameConstants.CRITICAL_DAMAGE_MULTIPLIER);
+
+  private BattleCalculator() {}
+
+  /**
+   * 실수 배율을 천분율 정수로 변환합니다. (스킬/몬스터 생성 시 한 번만 호출)
+   */
+  public static int toPermille(double ratio) {
+    return (int) Math.round(ratio * PERMILLE);
+  }
+
+  /**
+   * 값에 천분율 배율을 적용합니다. (소수점 이하 버림)
+   */
+  public static int scale(int value, int permille) {
+    return (int) ((long) value * permille / PERMILLE);
+  }
+
+  /**
+   * 방어력을 적용한 실제 데미지를 계산합니다.
+   */
+  public static int mitigate(int damage, int defense) {
+    return Math.max(MIN_DAMAGE, damage - defense);
+  }
+
+  /**
+   * 크리티컬 여부에 따른 데미지를 계산합니다.
+   */
+  public static int applyCritical(int damage, boolean critical) {
+    return critical ? scale(damage, CRITICAL_MULTIPLIER_PERMILLE) : damage;
+  }
+
+  /**
+   * 퍼센트 확률 판정 (roll은 0~99 범위의 난수)
+   */
+  public static boolean isSuccess(int roll, int chancePercent) {
+    return roll < chancePercent;
+  }
+
+  /**
+   * 플레이어 일반 공격 데미지 (방어력 적용 전)
+   */
+  public static int playerAttackDamage(int attack, boolean critical) {
+    return applyCritical(attack, critical);
+  }
+
+  /**
+   * 몬스터 일반 공격 데미지 (방어력 적용 전)
+   *
+   * @param varianceRoll 0 ~ BattleConstants.MONSTER_DAMAGE_VARIANCE-1 범위의 난수
+   */
+  public static int monsterAttackDamage(int attack, int varianceRoll) {
+    return attack + varianceRoll;
+  }
+
+  /**
+   * 공격 스킬 데미지 (방어력 적용 전)
+   *
+   * @param multiplierPermille 스킬 배율 (천분율)
+   */
+  public static int skillDamage(int attack, int multiplierPermille) {
+    return scale(attack, multiplierPermille);
+  }
+}
@@ -2,12 +2,16 @@ package rpg.domain.inventory;
 
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import rpg.application.factory.GameItemFactory;
 import rpg.domain.item.GameConsumable;
@@ -18,11 +22,17 @@ import rpg.shared.constant.GameConstants;
 
 /**
  * 캐릭터의 인벤토리를 관리하는 클래스 (GameInventory 기반)
+ * - 슬롯(스택)은 표시 순서대로 보관하고, 아이템 ID → 스택 해시 인덱스로 추가/제거/사용/개수 확인을 O(1)로 처리
+ * - 이름으로 찾는 기존 메서드는 이름 → ID 인덱스를 거쳐 같은 경로를 사용
+ * - 중첩 가능 여부는 아이템을 만들지 않고 GameItemFactory의 아이템 데이터로 확인
  */
 public class PlayerInventory {
   private static final Logger logger = LoggerFactory.getLogger(PlayerInventory.class);
+  private static final String NAME_KEY_PREFIX = "#"; // ID가 없는 아이템은 이름으로 키를 만듦
 
-  private final List<ItemStack> items;
+  private final Set<ItemStack> items; // 표시 순서 (ItemStack은 참조로 비교)
+  private final Map<String, List<ItemStack>> stacksById = new HashMap<>(); // 중첩 가능 아이템은 스택 하나, 불가능하면 추가한 순서대로 여러 개
+  private final Map<String, String> idByName = new HashMap<>();
   private final int maxSlots;
 
   // 착용 장비
@@ -30,9 +40,15 @@ public class PlayerInventory {
   private GameEquipment equippedArmor;
   private GameEquipment equippedAccessory;
 
+  // 착용 장비 보너스 합계 (장비 슬롯이 바뀔 때만 갱신, 스탯 조회는 필드 읽기)
+  private int bonusAttack;
+  private int bonusDefense;
+  private int bonusHp;
+  private int bonusMp;
+
   // 기존 생성자 (새 캐릭터용)
   public PlayerInventory(int maxSlots) {
-    this.items = new ArrayList<>();
+    this.items = new LinkedHashSet<>();
     this.maxSlots = maxSlots;
     this.equippedWeapon = null;
     this.equippedArmor = null;
@@ -59,16 +75,23 @@ public class PlayerInventory {
  , @JsonProperty("totalBonus") EquipmentBonus totalBonus
  //@formatter:on
   ) {
-    // items 초기화
-    this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
+    // items 초기화 (저장된 순서대로 인덱스 재구성)
+    this.items = new LinkedHashSet<>();
+    if (items != null) {
+      for (ItemStack stack : items) {
+        if (stack != null && stack.getItem() != null) {
+          indexStack(stack);
+        }
+      }
+    }
 
     // maxSlots 설정 (maxSize도 같은 값일 것)
     this.maxSlots = maxSlots > GameConstants.NUMBER_ZERO ? maxSlots : (maxSize > GameConstants.NUMBER_ZERO ? maxSize : GameConstants.NUMBER_TWENTY);
 
     // 장비 설정
-    this.equippedWeapon = equippedWeapon;
-    this.equippedArmor = equippedArmor;
-    this.equippedAccessory = equippedAccessory;
+    setSlot(GameEquipment.EquipmentType.WEAPON, equippedWeapon);
+    setSlot(GameEquipment.EquipmentType.ARMOR, equippedArmor);
+    setSlot(GameEquipment.EquipmentType.ACCESSORY, equippedAccessory);
 
     logger.debug("GameInventory 역직렬화: 최대 {}슬롯, 아이템 {}개", this.maxSlots, this.items.size());
   }
@@ -82,25 +105,15 @@ public class PlayerInventory {
       return false;
     }
 
-    // 중첩 가능한 아이템인지 팩토리에서 확인
-    GameItemFactory factory = GameItemFactory.getInstance();
-    boolean stackable = false;
+    String key = keyOf(item);
+    boolean stackable = item.getId() != null && GameItemFactory.getInstance().isStackable(item.getId());
+    List<ItemStack> stacks = stacksById.get(key);
 
-    // 아이템 ID를 얻어서 중첩 가능 여부 확인
-    String itemId = findItemId(item);
-    if (itemId != null) {
-      stackable = factory.isStackable(itemId);
-    }
-
-    if (stackable) {
-      // 기존 스택에 추가 시도
-      for (ItemStack stack : items) {
-        if (stack.getItem().getName().equals(item.getName())) {
-          stack.addQuantity(quantity);
-          logger.debug("기존 스택에 아이템 추가: {} x{}", item.getName(), quantity);
-          return true;
-        }
-      }
+    if (stackable && stacks != null) {
+      // 기존 스택에 추가
+      stacks.get(0).addQuantity(quantity);
+      logger.debug("기존 스택에 아이템 추가: {} x{}", item.getName(), quantity);
+      return true;
     }
 
     // 새 스택 생성
@@ -109,84 +122,136 @@ public class PlayerInventory {
       return false;
     }
 
-    items.add(new ItemStack(item, quantity));
+    indexStack(new ItemStack(item, quantity));
     logger.debug("새 스택으로 아이템 추가: {} x{}", item.getName(), quantity);
     return true;
   }
 
   /**
-   * 아이템에서 ID 찾기 (임시 구현)
+   * 아이템 제거 (이름)
    */
-  private String findItemId(GameItem item) {
-    GameItemFactory factory = GameItemFactory.getInstance();
-
-    // 모든 아이템 ID를 순회하며 이름으로 매칭 (비효율적이지만 임시)
-    for (String id : factory.getAllItemIds()) {
-      try {
-        GameItem factoryItem = factory.createItem(id);
-        if (factoryItem.getName().equals(item.getName())) {
-          return id;
-        }
-      } catch (Exception e) {
-        // 무시
-      }
-    }
-    return null;
+  public boolean removeItem(String itemName, int quantity) {
+    return removeByKey(keyOfName(itemName), itemName, quantity);
   }
 
   /**
-   * 아이템 제거
+   * 아이템 제거 (아이템 ID)
    */
-  public boolean removeItem(String itemName, int quantity) {
-    for (ItemStack stack : items) {
-      if (stack.getItem().getName().equals(itemName)) {
-        if (stack.getQuantity() >= quantity) {
-          stack.removeQuantity(quantity);
-          if (stack.getQuantity() <= GameConstants.NUMBER_ZERO) {
-            items.remove(stack);
-          }
-          logger.debug("아이템 제거: {} x{}", itemName, quantity);
-          return true;
-        } else {
-          logger.warn("아이템 수량 부족: {} (요청: {}, 보유: {})", itemName, quantity, stack.getQuantity());
-          return false;
-        }
-      }
+  public boolean removeItemById(String itemId, int quantity) {
+    return removeByKey(itemId, itemId, quantity);
+  }
+
+  private boolean removeByKey(String key, String label, int quantity) {
+    ItemStack stack = firstStack(key);
+    if (stack == null) {
+      logger.warn("아이템을 찾을 수 없음: {}", label);
+      return false;
+    }
+    if (stack.getQuantity() < quantity) {
+      logger.warn("아이템 수량 부족: {} (요청: {}, 보유: {})", label, quantity, stack.getQuantity());
+      return false;
     }
 
-    logger.warn("아이템을 찾을 수 없음: {}", itemName);
-    return false;
+    stack.removeQuantity(quantity);
+    if (stack.getQuantity() <= GameConstants.NUMBER_ZERO) {
+      unindexStack(key, stack);
+    }
+    logger.debug("아이템 제거: {} x{}", label, quantity);
+    return true;
   }
 
   /**
-   * 아이템 사용
+   * 아이템 사용 (이름)
    */
   public boolean useItem(String itemName, Player character) {
-    for (ItemStack stack : items) {
-      if (stack.getItem().getName().equals(itemName)) {
-        if (stack.getItem().use(character)) {
-          stack.removeQuantity(1);
-          if (stack.getQuantity() <= 0) {
-            items.remove(stack);
-          }
-          logger.info("아이템 사용: {} -> {}", character.getName(), itemName);
-          return true;
-        } else {
-          logger.debug("아이템 사용 실패: {}", itemName);
-          return false;
-        }
-      }
+    return useByKey(keyOfName(itemName), itemName, character);
+  }
+
+  /**
+   * 아이템 사용 (아이템 ID)
+   */
+  public boolean useItemById(String itemId, Player character) {
+    return useByKey(itemId, itemId, character);
+  }
+
+  private boolean useByKey(String key, String label, Player character) {
+    ItemStack stack = firstStack(key);
+    if (stack == null) {
+      logger.warn("사용할 아이템을 찾을 수 없음: {}", label);
+      return false;
+    }
+    if (!stack.getItem().use(character)) {
+      logger.debug("아이템 사용 실패: {}", label);
+      return false;
     }
 
-    logger.warn("사용할 아이템을 찾을 수 없음: {}", itemName);
-    return false;
+    stack.removeQuantity(1);
+    if (stack.getQuantity() <= 0) {
+      unindexStack(key, stack);
+    }
+    logger.info("아이템 사용: {} -> {}", character.getName(), stack.getItem().getName());
+    return true;
   }
 
   /**
-   * 아이템 개수 확인
+   * 아이템 개수 확인 (이름)
    */
   public int getItemCount(String itemName) {
-    return items.stream().filter(stack -> stack.getItem().getName().equals(itemName)).mapToInt(ItemStack::getQuantity).sum();
+    return getItemCountById(keyOfName(itemName));
+  }
+
+  /**
+   * 아이템 개수 확인 (아이템 ID)
+   */
+  public int getItemCountById(String itemId) {
+    List<ItemStack> stacks = itemId == null ? null : stacksById.get(itemId);
+    if (stacks == null) {
+      return GameConstants.NUMBER_ZERO;
+    }
+    int count = GameConstants.NUMBER_ZERO;
+    for (ItemStack stack : stacks) {
+      count += stack.getQuantity();
+    }
+    return count;
+  }
+
+  /**
+   * 인덱스 키: 아이템 ID (ID가 없으면 이름 기반 키)
+   */
+  private static String keyOf(GameItem item) {
+    return item.getId() != null ? item.getId() : NAME_KEY_PREFIX + item.getName();
+  }
+
+  private String keyOfName(String itemName) {
+    return itemName == null ? null : idByName.get(itemName);
+  }
+
+  private ItemStack firstStack(String key) {
+    List<ItemStack> stacks = key == null ? null : stacksById.get(key);
+    return stacks == null ? null : stacks.get(0);
+  }
+
+  /**
+   * 새 스택을 슬롯과 인덱스에 등록합니다.
+   */
+  private void indexStack(ItemStack stack) {
+    String key = keyOf(stack.getItem());
+    items.add(stack);
+    stacksById.computeIfAbsent(key, k -> new ArrayList<>(1)).add(stack);
+    idByName.putIfAbsent(stack.getItem().getName(), key);
+  }
+
+  /**
+   * 빈 스택을 슬롯과 인덱스에서 제거합니다.
+   */
+  private void unindexStack(String key, ItemStack stack) {
+    items.remove(stack);
+    List<ItemStack> stacks = stacksById.get(key);
+    stacks.remove(stack);
+    if (stacks.isEmpty()) {
+      stacksById.remove(key);
+      idByName.remove(stack.getItem().getName(), key);
+    }
   }
 
   /**
@@ -210,25 +275,10 @@ public class PlayerInventory {
     if (equipment == null)
       return null;
 
-    GameEquipment oldEquipment = null;
-
-    switch (equipment.getEquipmentType()) {
-      case WEAPON:
-        oldEquipment = equippedWeapon;
-        equippedWeapon = equipment;
-        break;
-      case ARMOR:
-        oldEquipment = equippedArmor;
-        equippedArmor = equipment;
-        break;
-      case ACCESSORY:
-        oldEquipment = equippedAccessory;
-        equippedAccessory = equipment;
-        break;
-    }
+    GameEquipment oldEquipment = setSlot(equipment.getEquipmentType(), equipment);
 
     // 인벤토리에서 새 장비 제거
-    removeItem(equipment.getName(), 1);
+    removeByKey(keyOf(equipment), equipment.getName(), 1);
 
     // 기존 장비가 있으면 인벤토리에 추가
     if (oldEquipment != null) {
@@ -244,69 +294,87 @@ public class PlayerInventory {
    * 장비 해제
    */
   public GameEquipment unequipItem(GameEquipment.EquipmentType type) {
-    GameEquipment equipment = null;
+    GameEquipment equipment = setSlot(type, null);
+
+    if (equipment != null) {
+      addItem(equipment, GameConstants.NUMBER_ONE);
+      logger.info("장비 해제: {}", equipment.getName());
+    }
+
+    return equipment;
+  }
 
+  /**
+   * 장비 슬롯을 교체하고 보너스 합계에서 기존 장비를 빼고 새 장비를 더합니다.
+   *
+   * @return 기존에 착용하던 장비 (없으면 null)
+   */
+  private GameEquipment setSlot(GameEquipment.EquipmentType type, GameEquipment equipment) {
+    GameEquipment previous;
     switch (type) {
       case WEAPON:
-        equipment = equippedWeapon;
-        equippedWeapon = null;
+        previous = equippedWeapon;
+        equippedWeapon = equipment;
         break;
       case ARMOR:
-        equipment = equippedArmor;
-        equippedArmor = null;
+        previous = equippedArmor;
+        equippedArmor = equipment;
         break;
       case ACCESSORY:
-        equipment = equippedAccessory;
-        equippedAccessory = null;
+        previous = equippedAccessory;
+        equippedAccessory = equipment;
         break;
+      default:
+        return null;
     }
+    addBonus(previous, -1);
+    addBonus(equipment, 1);
+    return previous;
+  }
 
-    if (equipment != null) {
-      addItem(equipment, GameConstants.NUMBER_ONE);
-      logger.info("장비 해제: {}", equipment.getName());
+  private void addBonus(GameEquipment equipment, int sign) {
+    if (equipment == null) {
+      return;
     }
-
-    return equipment;
+    bonusAttack += sign * equipment.getAttackBonus();
+    bonusDefense += sign * equipment.getDefenseBonus();
+    bonusHp += sign * equipment.getHpBonus();
+    bonusMp += sign * equipment.getMpBonus();
   }
 
   /**
-   * 총 장비 보너스 계산
+   * 총 장비 보너스 (표시용 스냅샷, 스탯 계산에는 get*Bonus 필드 조회 사용)
    */
   public EquipmentBonus getTotalBonus() {
-    int attackBonus = GameConstants.NUMBER_ZERO;
-    int defenseBonus = GameConstants.NUMBER_ZERO;
-    int hpBonus = GameConstants.NUMBER_ZERO;
-    int mpBonus = GameConstants.NUMBER_ZERO;
+    return new EquipmentBonus(bonusAttack, bonusDefense, bonusHp, bonusMp);
+  }
 
-    if (equippedWeapon != null) {
-      attackBonus += equippedWeapon.getAttackBonus();
-      defenseBonus += equippedWeapon.getDefenseBonus();
-      hpBonus += equippedWeapon.getHpBonus();
-      mpBonus += equippedWeapon.getMpBonus();
-    }
+  @JsonIgnore
+  public int getAttackBonus() {
+    return bonusAttack;
+  }
 
-    if (equippedArmor != null) {
-      attackBonus += equippedArmor.getAttackBonus();
-      defenseBonus += equippedArmor.getDefenseBonus();
-      hpBonus += equippedArmor.getHpBonus();
-      mpBonus += equippedArmor.getMpBonus();
-    }
+  @JsonIgnore
+  public int getDefenseBonus() {
+    return bonusDefense;
+  }
 
-    if (equippedAccessory != null) {
-      attackBonus += equippedAccessory.getAttackBonus();
-      defenseBonus += equippedAccessory.getDefenseBonus();
-      hpBonus += equippedAccessory.getHpBonus();
-      mpBonus += equippedAccessory.getMpBonus();
-    }
+  @JsonIgnore
+  public int getHpBonus() {
+    return bonusHp;
+  }
 
-    return new EquipmentBonus(attackBonus, defenseBonus, hpBonus, mpBonus);
+  @JsonIgnore
+  public int getMpBonus() {
+    return bonusMp;
   }
 
   /**
    * 인벤토리 정렬
    */
   public void sortInventory() {
-    items.sort((a, b) -> {
+    List<ItemStack> sorted = new ArrayList<>(items);
+    sorted.sort((a, b) -> {
       // 1. 타입별 정렬 (CONSUMABLE -> WEAPON -> ARMOR -> ACCESSORY)
       int typeCompare = getTypeOrder(a.getItem()) - getTypeOrder(b.getItem());
       if (typeCompare != GameConstants.NUMBER_ZERO)
@@ -320,6 +388,8 @@ public class PlayerInventory {
       // 3. 이름순 정렬
       return a.getItem().getName().compareTo(b.getItem().getName());
     });
+    items.clear();
+    items.addAll(sorted);
 
     logger.debug("인벤토리 정렬 완료");
   }
@@ -404,15 +474,15 @@ public class PlayerInventory {
   }
 
   public void setEquippedWeapon(GameEquipment equippedWeapon) {
-    this.equippedWeapon = equippedWeapon;
+    setSlot(GameEquipment.EquipmentType.WEAPON, equippedWeapon);
   }
 
   public void setEquippedArmor(GameEquipment equippedArmor) {
-    this.equippedArmor = equippedArmor;
+    setSlot(GameEquipment.EquipmentType.ARMOR, equippedArmor);
   }
 
   public void setEquippedAccessory(GameEquipment equippedAccessory) {
-    this.equippedAccessory = equippedAccessory;
+    setSlot(GameEquipment.EquipmentType.ACCESSORY, equippedAccessory);
   }
 
 
@@ -481,17 +551,17 @@ public class PlayerInventory {
    * 착용 장비를 강제로 설정합니다 (로드용)
    */
   public void forceSetEquippedWeapon(GameEquipment weapon) {
-    this.equippedWeapon = weapon;
+    setSlot(GameEquipment.EquipmentType.WEAPON, weapon);
     logger.debug("무기 강제 설정: {}", weapon != null ? weapon.getName() : "없음");
   }
 
   public void forceSetEquippedArmor(GameEquipment armor) {
-    this.equippedArmor = armor;
+    setSlot(GameEquipment.EquipmentType.ARMOR, armor);
     logger.debug("방어구 강제 설정: {}", armor != null ? armor.getName() : "없음");
   }
 
   public void forceSetEquippedAccessory(GameEquipment accessory) {
-    this.equippedAccessory = accessory;
+    setSlot(GameEquipment.EquipmentType.ACCESSORY, accessory);
     logger.debug("장신구 강제 설정: {}", accessory != null ? accessory.getName() : "없음");
   }
 }
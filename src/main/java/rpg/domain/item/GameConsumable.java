@@ -11,6 +11,7 @@ import rpg.shared.constant.GameConstants;
 
 /**
  * GameEffect 시스템을 사용하는 소비 아이템 클래스 (확장된 생성자 지원)
+ * - 인스턴스별 상태가 없으므로 GameItemFactory는 아이템 ID마다 인스턴스 하나를 공유
  */
 public class GameConsumable extends GameItem {
   private static final Logger logger = LoggerFactory.getLogger(GameConsumable.class);
@@ -172,7 +173,7 @@ public class GameConsumable extends GameItem {
   public int getHpRestore() {
     // 효과 중에서 HP 회복 효과 찾기
     for (GameEffect effect : effects) {
-      if (effect instanceof SimpleHealEffect healEffect && "HP".equals(healEffect.getType())) {
+      if (effect instanceof SimpleHealEffect healEffect && healEffect.getType() == GameEffectType.HEAL_HP) {
         return healEffect.getValue();
       }
     }
@@ -188,7 +189,7 @@ public class GameConsumable extends GameItem {
   public int getMpRestore() {
     // 효과 중에서 MP 회복 효과 찾기
     for (GameEffect effect : effects) {
-      if (effect instanceof SimpleHealEffect healEffect && "MP".equals(healEffect.getType())) {
+      if (effect instanceof SimpleHealEffect healEffect && healEffect.getType() == GameEffectType.HEAL_MP) {
         return healEffect.getValue();
       }
     }
@@ -293,7 +294,7 @@ public class GameConsumable extends GameItem {
 
     @Override
     public GameEffectType getType() {
-      return GameEffectType.GAIN_EXP;
+      return "HP".equals(type) ? GameEffectType.HEAL_HP : GameEffectType.HEAL_MP;
     }
   }
 
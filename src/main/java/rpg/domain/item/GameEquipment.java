@@ -52,6 +52,13 @@ public class GameEquipment extends GameItem {
     this.mpBonus = mpBonus;
   }
 
+  /**
+   * 같은 속성을 가진 새 장비 인스턴스를 반환합니다. (착용 여부를 인스턴스로 구분하므로 팩토리 원형은 복사해서 사용)
+   */
+  public GameEquipment copy() {
+    return new GameEquipment(id, name, description, value, rarity, equipmentType, attackBonus, defenseBonus, hpBonus, mpBonus);
+  }
+
   @Override
   public boolean use(Player character) {
     // 장비는 직접 사용하지 않고 착용/해제로 처리
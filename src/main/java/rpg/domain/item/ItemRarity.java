@@ -1,6 +1,7 @@
 package rpg.domain.item;
 
 import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 아이템 등급 enum (최신 버전) 이모지, 색상 코드, 확률 등 포함
@@ -130,7 +131,7 @@ public enum ItemRarity {
    * 확률 기반 랜덤 등급 선택
    */
   public static ItemRarity getRandomRarity() {
-    double random = Math.random() * 100.0;
+    double random = RandomUtils.session().nextDouble() * 100.0;
     double cumulative = 0.0;
 
     for (ItemRarity rarity : values()) {
@@ -173,7 +174,7 @@ public enum ItemRarity {
     }
 
     // 랜덤 선택
-    double random = Math.random() * 100.0;
+    double random = RandomUtils.session().nextDouble() * 100.0;
     double cumulative = 0.0;
 
     for (int i = 0; i < adjustedChances.length; i++) {
@@ -0,0 +1,56 @@
+package rpg.domain.location;
+
+/**
+ * 지역 생물군계 (locations.json properties.biome)
+ */
+public enum Biome {
+  //@formatter:off
+    FOREST("forest", "숲")
+  , MAGICAL_FOREST("magical_forest", "마법의 숲")
+  , CAVE("cave", "동굴")
+  , MOUNTAIN("mountain", "산악")
+  , LAKE("lake", "호수")
+  , RUINS("ruins", "유적")
+  , VOLCANIC("volcanic", "화산")
+  , FROZEN("frozen", "설원")
+  , AERIAL("aerial", "하늘")
+  , OCEAN("ocean", "바다")
+  , SHADOW("shadow", "그림자")
+  , DIVINE("divine", "신성")
+  , VOID("void", "공허")
+  , UNKNOWN("unknown", "알 수 없음")
+  ;
+  //@formatter:on
+
+  private static final Biome[] VALUES = values();
+
+  private final String key;
+  private final String displayName;
+
+  Biome(String key, String displayName) {
+    this.key = key;
+    this.displayName = displayName;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  /**
+   * JSON 값으로 생물군계를 찾습니다.
+   *
+   * @return 해당 생물군계, 없으면 UNKNOWN
+   */
+  public static Biome fromKey(String key) {
+    for (Biome biome : VALUES) {
+      if (biome.key.equalsIgnoreCase(key)) {
+        return biome;
+      }
+    }
+    return UNKNOWN;
+  }
+}
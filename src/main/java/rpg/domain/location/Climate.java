@@ -0,0 +1,56 @@
+package rpg.domain.location;
+
+/**
+ * 지역 기후 (locations.json properties.climate)
+ */
+public enum Climate {
+  //@formatter:off
+    TEMPERATE("temperate", "온화함")
+  , COLD("cold", "추움")
+  , FREEZING("freezing", "혹한")
+  , HOT("hot", "뜨거움")
+  , HUMID("humid", "습함")
+  , WINDY("windy", "강풍")
+  , UNDERWATER("underwater", "수중")
+  , MYSTICAL("mystical", "신비로움")
+  , EERIE("eerie", "으스스함")
+  , ANCIENT("ancient", "고대의 기운")
+  , BLESSED("blessed", "축복받음")
+  , VOID("void", "공허")
+  , NULL("null", "무(無)")
+  , UNKNOWN("unknown", "알 수 없음")
+  ;
+  //@formatter:on
+
+  private static final Climate[] VALUES = values();
+
+  private final String key;
+  private final String displayName;
+
+  Climate(String key, String displayName) {
+    this.key = key;
+    this.displayName = displayName;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  /**
+   * JSON 값으로 기후를 찾습니다.
+   *
+   * @return 해당 기후, 없으면 UNKNOWN
+   */
+  public static Climate fromKey(String key) {
+    for (Climate climate : VALUES) {
+      if (climate.key.equalsIgnoreCase(key)) {
+        return climate;
+      }
+    }
+    return UNKNOWN;
+  }
+}
@@ -1,5 +1,7 @@
 package rpg.domain.location;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -15,6 +17,13 @@ public class LocationData {
   private final DangerLevel dangerLevel;
   private final int eventChance;
   private final Map<String, Object> properties;
+  private final LocationProperties compiledProperties; // 로드 시 컴파일된 타입 속성
+  private final Map<String, Integer> eventWeights; // 탐험 이벤트 이름(ExploreResult) → 가중치
+
+  public LocationData(String id, String nameKo, String nameEn, String icon, String description, int minLevel, int maxLevel, String dangerLevel,
+      int eventChance, Map<String, Object> properties) {
+    this(id, nameKo, nameEn, icon, description, minLevel, maxLevel, dangerLevel, eventChance, properties, null);
+  }
 
   @JsonCreator
   public LocationData(
@@ -28,7 +37,8 @@ public class LocationData {
       @JsonProperty("maxLevel") int maxLevel,
       @JsonProperty("dangerLevel") String dangerLevel,
       @JsonProperty("eventChance") int eventChance,
-      @JsonProperty("properties") Map<String, Object> properties
+      @JsonProperty("properties") Map<String, Object> properties,
+      @JsonProperty("eventWeights") Map<String, Integer> eventWeights
       //@formatter:on
   ) {
     this.id = id;
@@ -40,7 +50,9 @@ public class LocationData {
     this.maxLevel = maxLevel;
     this.dangerLevel = DangerLevel.valueOf(dangerLevel);
     this.eventChance = eventChance;
-    this.properties = properties;
+    this.properties = properties != null ? Collections.unmodifiableMap(new LinkedHashMap<>(properties)) : Map.of();
+    this.compiledProperties = LocationProperties.compile(this.properties);
+    this.eventWeights = eventWeights != null ? Collections.unmodifiableMap(new LinkedHashMap<>(eventWeights)) : Map.of();
   }
 
   // Getters
@@ -80,9 +92,33 @@ public class LocationData {
     return eventChance;
   }
 
+  /**
+   * JSON 원본 속성 (읽기 전용)
+   */
   public Map<String, Object> properties() {
     return properties;
   }
 
+  /**
+   * 컴파일된 속성 (플래그 비트셋, 생물군계/기후 enum, 나머지 키)
+   */
+  public LocationProperties getProperties() {
+    return compiledProperties;
+  }
+
+  /**
+   * 특성 플래그가 켜져 있는지 확인합니다.
+   */
+  public boolean has(LocationFlag flag) {
+    return compiledProperties.has(flag);
+  }
+
+  /**
+   * 탐험 이벤트 가중치 (읽기 전용, 지정하지 않았으면 빈 맵)
+   */
+  public Map<String, Integer> getEventWeights() {
+    return eventWeights;
+  }
+
 
 }
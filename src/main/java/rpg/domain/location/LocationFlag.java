@@ -0,0 +1,63 @@
+package rpg.domain.location;
+
+/**
+ * 지역 특성 플래그 (locations.json properties의 boolean 항목)
+ * - ordinal이 LocationProperties 비트셋의 비트 위치이므로 최대 64개까지 정의 가능
+ */
+public enum LocationFlag {
+  //@formatter:off
+    MAGICAL("magical", "🌟 마법의 기운")
+  , HAZARDOUS("hazardous", "⚠️ 위험")
+  , HEALING("healing", "💚 치유")
+  , SHELTER("shelter", "🏠 은신처")
+  , WATER("water", "💧 수중")
+  , HAUNTED("haunted", "👻 유령 출몰")
+  , ANCIENT("ancient", "🏺 고대의 흔적")
+  , FLOATING("floating", "☁️ 공중 부유")
+  , PRESSURE("pressure", "🌊 수압")
+  , DIMENSIONAL("dimensional", "🌀 차원 왜곡")
+  , NIGHTMARE("nightmare", "😱 악몽")
+  , HOLY("holy", "✨ 신성")
+  , REALITY_BREAK("reality_break", "💥 현실 붕괴")
+  , INSTANT_DEATH("instant_death", "☠️ 즉사 위험")
+  ;
+  //@formatter:on
+
+  private static final LocationFlag[] VALUES = values();
+
+  private final String key;
+  private final String displayName;
+  private final long mask;
+
+  LocationFlag(String key, String displayName) {
+    this.key = key;
+    this.displayName = displayName;
+    this.mask = 1L << ordinal();
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  long mask() {
+    return mask;
+  }
+
+  /**
+   * JSON 키로 플래그를 찾습니다.
+   *
+   * @return 해당 플래그, 없으면 null
+   */
+  public static LocationFlag fromKey(String key) {
+    for (LocationFlag flag : VALUES) {
+      if (flag.key.equals(key)) {
+        return flag;
+      }
+    }
+    return null;
+  }
+}
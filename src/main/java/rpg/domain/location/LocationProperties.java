@@ -0,0 +1,124 @@
+package rpg.domain.location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 지역 속성
+ * - locations.json의 properties(Map)를 지역 로드 시 한 번 변환: boolean 플래그는 비트셋, biome/climate는 enum
+ * - 탐험 중 특성 확인은 비트 검사 한 번 (맵 조회, 캐스팅 없음)
+ * - 알 수 없는 키(visibility 등)와 enum에 없는 biome/climate 값은 extras에 그대로 보관해 표시용으로 사용
+ * - 생성 후 변경되지 않음
+ */
+public final class LocationProperties {
+  public static final LocationProperties EMPTY = new LocationProperties(0L, Biome.UNKNOWN, Climate.UNKNOWN, Map.of());
+
+  private static final String BIOME_KEY = "biome";
+  private static final String CLIMATE_KEY = "climate";
+  private static final LocationFlag[] FLAGS = LocationFlag.values();
+
+  private final long flags;
+  private final Biome biome;
+  private final Climate climate;
+  private final Map<String, Object> extras;
+
+  private LocationProperties(long flags, Biome biome, Climate climate, Map<String, Object> extras) {
+    this.flags = flags;
+    this.biome = biome;
+    this.climate = climate;
+    this.extras = extras;
+  }
+
+  /**
+   * JSON 속성 맵을 컴파일합니다.
+   *
+   * @param properties 원본 속성 (null 허용)
+   */
+  public static LocationProperties compile(Map<String, Object> properties) {
+    if (properties == null || properties.isEmpty()) {
+      return EMPTY;
+    }
+
+    long flags = 0L;
+    Biome biome = Biome.UNKNOWN;
+    Climate climate = Climate.UNKNOWN;
+    Map<String, Object> extras = new LinkedHashMap<>();
+
+    for (Map.Entry<String, Object> entry : properties.entrySet()) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+
+      LocationFlag flag = LocationFlag.fromKey(key);
+      if (flag != null && isBoolean(value)) {
+        if (isTrue(value)) {
+          flags |= flag.mask();
+        }
+        continue;
+      }
+
+      if (BIOME_KEY.equals(key) && value instanceof String text && Biome.fromKey(text) != Biome.UNKNOWN) {
+        biome = Biome.fromKey(text);
+        continue;
+      }
+      if (CLIMATE_KEY.equals(key) && value instanceof String text && Climate.fromKey(text) != Climate.UNKNOWN) {
+        climate = Climate.fromKey(text);
+        continue;
+      }
+
+      extras.put(key, value);
+    }
+
+    return new LocationProperties(flags, biome, climate, extras.isEmpty() ? Map.of() : Collections.unmodifiableMap(extras));
+  }
+
+  private static boolean isBoolean(Object value) {
+    return value instanceof Boolean || "true".equalsIgnoreCase(String.valueOf(value)) || "false".equalsIgnoreCase(String.valueOf(value));
+  }
+
+  private static boolean isTrue(Object value) {
+    return Boolean.TRUE.equals(value) || "true".equalsIgnoreCase(String.valueOf(value));
+  }
+
+  /**
+   * 플래그가 켜져 있는지 확인합니다.
+   */
+  public boolean has(LocationFlag flag) {
+    return (flags & flag.mask()) != 0;
+  }
+
+  /**
+   * 켜져 있는 플래그 목록 (정의 순서)
+   */
+  public List<LocationFlag> getFlags() {
+    List<LocationFlag> result = new ArrayList<>(Long.bitCount(flags));
+    for (LocationFlag flag : FLAGS) {
+      if (has(flag)) {
+        result.add(flag);
+      }
+    }
+    return result;
+  }
+
+  public Biome getBiome() {
+    return biome;
+  }
+
+  public Climate getClimate() {
+    return climate;
+  }
+
+  /**
+   * 타입으로 변환되지 않은 나머지 속성 (읽기 전용)
+   */
+  public Map<String, Object> getExtras() {
+    return extras;
+  }
+
+  @Override
+  public String toString() {
+    return "LocationProperties{flags=" + getFlags() + ", biome=" + biome + ", climate=" + climate + ", extras=" + extras + "}";
+  }
+}
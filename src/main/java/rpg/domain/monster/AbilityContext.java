@@ -0,0 +1,83 @@
+package rpg.domain.monster;
+
+import rpg.domain.status.StatusEffectType;
+import rpg.domain.status.StatusEffects;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 특수 능력 발동에 필요한 전투 상황
+ * - 전투 엔진이 하나를 만들어 두고 발동할 때마다 reset으로 다시 채워 사용 (발동 중 객체 생성 없음)
+ * - damage: ATTACK은 몬스터가 줄 원본 데미지, HIT은 몬스터가 받을 원본 데미지 (능력이 수정)
+ */
+public final class AbilityContext {
+  private Monster monster;
+  private StatusEffects opponentEffects;
+  private RandomUtils random;
+  private int damage;
+  private boolean statusApplied;
+
+  /**
+   * 새 발동을 위해 상황을 채웁니다.
+   *
+   * @param monster 능력을 가진 몬스터
+   * @param opponentEffects 상대(플레이어)의 상태 효과 슬롯 (상태 이상을 걸지 않는 시점이면 null)
+   * @param random 전투 난수 스트림
+   * @param damage 원본 데미지 (데미지가 없는 시점이면 0)
+   */
+  public void reset(Monster monster, StatusEffects opponentEffects, RandomUtils random, int damage) {
+    this.monster = monster;
+    this.opponentEffects = opponentEffects;
+    this.random = random;
+    this.damage = damage;
+    this.statusApplied = false;
+  }
+
+  /**
+   * percent(%) 확률 판정
+   */
+  boolean roll(int percent) {
+    return random.nextInt(100) < percent;
+  }
+
+  /**
+   * 몬스터 HP를 최대 HP 한도 안에서 회복합니다.
+   *
+   * @return 실제 회복량
+   */
+  int heal(int amount) {
+    int before = monster.getHp();
+    monster.setHp(Math.min(before + amount, monster.getMaxHp()));
+    return monster.getHp() - before;
+  }
+
+  /**
+   * 상대에게 상태 이상을 겁니다.
+   */
+  boolean applyToOpponent(StatusEffectType type, int magnitude, int duration) {
+    if (opponentEffects == null) {
+      return false;
+    }
+    opponentEffects.apply(type, magnitude, duration);
+    statusApplied = true;
+    return true;
+  }
+
+  public Monster getMonster() {
+    return monster;
+  }
+
+  public int getDamage() {
+    return damage;
+  }
+
+  void setDamage(int damage) {
+    this.damage = Math.max(0, damage);
+  }
+
+  /**
+   * 이번 발동에서 상대에게 상태 이상을 걸었는지 여부
+   */
+  public boolean isStatusApplied() {
+    return statusApplied;
+  }
+}
@@ -0,0 +1,125 @@
+package rpg.domain.monster;
+
+import rpg.domain.status.StatusEffectType;
+import rpg.shared.constant.GameConstants;
+
+/**
+ * 몬스터 특수 능력의 효과 종류 (능력 핸들러)
+ * - 효과마다 발동 시점이 하나로 정해져 있어 템플릿은 시점별 배열에 나누어 담음
+ * - 수치(power)의 의미는 효과마다 다름: 회복/강타/흡수/경감은 %, 회피는 발동 확률(%), 중독/화상은 턴당 피해, 약화는 천분율(‰)
+ * - 확률 발동 효과는 GameConstants.ABILITY_TRIGGER_CHANCE를 따름
+ */
+public enum AbilityEffect {
+  /** 턴 시작마다 최대 HP의 power%를 회복 */
+  REGENERATE(AbilityTrigger.TURN_START) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      Monster monster = context.getMonster();
+      if (monster.getHp() >= monster.getMaxHp()) {
+        return false;
+      }
+      return context.heal(Math.max(1, monster.getMaxHp() * power / 100)) > 0;
+    }
+  },
+  /** HP가 절반 이하일 때 확률적으로 최대 HP의 power%를 회복 */
+  RECOVER(AbilityTrigger.TURN_START) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      Monster monster = context.getMonster();
+      if (monster.getHp() * 2 > monster.getMaxHp() || !context.roll(TRIGGER_CHANCE)) {
+        return false;
+      }
+      return context.heal(Math.max(1, monster.getMaxHp() * power / 100)) > 0;
+    }
+  },
+  /** 확률적으로 공격 데미지 power% 증가 */
+  STRIKE(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      if (!context.roll(TRIGGER_CHANCE)) {
+        return false;
+      }
+      context.setDamage(context.getDamage() * (100 + power) / 100);
+      return true;
+    }
+  },
+  /** 확률적으로 상대를 중독 (턴당 power 피해) */
+  POISON(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      return context.roll(TRIGGER_CHANCE) && context.applyToOpponent(StatusEffectType.POISON, power, GameConstants.ABILITY_STATUS_DURATION);
+    }
+  },
+  /** 확률적으로 상대에게 화상 (턴당 power 피해) */
+  BURN(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      return context.roll(TRIGGER_CHANCE) && context.applyToOpponent(StatusEffectType.BURN, power, GameConstants.ABILITY_STATUS_DURATION);
+    }
+  },
+  /** 확률적으로 상대 공격력 power‰ 감소 */
+  INTIMIDATE(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      return context.roll(TRIGGER_CHANCE) && context.applyToOpponent(StatusEffectType.ATTACK_DOWN, power, GameConstants.ABILITY_STATUS_DURATION);
+    }
+  },
+  /** 확률적으로 상대 방어력 power‰ 감소 */
+  SUNDER(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      return context.roll(TRIGGER_CHANCE) && context.applyToOpponent(StatusEffectType.DEFENSE_DOWN, power, GameConstants.ABILITY_STATUS_DURATION);
+    }
+  },
+  /** 확률적으로 공격 데미지의 power%만큼 HP 회복 */
+  DRAIN(AbilityTrigger.ATTACK) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      if (!context.roll(TRIGGER_CHANCE)) {
+        return false;
+      }
+      return context.heal(Math.max(1, context.getDamage() * power / 100)) > 0;
+    }
+  },
+  /** 받는 데미지 power% 경감 (항상 발동) */
+  GUARD(AbilityTrigger.HIT) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      if (context.getDamage() <= 0) {
+        return false;
+      }
+      context.setDamage(context.getDamage() * (100 - power) / 100);
+      return true;
+    }
+  },
+  /** power% 확률로 공격을 완전히 회피 */
+  EVADE(AbilityTrigger.HIT) {
+    @Override
+    boolean apply(AbilityContext context, int power) {
+      if (!context.roll(power)) {
+        return false;
+      }
+      context.setDamage(0);
+      return true;
+    }
+  };
+
+  private static final int TRIGGER_CHANCE = (int) Math.round(GameConstants.ABILITY_TRIGGER_CHANCE * 100);
+
+  private final AbilityTrigger trigger;
+
+  AbilityEffect(AbilityTrigger trigger) {
+    this.trigger = trigger;
+  }
+
+  public AbilityTrigger getTrigger() {
+    return trigger;
+  }
+
+  /**
+   * 효과를 적용합니다.
+   *
+   * @return 발동했으면 true
+   */
+  abstract boolean apply(AbilityContext context, int power);
+}
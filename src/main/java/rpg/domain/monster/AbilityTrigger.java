@@ -0,0 +1,23 @@
+package rpg.domain.monster;
+
+/**
+ * 몬스터 특수 능력이 발동하는 시점
+ */
+public enum AbilityTrigger {
+  //@formatter:off
+    TURN_START("턴 시작")
+  , ATTACK("공격 시")
+  , HIT("피격 시")
+  ;
+  //@formatter:on
+
+  private final String displayName;
+
+  AbilityTrigger(String displayName) {
+    this.displayName = displayName;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+}
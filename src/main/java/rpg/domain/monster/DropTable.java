@@ -0,0 +1,167 @@
+package rpg.domain.monster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 몬스터 한 종류의 드롭 테이블 (로드 시 원시 배열로 컴파일)
+ * - 드롭 항목마다 독립적으로 판정하므로 한 번 처치에 여러 아이템이 나올 수 있음
+ * - 수량은 minQuantity ~ maxQuantity 균등 분포
+ * - 아이템 ID와 수량만 다루며, 아이템 인스턴스는 실제로 드롭된 항목만 호출 측에서 생성
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능 (난수 스트림은 호출 측 소유)
+ */
+public final class DropTable {
+  private static final Logger logger = LoggerFactory.getLogger(DropTable.class);
+
+  public static final DropTable EMPTY = new DropTable(new String[0], new double[0], new int[0], new int[0]);
+
+  private final String[] itemIds;
+  private final double[] dropRates; // 0 초과 1 이하
+  private final double[] logMissRates; // ln(1 - 드롭 확률), 일괄 판정의 기하 분포 건너뛰기용 (확정 드롭은 0)
+  private final int[] minQuantities;
+  private final int[] quantitySpans; // maxQuantity - minQuantity + 1
+
+  /**
+   * 드롭 한 건 (아이템 ID, 수량)
+   */
+  public record Drop(String itemId, int quantity) {
+  }
+
+  private DropTable(String[] itemIds, double[] dropRates, int[] minQuantities, int[] quantitySpans) {
+    this.itemIds = itemIds;
+    this.dropRates = dropRates;
+    this.minQuantities = minQuantities;
+    this.quantitySpans = quantitySpans;
+    this.logMissRates = new double[dropRates.length];
+    for (int i = 0; i < dropRates.length; i++) {
+      logMissRates[i] = dropRates[i] < 1.0 ? Math.log(1.0 - dropRates[i]) : 0.0;
+    }
+  }
+
+  /**
+   * 드롭 항목 목록을 컴파일합니다.
+   * 아이템 ID가 없거나 드롭 확률이 0 이하인 항목은 건너뛰고, 확률은 1, 수량은 최소 1로 보정합니다.
+   *
+   * @param monsterId 로그용 몬스터 ID
+   */
+  public static DropTable compile(String monsterId, List<DropItem> dropItems) {
+    if (dropItems == null || dropItems.isEmpty()) {
+      return EMPTY;
+    }
+
+    int count = 0;
+    String[] itemIds = new String[dropItems.size()];
+    double[] dropRates = new double[dropItems.size()];
+    int[] minQuantities = new int[dropItems.size()];
+    int[] quantitySpans = new int[dropItems.size()];
+    for (DropItem dropItem : dropItems) {
+      if (dropItem == null || dropItem.getItemId() == null || dropItem.getItemId().isBlank() || !(dropItem.getDropRate() > 0)) {
+        logger.warn("몬스터 {}: 잘못된 드롭 항목 무시 ({})", monsterId, dropItem != null ? dropItem.getItemId() : null);
+        continue;
+      }
+      int min = Math.max(1, dropItem.getMinQuantity());
+      int max = Math.max(min, dropItem.getMaxQuantity());
+      itemIds[count] = dropItem.getItemId().trim();
+      dropRates[count] = Math.min(1.0, dropItem.getDropRate());
+      minQuantities[count] = min;
+      quantitySpans[count] = max - min + 1;
+      count++;
+    }
+
+    if (count == 0) {
+      return EMPTY;
+    }
+    return new DropTable(Arrays.copyOf(itemIds, count), Arrays.copyOf(dropRates, count), Arrays.copyOf(minQuantities, count),
+        Arrays.copyOf(quantitySpans, count));
+  }
+
+  /**
+   * 처치 한 번의 드롭을 판정합니다. 항목마다 독립적으로 판정하여 나온 드롭을 모두 반환합니다.
+   *
+   * @return 드롭 목록 (드롭이 없으면 빈 목록, 이때는 객체를 만들지 않음)
+   */
+  public List<Drop> roll(RandomUtils random) {
+    List<Drop> drops = null;
+    for (int i = 0; i < itemIds.length; i++) {
+      if (random.nextDouble() < dropRates[i]) {
+        if (drops == null) {
+          drops = new ArrayList<>(itemIds.length - i);
+        }
+        drops.add(new Drop(itemIds[i], rollQuantity(i, random)));
+      }
+    }
+    return drops != null ? drops : List.of();
+  }
+
+  /**
+   * 처치 여러 번의 드롭을 한꺼번에 판정하여 항목별 총 수량을 누적합니다. (시뮬레이션/원정용)
+   * 항목마다 다음 드롭까지의 처치 수를 기하 분포로 뽑아 건너뛰므로 비용은 처치 수가 아니라 드롭 수에 비례합니다.
+   *
+   * @param kills 처치 수
+   * @param totals 항목 순서대로 수량을 더할 배열 (길이 size() 이상)
+   * @return 이번 판정으로 나온 총 수량
+   */
+  public long rollBatch(RandomUtils random, int kills, long[] totals) {
+    if (kills < 0) {
+      throw new IllegalArgumentException("처치 수는 0 이상이어야 합니다: " + kills);
+    }
+    if (totals == null || totals.length < itemIds.length) {
+      throw new IllegalArgumentException("수량 배열의 길이가 드롭 항목 수보다 작습니다.");
+    }
+
+    long total = 0;
+    for (int i = 0; i < itemIds.length; i++) {
+      long quantity = 0;
+      if (dropRates[i] >= 1.0) {
+        for (int kill = 0; kill < kills; kill++) {
+          quantity += rollQuantity(i, random);
+        }
+      } else {
+        // 다음 드롭 직전까지 실패한 처치 수 = floor(ln(U) / ln(1 - p)), U ∈ (0, 1]
+        long kill = -1;
+        while (true) {
+          double misses = Math.floor(Math.log(1.0 - random.nextDouble()) / logMissRates[i]);
+          kill += 1 + (long) Math.min(misses, kills);
+          if (kill >= kills) {
+            break;
+          }
+          quantity += rollQuantity(i, random);
+        }
+      }
+      totals[i] += quantity;
+      total += quantity;
+    }
+    return total;
+  }
+
+  private int rollQuantity(int index, RandomUtils random) {
+    return quantitySpans[index] == 1 ? minQuantities[index] : minQuantities[index] + random.nextInt(quantitySpans[index]);
+  }
+
+  public int size() {
+    return itemIds.length;
+  }
+
+  public boolean isEmpty() {
+    return itemIds.length == 0;
+  }
+
+  public String getItemId(int index) {
+    return itemIds[index];
+  }
+
+  public double getDropRate(int index) {
+    return dropRates[index];
+  }
+
+  /**
+   * 처치 한 번당 기대 수량
+   */
+  public double getExpectedQuantity(int index) {
+    return dropRates[index] * (minQuantities[index] + (quantitySpans[index] - 1) / 2.0);
+  }
+}
@@ -0,0 +1,225 @@
+package rpg.domain.monster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.shared.constant.GameConstants;
+
+/**
+ * 몬스터 한 종류의 특수 능력을 발동 시점별 배열로 컴파일한 결과
+ * - 능력 이름은 템플릿을 만들 때(로드 시) 한 번만 키워드 규칙으로 해석하고, 전투 중에는 배열만 순회
+ * - 해석하지 못한 능력(점프, 상품 판매 등 전투와 무관한 능력)은 발동하지 않음
+ * - 생성 후 변경되지 않으므로 여러 템플릿/스레드에서 공유 가능
+ */
+public final class MonsterAbilities {
+  private static final Logger logger = LoggerFactory.getLogger(MonsterAbilities.class);
+  private static final MonsterAbility[] NONE = new MonsterAbility[0];
+
+  public static final MonsterAbilities EMPTY = new MonsterAbilities(NONE, NONE, NONE, List.of());
+
+  private static final int CRITICAL_BONUS = (int) Math.round((GameConstants.CRITICAL_DAMAGE_MULTIPLIER - 1) * 100);
+
+  /**
+   * 능력 이름 해석 규칙: 이름에 키워드가 포함되면 해당 효과 (위에서부터 먼저 일치한 규칙 적용)
+   */
+  private record Rule(String keyword, AbilityEffect effect, int power) {
+  }
+
+  //@formatter:off
+  private static final Rule[] RULES = {
+      new Rule("흡수", AbilityEffect.DRAIN, 50)
+    , new Rule("불멸", AbilityEffect.REGENERATE, GameConstants.REGENERATION_AMOUNT * 2)
+    , new Rule("완전 재생", AbilityEffect.REGENERATE, GameConstants.REGENERATION_AMOUNT * 2)
+    , new Rule("재생", AbilityEffect.REGENERATE, GameConstants.REGENERATION_AMOUNT)
+    , new Rule("치유", AbilityEffect.RECOVER, 20)
+    , new Rule("축복", AbilityEffect.RECOVER, 15)
+    , new Rule("정화", AbilityEffect.RECOVER, 15)
+    , new Rule("방벽", AbilityEffect.GUARD, 30)
+    , new Rule("무효화", AbilityEffect.GUARD, 40)
+    , new Rule("저항", AbilityEffect.GUARD, 20)
+    , new Rule("견고", AbilityEffect.GUARD, 25)
+    , new Rule("은신", AbilityEffect.EVADE, 25)
+    , new Rule("투명", AbilityEffect.EVADE, 30)
+    , new Rule("이동", AbilityEffect.EVADE, 25) // 순간이동, 차원 이동, 그림자 이동
+    , new Rule("위장", AbilityEffect.EVADE, 20)
+    , new Rule("분신", AbilityEffect.EVADE, 20)
+    , new Rule("모래 속", AbilityEffect.EVADE, 20)
+    , new Rule("비행", AbilityEffect.EVADE, 15)
+    , new Rule("도망", AbilityEffect.EVADE, 10)
+    , new Rule("독", AbilityEffect.POISON, 3)
+    , new Rule("질병", AbilityEffect.POISON, 2)
+    , new Rule("화염", AbilityEffect.BURN, 4)
+    , new Rule("불의", AbilityEffect.BURN, 4)
+    , new Rule("용암", AbilityEffect.BURN, 5)
+    , new Rule("지옥", AbilityEffect.BURN, 6)
+    , new Rule("열기", AbilityEffect.BURN, 3)
+    , new Rule("공포", AbilityEffect.INTIMIDATE, 150)
+    , new Rule("위압", AbilityEffect.INTIMIDATE, 150)
+    , new Rule("지배", AbilityEffect.INTIMIDATE, 150)
+    , new Rule("포효", AbilityEffect.INTIMIDATE, 100)
+    , new Rule("오라", AbilityEffect.INTIMIDATE, 100)
+    , new Rule("절망", AbilityEffect.INTIMIDATE, 100)
+    , new Rule("초음파", AbilityEffect.INTIMIDATE, 100)
+    , new Rule("속박", AbilityEffect.SUNDER, 150)
+    , new Rule("거미줄", AbilityEffect.SUNDER, 150)
+    , new Rule("시간", AbilityEffect.SUNDER, 200)
+    , new Rule("왜곡", AbilityEffect.SUNDER, 150)
+    , new Rule("지진", AbilityEffect.SUNDER, 100)
+    , new Rule("흔들기", AbilityEffect.SUNDER, 100)
+    , new Rule("압력", AbilityEffect.SUNDER, 100)
+    , new Rule("치명타", AbilityEffect.STRIKE, CRITICAL_BONUS)
+    , new Rule("숨결", AbilityEffect.STRIKE, 50)
+    , new Rule("분노", AbilityEffect.STRIKE, 40)
+    , new Rule("붕괴", AbilityEffect.STRIKE, 40)
+    , new Rule("폭발", AbilityEffect.STRIKE, 40)
+    , new Rule("번개", AbilityEffect.STRIKE, 40)
+    , new Rule("소환", AbilityEffect.STRIKE, 30)
+    , new Rule("함성", AbilityEffect.STRIKE, 30)
+    , new Rule("무리", AbilityEffect.STRIKE, 30)
+    , new Rule("검술", AbilityEffect.STRIKE, 30)
+    , new Rule("마법", AbilityEffect.STRIKE, 30)
+    , new Rule("광선", AbilityEffect.STRIKE, 30)
+    , new Rule("미사일", AbilityEffect.STRIKE, 30)
+    , new Rule("화살", AbilityEffect.STRIKE, 30)
+    , new Rule("빛", AbilityEffect.STRIKE, 30)
+    , new Rule("힘", AbilityEffect.STRIKE, 30)
+    , new Rule("공격", AbilityEffect.STRIKE, 25)
+    , new Rule("발톱", AbilityEffect.STRIKE, 25)
+    , new Rule("주먹", AbilityEffect.STRIKE, 25)
+    , new Rule("턱", AbilityEffect.STRIKE, 25)
+    , new Rule("이빨", AbilityEffect.STRIKE, 25)
+    , new Rule("채찍", AbilityEffect.STRIKE, 25)
+    , new Rule("돌진", AbilityEffect.STRIKE, 25)
+    , new Rule("박치기", AbilityEffect.STRIKE, 25)
+    , new Rule("급강하", AbilityEffect.STRIKE, 25)
+    , new Rule("던지기", AbilityEffect.STRIKE, 20)
+    , new Rule("발사", AbilityEffect.STRIKE, 20)
+    , new Rule("물대포", AbilityEffect.STRIKE, 20)
+    , new Rule("물줄기", AbilityEffect.STRIKE, 20)
+    , new Rule("분사", AbilityEffect.STRIKE, 20)
+    , new Rule("소용돌이", AbilityEffect.STRIKE, 20)
+  };
+  //@formatter:on
+
+  /** 능력 이름 → 해석 결과 (같은 이름은 같은 인스턴스 공유) */
+  private static final Map<String, MonsterAbility> RESOLVED = new ConcurrentHashMap<>();
+  /** 해석하지 못한 능력 이름 (한 번만 로그) */
+  private static final Set<String> UNRESOLVED = ConcurrentHashMap.newKeySet();
+
+  private final MonsterAbility[] onTurnStart;
+  private final MonsterAbility[] onAttack;
+  private final MonsterAbility[] onHit;
+  private final List<MonsterAbility> all;
+
+  private MonsterAbilities(MonsterAbility[] onTurnStart, MonsterAbility[] onAttack, MonsterAbility[] onHit, List<MonsterAbility> all) {
+    this.onTurnStart = onTurnStart;
+    this.onAttack = onAttack;
+    this.onHit = onHit;
+    this.all = all;
+  }
+
+  /**
+   * 능력 이름 목록을 발동 시점별 배열로 컴파일합니다.
+   */
+  public static MonsterAbilities compile(List<String> abilityNames) {
+    if (abilityNames == null || abilityNames.isEmpty()) {
+      return EMPTY;
+    }
+
+    List<MonsterAbility> resolved = new ArrayList<>(abilityNames.size());
+    for (String name : abilityNames) {
+      MonsterAbility ability = resolve(name);
+      if (ability != null) {
+        resolved.add(ability);
+      }
+    }
+    if (resolved.isEmpty()) {
+      return EMPTY;
+    }
+    return new MonsterAbilities(filter(resolved, AbilityTrigger.TURN_START), filter(resolved, AbilityTrigger.ATTACK), filter(resolved, AbilityTrigger.HIT),
+        Collections.unmodifiableList(resolved));
+  }
+
+  /**
+   * 능력 이름 하나를 해석합니다.
+   *
+   * @return 해석한 능력, 전투 효과가 없는 이름이면 null
+   */
+  public static MonsterAbility resolve(String name) {
+    if (name == null || name.isBlank()) {
+      return null;
+    }
+    String key = name.trim();
+    MonsterAbility cached = RESOLVED.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    for (Rule rule : RULES) {
+      if (key.contains(rule.keyword())) {
+        return RESOLVED.computeIfAbsent(key, k -> new MonsterAbility(k, rule.effect(), rule.power()));
+      }
+    }
+    if (UNRESOLVED.add(key)) {
+      logger.debug("전투 효과가 없는 몬스터 능력: {}", key);
+    }
+    return null;
+  }
+
+  private static MonsterAbility[] filter(List<MonsterAbility> abilities, AbilityTrigger trigger) {
+    int count = 0;
+    for (MonsterAbility ability : abilities) {
+      if (ability.trigger() == trigger) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return NONE;
+    }
+    MonsterAbility[] result = new MonsterAbility[count];
+    int index = 0;
+    for (MonsterAbility ability : abilities) {
+      if (ability.trigger() == trigger) {
+        result[index++] = ability;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 턴 시작 시 발동하는 능력 (전투 엔진 전용, 배열을 수정하지 말 것)
+   */
+  public MonsterAbility[] onTurnStart() {
+    return onTurnStart;
+  }
+
+  /**
+   * 공격 시 발동하는 능력 (전투 엔진 전용, 배열을 수정하지 말 것)
+   */
+  public MonsterAbility[] onAttack() {
+    return onAttack;
+  }
+
+  /**
+   * 피격 시 발동하는 능력 (전투 엔진 전용, 배열을 수정하지 말 것)
+   */
+  public MonsterAbility[] onHit() {
+    return onHit;
+  }
+
+  /**
+   * 전투 효과가 있는 모든 능력 (읽기 전용)
+   */
+  public List<MonsterAbility> getAll() {
+    return all;
+  }
+
+  public boolean isEmpty() {
+    return all.isEmpty();
+  }
+}
@@ -0,0 +1,21 @@
+package rpg.domain.monster;
+
+/**
+ * 로드 시 능력 이름을 해석해 만든 특수 능력 (이름, 효과 핸들러, 수치)
+ * - 같은 이름의 능력은 모든 템플릿이 같은 인스턴스를 공유
+ */
+public record MonsterAbility(String name, AbilityEffect effect, int power) {
+
+  public AbilityTrigger trigger() {
+    return effect.getTrigger();
+  }
+
+  /**
+   * 능력을 발동합니다.
+   *
+   * @return 발동했으면 true
+   */
+  public boolean apply(AbilityContext context) {
+    return effect.apply(context, power);
+  }
+}
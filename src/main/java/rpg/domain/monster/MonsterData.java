@@ -3,6 +3,7 @@ package rpg.domain.monster;
 import java.util.List;
 import java.util.Map;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class MonsterData {
@@ -18,6 +19,8 @@ public class MonsterData {
   private String rarity; // COMMON, UNCOMMON, RARE, EPIC, LEGENDARY
   private List<String> abilities; // 특수 능력
   private Map<String, Object> properties; // 확장 가능한 속성
+  private volatile MonsterTemplate template; // 전투 인스턴스가 공유하는 불변 템플릿 (처음 필요할 때 생성)
+  private volatile DropTable dropTable; // 컴파일된 드롭 테이블 (처음 필요할 때 생성)
 
   @JsonCreator
   public MonsterData(
@@ -98,4 +101,30 @@ public class MonsterData {
   public Map<String, Object> getProperties() {
     return properties;
   }
+
+  /**
+   * 이 데이터로 만든 몬스터 템플릿 (한 번만 생성해 모든 전투 인스턴스가 공유)
+   */
+  @JsonIgnore
+  public MonsterTemplate getTemplate() {
+    MonsterTemplate current = template;
+    if (current == null) {
+      current = MonsterTemplate.fromMonsterData(this);
+      template = current;
+    }
+    return current;
+  }
+
+  /**
+   * 이 데이터의 드롭 항목을 컴파일한 드롭 테이블 (한 번만 생성해 공유)
+   */
+  @JsonIgnore
+  public DropTable getDropTable() {
+    DropTable current = dropTable;
+    if (current == null) {
+      current = DropTable.compile(id, rewards != null ? rewards.getDropItems() : null);
+      dropTable = current;
+    }
+    return current;
+  }
 }
@@ -0,0 +1,76 @@
+package rpg.domain.monster;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+/**
+ * 전투용 Monster 인스턴스 풀
+ * - 반납된 인스턴스를 다른 템플릿으로 다시 초기화해 재사용하므로 대량 시뮬레이션/다중 몬스터 전투에서 생성 비용이 없음
+ * - 상태 효과 슬롯도 인스턴스와 함께 재사용됨
+ * - 스레드 안전하지 않으므로 엔진/시뮬레이터 스레드마다 하나씩 사용
+ */
+public final class MonsterPool {
+  public static final int DEFAULT_MAX_IDLE = 16;
+
+  private final ArrayDeque<Monster> idle;
+  private final int maxIdle;
+  private int created;
+
+  public MonsterPool() {
+    this(DEFAULT_MAX_IDLE);
+  }
+
+  /**
+   * @param maxIdle 보관할 최대 유휴 인스턴스 수 (넘치면 반납된 인스턴스를 버림)
+   */
+  public MonsterPool(int maxIdle) {
+    if (maxIdle < 1) {
+      throw new IllegalArgumentException("풀 크기는 1 이상이어야 합니다: " + maxIdle);
+    }
+    this.maxIdle = maxIdle;
+    this.idle = new ArrayDeque<>(maxIdle);
+  }
+
+  /**
+   * 템플릿의 최대 HP로 초기화된 인스턴스를 꺼냅니다.
+   */
+  public Monster acquire(MonsterTemplate template) {
+    Monster monster = idle.pollFirst();
+    if (monster == null) {
+      created++;
+      return new Monster(template);
+    }
+    monster.reset(template);
+    return monster;
+  }
+
+  public Monster acquire(MonsterData data) {
+    return acquire(data.getTemplate());
+  }
+
+  /**
+   * 인스턴스를 반납합니다. 반납한 뒤에는 사용하면 안 됩니다.
+   */
+  public void release(Monster monster) {
+    if (monster != null && idle.size() < maxIdle) {
+      idle.offerFirst(monster);
+    }
+  }
+
+  public void releaseAll(Collection<Monster> monsters) {
+    for (Monster monster : monsters) {
+      release(monster);
+    }
+  }
+
+  /**
+   * 지금까지 새로 생성한 인스턴스 수
+   */
+  public int getCreatedCount() {
+    return created;
+  }
+
+  public int getIdleCount() {
+    return idle.size();
+  }
+}
@@ -0,0 +1,57 @@
+package rpg.domain.monster;
+
+/**
+ * 몬스터 희귀도 (monsters.json의 rarity 값)
+ */
+public enum MonsterRarity {
+  //@formatter:off
+  //                             성장 곡선 HP    공격  방어  경험치 골드 (레벨당 만분율)
+    COMMON   ("일반", "⚪", new MonsterStatCurve(1000, 600, 500, 800, 800))
+  , UNCOMMON ("고급", "🟢", new MonsterStatCurve( 900, 600, 500, 800, 800))
+  , RARE     ("희귀", "🔵", new MonsterStatCurve( 800, 500, 400, 700, 700))
+  , EPIC     ("영웅", "🟣", new MonsterStatCurve( 700, 500, 400, 600, 600))
+  , LEGENDARY("전설", "🟡", new MonsterStatCurve( 600, 400, 300, 500, 500))
+  , MYTHICAL ("신화", "🔴", new MonsterStatCurve( 500, 300, 300, 400, 400))
+  , SPECIAL  ("특수", "❓", new MonsterStatCurve(   0,   0,   0,   0,   0)) // 상인 등 전투 대상이 아닌 몬스터, 성장하지 않음
+  ;
+  //@formatter:on
+
+  private final String displayName;
+  private final String emoji;
+  private final MonsterStatCurve statCurve;
+
+  MonsterRarity(String displayName, String emoji, MonsterStatCurve statCurve) {
+    this.displayName = displayName;
+    this.emoji = emoji;
+    this.statCurve = statCurve;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  public String getEmoji() {
+    return emoji;
+  }
+
+  public MonsterStatCurve getStatCurve() {
+    return statCurve;
+  }
+
+  /**
+   * 희귀도 문자열로 찾습니다. (대소문자 무시)
+   *
+   * @return 일치하는 희귀도, 없으면 null
+   */
+  public static MonsterRarity fromKey(String key) {
+    if (key != null) {
+      String trimmed = key.trim();
+      for (MonsterRarity rarity : values()) {
+        if (rarity.name().equalsIgnoreCase(trimmed)) {
+          return rarity;
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,63 @@
+package rpg.domain.monster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import rpg.shared.util.AliasTable;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 출현 확률(spawnRate) 가중치 기반 몬스터 추첨 테이블
+ * - AliasTable(Walker 별칭 방식)로 추첨은 난수 한 번, O(1), 객체 생성 없음
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능
+ */
+public final class MonsterSpawnTable {
+  private final MonsterData[] monsters;
+  private final int[] ordinals; // 출현 인덱스 안에서의 몬스터 순번 (레벨별 능력치 표 조회용)
+  private final AliasTable aliasTable;
+
+  /**
+   * @param monsters 추첨 대상 (비어 있으면 안 됨)
+   * @param ordinals monsters와 같은 순서의 몬스터 순번
+   */
+  public MonsterSpawnTable(List<MonsterData> monsters, int[] ordinals) {
+    if (monsters == null || monsters.isEmpty()) {
+      throw new IllegalArgumentException("추첨할 몬스터가 없습니다.");
+    }
+    if (ordinals == null || ordinals.length != monsters.size()) {
+      throw new IllegalArgumentException("몬스터 순번 수가 추첨 대상 수와 다릅니다.");
+    }
+    this.monsters = monsters.toArray(new MonsterData[0]);
+    this.ordinals = ordinals.clone();
+    double[] weights = new double[this.monsters.length];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = this.monsters[i].getSpawnRate();
+    }
+    this.aliasTable = new AliasTable(weights);
+  }
+
+  /**
+   * 가중치에 따라 몬스터 하나를 추첨합니다.
+   */
+  public MonsterData pick(RandomUtils random) {
+    return monsters[aliasTable.pick(random)];
+  }
+
+  /**
+   * 가중치에 따라 몬스터 하나를 추첨해 순번을 반환합니다. (pick과 같은 분포, 같은 난수 소비)
+   */
+  public int pickOrdinal(RandomUtils random) {
+    return ordinals[aliasTable.pick(random)];
+  }
+
+  public int size() {
+    return monsters.length;
+  }
+
+  /**
+   * 추첨 대상 목록 (읽기 전용)
+   */
+  public List<MonsterData> getMonsters() {
+    return Collections.unmodifiableList(Arrays.asList(monsters));
+  }
+}
@@ -0,0 +1,53 @@
+package rpg.domain.monster;
+
+/**
+ * 몬스터 등급별 레벨 성장 곡선 (등급마다 하나씩 MonsterRarity에 정의)
+ * - JSON의 stats/rewards는 최소 레벨(minLevel) 기준 값이고, 한 레벨 오를 때마다 기준 값의 일정 비율(만분율)만큼 선형으로 증가
+ * - 기준 값이 큰 상위 등급일수록 성장 비율은 낮음
+ * - 실제 레벨별 값은 몬스터 데이터 로드 시 한 번 계산해 표로 만들어 두고 사용 (MonsterLevelTable)
+ */
+public final class MonsterStatCurve {
+  private static final int BASIS_POINTS = 10_000;
+
+  private final int hpGrowth;
+  private final int attackGrowth;
+  private final int defenseGrowth;
+  private final int expGrowth;
+  private final int goldGrowth;
+
+  MonsterStatCurve(int hpGrowth, int attackGrowth, int defenseGrowth, int expGrowth, int goldGrowth) {
+    this.hpGrowth = hpGrowth;
+    this.attackGrowth = attackGrowth;
+    this.defenseGrowth = defenseGrowth;
+    this.expGrowth = expGrowth;
+    this.goldGrowth = goldGrowth;
+  }
+
+  public int scaleHp(int base, int levelsAboveMin) {
+    return Math.max(1, scale(base, hpGrowth, levelsAboveMin));
+  }
+
+  public int scaleAttack(int base, int levelsAboveMin) {
+    return scale(base, attackGrowth, levelsAboveMin);
+  }
+
+  public int scaleDefense(int base, int levelsAboveMin) {
+    return scale(base, defenseGrowth, levelsAboveMin);
+  }
+
+  public int scaleExp(int base, int levelsAboveMin) {
+    return scale(base, expGrowth, levelsAboveMin);
+  }
+
+  public int scaleGold(int base, int levelsAboveMin) {
+    return scale(base, goldGrowth, levelsAboveMin);
+  }
+
+  private static int scale(int base, int growth, int levelsAboveMin) {
+    if (levelsAboveMin <= 0 || growth == 0) {
+      return base;
+    }
+    long scaled = (long) base * (BASIS_POINTS + (long) growth * levelsAboveMin);
+    return (int) Math.min(Integer.MAX_VALUE, (scaled + BASIS_POINTS / 2) / BASIS_POINTS);
+  }
+}
@@ -0,0 +1,247 @@
+package rpg.domain.monster;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.shared.constant.GameConstants;
+
+/**
+ * 몬스터 종류별 불변 정보 (이름, 능력치, 보상, 능력, 출현 정보)
+ * - MonsterData 하나당 한 번만 만들어 모든 전투 인스턴스(Monster)가 공유
+ * - 전투 중 바뀌는 값(현재 HP, 상태 효과)은 Monster가 가짐
+ */
+public final class MonsterTemplate {
+  private static final Logger logger = LoggerFactory.getLogger(MonsterTemplate.class);
+
+  private final String id;
+  private final String name;
+  private final String description;
+  private final int level; // 이 템플릿의 몬스터 레벨 (기본 템플릿은 최소 레벨)
+  private final int maxHp;
+  private final int attack;
+  private final int defense;
+  private final int speed;
+  private final double criticalRate;
+  private final int expReward;
+  private final int goldReward;
+  private final String rarity;
+  private final List<String> abilities;
+  private final MonsterAbilities compiledAbilities; // 로드 시 해석한 능력 핸들러 (발동 시점별 배열)
+  private final List<String> locations;
+  private final int minLevel;
+  private final int maxLevel;
+  private final double spawnRate;
+  private final Map<String, Object> properties;
+  private final MonsterData sourceData;
+
+  //@formatter:off
+  private MonsterTemplate(String id, String name, String description, int level, int maxHp, int attack, int defense, int speed, double criticalRate
+      , int expReward, int goldReward, String rarity, List<String> abilities, List<String> locations, int minLevel, int maxLevel
+      , double spawnRate, Map<String, Object> properties, MonsterData sourceData) {
+  //@formatter:on
+    validateBasicFields(name, maxHp, attack, expReward, goldReward);
+    this.id = id;
+    this.name = name.trim();
+    this.description = description;
+    this.level = level;
+    this.maxHp = maxHp;
+    this.attack = attack;
+    this.defense = defense;
+    this.speed = speed;
+    this.criticalRate = criticalRate;
+    this.expReward = expReward;
+    this.goldReward = goldReward;
+    this.rarity = rarity;
+    this.abilities = Collections.unmodifiableList(abilities);
+    this.compiledAbilities = MonsterAbilities.compile(abilities);
+    this.locations = Collections.unmodifiableList(locations);
+    this.minLevel = minLevel;
+    this.maxLevel = maxLevel;
+    this.spawnRate = spawnRate;
+    this.properties = Collections.unmodifiableMap(properties);
+    this.sourceData = sourceData;
+  }
+
+  /**
+   * JSON 몬스터 데이터로 템플릿을 만듭니다. 보통은 캐시된 MonsterData.getTemplate()을 사용합니다.
+   */
+  public static MonsterTemplate fromMonsterData(MonsterData data) {
+    if (data == null) {
+      throw new IllegalArgumentException("MonsterData는 null일 수 없습니다.");
+    }
+    MonsterStats stats = data.getStats();
+    MonsterRewards rewards = data.getRewards();
+    return of(data.getId(), data.getName(), stats.getHp(), stats.getAttack(), rewards.getExp(), rewards.getGold(), data);
+  }
+
+  /**
+   * MonsterData를 바탕으로 하되 HP/공격력/보상을 지정한 템플릿을 만듭니다. (data가 null이면 기본 확장 정보 사용)
+   */
+  public static MonsterTemplate of(String id, String name, int hp, int attack, int expReward, int goldReward, MonsterData data) {
+    if (data == null) {
+      MonsterTemplate basic = basic(name, hp, attack, expReward, goldReward);
+      return id == null ? basic : new MonsterTemplate(id, basic.name, basic.description, basic.level, hp, attack, basic.defense, basic.speed, basic.criticalRate,
+          expReward, goldReward, basic.rarity, basic.abilities, basic.locations, basic.minLevel, basic.maxLevel, basic.spawnRate, basic.properties, null);
+    }
+
+    MonsterStats stats = data.getStats();
+    //@formatter:off
+    return new MonsterTemplate(id, name, data.getDescription(), data.getMinLevel(), hp, attack, stats.getDefense(), stats.getSpeed(), stats.getCriticalRate()
+        , expReward, goldReward, data.getRarity(), data.getAbilities(), data.getLocations(), data.getMinLevel(), data.getMaxLevel()
+        , data.getSpawnRate(), data.getProperties(), data);
+    //@formatter:on
+  }
+
+  /**
+   * JSON 데이터 없이 기본 확장 정보로 템플릿을 만듭니다. (레거시/테스트용)
+   */
+  public static MonsterTemplate basic(String name, int hp, int attack, int expReward, int goldReward) {
+    validateBasicFields(name, hp, attack, expReward, goldReward);
+    String trimmed = name.trim();
+    //@formatter:off
+    return new MonsterTemplate("UNKNOWN_" + trimmed.toUpperCase().replace(" ", "_"), trimmed, trimmed + "에 대한 설명이 없습니다."
+        , 1, hp, attack, 1, 5, 0.05, expReward, goldReward, "COMMON", List.of(), List.of(), 1, 99, 1.0, Map.of(), null);
+    //@formatter:on
+  }
+
+  /**
+   * 특정 레벨로 성장한 능력치/보상을 적용한 템플릿을 만듭니다. (MonsterLevelTable이 로드 시 사용)
+   */
+  public static MonsterTemplate atLevel(MonsterData data, int level, int hp, int attack, int defense, int expReward, int goldReward) {
+    MonsterStats stats = data.getStats();
+    //@formatter:off
+    return new MonsterTemplate(data.getId(), data.getName(), data.getDescription(), level, hp, attack, defense, stats.getSpeed()
+        , stats.getCriticalRate(), expReward, goldReward, data.getRarity(), data.getAbilities(), data.getLocations(), data.getMinLevel()
+        , data.getMaxLevel(), data.getSpawnRate(), data.getProperties(), data);
+    //@formatter:on
+  }
+
+  private static void validateBasicFields(String name, int hp, int attack, int expReward, int goldReward) {
+    if (name == null || name.trim().isEmpty()) {
+      logger.error("몬스터 이름이 유효하지 않음: {}", name);
+      throw new IllegalArgumentException("몬스터 이름은 비어있을 수 없습니다.");
+    }
+
+    if (hp < GameConstants.NUMBER_ONE) {
+      logger.error("몬스터 HP가 유효하지 않음: {}", hp);
+      throw new IllegalArgumentException("몬스터 HP는 1 이상이어야 합니다.");
+    }
+
+    if (attack < GameConstants.NUMBER_ZERO) {
+      logger.error("몬스터 공격력이 유효하지 않음: {}", attack);
+      throw new IllegalArgumentException("몬스터 공격력은 0 이상이어야 합니다.");
+    }
+
+    if (expReward < GameConstants.NUMBER_ZERO) {
+      logger.error("몬스터 경험치 보상이 유효하지 않음: {}", expReward);
+      throw new IllegalArgumentException("경험치 보상은 0 이상이어야 합니다.");
+    }
+
+    if (goldReward < GameConstants.NUMBER_ZERO) {
+      logger.error("몬스터 골드 보상이 유효하지 않음: {}", goldReward);
+      throw new IllegalArgumentException("골드 보상은 0 이상이어야 합니다.");
+    }
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public int getMaxHp() {
+    return maxHp;
+  }
+
+  public int getAttack() {
+    return attack;
+  }
+
+  public int getDefense() {
+    return defense;
+  }
+
+  public int getSpeed() {
+    return speed;
+  }
+
+  public double getCriticalRate() {
+    return criticalRate;
+  }
+
+  public int getExpReward() {
+    return expReward;
+  }
+
+  public int getGoldReward() {
+    return goldReward;
+  }
+
+  public String getRarity() {
+    return rarity;
+  }
+
+  /**
+   * 특수 능력 목록 (읽기 전용)
+   */
+  public List<String> getAbilities() {
+    return abilities;
+  }
+
+  /**
+   * 능력 이름을 해석해 발동 시점별로 나눈 능력 핸들러
+   */
+  public MonsterAbilities getCompiledAbilities() {
+    return compiledAbilities;
+  }
+
+  /**
+   * 출현 지역 목록 (읽기 전용)
+   */
+  public List<String> getLocations() {
+    return locations;
+  }
+
+  public int getMinLevel() {
+    return minLevel;
+  }
+
+  public int getMaxLevel() {
+    return maxLevel;
+  }
+
+  public double getSpawnRate() {
+    return spawnRate;
+  }
+
+  /**
+   * 확장 속성 (읽기 전용)
+   */
+  public Map<String, Object> getProperties() {
+    return properties;
+  }
+
+  /**
+   * 원본 JSON 데이터 (없으면 null)
+   */
+  public MonsterData getSourceData() {
+    return sourceData;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MonsterTemplate{id='%s', name='%s', level=%d, hp=%d, attack=%d, defense=%d}", id, name, level, maxHp, attack, defense);
+  }
+}
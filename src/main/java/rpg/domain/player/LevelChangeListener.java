@@ -0,0 +1,18 @@
+package rpg.domain.player;
+
+/**
+ * 플레이어 레벨 변경 통지
+ * - 도메인은 이벤트 버스를 모르고, 엔진이 구현해서 LevelChangedEvent로 발행
+ */
+@FunctionalInterface
+public interface LevelChangeListener {
+
+  /**
+   * 한 번의 경험치 획득으로 레벨이 바뀌었을 때 호출됩니다.
+   *
+   * @param player 레벨이 바뀐 플레이어
+   * @param oldLevel 이전 레벨
+   * @param newLevel 새 레벨
+   */
+  void onLevelChanged(Player player, int oldLevel, int newLevel);
+}
@@ -4,10 +4,15 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import rpg.application.service.QuestManager;
 import rpg.application.service.SkillService;
+import rpg.domain.battle.BattleCalculator;
 import rpg.domain.inventory.PlayerInventory;
+import rpg.domain.status.StatusEffectType;
+import rpg.domain.status.StatusEffects;
+import rpg.shared.constant.BattleConstants;
 import rpg.shared.constant.GameConstants;
 
 /**
@@ -31,7 +36,9 @@ public class Player {
   private PlayerInventory inventory;
   private SkillService skillManager;
   private PlayerStatusCondition playerStatusCondition;
+  private final StatusEffects statusEffects = new StatusEffects(); // 전투 중 상태 효과 (저장하지 않음)
   private QuestManager questManager;
+  private LevelChangeListener levelChangeListener; // 설정되면 레벨 변경을 통지 (저장하지 않음)
 
   /**
    * 새 캐릭터 생성자
@@ -158,8 +165,10 @@ public class Player {
       leveledUp = true;
     }
 
-    // 레벨업 시 퀘스트 진행도 업데이트
-    if (leveledUp && questManager != null) {
+    // 레벨업 시 퀘스트 진행도 업데이트 (리스너가 있으면 리스너가 처리)
+    if (leveledUp && levelChangeListener != null) {
+      levelChangeListener.onLevelChanged(this, oldLevel, this.level);
+    } else if (leveledUp && questManager != null) {
       logger.debug("레벨업 감지: {} -> {} - 퀘스트 진행도 업데이트", oldLevel, this.level);
       questManager.updateLevelProgress(this);
     }
@@ -178,6 +187,15 @@ public class Player {
     return level * GameConstants.NUMBER_FIFTY;
   }
 
+  /**
+   * 레벨 1부터 지금까지 누적한 총 경험치를 반환합니다. (레벨업에 소모된 경험치 포함)
+   */
+  @JsonIgnore
+  public long getTotalExperience() {
+    long completedLevels = level - 1L;
+    return completedLevels * level / 2 * GameConstants.NUMBER_FIFTY + exp;
+  }
+
   /**
    * 레벨업을 처리합니다.
    */
@@ -295,13 +313,20 @@ public class Player {
     }
 
     int totalDefense = getTotalDefense();
-    int actualDamage = Math.max(damage - totalDefense, 1);
+    int actualDamage = BattleCalculator.mitigate(damage, totalDefense);
+    int absorbed = statusEffects.manaShieldAbsorb(actualDamage, mp);
+    if (absorbed > 0) {
+      mp -= absorbed;
+      actualDamage -= absorbed;
+    }
     int oldHp = this.hp;
     this.hp -= actualDamage;
     if (this.hp < GameConstants.NUMBER_ZERO)
       this.hp = GameConstants.NUMBER_ZERO;
 
-    logger.debug("{} 데미지 받음: {} -> {} (-{}, 방어력: {})", name, oldHp, this.hp, actualDamage, totalDefense);
+    if (logger.isDebugEnabled()) {
+      logger.debug("{} 데미지 받음: {} -> {} (-{}, 방어력: {})", name, oldHp, this.hp, actualDamage, totalDefense);
+    }
 
     if (!isAlive()) {
       logger.info("{} 사망", name);
@@ -321,32 +346,36 @@ public class Player {
    * 총 공격력을 반환합니다 (기본 공격력 + 장비 보너스).
    */
   public int getAttack() {
-    PlayerInventory.EquipmentBonus bonus = inventory.getTotalBonus();
-    return baseAttack + bonus.getAttackBonus();
+    return statusEffects.modifyAttack(baseAttack + inventory.getAttackBonus());
   }
 
   /**
    * 총 방어력을 반환합니다 (기본 방어력 + 장비 보너스).
    */
   public int getTotalDefense() {
-    PlayerInventory.EquipmentBonus bonus = inventory.getTotalBonus();
-    return baseDefense + bonus.getDefenseBonus();
+    return statusEffects.modifyDefense(baseDefense + inventory.getDefenseBonus());
+  }
+
+  /**
+   * 전투 행동 순서를 정하는 속도를 반환합니다 (기본 속도 + 레벨 보너스).
+   */
+  @JsonIgnore
+  public int getSpeed() {
+    return BattleConstants.PLAYER_BASE_SPEED + level * BattleConstants.PLAYER_SPEED_PER_LEVEL;
   }
 
   /**
    * 총 최대 HP을 반환합니다 (기본 최대 HP + 장비 보너스).
    */
   public int getTotalMaxHp() {
-    PlayerInventory.EquipmentBonus bonus = inventory.getTotalBonus();
-    return maxHp + bonus.getHpBonus();
+    return maxHp + inventory.getHpBonus();
   }
   
   /**
    * 총 최대 MP을 반환합니다 (기본 최대 MP + 장비 보너스).
    */
   public int getTotalMaxMp() {
-    PlayerInventory.EquipmentBonus bonus = inventory.getTotalBonus();
-    return maxMp + bonus.getMpBonus();
+    return maxMp + inventory.getMpBonus();
   }
 
   /**
@@ -401,9 +430,38 @@ public class Player {
     // 스킬 쿨다운 감소
     skillManager.reduceCooldowns();
 
+    // 상태 효과 진행 (재생/중독/화상 적용 후 만료 처리)
+    int hpDelta = statusEffects.tick();
+    if (hpDelta > 0) {
+      hp = Math.min(hp + hpDelta, getTotalMaxHp());
+    } else if (hpDelta < 0) {
+      hp = Math.max(hp + hpDelta, GameConstants.NUMBER_ZERO);
+    }
+    syncStatusCondition();
+
     logger.debug("{} 턴 종료 처리 완료", name);
   }
 
+  /**
+   * 전투 종료 시 상태 효과를 모두 해제합니다.
+   */
+  public void clearStatusEffects() {
+    statusEffects.clear();
+    syncStatusCondition();
+  }
+
+  /**
+   * 상태 효과에 맞춰 표시용 플레이어 상태를 갱신합니다. (효과가 관리하는 상태만 변경)
+   */
+  private void syncStatusCondition() {
+    StatusEffectType effect = statusEffects.getDominantConditionEffect();
+    if (effect != null) {
+      playerStatusCondition = effect.getCondition();
+    } else if (playerStatusCondition == PlayerStatusCondition.POISON || playerStatusCondition == PlayerStatusCondition.BURN) {
+      playerStatusCondition = PlayerStatusCondition.NORMAL;
+    }
+  }
+
   // Getters and Setters
   public String getName() {
     return name;
@@ -485,6 +543,11 @@ public class Player {
     this.skillManager = skillManager;
   }
 
+  @JsonIgnore
+  public StatusEffects getStatusEffects() {
+    return statusEffects;
+  }
+
   public PlayerStatusCondition getPlayerStatusCondition() {
     return playerStatusCondition;
   }
@@ -497,6 +560,14 @@ public class Player {
     return questManager;
   }
 
+  /**
+   * 레벨 변경 리스너를 설정합니다. (GameEngine이 세션 시작 시 이벤트 버스 발행으로 설정)
+   */
+  @JsonIgnore
+  public void setLevelChangeListener(LevelChangeListener levelChangeListener) {
+    this.levelChangeListener = levelChangeListener;
+  }
+
   public void setQuestManager(QuestManager questManager) {
     this.questManager = questManager != null ? questManager : new QuestManager();
   }
@@ -1,6 +1,7 @@
 package rpg.domain.shop;
 
 import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 상점 이벤트 타입을 정의하는 열거형
@@ -181,7 +182,7 @@ public enum ShopEvent {
    */
   public static ShopEvent getRandomEvent() {
     ShopEvent[] events = values();
-    return events[(int) (Math.random() * events.length)];
+    return events[RandomUtils.session().nextInt(events.length)];
   }
 
   /**
@@ -199,7 +200,7 @@ public enum ShopEvent {
         VIP_BONUS // 낮은 가중치 (강력한 이벤트)
     };
 
-    return weightedEvents[(int) (Math.random() * weightedEvents.length)];
+    return weightedEvents[RandomUtils.session().nextInt(weightedEvents.length)];
   }
 
   /**
@@ -209,15 +210,15 @@ public enum ShopEvent {
     if (playerLevel <= ItemConstants.BEGINNER_LEVEL) {
       // 초보자용 이벤트
       ShopEvent[] beginnerEvents = {DISCOUNT_SALE, FREE_POTION, BULK_DISCOUNT};
-      return beginnerEvents[(int) (Math.random() * beginnerEvents.length)];
+      return beginnerEvents[RandomUtils.session().nextInt(beginnerEvents.length)];
     } else if (playerLevel <= ItemConstants.INTERMEDIATE_LEVEL) {
       // 중급자용 이벤트
       ShopEvent[] intermediateEvents = {DISCOUNT_SALE, BONUS_SELL, LUCKY_DRAW, RARE_ITEMS};
-      return intermediateEvents[(int) (Math.random() * intermediateEvents.length)];
+      return intermediateEvents[RandomUtils.session().nextInt(intermediateEvents.length)];
     } else {
       // 고급자용 이벤트
       ShopEvent[] advancedEvents = {DOUBLE_DISCOUNT, VIP_BONUS, RARE_ITEMS, LUCKY_DRAW};
-      return advancedEvents[(int) (Math.random() * advancedEvents.length)];
+      return advancedEvents[RandomUtils.session().nextInt(advancedEvents.length)];
     }
   }
 }
@@ -3,9 +3,12 @@ package rpg.domain.skill;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import rpg.domain.battle.BattleCalculator;
 import rpg.domain.monster.Monster;
 import rpg.domain.player.Player;
+import rpg.domain.status.StatusEffectType;
 import rpg.shared.constant.GameConstants;
 
 /**
@@ -22,8 +25,13 @@ public class Skill {
   private int manaCost;
   private int cooldown; // 쿨다운 턴 수
   private double damageMultiplier; // 공격 스킬의 데미지 배율
+  private int damageMultiplierPermille; // 데미지 배율 (천분율, damageMultiplier에서 미리 계산)
   private int healAmount; // 힐 스킬의 회복량
   private int buffDuration; // 버프 지속 턴 수
+  private StatusEffectType statusEffect; // 적용할 상태 효과 (없으면 null)
+  private int statusEffectValue; // 상태 효과 중첩당 수치
+  private int statusEffectDuration; // 상태 효과 지속 턴 수
+  private boolean areaEffect; // 광역 스킬 여부 (살아 있는 모든 적에게 적용)
 
 
   @JsonCreator
@@ -49,9 +57,25 @@ public class Skill {
     this.manaCost = manaCost;
     this.cooldown = cooldown;
     this.damageMultiplier = damageMultiplier;
+    this.damageMultiplierPermille = BattleCalculator.toPermille(damageMultiplier);
     this.healAmount = healAmount;
     this.buffDuration = buffDuration;
+    this.statusEffectDuration = buffDuration;
   }
+
+  /**
+   * 상태 효과를 설정합니다. (SkillFactory에서 스킬 데이터의 effect로 설정)
+   *
+   * @param statusEffect 효과 종류
+   * @param value 중첩당 수치 (StatusEffectType 설명 참고)
+   * @param duration 지속 턴 수 (0 이하이면 buffDuration 사용)
+   */
+  public void configureStatusEffect(StatusEffectType statusEffect, int value, int duration) {
+    this.statusEffect = statusEffect;
+    this.statusEffectValue = value;
+    this.statusEffectDuration = duration > 0 ? duration : buffDuration;
+  }
+
   /**
    * 기존 생성자 (하위 호환성)
    */
@@ -71,6 +95,18 @@ public class Skill {
    * @return 스킬 사용 결과
    */
   public SkillResult useSkill(Player caster, Monster target) {
+    return useSkill(caster, target, SkillHitHandler.NONE);
+  }
+
+  /**
+   * 스킬을 사용합니다. 공격 스킬 데미지는 대상에게 적용하기 전에 hitHandler로 조정합니다.
+   *
+   * @param caster 스킬 시전자
+   * @param target 대상 (몬스터)
+   * @param hitHandler 명중 직전 데미지 조정 (전투 엔진의 피격 시 능력)
+   * @return 스킬 사용 결과
+   */
+  public SkillResult useSkill(Player caster, Monster target, SkillHitHandler hitHandler) {
     if (caster.getMp() < manaCost) {
       return new SkillResult(false, "마나가 부족합니다!", 0);
     }
@@ -79,7 +115,7 @@ public class Skill {
 
     switch (type) {
       case ATTACK:
-        return useAttackSkill(caster, target);
+        return useAttackSkill(caster, target, hitHandler);
       case HEAL:
         return useHealSkill(caster);
       case BUFF:
@@ -90,9 +126,36 @@ public class Skill {
         return new SkillResult(false, "알 수 없는 스킬 타입입니다.", GameConstants.NUMBER_ZERO);
     }
   }
-  private SkillResult useAttackSkill(Player caster, Monster target) {
-    int damage = (int) (caster.getAttack() * damageMultiplier);
-    int actualDamage = target.takeDamage(damage);
+  /**
+   * 광역 스킬의 추가 대상에게 효과를 적용합니다. (마나는 첫 대상에 사용할 때 이미 소모됨)
+   *
+   * @param caster 스킬 시전자
+   * @param target 추가 대상 몬스터
+   * @param hitHandler 명중 직전 데미지 조정 (전투 엔진의 피격 시 능력)
+   * @return 스킬 사용 결과
+   */
+  public SkillResult applyToAdditionalTarget(Player caster, Monster target, SkillHitHandler hitHandler) {
+    switch (type) {
+      case ATTACK:
+        return useAttackSkill(caster, target, hitHandler);
+      case DEBUFF:
+        return useDebuffSkill(target);
+      default:
+        return new SkillResult(false, "추가 대상에게 적용할 수 없는 스킬입니다.", GameConstants.NUMBER_ZERO);
+    }
+  }
+
+  private SkillResult useAttackSkill(Player caster, Monster target, SkillHitHandler hitHandler) {
+    int damage = BattleCalculator.skillDamage(caster.getAttack(), damageMultiplierPermille);
+    int hitDamage = hitHandler.onHit(target, damage);
+    if (hitDamage <= 0) {
+      logger.debug("공격 스킬 회피됨: {} -> {}", name, target.getName());
+      return new SkillResult(true, String.format("%s이(가) %s의 %s을(를) 피했습니다!", target.getName(), caster.getName(), name), damage);
+    }
+    int actualDamage = target.takeDamage(hitDamage);
+    if (statusEffect != null && !statusEffect.isBeneficial() && target.isAlive()) {
+      target.getStatusEffects().apply(statusEffect, statusEffectValue, statusEffectDuration);
+    }
 
     String message = String.format("%s이(가) %s을(를) 사용하여 %s에게 %d의 데미지를 입혔습니다!", 
                                    caster.getName(), name, target.getName(), actualDamage);
@@ -114,19 +177,28 @@ public class Skill {
   }
 
   private SkillResult useBuffSkill(Player caster) {
-    String message = String.format("%s이(가) %s을(를) 사용했습니다! (%d턴 지속)", 
-                                   caster.getName(), name, buffDuration);
+    int stacks = 0;
+    if (statusEffect != null) {
+      stacks = caster.getStatusEffects().apply(statusEffect, statusEffectValue, statusEffectDuration);
+    }
+
+    String message = String.format("%s이(가) %s을(를) 사용했습니다! (%d턴 지속%s)", 
+                                   caster.getName(), name, statusEffectDuration, stacks > 1 ? ", " + stacks + "중첩" : "");
 
-    // TODO: 실제 버프 효과 적용 로직 구현
-    logger.debug("버프 스킬 사용: {} (지속시간: {}턴)", name, buffDuration);
+    logger.debug("버프 스킬 사용: {} (효과: {}, 지속시간: {}턴, 중첩: {})", name, statusEffect, statusEffectDuration, stacks);
     return new SkillResult(true, message, 0);
   }
 
   private SkillResult useDebuffSkill(Monster target) {
-    String message = String.format("%s에게 %s을(를) 사용했습니다!", target.getName(), name);
+    int stacks = 0;
+    if (statusEffect != null) {
+      stacks = target.getStatusEffects().apply(statusEffect, statusEffectValue, statusEffectDuration);
+    }
 
-    // TODO: 실제 디버프 효과 적용 로직 구현
-    logger.debug("디버프 스킬 사용: {} -> {}", name, target.getName());
+    String message = String.format("%s에게 %s을(를) 사용했습니다! (%d턴 지속%s)", target.getName(), name, statusEffectDuration,
+        stacks > 1 ? ", " + stacks + "중첩" : "");
+
+    logger.debug("디버프 스킬 사용: {} -> {} (효과: {}, 중첩: {})", name, target.getName(), statusEffect, stacks);
     return new SkillResult(true, message, 0);
   }
 
@@ -148,9 +220,12 @@ public class Skill {
         break;
       case BUFF:
       case DEBUFF:
-        info.append("지속 시간: ").append(buffDuration).append("턴");
+        info.append("지속 시간: ").append(statusEffectDuration).append("턴");
         break;
     }
+    if (statusEffect != null) {
+      info.append("\n상태 효과: ").append(statusEffect.getDisplayName());
+    }
 
     return info.toString();
   }
@@ -218,6 +293,7 @@ public class Skill {
 
  public void setDamageMultiplier(double damageMultiplier) {
    this.damageMultiplier = damageMultiplier;
+   this.damageMultiplierPermille = BattleCalculator.toPermille(damageMultiplier);
  }
 
  public int getHealAmount() {
@@ -236,6 +312,30 @@ public class Skill {
    this.buffDuration = buffDuration;
  }
 
+ @JsonIgnore
+ public boolean isAreaEffect() {
+   return areaEffect;
+ }
+
+ public void setAreaEffect(boolean areaEffect) {
+   this.areaEffect = areaEffect;
+ }
+
+ @JsonIgnore
+ public StatusEffectType getStatusEffect() {
+   return statusEffect;
+ }
+
+ @JsonIgnore
+ public int getStatusEffectValue() {
+   return statusEffectValue;
+ }
+
+ @JsonIgnore
+ public int getStatusEffectDuration() {
+   return statusEffectDuration;
+ }
+
  @Override
  public String toString() {
    return String.format("Skill{id='%s', name='%s', type=%s, level=%d, mana=%d}", 
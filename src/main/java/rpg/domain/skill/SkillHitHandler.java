@@ -0,0 +1,22 @@
+package rpg.domain.skill;
+
+import rpg.domain.monster.Monster;
+
+/**
+ * 공격 스킬이 대상에게 명중하기 직전의 데미지 조정
+ * - 도메인은 몬스터 특수 능력 발동 규칙을 모르고, 전투 엔진이 피격 시 능력(경감/회피)을 적용하도록 구현
+ */
+@FunctionalInterface
+public interface SkillHitHandler {
+  /** 데미지를 그대로 적용 (전투 밖에서 사용) */
+  SkillHitHandler NONE = (target, damage) -> damage;
+
+  /**
+   * 방어력 적용 전 데미지를 조정합니다.
+   *
+   * @param target 대상 몬스터
+   * @param damage 스킬 원본 데미지
+   * @return 적용할 데미지 (0이면 회피되어 피해와 상태 효과 없음)
+   */
+  int onHit(Monster target, int damage);
+}
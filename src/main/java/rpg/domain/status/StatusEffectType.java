@@ -0,0 +1,78 @@
+package rpg.domain.status;
+
+import rpg.domain.player.PlayerStatusCondition;
+
+/**
+ * 전투 중 상태 효과 종류
+ * - 능력치 효과의 수치는 중첩당 천분율(‰) 증감
+ * - 주기 효과(재생/중독/화상)의 수치는 중첩당 턴마다 변하는 HP
+ * - 마나 실드의 수치는 마나로 흡수하는 데미지 비율(‰)
+ */
+public enum StatusEffectType {
+  //@formatter:off
+  ATTACK_UP("공격력 증가", true, false, null)
+, DEFENSE_UP("방어력 증가", true, false, null)
+, ATTACK_DOWN("공격력 감소", false, false, null)
+, DEFENSE_DOWN("방어력 감소", false, false, null)
+, MANA_SHIELD("마나 실드", true, false, null)
+, REGENERATION("재생", true, true, null)
+, POISON("중독", false, true, PlayerStatusCondition.POISON)
+, BURN("화상", false, true, PlayerStatusCondition.BURN);
+  //@formatter:on
+
+  private final String displayName;
+  private final boolean beneficial;
+  private final boolean periodic;
+  private final PlayerStatusCondition condition;
+
+  StatusEffectType(String displayName, boolean beneficial, boolean periodic, PlayerStatusCondition condition) {
+    this.displayName = displayName;
+    this.beneficial = beneficial;
+    this.periodic = periodic;
+    this.condition = condition;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  public boolean isBeneficial() {
+    return beneficial;
+  }
+
+  /**
+   * 매 턴 HP를 변화시키는 효과인지 확인
+   */
+  public boolean isPeriodic() {
+    return periodic;
+  }
+
+  /**
+   * 효과가 걸려 있는 동안 표시할 플레이어 상태 (없으면 null)
+   */
+  public PlayerStatusCondition getCondition() {
+    return condition;
+  }
+
+  /**
+   * 스킬 데이터의 효과 이름으로 타입을 찾습니다.
+   *
+   * @return 일치하는 타입, 없으면 null
+   */
+  public static StatusEffectType fromEffectName(String effectName) {
+    if (effectName == null) {
+      return null;
+    }
+    return switch (effectName.toUpperCase()) {
+      case "BUFF_ATTACK", "ATTACK_UP" -> ATTACK_UP;
+      case "BUFF_DEFENSE", "DEFENSE_UP" -> DEFENSE_UP;
+      case "DEBUFF_ATTACK", "ATTACK_DOWN" -> ATTACK_DOWN;
+      case "DEBUFF_DEFENSE", "DEFENSE_DOWN" -> DEFENSE_DOWN;
+      case "MANA_SHIELD" -> MANA_SHIELD;
+      case "REGENERATION" -> REGENERATION;
+      case "POISON", "DAMAGE_WITH_DOT" -> POISON;
+      case "BURN" -> BURN;
+      default -> null;
+    };
+  }
+}
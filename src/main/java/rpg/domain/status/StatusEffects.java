@@ -0,0 +1,253 @@
+package rpg.domain.status;
+
+import rpg.domain.battle.BattleCalculator;
+import rpg.shared.constant.SystemConstants;
+
+/**
+ * 전투 참가자 한 명의 상태 효과 슬롯
+ * - 효과 종류(ordinal)마다 고정 슬롯 하나: 중첩 수, 중첩당 수치, 만료 턴을 원시 배열로 보관
+ * - 만료는 턴 번호로 인덱싱한 타이밍 휠(버킷마다 효과 비트마스크)로 처리하므로
+ *   tick 비용은 주기 효과 수 + 이번 턴에 만료되는 효과 수에 비례
+ * - 적용/tick/해제 모두 객체를 생성하지 않음
+ */
+public class StatusEffects {
+  /** 타이밍 휠 크기 (2의 거듭제곱), 지속시간은 WHEEL_SIZE - 1 턴까지 */
+  public static final int WHEEL_SIZE = 64;
+  public static final int MAX_DURATION = WHEEL_SIZE - 1;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+  private static final StatusEffectType[] TYPES = StatusEffectType.values();
+  private static final long PERIODIC_MASK;
+
+  static {
+    long mask = 0L;
+    for (StatusEffectType type : TYPES) {
+      if (type.isPeriodic()) {
+        mask |= 1L << type.ordinal();
+      }
+    }
+    PERIODIC_MASK = mask;
+  }
+
+  private final int[] stacks = new int[TYPES.length];
+  private final int[] magnitudes = new int[TYPES.length];
+  private final int[] expireTurns = new int[TYPES.length];
+  private final long[] wheel = new long[WHEEL_SIZE];
+  private long activeMask;
+  private int currentTurn;
+
+  /**
+   * 효과를 적용합니다. 이미 걸려 있으면 중첩(최대 MAX_BUFF_STACKS)하고 지속시간을 갱신합니다.
+   *
+   * @param type 효과 종류
+   * @param magnitude 중첩당 수치 (0 이하이면 무시)
+   * @param duration 지속 턴 수 (1 ~ MAX_DURATION으로 보정)
+   * @return 적용 후 중첩 수
+   */
+  public int apply(StatusEffectType type, int magnitude, int duration) {
+    int index = type.ordinal();
+    if (magnitude <= 0) {
+      return stacks[index];
+    }
+
+    boolean fresh = stacks[index] == 0;
+    if (fresh) {
+      stacks[index] = 1;
+      magnitudes[index] = magnitude;
+      activeMask |= 1L << index;
+    } else {
+      stacks[index] = Math.min(stacks[index] + 1, SystemConstants.MAX_BUFF_STACKS);
+      magnitudes[index] = Math.max(magnitudes[index], magnitude);
+    }
+
+    int expireTurn = currentTurn + Math.max(1, Math.min(duration, MAX_DURATION));
+    if (fresh || expireTurn > expireTurns[index]) {
+      expireTurns[index] = expireTurn;
+      wheel[expireTurn & WHEEL_MASK] |= 1L << index;
+    }
+    return stacks[index];
+  }
+
+  /**
+   * 한 턴을 진행합니다. 주기 효과를 계산하고 이번 턴에 만료되는 효과를 제거합니다.
+   *
+   * @return 이번 턴 주기 효과에 의한 HP 변화량 (회복은 양수, 피해는 음수)
+   */
+  public int tick() {
+    currentTurn++;
+
+    int hpDelta = 0;
+    long periodic = activeMask & PERIODIC_MASK;
+    while (periodic != 0) {
+      int index = Long.numberOfTrailingZeros(periodic);
+      periodic &= periodic - 1;
+      int amount = stacks[index] * magnitudes[index];
+      hpDelta += TYPES[index].isBeneficial() ? amount : -amount;
+    }
+
+    int slot = currentTurn & WHEEL_MASK;
+    long expiring = wheel[slot];
+    wheel[slot] = 0L;
+    while (expiring != 0) {
+      int index = Long.numberOfTrailingZeros(expiring);
+      expiring &= expiring - 1;
+      // 갱신되어 만료 턴이 바뀐 효과는 이전 버킷의 비트를 무시
+      if (stacks[index] > 0 && expireTurns[index] == currentTurn) {
+        clearSlot(index);
+      }
+    }
+
+    return hpDelta;
+  }
+
+  /**
+   * 효과 하나를 즉시 제거합니다. (정화 등)
+   */
+  public void remove(StatusEffectType type) {
+    int index = type.ordinal();
+    if (stacks[index] > 0) {
+      wheel[expireTurns[index] & WHEEL_MASK] &= ~(1L << index);
+      clearSlot(index);
+    }
+  }
+
+  /**
+   * 모든 효과를 제거합니다. (전투 종료 시)
+   */
+  public void clear() {
+    long active = activeMask;
+    while (active != 0) {
+      int index = Long.numberOfTrailingZeros(active);
+      active &= active - 1;
+      wheel[expireTurns[index] & WHEEL_MASK] &= ~(1L << index);
+      clearSlot(index);
+    }
+  }
+
+  private void clearSlot(int index) {
+    stacks[index] = 0;
+    magnitudes[index] = 0;
+    expireTurns[index] = 0;
+    activeMask &= ~(1L << index);
+  }
+
+  // === 효과 반영 ===
+
+  /**
+   * 공격력에 공격력 증감 효과를 반영합니다.
+   */
+  public int modifyAttack(int attack) {
+    if (activeMask == 0) {
+      return attack;
+    }
+    return applyModifier(attack, StatusEffectType.ATTACK_UP, StatusEffectType.ATTACK_DOWN);
+  }
+
+  /**
+   * 방어력에 방어력 증감 효과를 반영합니다.
+   */
+  public int modifyDefense(int defense) {
+    if (activeMask == 0) {
+      return defense;
+    }
+    return applyModifier(defense, StatusEffectType.DEFENSE_UP, StatusEffectType.DEFENSE_DOWN);
+  }
+
+  private int applyModifier(int value, StatusEffectType up, StatusEffectType down) {
+    int modifier = getTotal(up) - getTotal(down);
+    return Math.max(0, BattleCalculator.scale(value, BattleCalculator.PERMILLE + modifier));
+  }
+
+  /**
+   * 마나 실드가 흡수할 데미지를 계산합니다.
+   *
+   * @param damage 받을 데미지
+   * @param availableMp 흡수에 사용할 수 있는 MP
+   * @return 마나로 흡수할 양 (MP 1당 데미지 1)
+   */
+  public int manaShieldAbsorb(int damage, int availableMp) {
+    if (!isActive(StatusEffectType.MANA_SHIELD)) {
+      return 0;
+    }
+    int ratio = Math.min(BattleCalculator.PERMILLE, getTotal(StatusEffectType.MANA_SHIELD));
+    return Math.min(availableMp, BattleCalculator.scale(damage, ratio));
+  }
+
+  // === 조회 ===
+
+  public boolean isActive(StatusEffectType type) {
+    return stacks[type.ordinal()] > 0;
+  }
+
+  public boolean hasAny() {
+    return activeMask != 0;
+  }
+
+  public int getStacks(StatusEffectType type) {
+    return stacks[type.ordinal()];
+  }
+
+  /**
+   * 중첩을 반영한 총 수치
+   */
+  public int getTotal(StatusEffectType type) {
+    int index = type.ordinal();
+    return stacks[index] * magnitudes[index];
+  }
+
+  /**
+   * 남은 지속 턴 수 (걸려 있지 않으면 0)
+   */
+  public int getRemainingTurns(StatusEffectType type) {
+    int index = type.ordinal();
+    return stacks[index] > 0 ? expireTurns[index] - currentTurn : 0;
+  }
+
+  /**
+   * 걸려 있는 효과 중 플레이어 상태(PlayerStatusCondition)로 표시할 효과를 찾습니다.
+   *
+   * @return 표시할 효과 종류, 없으면 null
+   */
+  public StatusEffectType getDominantConditionEffect() {
+    long active = activeMask;
+    while (active != 0) {
+      int index = Long.numberOfTrailingZeros(active);
+      active &= active - 1;
+      if (TYPES[index].getCondition() != null) {
+        return TYPES[index];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 걸려 있는 효과 요약 문자열 (예: "방어력 증가x2(3턴)")
+   */
+  public String describe() {
+    if (activeMask == 0) {
+      return "없음";
+    }
+    return appendTo(new StringBuilder()).toString();
+  }
+
+  /**
+   * 걸려 있는 효과 요약을 주어진 버퍼에 추가합니다.
+   */
+  public StringBuilder appendTo(StringBuilder summary) {
+    int start = summary.length();
+    long active = activeMask;
+    while (active != 0) {
+      int index = Long.numberOfTrailingZeros(active);
+      active &= active - 1;
+      if (summary.length() > start) {
+        summary.append(", ");
+      }
+      summary.append(TYPES[index].getDisplayName());
+      if (stacks[index] > 1) {
+        summary.append('x').append(stacks[index]);
+      }
+      summary.append('(').append(expireTurns[index] - currentTurn).append("턴)");
+    }
+    return summary;
+  }
+}
@@ -1,5 +1,34 @@
 package rpg.infrastructure.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+
+/**
+ * 실행 중 로그 레벨 조정 유틸리티
+ * 대량 시뮬레이션 동안 DEBUG 파일 로그를 잠시 끄는 용도
+ */
 public class LoggingConfig {
+  private static final Logger logger = LoggerFactory.getLogger(LoggingConfig.class);
+
+  private LoggingConfig() {}
+
+  /**
+   * 루트 로거 레벨을 변경하고 이전 레벨을 반환합니다.
+   *
+   * @param level 새 로그 레벨 (예: "WARN")
+   * @return 이전 로그 레벨 이름, logback을 사용하지 않는 환경이면 null
+   */
+  public static String setRootLevel(String level) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      logger.warn("logback 환경이 아니므로 로그 레벨을 변경할 수 없습니다.");
+      return null;
+    }
 
+    ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    Level previous = root.getLevel();
+    root.setLevel(Level.toLevel(level, previous));
+    return previous != null ? previous.toString() : null;
+  }
 }
@@ -18,7 +18,7 @@ public class ConfigDataLoader {
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
   /**
-   * 모든 아이템 데이터 로드 (통합 메서드)
+   * 기본 아이템(basic_*) 파일을 읽어 반환 (ItemCatalogLoader가 카탈로그를 만들 때 사용, 조회는 카탈로그를 사용)
    */
   public static Map<String, GameItemData> loadAllItems() {
     logger.info("전체 아이템 데이터 로드 시작...");
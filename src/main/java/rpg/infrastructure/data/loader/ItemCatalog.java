@@ -0,0 +1,108 @@
+package rpg.infrastructure.data.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.domain.item.GameItemData;
+
+/**
+ * 불변 아이템 카탈로그 (모든 아이템 정의의 단일 출처)
+ * - 기본 아이템(basic_*)과 탐험 아이템(보물/장비/드롭)을 한 번에 로드해 ID당 정의 하나만 보관
+ * - 같은 ID가 여러 파일에 있으면 기본 → 보물 → 장비 → 드롭 순으로 먼저 나온 정의를 사용하고, 탐험 분류 목록도 그 정의를 가리킴
+ * - 생성 후 변경되지 않으며, 리로드는 ItemCatalogLoader가 새 카탈로그로 통째로 교체
+ */
+public final class ItemCatalog {
+  private static final Logger logger = LoggerFactory.getLogger(ItemCatalog.class);
+
+  private final long version;
+  private final Map<String, GameItemData> items; // 로드 순서
+  private final Map<String, GameItemData> basicItems;
+  private final List<GameItemData> treasureItems;
+  private final List<GameItemData> equipmentItems;
+  private final List<GameItemData> dropItems;
+
+  ItemCatalog(long version, Map<String, GameItemData> basic, Map<String, GameItemData> treasure, Map<String, GameItemData> equipment,
+      Map<String, GameItemData> drop) {
+    this.version = version;
+    Map<String, GameItemData> all = new LinkedHashMap<>();
+    this.basicItems = Collections.unmodifiableMap(register(all, basic, "기본"));
+    this.treasureItems = List.copyOf(register(all, treasure, "보물").values());
+    this.equipmentItems = List.copyOf(register(all, equipment, "장비").values());
+    this.dropItems = List.copyOf(register(all, drop, "드롭").values());
+    this.items = Collections.unmodifiableMap(all);
+  }
+
+  /**
+   * 분류의 아이템을 전체 목록에 등록하고, 분류 목록은 등록된(먼저 나온) 정의로 구성합니다.
+   */
+  private static Map<String, GameItemData> register(Map<String, GameItemData> all, Map<String, GameItemData> source, String category) {
+    Map<String, GameItemData> resolved = new LinkedHashMap<>();
+    for (Map.Entry<String, GameItemData> entry : source.entrySet()) {
+      GameItemData existing = all.putIfAbsent(entry.getKey(), entry.getValue());
+      if (existing != null) {
+        logger.debug("중복 아이템 정의 무시: {} ({} 데이터, 먼저 로드된 정의 사용)", entry.getKey(), category);
+      }
+      resolved.put(entry.getKey(), existing != null ? existing : entry.getValue());
+    }
+    return resolved;
+  }
+
+  /**
+   * 카탈로그 버전 (리로드할 때마다 증가)
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * ID로 아이템 정의 조회 (없으면 null)
+   */
+  public GameItemData get(String itemId) {
+    return itemId == null ? null : items.get(itemId);
+  }
+
+  /**
+   * 모든 아이템 정의 (ID → 정의, 읽기 전용)
+   */
+  public Map<String, GameItemData> getItems() {
+    return items;
+  }
+
+  /**
+   * 기본 아이템 정의 (basic_* 파일, GameItemFactory 데이터베이스, 읽기 전용)
+   */
+  public Map<String, GameItemData> getBasicItems() {
+    return basicItems;
+  }
+
+  public List<GameItemData> getTreasureItems() {
+    return treasureItems;
+  }
+
+  public List<GameItemData> getEquipmentItems() {
+    return equipmentItems;
+  }
+
+  public List<GameItemData> getDropItems() {
+    return dropItems;
+  }
+
+  /**
+   * 탐험 아이템 정의 (보물 + 장비 + 드롭, 분류별 중복 포함)
+   */
+  public List<GameItemData> getExploreItems() {
+    List<GameItemData> explore = new ArrayList<>(treasureItems.size() + equipmentItems.size() + dropItems.size());
+    explore.addAll(treasureItems);
+    explore.addAll(equipmentItems);
+    explore.addAll(dropItems);
+    return explore;
+  }
+
+  public int size() {
+    return items.size();
+  }
+}
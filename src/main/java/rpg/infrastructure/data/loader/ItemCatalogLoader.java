@@ -0,0 +1,96 @@
+package rpg.infrastructure.data.loader;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import rpg.domain.item.GameItemData;
+import rpg.shared.constant.SystemConstants;
+
+/**
+ * 아이템 카탈로그 로더
+ * - 모든 아이템 파일을 한 번에 읽어 ItemCatalog 하나로 만들고 volatile 참조 하나로 공개
+ * - 조회는 잠금 없이 현재 카탈로그를 읽고, 리로드는 새 카탈로그를 만든 뒤 참조를 통째로 교체
+ * - 카탈로그에서 파생 데이터를 만드는 쪽(GameItemFactory)은 버전 비교로 교체를 감지
+ */
+public final class ItemCatalogLoader {
+  private static final Logger logger = LoggerFactory.getLogger(ItemCatalogLoader.class);
+  private static final ObjectMapper objectMapper;
+
+  static {
+    // 탐험 아이템 파일에는 GameItemData에 없는 분류 필드(category)가 있어 모르는 속성은 무시
+    objectMapper = new ObjectMapper();
+    objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+
+  private static volatile ItemCatalog catalog;
+  private static long lastVersion = 0; // 클래스 잠금 안에서만 변경
+
+  private ItemCatalogLoader() {}
+
+  /**
+   * 현재 카탈로그를 반환합니다. 아직 로드하지 않았으면 로드합니다.
+   */
+  public static ItemCatalog getCatalog() {
+    ItemCatalog current = catalog;
+    return current != null ? current : loadIfAbsent();
+  }
+
+  private static synchronized ItemCatalog loadIfAbsent() {
+    if (catalog == null) {
+      catalog = load();
+    }
+    return catalog;
+  }
+
+  /**
+   * 모든 아이템 파일을 다시 읽어 카탈로그를 교체합니다.
+   */
+  public static synchronized ItemCatalog reload() {
+    logger.info("아이템 카탈로그 리로드 중...");
+    catalog = load();
+    return catalog;
+  }
+
+  private static ItemCatalog load() {
+    long start = System.nanoTime();
+
+    Map<String, GameItemData> basic = ConfigDataLoader.loadAllItems();
+    Map<String, GameItemData> treasure = readItems(SystemConstants.EXPLORE_TREASURE);
+    Map<String, GameItemData> equipment = readItems(SystemConstants.EXPLORE_EQUIPMENT);
+    Map<String, GameItemData> drop = readItems(SystemConstants.EXPLORE_DROP);
+
+    ItemCatalog loaded = new ItemCatalog(++lastVersion, basic, treasure, equipment, drop);
+    logger.info("아이템 카탈로그 로드 완료 (v{}): 기본 {}개, 보물 {}개, 장비 {}개, 드롭 {}개 → 고유 {}개 ({} ms)", loaded.getVersion(), basic.size(), treasure.size(),
+        equipment.size(), drop.size(), loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    return loaded;
+  }
+
+  /**
+   * 아이템 파일 하나를 읽습니다. (파일 순서 유지, 파일이 없거나 읽기 실패 시 빈 맵)
+   */
+  private static Map<String, GameItemData> readItems(String filePath) {
+    try (InputStream inputStream = ItemCatalogLoader.class.getResourceAsStream(filePath)) {
+      if (inputStream == null) {
+        logger.warn("아이템 파일 없음: {}", filePath);
+        return Map.of();
+      }
+
+      List<GameItemData> itemList = objectMapper.readValue(inputStream, new TypeReference<List<GameItemData>>() {});
+      Map<String, GameItemData> items = new LinkedHashMap<>();
+      for (GameItemData item : itemList) {
+        items.putIfAbsent(item.getId(), item);
+      }
+      return items;
+
+    } catch (Exception e) {
+      logger.error("아이템 파일 로드 실패: {}", filePath, e);
+      return Map.of();
+    }
+  }
+}
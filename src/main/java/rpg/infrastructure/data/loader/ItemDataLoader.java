@@ -1,106 +1,51 @@
 package rpg.infrastructure.data.loader;
 
-import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import rpg.application.factory.GameEffectFactory;
+import rpg.application.factory.GameItemFactory;
 import rpg.domain.item.GameConsumable;
 import rpg.domain.item.GameEquipment;
 import rpg.domain.item.GameItem;
 import rpg.domain.item.GameItemData;
 import rpg.domain.item.ItemRarity;
 import rpg.domain.item.effect.GameEffect;
-import rpg.shared.constant.SystemConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
- * 보물, 이벤트, 드롭 아이템 데이터를 JSON에서 로드하는 서비스
+ * 보물, 이벤트, 드롭 아이템 생성 서비스
+ * - 아이템 정의는 ItemCatalogLoader의 카탈로그에서 읽음 (이 클래스는 별도 사본을 두지 않음)
  */
 public class ItemDataLoader {
   private static final Logger logger = LoggerFactory.getLogger(ItemDataLoader.class);
-  private static final ObjectMapper objectMapper = new ObjectMapper();
-
-  private static Map<String, GameItemData> treasureItems = new HashMap<>();
-  private static Map<String, GameItemData> equipmentItems = new HashMap<>();
-  private static Map<String, GameItemData> dropItems = new HashMap<>();
-  private static boolean dataLoaded = false;
 
   /**
-   * 모든 아이템 데이터를 로드합니다.
+   * 아이템 데이터를 로드합니다. (카탈로그가 아직 없으면 로드)
    */
   public static void loadAllItemData() {
-    if (dataLoaded) {
-      return;
-    }
-
-    try {
-      // 보물 아이템 로드
-      treasureItems = loadItemsFromFile(SystemConstants.EXPLORE_TREASURE);
-
-      // 장비 아이템 로드
-      equipmentItems = loadItemsFromFile(SystemConstants.EXPLORE_EQUIPMENT);
-
-      // 드롭 아이템 로드
-      dropItems = loadItemsFromFile(SystemConstants.EXPLORE_DROP);
-
-      // 데이터 검증
-      validateItemData();
-
-      dataLoaded = true;
-
-      int totalItems = treasureItems.size() + equipmentItems.size() + dropItems.size();
-      logger.info("아이템 데이터 로드 완료: 보물 {}개, 장비 {}개, 드롭 {}개 (총 {}개)", treasureItems.size(), equipmentItems.size(), dropItems.size(), totalItems);
-
-    } catch (Exception e) {
-      logger.error("아이템 데이터 로드 실패", e);
-      createDefaultItemData();
-    }
-  }
-
-  /**
-   * 특정 파일에서 아이템 데이터를 로드합니다.
-   */
-  private static Map<String, GameItemData> loadItemsFromFile(String filePath) {
-    try (InputStream inputStream = ItemDataLoader.class.getResourceAsStream(filePath)) {
-      if (inputStream == null) {
-        logger.warn("아이템 파일 없음: {}", filePath);
-        return Map.of();
-      }
-
-      List<GameItemData> itemList = objectMapper.readValue(inputStream, new TypeReference<List<GameItemData>>() {});
-
-      return itemList.stream().collect(Collectors.toMap(GameItemData::getId, item -> item));
-
-    } catch (Exception e) {
-      logger.error("아이템 파일 로드 실패: {}", filePath, e);
-      return Map.of();
-    }
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
+    logger.debug("아이템 데이터 준비: 보물 {}개, 장비 {}개, 드롭 {}개", catalog.getTreasureItems().size(), catalog.getEquipmentItems().size(), catalog.getDropItems().size());
   }
 
   /**
    * 랜덤 보물 아이템을 생성합니다.
    */
   public static GameItem generateRandomTreasureItem() {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
+    List<GameItemData> treasureItems = ItemCatalogLoader.getCatalog().getTreasureItems();
 
     if (treasureItems.isEmpty()) {
       return createFallbackTreasureItem();
     }
 
     // 보물 카테고리 아이템들만 필터링
-    List<GameItemData> treasureList = treasureItems.values().stream().filter(item -> "treasure".equals(getItemCategory(item))).collect(Collectors.toList());
+    List<GameItemData> treasureList = treasureItems.stream().filter(item -> "treasure".equals(getItemCategory(item))).collect(Collectors.toList());
 
     if (treasureList.isEmpty()) {
-      treasureList = new ArrayList<>(treasureItems.values());
+      treasureList = treasureItems;
     }
 
     // 희귀도 가중치 적용하여 선택
@@ -112,20 +57,18 @@ public class ItemDataLoader {
    * 특별한 상인 아이템을 생성합니다.
    */
   public static GameItem generateSpecialMerchantItem() {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
 
     // 상인 카테고리 아이템들 선택
     List<GameItemData> merchantItems = new ArrayList<>();
-    merchantItems.addAll(treasureItems.values().stream().filter(item -> "merchant".equals(getItemCategory(item))).collect(Collectors.toList()));
-    merchantItems.addAll(equipmentItems.values().stream().filter(item -> "merchant".equals(getItemCategory(item))).collect(Collectors.toList()));
+    merchantItems.addAll(catalog.getTreasureItems().stream().filter(item -> "merchant".equals(getItemCategory(item))).collect(Collectors.toList()));
+    merchantItems.addAll(catalog.getEquipmentItems().stream().filter(item -> "merchant".equals(getItemCategory(item))).collect(Collectors.toList()));
 
     if (merchantItems.isEmpty()) {
       return createFallbackMerchantItem();
     }
 
-    Random random = new Random();
+    RandomUtils random = RandomUtils.session();
     GameItemData selectedData = merchantItems.get(random.nextInt(merchantItems.size()));
     return convertToGameItem(selectedData);
   }
@@ -134,9 +77,7 @@ public class ItemDataLoader {
    * 랜덤 드롭 아이템을 생성합니다.
    */
   public static GameItem generateRandomDropItem() {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
+    List<GameItemData> dropItems = ItemCatalogLoader.getCatalog().getDropItems();
 
     if (dropItems.isEmpty()) {
       return createFallbackDropItem();
@@ -144,13 +85,13 @@ public class ItemDataLoader {
 
     // 일반적인 드롭 아이템들 선택 (COMMON, UNCOMMON 위주)
     List<GameItemData> commonDrops =
-        dropItems.values().stream().filter(item -> "COMMON".equals(item.getRarity().getDisplayName()) || "UNCOMMON".equals(item.getRarity().getDisplayName())).collect(Collectors.toList());
+        dropItems.stream().filter(item -> "COMMON".equals(item.getRarity().getDisplayName()) || "UNCOMMON".equals(item.getRarity().getDisplayName())).collect(Collectors.toList());
 
     if (commonDrops.isEmpty()) {
-      commonDrops = new ArrayList<>(dropItems.values());
+      commonDrops = dropItems;
     }
 
-    Random random = new Random();
+    RandomUtils random = RandomUtils.session();
     GameItemData selectedData = commonDrops.get(random.nextInt(commonDrops.size()));
     return convertToGameItem(selectedData);
   }
@@ -159,18 +100,7 @@ public class ItemDataLoader {
    * 특정 아이템을 ID로 생성합니다.
    */
   public static GameItem createItemById(String itemId) {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
-
-    // 모든 카테고리에서 검색
-    GameItemData itemData = treasureItems.get(itemId);
-    if (itemData == null) {
-      itemData = equipmentItems.get(itemId);
-    }
-    if (itemData == null) {
-      itemData = dropItems.get(itemId);
-    }
+    GameItemData itemData = ItemCatalogLoader.getCatalog().get(itemId);
 
     if (itemData == null) {
       logger.warn("아이템 ID를 찾을 수 없음: {}", itemId);
@@ -184,15 +114,13 @@ public class ItemDataLoader {
    * 아이템 통계를 출력합니다.
    */
   public static void printItemStatistics() {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
 
     System.out.println("\n🎁 === 아이템 통계 ===");
-    System.out.println("보물 아이템: " + treasureItems.size() + "개");
-    System.out.println("장비 아이템: " + equipmentItems.size() + "개");
-    System.out.println("드롭 아이템: " + dropItems.size() + "개");
-    System.out.println("총 아이템: " + (treasureItems.size() + equipmentItems.size() + dropItems.size()) + "개");
+    System.out.println("보물 아이템: " + catalog.getTreasureItems().size() + "개");
+    System.out.println("장비 아이템: " + catalog.getEquipmentItems().size() + "개");
+    System.out.println("드롭 아이템: " + catalog.getDropItems().size() + "개");
+    System.out.println("총 아이템: " + (catalog.getTreasureItems().size() + catalog.getEquipmentItems().size() + catalog.getDropItems().size()) + "개");
 
     // 등급별 통계
     Map<String, Long> rarityStats = getAllItems().stream().collect(Collectors.groupingBy(item -> item.getRarity().getDisplayName(), Collectors.counting()));
@@ -208,14 +136,7 @@ public class ItemDataLoader {
    */
   public static void reloadItemData() {
     logger.info("아이템 데이터 리로드 중...");
-
-    treasureItems.clear();
-    equipmentItems.clear();
-    dropItems.clear();
-    dataLoaded = false;
-
-    loadAllItemData();
-
+    ItemCatalogLoader.reload();
     logger.info("아이템 데이터 리로드 완료");
   }
 
@@ -235,7 +156,7 @@ public class ItemDataLoader {
       return null;
     }
 
-    Random random = new Random();
+    RandomUtils random = RandomUtils.session();
 
     // 희귀도별 가중치 계산
     Map<String, Double> rarityWeights = Map.of("COMMON", 0.5, "UNCOMMON", 0.3, "RARE", 0.15, "EPIC", 0.04, "LEGENDARY", 0.01);
@@ -262,6 +183,11 @@ public class ItemDataLoader {
     }
 
     try {
+      // 기본 아이템과 ID가 같으면 카탈로그가 기본 정의를 쓰므로 팩토리가 만드는 것과 같은 아이템으로 생성 (WEAPON/ARMOR 타입 포함)
+      if (ItemCatalogLoader.getCatalog().getBasicItems().containsKey(itemData.getId())) {
+        GameItem item = GameItemFactory.getInstance().createItem(itemData.getId());
+        return item != null ? item : createFallbackDropItem();
+      }
       if ("CONSUMABLE".equals(itemData.getType())) {
         return createConsumableItem(itemData);
       } else if ("EQUIPMENT".equals(itemData.getType())) {
@@ -345,28 +271,8 @@ public class ItemDataLoader {
     return itemData.getEffects().stream().filter(effect -> effect != null && effectType.equals(effect.getType())).mapToInt(effect -> effect.getValue()).findFirst().orElse(0);
   }
 
-  private static void validateItemData() {
-    // 간단한 검증 로직
-    int totalItems = treasureItems.size() + equipmentItems.size() + dropItems.size();
-    logger.info("아이템 데이터 검증 완료: {}개 아이템", totalItems);
-  }
-
-  private static void createDefaultItemData() {
-    logger.warn("기본 아이템 데이터 생성 중...");
-    dataLoaded = true;
-  }
-
   public static List<GameItemData> getAllItems() {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
-
-    List<GameItemData> allItems = new ArrayList<>();
-    allItems.addAll(treasureItems.values());
-    allItems.addAll(equipmentItems.values());
-    allItems.addAll(dropItems.values());
-
-    return allItems;
+    return ItemCatalogLoader.getCatalog().getExploreItems();
   }
 
   // === 폴백 아이템 생성 메서드들 ===
@@ -405,20 +311,7 @@ public class ItemDataLoader {
 
   // ItemDataLoader에 추가할 새로운 메서드
   public static GameItemData getItemDataById(String itemId) {
-    if (!dataLoaded) {
-      loadAllItemData();
-    }
-
-    // 모든 카테고리에서 검색
-    GameItemData itemData = treasureItems.get(itemId);
-    if (itemData == null) {
-      itemData = equipmentItems.get(itemId);
-    }
-    if (itemData == null) {
-      itemData = dropItems.get(itemId);
-    }
-
-    return itemData; // null일 수 있음
+    return ItemCatalogLoader.getCatalog().get(itemId); // null일 수 있음
   }
 
 }
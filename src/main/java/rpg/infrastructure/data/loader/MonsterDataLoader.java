@@ -14,6 +14,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import rpg.application.manager.LocationManager;
 import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterRarity;
+import rpg.domain.monster.MonsterSpawnTable;
 import rpg.shared.constant.SystemConstants;
 
 /**
@@ -23,9 +25,15 @@ public class MonsterDataLoader {
   private static final Logger logger = LoggerFactory.getLogger(MonsterDataLoader.class);
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
-  // 통합된 몬스터 데이터 저장소
-  private static final Map<String, MonsterData> allMonsters = new HashMap<>();
-  private static boolean dataLoaded = false;
+  // 통합된 몬스터 데이터 저장소: 조회 인덱스와 지역/레벨별 출현 테이블 (로드할 때마다 새로 만들어 한 번에 교체)
+  private static volatile MonsterIndexes indexes = new MonsterIndexes(MonsterQueryIndex.EMPTY, MonsterSpawnIndex.EMPTY);
+  private static volatile boolean dataLoaded = false;
+
+  /**
+   * 같은 데이터로 만든 인덱스 묶음 (읽는 쪽이 서로 다른 로드 시점의 인덱스를 섞어 보지 않도록 함께 교체)
+   */
+  private record MonsterIndexes(MonsterQueryIndex query, MonsterSpawnIndex spawn) {
+  }
 
   /**
    * 모든 몬스터 데이터를 로드합니다.
@@ -34,14 +42,11 @@ public class MonsterDataLoader {
     if (!dataLoaded) {
       loadMonsterData();
     }
-    return new HashMap<>(allMonsters);
+    return new HashMap<>(indexes.query().getById());
   }
 
   public static List<MonsterData> getAllMonsters() {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
-    return new ArrayList<>(allMonsters.values());
+    return new ArrayList<>(getQueryIndex().getAll());
   }
 
   /**
@@ -63,19 +68,25 @@ public class MonsterDataLoader {
           throw new IOException("몬스터 설정 파일 형식이 올바르지 않습니다");
         }
 
-        // 각 몬스터 데이터 파싱
+        // 각 몬스터 데이터 파싱 (새 맵에 모은 뒤 인덱스와 함께 교체)
+        Map<String, MonsterData> loadedMonsters = new HashMap<>();
         for (JsonNode monsterNode : monstersNode) {
           try {
             MonsterData monsterData = objectMapper.treeToValue(monsterNode, MonsterData.class);
-            allMonsters.put(monsterData.getId(), monsterData);
+            monsterData.getDropTable(); // 드롭 테이블은 로드 시 미리 컴파일
+            loadedMonsters.put(monsterData.getId(), monsterData);
             logger.debug("몬스터 로드: {} ({})", monsterData.getId(), monsterData.getName());
           } catch (Exception e) {
             logger.error("몬스터 데이터 파싱 실패: {}", monsterNode.get("id"), e);
           }
         }
 
+        MonsterSpawnIndex newIndex = MonsterSpawnIndex.build(loadedMonsters.values());
+        MonsterQueryIndex newQueryIndex = MonsterQueryIndex.build(loadedMonsters.values());
+        indexes = new MonsterIndexes(newQueryIndex, newIndex);
         dataLoaded = true;
-        logger.info("몬스터 데이터 로드 완료: {}종", allMonsters.size());
+        logger.info("몬스터 데이터 로드 완료: {}종 (출현 지역 {}곳, 출현 테이블 {}개, 레벨별 능력치 {}행)", newQueryIndex.size(), newIndex.getLocationCount(),
+            newIndex.getTableCount(), newIndex.getLevelTable().getRowCount());
 
       }
     } catch (Exception e) {
@@ -93,18 +104,43 @@ public class MonsterDataLoader {
 
     // 기본 몬스터 몇 개 하드코딩으로 생성
     // 실제 구현에서는 MonsterData 생성자에 맞게 조정 필요
-    logger.info("기본 몬스터 {}개 생성 완료", allMonsters.size());
+    logger.info("기본 몬스터 {}개 생성 완료", indexes.query().size());
   }
 
   /**
    * 특정 지역의 몬스터 목록 반환
    */
   public static List<MonsterData> getMonstersByLocation(String locationId) {
+    return new ArrayList<>(getSpawnIndex().getMonsters(locationId));
+  }
+
+  /**
+   * 지역/레벨별 출현 인덱스 반환 (불변, 리로드 시 교체됨)
+   */
+  public static MonsterSpawnIndex getSpawnIndex() {
+    if (!dataLoaded) {
+      loadAllMonsters();
+    }
+    return indexes.spawn();
+  }
+
+  /**
+   * 희귀도/레벨/이름 조회 인덱스 반환 (불변, 리로드 시 교체됨)
+   */
+  public static MonsterQueryIndex getQueryIndex() {
     if (!dataLoaded) {
       loadAllMonsters();
     }
+    return indexes.query();
+  }
 
-    return allMonsters.values().stream().filter(monster -> monster.getLocations().contains(locationId)).collect(Collectors.toList());
+  /**
+   * 지역과 플레이어 레벨에 맞는 출현 테이블 반환
+   *
+   * @return 추첨 테이블, 조우할 몬스터가 없으면 null
+   */
+  public static MonsterSpawnTable getSpawnTable(String locationId, int playerLevel) {
+    return getSpawnIndex().getSpawnTable(locationId, playerLevel);
   }
 
   /**
@@ -116,79 +152,71 @@ public class MonsterDataLoader {
   }
 
   /**
-   * 특정 레벨에 적합한 모든 몬스터 반환
+   * 특정 레벨에 적합한 모든 몬스터 반환 (읽기 전용)
    */
   public static List<MonsterData> getMonstersByLevel(int playerLevel) {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
-
-    return allMonsters.values().stream().filter(monster -> playerLevel >= monster.getMinLevel() && playerLevel <= monster.getMaxLevel()).collect(Collectors.toList());
+    return getQueryIndex().getByLevel(playerLevel);
   }
 
   /**
-   * 특정 희귀도의 몬스터 목록 반환
+   * 특정 희귀도의 몬스터 목록 반환 (읽기 전용, 알 수 없는 희귀도는 빈 목록)
    */
   public static List<MonsterData> getMonstersByRarity(String rarity) {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
+    return getQueryIndex().getByRarity(MonsterRarity.fromKey(rarity));
+  }
 
-    return allMonsters.values().stream().filter(monster -> rarity.equalsIgnoreCase(monster.getRarity())).collect(Collectors.toList());
+  /**
+   * 특정 희귀도의 몬스터 목록 반환 (읽기 전용)
+   */
+  public static List<MonsterData> getMonstersByRarity(MonsterRarity rarity) {
+    return getQueryIndex().getByRarity(rarity);
   }
 
   /**
    * 몬스터 ID로 특정 몬스터 데이터 반환
    */
   public static MonsterData getMonsterById(String monsterId) {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
-
-    return allMonsters.get(monsterId);
+    return getQueryIndex().getById(monsterId);
   }
 
   /**
-   * 몬스터 이름으로 검색
+   * 몬스터 이름으로 검색 (읽기 전용)
    */
   public static List<MonsterData> getMonstersByName(String name) {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
+    return getQueryIndex().searchByName(name);
+  }
 
-    return allMonsters.values().stream().filter(monster -> monster.getName().contains(name)).collect(Collectors.toList());
+  /**
+   * 몬스터 이름이나 설명으로 검색 (읽기 전용)
+   */
+  public static List<MonsterData> searchMonsters(String searchTerm) {
+    return getQueryIndex().search(searchTerm);
   }
 
   /**
-   * 레벨 범위에 맞는 몬스터 반환
+   * 레벨 범위에 맞는 몬스터 반환 (읽기 전용)
    */
   public static List<MonsterData> getMonstersByLevelRange(int minLevel, int maxLevel) {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
-
-    return allMonsters.values().stream().filter(monster -> monster.getMinLevel() <= maxLevel && monster.getMaxLevel() >= minLevel).collect(Collectors.toList());
+    return getQueryIndex().getByLevelRange(minLevel, maxLevel);
   }
 
   /**
    * 몬스터 통계 정보 출력
    */
   public static void printMonsterStatistics() {
-    if (!dataLoaded) {
-      loadAllMonsters();
-    }
+    List<MonsterData> allMonsters = getQueryIndex().getAll();
 
     System.out.println("\n👹 === 몬스터 통계 ===");
     System.out.println("총 몬스터 종류: " + allMonsters.size() + "종");
 
     // 희귀도별 통계
-    Map<String, Long> rarityStats = allMonsters.values().stream().collect(Collectors.groupingBy(MonsterData::getRarity, Collectors.counting()));
+    Map<String, Long> rarityStats = allMonsters.stream().collect(Collectors.groupingBy(MonsterData::getRarity, Collectors.counting()));
 
     System.out.println("\n📊 희귀도별 분포:");
     rarityStats.forEach((rarity, count) -> System.out.printf("   %s: %d종%n", rarity, count));
 
     // 지역별 통계
-    Map<String, Long> locationStats = allMonsters.values().stream().flatMap(monster -> monster.getLocations().stream()).collect(Collectors.groupingBy(location -> location, Collectors.counting()));
+    Map<String, Long> locationStats = allMonsters.stream().flatMap(monster -> monster.getLocations().stream()).collect(Collectors.groupingBy(location -> location, Collectors.counting()));
 
     System.out.println("\n🗺️ 지역별 분포:");
     locationStats.entrySet().stream().sorted(Map.Entry.<String, Long>comparingByValue().reversed()).forEach(entry -> {
@@ -197,7 +225,7 @@ public class MonsterDataLoader {
     });
 
     // 레벨 분포
-    IntSummaryStatistics levelStats = allMonsters.values().stream().mapToInt(monster -> (monster.getMinLevel() + monster.getMaxLevel()) / 2).summaryStatistics();
+    IntSummaryStatistics levelStats = allMonsters.stream().mapToInt(monster -> (monster.getMinLevel() + monster.getMaxLevel()) / 2).summaryStatistics();
 
     System.out.println("\n📈 레벨 분포:");
     System.out.printf("   최소: %d | 최대: %d | 평균: %.1f%n", levelStats.getMin(), levelStats.getMax(), levelStats.getAverage());
@@ -239,7 +267,7 @@ public class MonsterDataLoader {
    */
   public static synchronized void reloadData() {
     logger.info("몬스터 데이터 리로드 시작");
-    allMonsters.clear();
+    // 기존 데이터와 인덱스는 새 데이터 로드가 끝난 뒤 교체됨
     dataLoaded = false;
     loadAllMonsters();
     logger.info("몬스터 데이터 리로드 완료");
@@ -256,7 +284,7 @@ public class MonsterDataLoader {
    * 캐시된 몬스터 수 반환
    */
   public static int getMonsterCount() {
-    return allMonsters.size();
+    return indexes.query().size();
   }
 
   // === 하위 호환성을 위한 deprecated 메서드들 ===
@@ -0,0 +1,140 @@
+package rpg.infrastructure.data.loader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterRarity;
+import rpg.domain.monster.MonsterStatCurve;
+import rpg.domain.monster.MonsterStats;
+import rpg.domain.monster.MonsterTemplate;
+
+/**
+ * 몬스터 순번 × 레벨별 능력치/보상 표
+ * - 몬스터 데이터를 로드할 때 등급별 성장 곡선(MonsterStatCurve)을 최소~최대 레벨 전 구간에 미리 적용해 원시 배열에 저장
+ * - 행 번호 = 몬스터 시작 행(offsets[순번]) + (레벨 - 최소 레벨), 범위를 벗어난 레벨은 최소/최대 레벨로 보정
+ * - 행마다 전투 인스턴스가 공유할 템플릿도 미리 만들어 두므로 레벨 N 몬스터 생성은 배열 조회 한 번
+ * - 생성 후 변경되지 않음
+ */
+public final class MonsterLevelTable {
+  public static final MonsterLevelTable EMPTY = new MonsterLevelTable(List.of());
+
+  private final Map<String, Integer> ordinals;
+  private final int[] offsets;
+  private final int[] minLevels;
+  private final int[] maxLevels;
+  private final int[] hp;
+  private final int[] attack;
+  private final int[] defense;
+  private final int[] exp;
+  private final int[] gold;
+  private final MonsterTemplate[] templates;
+
+  /**
+   * @param monsters 순번 순서의 몬스터 목록
+   */
+  MonsterLevelTable(List<MonsterData> monsters) {
+    int count = monsters.size();
+    Map<String, Integer> index = new HashMap<>();
+    offsets = new int[count];
+    minLevels = new int[count];
+    maxLevels = new int[count];
+
+    int rows = 0;
+    for (int ordinal = 0; ordinal < count; ordinal++) {
+      MonsterData monster = monsters.get(ordinal);
+      index.put(monster.getId(), ordinal);
+      offsets[ordinal] = rows;
+      minLevels[ordinal] = Math.max(1, monster.getMinLevel());
+      maxLevels[ordinal] = Math.max(minLevels[ordinal], monster.getMaxLevel());
+      rows += maxLevels[ordinal] - minLevels[ordinal] + 1;
+    }
+    ordinals = Map.copyOf(index);
+
+    hp = new int[rows];
+    attack = new int[rows];
+    defense = new int[rows];
+    exp = new int[rows];
+    gold = new int[rows];
+    templates = new MonsterTemplate[rows];
+
+    for (int ordinal = 0; ordinal < count; ordinal++) {
+      MonsterData monster = monsters.get(ordinal);
+      MonsterRarity rarity = MonsterRarity.fromKey(monster.getRarity());
+      MonsterStatCurve curve = (rarity != null ? rarity : MonsterRarity.COMMON).getStatCurve(); // 알 수 없는 등급은 COMMON 곡선
+      MonsterStats stats = monster.getStats();
+      for (int level = minLevels[ordinal]; level <= maxLevels[ordinal]; level++) {
+        int row = offsets[ordinal] + level - minLevels[ordinal];
+        int levelsAboveMin = level - minLevels[ordinal];
+        hp[row] = curve.scaleHp(stats.getHp(), levelsAboveMin);
+        attack[row] = curve.scaleAttack(stats.getAttack(), levelsAboveMin);
+        defense[row] = curve.scaleDefense(stats.getDefense(), levelsAboveMin);
+        exp[row] = curve.scaleExp(monster.getRewards().getExp(), levelsAboveMin);
+        gold[row] = curve.scaleGold(monster.getRewards().getGold(), levelsAboveMin);
+        // 최소 레벨 행은 기준 값 그대로이므로 데이터에 캐시된 기본 템플릿을 공유
+        templates[row] = levelsAboveMin == 0 ? monster.getTemplate()
+            : MonsterTemplate.atLevel(monster, level, hp[row], attack[row], defense[row], exp[row], gold[row]);
+      }
+    }
+  }
+
+  /**
+   * 몬스터 ID의 순번을 반환합니다.
+   *
+   * @return 순번, 없으면 -1
+   */
+  public int ordinalOf(String monsterId) {
+    Integer ordinal = ordinals.get(monsterId);
+    return ordinal != null ? ordinal : -1;
+  }
+
+  private int row(int ordinal, int level) {
+    int clamped = Math.max(minLevels[ordinal], Math.min(level, maxLevels[ordinal]));
+    return offsets[ordinal] + clamped - minLevels[ordinal];
+  }
+
+  /**
+   * 레벨에 맞는 공유 템플릿을 반환합니다. (레벨은 몬스터 레벨 범위로 보정)
+   */
+  public MonsterTemplate getTemplate(int ordinal, int level) {
+    return templates[row(ordinal, level)];
+  }
+
+  /**
+   * 레벨을 몬스터 레벨 범위로 보정합니다.
+   */
+  public int clampLevel(int ordinal, int level) {
+    return Math.max(minLevels[ordinal], Math.min(level, maxLevels[ordinal]));
+  }
+
+  public int getHp(int ordinal, int level) {
+    return hp[row(ordinal, level)];
+  }
+
+  public int getAttack(int ordinal, int level) {
+    return attack[row(ordinal, level)];
+  }
+
+  public int getDefense(int ordinal, int level) {
+    return defense[row(ordinal, level)];
+  }
+
+  public int getExp(int ordinal, int level) {
+    return exp[row(ordinal, level)];
+  }
+
+  public int getGold(int ordinal, int level) {
+    return gold[row(ordinal, level)];
+  }
+
+  public int getMonsterCount() {
+    return offsets.length;
+  }
+
+  /**
+   * 전체 행 수 (몬스터별 레벨 구간 길이의 합)
+   */
+  public int getRowCount() {
+    return templates.length;
+  }
+}
@@ -0,0 +1,193 @@
+package rpg.infrastructure.data.loader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterRarity;
+import rpg.shared.util.NgramIndex;
+
+/**
+ * 몬스터 조회용 보조 인덱스 (ID, 희귀도, 레벨 구간, 이름/설명 검색)
+ * - 몬스터 데이터를 로드할 때 한 번 만들고 이후 변경하지 않음 (리로드 시 새 인덱스로 통째로 교체)
+ * - 희귀도: EnumMap → 목록 O(1)
+ * - 레벨: 레벨마다 [minLevel, maxLevel]에 그 레벨이 포함되는 몬스터 목록을 미리 만들어 두고(구간 찌르기 질의 O(1)),
+ *   범위 질의 [a, b]는 "a를 포함하는 몬스터 + minLevel이 (a, b]인 몬스터"로 나누어 minLevel 정렬 배열의 이진 탐색으로 처리 (O(log N + 결과 수))
+ * - 이름/설명: 음절 n-gram 역색인 (NgramIndex)
+ * - 결과 목록은 모두 읽기 전용이며, 레벨 질의 결과는 (최소 레벨, ID) 순, 그 외는 ID 순
+ */
+public final class MonsterQueryIndex {
+  private static final Logger logger = LoggerFactory.getLogger(MonsterQueryIndex.class);
+
+  public static final MonsterQueryIndex EMPTY = build(List.of());
+
+  private final Map<String, MonsterData> byId;
+  private final List<MonsterData> all; // ID 순
+  private final Map<MonsterRarity, List<MonsterData>> byRarity;
+  private final MonsterData[] byMinLevel; // (최소 레벨, ID) 순
+  private final int[] minLevels; // byMinLevel과 같은 순서의 최소 레벨 (이진 탐색용)
+  private final List<List<MonsterData>> byLevel; // 인덱스 = 레벨, 그 레벨이 레벨 범위에 포함되는 몬스터
+  private final NgramIndex<MonsterData> nameIndex;
+  private final NgramIndex<MonsterData> textIndex; // 이름 + 설명
+
+  private MonsterQueryIndex(Map<String, MonsterData> byId, List<MonsterData> all, Map<MonsterRarity, List<MonsterData>> byRarity,
+      MonsterData[] byMinLevel, List<List<MonsterData>> byLevel) {
+    this.byId = byId;
+    this.all = all;
+    this.byRarity = byRarity;
+    this.byMinLevel = byMinLevel;
+    this.minLevels = new int[byMinLevel.length];
+    for (int i = 0; i < byMinLevel.length; i++) {
+      minLevels[i] = byMinLevel[i].getMinLevel();
+    }
+    this.byLevel = byLevel;
+    this.nameIndex = new NgramIndex<>(all, List.<Function<MonsterData, String>>of(MonsterData::getName));
+    this.textIndex = new NgramIndex<>(all, List.<Function<MonsterData, String>>of(MonsterData::getName, MonsterData::getDescription));
+  }
+
+  /**
+   * 몬스터 목록으로 인덱스를 만듭니다.
+   */
+  public static MonsterQueryIndex build(Collection<MonsterData> monsters) {
+    List<MonsterData> sorted = new ArrayList<>(monsters);
+    sorted.sort(Comparator.comparing(MonsterData::getId));
+
+    Map<String, MonsterData> byId = new HashMap<>(sorted.size() * 2);
+    Map<MonsterRarity, List<MonsterData>> rarityBuckets = new EnumMap<>(MonsterRarity.class);
+    int maxLevel = 0;
+    for (MonsterData monster : sorted) {
+      byId.put(monster.getId(), monster);
+      MonsterRarity rarity = MonsterRarity.fromKey(monster.getRarity());
+      if (rarity == null) {
+        logger.warn("몬스터 {}: 알 수 없는 희귀도 '{}' (희귀도 인덱스에서 제외)", monster.getId(), monster.getRarity());
+      } else {
+        rarityBuckets.computeIfAbsent(rarity, key -> new ArrayList<>()).add(monster);
+      }
+      maxLevel = Math.max(maxLevel, monster.getMaxLevel());
+    }
+
+    Map<MonsterRarity, List<MonsterData>> byRarity = new EnumMap<>(MonsterRarity.class);
+    for (MonsterRarity rarity : MonsterRarity.values()) {
+      List<MonsterData> bucket = rarityBuckets.get(rarity);
+      byRarity.put(rarity, bucket != null ? Collections.unmodifiableList(bucket) : List.of());
+    }
+
+    MonsterData[] byMinLevel = sorted.toArray(new MonsterData[0]);
+    Arrays.sort(byMinLevel, Comparator.comparingInt(MonsterData::getMinLevel).thenComparing(MonsterData::getId));
+
+    // 최소 레벨 순으로 넣으므로 레벨별 목록도 (최소 레벨, ID) 순
+    List<List<MonsterData>> levelBuckets = new ArrayList<>(maxLevel + 1);
+    for (int level = 0; level <= maxLevel; level++) {
+      levelBuckets.add(new ArrayList<>());
+    }
+    for (MonsterData monster : byMinLevel) {
+      for (int level = Math.max(0, monster.getMinLevel()); level <= monster.getMaxLevel(); level++) {
+        levelBuckets.get(level).add(monster);
+      }
+    }
+    List<List<MonsterData>> byLevel = new ArrayList<>(levelBuckets.size());
+    for (List<MonsterData> bucket : levelBuckets) {
+      byLevel.add(bucket.isEmpty() ? List.of() : Collections.unmodifiableList(bucket));
+    }
+
+    return new MonsterQueryIndex(Collections.unmodifiableMap(byId), Collections.unmodifiableList(sorted), byRarity, byMinLevel,
+        Collections.unmodifiableList(byLevel));
+  }
+
+  public MonsterData getById(String monsterId) {
+    return monsterId == null ? null : byId.get(monsterId);
+  }
+
+  /**
+   * ID → 몬스터 (읽기 전용)
+   */
+  public Map<String, MonsterData> getById() {
+    return byId;
+  }
+
+  /**
+   * 모든 몬스터 (ID 순, 읽기 전용)
+   */
+  public List<MonsterData> getAll() {
+    return all;
+  }
+
+  public int size() {
+    return all.size();
+  }
+
+  public List<MonsterData> getByRarity(MonsterRarity rarity) {
+    return rarity == null ? List.of() : byRarity.get(rarity);
+  }
+
+  /**
+   * 레벨 범위에 해당 레벨이 포함되는 몬스터
+   */
+  public List<MonsterData> getByLevel(int level) {
+    return level < 0 || level >= byLevel.size() ? List.of() : byLevel.get(level);
+  }
+
+  /**
+   * 레벨 범위가 [minLevel, maxLevel]과 겹치는 몬스터
+   */
+  public List<MonsterData> getByLevelRange(int minLevel, int maxLevel) {
+    if (minLevel > maxLevel) {
+      return List.of();
+    }
+    List<MonsterData> containing = getByLevel(minLevel);
+    int from = firstMinLevelAbove(minLevel);
+    int to = firstMinLevelAbove(maxLevel);
+    if (from >= to) {
+      return containing;
+    }
+
+    List<MonsterData> result = new ArrayList<>(containing.size() + to - from);
+    result.addAll(containing);
+    for (int i = from; i < to; i++) {
+      if (byMinLevel[i].getMaxLevel() >= byMinLevel[i].getMinLevel()) {
+        result.add(byMinLevel[i]);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * 최소 레벨이 level보다 큰 첫 위치 (없으면 길이)
+   */
+  private int firstMinLevelAbove(int level) {
+    int low = 0;
+    int high = minLevels.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (minLevels[mid] <= level) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * 이름에 검색어가 포함된 몬스터
+   */
+  public List<MonsterData> searchByName(String query) {
+    return nameIndex.search(query);
+  }
+
+  /**
+   * 이름이나 설명에 검색어가 포함된 몬스터
+   */
+  public List<MonsterData> search(String query) {
+    return textIndex.search(query);
+  }
+}
@@ -0,0 +1,177 @@
+package rpg.infrastructure.data.loader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import rpg.domain.monster.MonsterData;
+import rpg.domain.monster.MonsterSpawnTable;
+import rpg.domain.monster.MonsterTemplate;
+import rpg.shared.constant.BattleConstants;
+
+/**
+ * 지역 → 플레이어 레벨 → 출현 추첨 테이블 인덱스
+ * - 몬스터 데이터를 로드할 때 한 번 만들고 이후 변경하지 않음 (리로드 시 새 인덱스로 통째로 교체)
+ * - 레벨마다 조우 규칙(레벨 적합 → 없으면 근접 레벨)으로 후보를 미리 골라 별칭 테이블로 만들어 둠
+ *   (후보가 같은 연속 레벨 구간은 테이블 하나를 공유)
+ * - 조우 시에는 배열 조회 후 테이블 추첨만 하므로 스트림, 필터링, 목록 생성이 없음
+ * - 같은 순번 체계의 레벨별 능력치 표(MonsterLevelTable)를 함께 가지므로 추첨한 순번으로 레벨별 템플릿을 바로 조회
+ */
+public final class MonsterSpawnIndex {
+  public static final MonsterSpawnIndex EMPTY = new MonsterSpawnIndex(Map.of(), 0, MonsterLevelTable.EMPTY);
+
+  private final Map<String, LocationSpawns> locations;
+  private final int tableCount;
+  private final MonsterLevelTable levelTable;
+
+  /**
+   * 한 지역의 서식 몬스터와 레벨별 추첨 테이블 (인덱스 = 플레이어 레벨, 후보가 없으면 null)
+   */
+  private record LocationSpawns(List<MonsterData> monsters, MonsterSpawnTable[] tablesByLevel) {
+  }
+
+  private MonsterSpawnIndex(Map<String, LocationSpawns> locations, int tableCount, MonsterLevelTable levelTable) {
+    this.locations = locations;
+    this.tableCount = tableCount;
+    this.levelTable = levelTable;
+  }
+
+  /**
+   * 몬스터 목록으로 인덱스를 만듭니다. 같은 데이터면 항상 같은 순서의 테이블이 만들어지도록 ID 순으로 정렬합니다.
+   */
+  public static MonsterSpawnIndex build(Collection<MonsterData> monsters) {
+    List<MonsterData> sorted = new ArrayList<>(monsters);
+    sorted.sort(Comparator.comparing(MonsterData::getId));
+    MonsterLevelTable levelTable = new MonsterLevelTable(sorted);
+
+    Map<String, List<MonsterData>> byLocation = new LinkedHashMap<>();
+    for (MonsterData monster : sorted) {
+      for (String locationId : monster.getLocations()) {
+        byLocation.computeIfAbsent(locationId, key -> new ArrayList<>()).add(monster);
+      }
+    }
+
+    Map<String, LocationSpawns> locations = new HashMap<>();
+    int tableCount = 0;
+    for (Map.Entry<String, List<MonsterData>> entry : byLocation.entrySet()) {
+      List<MonsterData> locationMonsters = entry.getValue();
+      MonsterSpawnTable[] tables = buildLevelTables(locationMonsters, levelTable);
+      MonsterSpawnTable previous = null;
+      for (MonsterSpawnTable table : tables) {
+        if (table != null && table != previous) {
+          tableCount++;
+        }
+        previous = table;
+      }
+      locations.put(entry.getKey(), new LocationSpawns(List.copyOf(locationMonsters), tables));
+    }
+    return new MonsterSpawnIndex(Map.copyOf(locations), tableCount, levelTable);
+  }
+
+  /**
+   * 레벨 1부터 이 지역에서 후보가 있을 수 있는 최대 레벨까지 레벨별 테이블을 만듭니다.
+   */
+  private static MonsterSpawnTable[] buildLevelTables(List<MonsterData> monsters, MonsterLevelTable levelTable) {
+    int maxLevel = 1;
+    for (MonsterData monster : monsters) {
+      maxLevel = Math.max(maxLevel,
+          Math.max(monster.getMaxLevel() + BattleConstants.SPAWN_LEVEL_MARGIN, monster.getMinLevel() + BattleConstants.SPAWN_FALLBACK_LEVEL_RANGE));
+    }
+
+    MonsterSpawnTable[] tables = new MonsterSpawnTable[maxLevel + 1];
+    List<MonsterData> previousCandidates = List.of();
+    MonsterSpawnTable previousTable = null;
+    for (int level = 1; level <= maxLevel; level++) {
+      List<MonsterData> candidates = selectCandidates(monsters, level);
+      if (!candidates.equals(previousCandidates)) {
+        previousCandidates = candidates;
+        previousTable = candidates.isEmpty() ? null : new MonsterSpawnTable(candidates, ordinalsOf(candidates, levelTable));
+      }
+      tables[level] = previousTable;
+    }
+    return tables;
+  }
+
+  private static int[] ordinalsOf(List<MonsterData> monsters, MonsterLevelTable levelTable) {
+    int[] ordinals = new int[monsters.size()];
+    for (int i = 0; i < ordinals.length; i++) {
+      ordinals[i] = levelTable.ordinalOf(monsters.get(i).getId());
+    }
+    return ordinals;
+  }
+
+  /**
+   * 조우 규칙: 플레이어 레벨이 몬스터 레벨 범위(+여유) 안이면 후보, 하나도 없으면 최소 레벨이 가까운 몬스터
+   */
+  private static List<MonsterData> selectCandidates(List<MonsterData> monsters, int level) {
+    List<MonsterData> candidates = new ArrayList<>();
+    for (MonsterData monster : monsters) {
+      if (level >= monster.getMinLevel() && level <= monster.getMaxLevel() + BattleConstants.SPAWN_LEVEL_MARGIN) {
+        candidates.add(monster);
+      }
+    }
+    if (candidates.isEmpty()) {
+      for (MonsterData monster : monsters) {
+        if (Math.abs(level - monster.getMinLevel()) <= BattleConstants.SPAWN_FALLBACK_LEVEL_RANGE) {
+          candidates.add(monster);
+        }
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * 지역과 플레이어 레벨에 맞는 출현 테이블을 반환합니다.
+   *
+   * @return 추첨 테이블, 조우할 몬스터가 없으면 null
+   */
+  public MonsterSpawnTable getSpawnTable(String locationId, int playerLevel) {
+    LocationSpawns spawns = locations.get(locationId);
+    if (spawns == null) {
+      return null;
+    }
+    MonsterSpawnTable[] tables = spawns.tablesByLevel();
+    int level = Math.max(1, playerLevel);
+    return level < tables.length ? tables[level] : null;
+  }
+
+  /**
+   * 지역에 서식하는 모든 몬스터 (읽기 전용, ID 순)
+   */
+  public List<MonsterData> getMonsters(String locationId) {
+    LocationSpawns spawns = locations.get(locationId);
+    return spawns != null ? spawns.monsters() : List.of();
+  }
+
+  /**
+   * 추첨한 몬스터 순번과 레벨로 공유 템플릿을 조회합니다. (레벨은 몬스터 레벨 범위로 보정)
+   */
+  public MonsterTemplate getTemplate(int ordinal, int level) {
+    return levelTable.getTemplate(ordinal, level);
+  }
+
+  /**
+   * 레벨별 능력치/보상 표
+   */
+  public MonsterLevelTable getLevelTable() {
+    return levelTable;
+  }
+
+  public boolean hasMonsters(String locationId) {
+    return locations.containsKey(locationId);
+  }
+
+  public int getLocationCount() {
+    return locations.size();
+  }
+
+  /**
+   * 서로 다른 추첨 테이블 수 (레벨 구간 수의 합)
+   */
+  public int getTableCount() {
+    return tableCount;
+  }
+}
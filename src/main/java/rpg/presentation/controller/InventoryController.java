@@ -150,7 +150,7 @@ public class InventoryController {
     System.out.println("\n=== 사용 가능한 아이템 ===");
     for (int i = GameConstants.NUMBER_ZERO; i < usableItems.size(); i++) {
       GameConsumable item = usableItems.get(i);
-      int quantity = player.getInventory().getItemCount(item.getName());
+      int quantity = player.getInventory().getItemCountById(item.getId());
 
       System.out.printf("%d. %s x%d%n", i + GameConstants.NUMBER_ONE, item.getName(), quantity);
       System.out.printf("   📝 %s%n", item.getDescription());
@@ -193,7 +193,7 @@ public class InventoryController {
       }
     }
 
-    return player.getInventory().useItem(item.getName(), player);
+    return player.getInventory().useItemById(item.getId(), player);
   }
 
   /**
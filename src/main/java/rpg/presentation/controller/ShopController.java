@@ -3,7 +3,6 @@ package rpg.presentation.controller;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rpg.application.factory.GameEffectFactory;
@@ -24,6 +23,7 @@ import rpg.domain.shop.ShopItemCategory;
 import rpg.presentation.menu.ShopMenu;
 import rpg.shared.constant.GameConstants;
 import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
 
 /**
  * @formatter:off
@@ -39,7 +39,7 @@ public class ShopController {
   private final List<ShopItem> shopItems;
   private final InventoryController inventoryController;
   private final GameItemFactory itemFactory;
-  private final Random random;
+  private final RandomUtils random;
   private final ShopMenu shopMenu;
 
   private boolean currentEventActive = false;
@@ -49,7 +49,7 @@ public class ShopController {
     this.inventoryController = inventoryController;
     this.itemFactory = GameItemFactory.getInstance();
     this.shopItems = new ArrayList<>();
-    this.random = new Random();
+    this.random = RandomUtils.session();
     this.shopMenu = new ShopMenu();
     initializeShopItems();
     logger.debug("ShopController 초기화 완료 (GameItemFactory 통합)");
@@ -827,7 +827,7 @@ public class ShopController {
     }
 
     // 판매 처리
-    if (player.getInventory().removeItem(item.getName(), quantity)) {
+    if (player.getInventory().removeItemById(item.getId(), quantity)) {
       player.setGold(player.getGold() + totalPrice);
 
       System.out.printf("✅ %s x%d을(를) %d골드에 판매했습니다!%n", item.getName(), quantity, totalPrice);
@@ -894,7 +894,7 @@ public class ShopController {
       GameItem item = stack.getItem();
       int quantity = stack.getQuantity();
 
-      if (player.getInventory().removeItem(item.getName(), quantity)) {
+      if (player.getInventory().removeItemById(item.getId(), quantity)) {
         soldCount++;
       }
     }
@@ -1,5 +1,140 @@
 package rpg.presentation.display;
 
-public class BattleDisplay {
+import java.io.PrintStream;
+import java.util.Formatter;
+import java.util.List;
+import rpg.core.battle.BattleOutput;
+import rpg.domain.monster.Monster;
+import rpg.domain.player.Player;
+import rpg.domain.status.StatusEffects;
+import rpg.shared.util.ConsoleColors;
 
+/**
+ * 프레임 단위 전투 화면 출력기
+ * - 한 턴 동안의 출력을 재사용 StringBuilder에 모았다가 flush 시 한 번에 쓰고 비움
+ * - System.out(동기화 + 자동 flush)을 줄마다 호출하던 방식 대비 턴당 쓰기 1회
+ * - 다른 코드가 System.out에 직접 출력하기 전에는 엔진이 flush를 호출해 순서를 보장해야 함
+ */
+public class BattleDisplay implements BattleOutput {
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int HEALTH_BAR_LENGTH = 20;
+
+  private final PrintStream out;
+  private final StringBuilder frame;
+  private final Formatter formatter;
+  private int flushCount;
+
+  public BattleDisplay() {
+    this(System.out);
+  }
+
+  public BattleDisplay(PrintStream out) {
+    if (out == null) {
+      throw new IllegalArgumentException("출력 스트림은 null일 수 없습니다.");
+    }
+    this.out = out;
+    this.frame = new StringBuilder(1024);
+    this.formatter = new Formatter(frame);
+  }
+
+  @Override
+  public void println(String line) {
+    frame.append(line).append(LINE_SEPARATOR);
+  }
+
+  @Override
+  public void printf(String format, Object... args) {
+    formatter.format(format, args);
+  }
+
+  /**
+   * 체력 바를 포함한 전투 상황을 프레임에 추가합니다.
+   */
+  @Override
+  public void showStatus(Player player, List<Monster> monsters) {
+    frame.append(LINE_SEPARATOR).append("--- ⚔️ 전투 상황 ---").append(LINE_SEPARATOR);
+
+    // 플레이어 상태
+    frame.append("🧙 ").append(player.getName()).append(LINE_SEPARATOR);
+    appendHealthBar(player.getHp(), player.getTotalMaxHp(), HEALTH_BAR_LENGTH, true);
+    frame.append(" | 💙 MP (").append(player.getMp()).append('/').append(player.getMaxMp()).append(')').append(LINE_SEPARATOR);
+    appendStatusEffects(player.getStatusEffects());
+    frame.append(LINE_SEPARATOR);
+
+    // 몬스터 상태 (쓰러진 몬스터는 생략)
+    for (int i = 0; i < monsters.size(); i++) {
+      Monster monster = monsters.get(i);
+      if (!monster.isAlive()) {
+        continue;
+      }
+      frame.append("👹 ").append(monster.getName()).append(LINE_SEPARATOR);
+      appendHealthBar(monster.getHp(), monster.getMaxHp(), HEALTH_BAR_LENGTH, true);
+      frame.append(LINE_SEPARATOR);
+      if (monster.hasStatusEffects()) {
+        appendStatusEffects(monster.getStatusEffects());
+      }
+    }
+    frame.append("-------------------").append(LINE_SEPARATOR);
+  }
+
+  /**
+   * 모아 둔 프레임을 한 번에 쓰고 버퍼를 비웁니다.
+   */
+  @Override
+  public void flush() {
+    if (frame.length() == 0) {
+      return;
+    }
+    out.append(frame);
+    out.flush();
+    frame.setLength(0);
+    flushCount++;
+  }
+
+  /**
+   * 걸려 있는 상태 효과가 있으면 한 줄로 추가합니다.
+   */
+  private void appendStatusEffects(StatusEffects effects) {
+    if (effects.hasAny()) {
+      effects.appendTo(frame.append("✨ 효과: ")).append(LINE_SEPARATOR);
+    }
+  }
+
+  /**
+   * 커스텀 체력 바 생성 (하트 아이콘 옵션 포함)
+   */
+  private void appendHealthBar(int current, int max, int barLength, boolean includeHeart) {
+    int filledLength = max > 0 ? (int) ((double) Math.max(0, current) / max * barLength) : 0;
+    filledLength = Math.min(filledLength, barLength);
+
+    frame.append('[');
+
+    // 채워진 부분 (빨간색)
+    frame.append(ConsoleColors.BRIGHT_RED);
+    for (int i = 0; i < filledLength; i++) {
+      frame.append('█');
+    }
+
+    // 빈 부분 (회색)
+    frame.append(ConsoleColors.BRIGHT_BLACK);
+    for (int i = filledLength; i < barLength; i++) {
+      frame.append('░');
+    }
+
+    frame.append(ConsoleColors.RESET);
+    frame.append("] ");
+
+    // 하트 아이콘과 수치 (옵션)
+    if (includeHeart) {
+      frame.append("❤️ ");
+    }
+    frame.append(current).append('/').append(max);
+  }
+
+  /**
+   * 지금까지 실제로 출력 스트림에 쓴 횟수
+   */
+  public int getFlushCount() {
+    return flushCount;
+  }
 }
@@ -3,9 +3,18 @@ package rpg.shared.constant;
 public class BattleConstants {
   // === 전투 관련 상수 ===
   public static final int ESCAPE_CHANCE = 50;
+  public static final int MAX_BATTLE_TURNS = 1000; // 무한 전투 방지용 최대 턴 수
+  public static final int PLAYER_CRITICAL_CHANCE = 15; // 플레이어 일반 공격 크리티컬 확률 (%)
+  public static final int MONSTER_DAMAGE_VARIANCE = 3; // 몬스터 공격 데미지 편차 (0 ~ 2 추가)
+  public static final int PLAYER_BASE_SPEED = 10; // 플레이어 기본 속도 (행동 순서 결정)
+  public static final int PLAYER_SPEED_PER_LEVEL = 1; // 레벨당 플레이어 속도 증가
+  public static final int MAX_ENCOUNTER_SIZE = 3; // 한 번에 조우하는 최대 몬스터 수
+  public static final int EXTRA_MONSTER_CHANCE = 25; // 몬스터가 한 마리 더 나타날 확률 (%)
 
   // === 탐험 관련 상수 ===
   public static final int RANDOM_EVENT_CHANCE = 15;
   public static final int ITEM_DROP_CHANCE = 20;
+  public static final int SPAWN_LEVEL_MARGIN = 2; // 몬스터 최대 레벨보다 이만큼 높은 플레이어까지 조우
+  public static final int SPAWN_FALLBACK_LEVEL_RANGE = 5; // 적합한 몬스터가 없을 때 최소 레벨 차이 허용 범위
 
 }
@@ -56,6 +56,7 @@ public class GameConstants {
   public static final double ABILITY_TRIGGER_CHANCE = 0.25; // 특수 능력 발동 확률
   public static final int REGENERATION_AMOUNT = 5; // 재생 회복량
   public static final double CRITICAL_DAMAGE_MULTIPLIER = 1.5; // 크리티컬 데미지 배율
+  public static final int ABILITY_STATUS_DURATION = 3; // 특수 능력으로 건 상태 이상 지속 턴 수
 
   // === 몬스터 JSON 캐싱 관련 ===
   public static final boolean ENABLE_MONSTER_CACHE = true; // 몬스터 데이터 캐싱 활성화
@@ -10,6 +10,11 @@ public class SystemConstants {
   public static final String SAVE_FILE_PREFIX = "rpg_save_slot";
   public static final String BACKUP_PREFIX = "rpg_save_backup_";
 
+  // === 리포트 관련 ===
+  public static final String REPORT_DIRECTORY = "reports"; // 시뮬레이션/통계 리포트 출력 디렉토리
+  public static final String TELEMETRY_FILE = "exploration_telemetry.csv"; // 지역별 탐험 통계 파일 (REPORT_DIRECTORY 아래)
+  public static final long TELEMETRY_DUMP_INTERVAL_SECONDS = 60; // 탐험 통계 파일 기록 주기
+
   // === 설정 파일 경로 ===
   public static final String BASIC_POTIONS_CONFIG = "/config/items/basic_potions.json";
   public static final String BASIC_WEAPONS_CONFIG = "/config/items/basic_weapons.json";
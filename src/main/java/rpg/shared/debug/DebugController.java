@@ -1,17 +1,27 @@
 package rpg.shared.debug;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,21 +29,42 @@ import rpg.application.factory.GameEffectFactory;
 import rpg.application.factory.GameItemFactory;
 import rpg.application.factory.JsonBasedQuestFactory;
 import rpg.application.factory.SkillFactory;
+import rpg.application.service.DynamicQuestDataProvider;
 import rpg.application.service.QuestManager;
 import rpg.application.validator.InputValidator;
+import rpg.core.battle.AttackOnlyPolicy;
+import rpg.core.battle.BattleActionPolicy;
+import rpg.core.battle.BattleEngine;
+import rpg.core.battle.BattleEventLog;
+import rpg.core.battle.BattleOutput;
+import rpg.core.battle.BattleReplayer;
+import rpg.core.battle.ExpectedValuePolicy;
 import rpg.core.engine.GameEngine;
+import rpg.core.exploration.ExplorationTelemetry;
+import rpg.core.exploration.TelemetrySnapshot;
+import rpg.core.simulation.BalanceReport;
+import rpg.core.simulation.BalanceSimulator;
+import rpg.domain.battle.BattleCalculator;
 import rpg.domain.inventory.PlayerInventory;
 import rpg.domain.item.GameEquipment;
 import rpg.domain.item.GameItem;
+import rpg.domain.item.GameItemData;
 import rpg.domain.item.ItemRarity;
 import rpg.domain.item.effect.GameEffect;
+import rpg.domain.monster.Monster;
 import rpg.domain.player.Player;
 import rpg.domain.quest.Quest;
 import rpg.domain.quest.QuestReward;
 import rpg.domain.skill.Skill;
+import rpg.infrastructure.data.loader.ConfigDataLoader;
+import rpg.infrastructure.data.loader.ItemCatalogLoader;
+import rpg.infrastructure.data.loader.ItemDataLoader;
 import rpg.infrastructure.data.loader.QuestTemplateLoader;
+import rpg.presentation.display.BattleDisplay;
+import rpg.shared.constant.BattleConstants;
 import rpg.shared.constant.SystemConstants;
 import rpg.shared.util.ConsoleColors;
+import rpg.shared.util.RandomUtils;
 
 /**
  * 디버그 및 테스트 기능을 전담하는 컨트롤러
@@ -43,9 +74,11 @@ public class DebugController {
   private static final Logger logger = LoggerFactory.getLogger(DebugController.class);
 
   private final Player player;
+  private final BattleEngine battleEngine;
 
-  public DebugController(Player player) {
+  public DebugController(Player player, BattleEngine battleEngine) {
     this.player = player;
+    this.battleEngine = battleEngine;
     logger.debug("DebugController 초기화 완료");
   }
 
@@ -73,9 +106,12 @@ public class DebugController {
       System.out.println("11. 🛠️ 전체 시스템 진단");
       System.out.println("12. 📖 도움말 메뉴");
       System.out.println("13. 🎨 색깔테스트");
+      System.out.println("14. ⚖️ 밸런스 시뮬레이션");
+      System.out.println("15. 🎞️ 전투 기록 재생");
+      System.out.println("16. 📡 지역별 탐험 통계");
       System.out.println("0. 🔙 돌아가기");
 
-      int choice = InputValidator.getIntInput("선택 (0-12): ", 0, 12);
+      int choice = InputValidator.getIntInput("선택 (0-16): ", 0, 16);
 
       switch (choice) {
         case 1:
@@ -117,6 +153,15 @@ public class DebugController {
         case 13:
           ConsoleColors.testColors();
           break;
+        case 14:
+          runBalanceSimulation();
+          break;
+        case 15:
+          runBattleReplay();
+          break;
+        case 16:
+          showExplorationTelemetry();
+          break;
         case 0:
           return;
         default:
@@ -1123,11 +1168,399 @@ public class DebugController {
         System.out.println("   ⚠️ 성능: 최적화 필요");
       }
 
+      runDamageCalculationBenchmark();
+      runBattleOutputBenchmark();
+      runEquipmentStatBenchmark();
+      runItemCatalogBenchmark();
+
     } catch (Exception e) {
       System.out.println("❌ 성능 벤치마크 실패: " + e.getMessage());
     }
   }
 
+  /**
+   * 데미지 계산 성능 테스트
+   * 이전의 실수 배율 계산, BattleCalculator 정수 계산, 실제 도메인 경로(takeDamage)를 비교합니다.
+   */
+  private void runDamageCalculationBenchmark() {
+    System.out.println("\n⚔️ 데미지 계산 성능 테스트:");
+
+    int iterations = 5_000_000;
+    int warmup = 500_000;
+    int[] attacks = new int[1024];
+    int[] rolls = new int[1024];
+    RandomUtils random = new RandomUtils(42);
+    for (int i = 0; i < attacks.length; i++) {
+      attacks[i] = 5 + random.nextInt(200);
+      rolls[i] = random.nextInt(100);
+    }
+    int defense = 7;
+    int criticalPermille = BattleCalculator.CRITICAL_MULTIPLIER_PERMILLE;
+    int skillPermille = BattleCalculator.toPermille(1.8);
+
+    long sink = 0;
+    long legacyNanos = 0;
+    long calculatorNanos = 0;
+    for (int pass = 0; pass < 2; pass++) {
+      int count = pass == 0 ? warmup : iterations;
+
+      long start = System.nanoTime();
+      for (int i = 0; i < count; i++) {
+        int attack = attacks[i & 1023];
+        int damage = rolls[i & 1023] < 15 ? (int) (attack * 1.5) : attack;
+        sink += Math.max(1, damage - defense) + Math.max(1, (int) (attack * 1.8) - defense);
+      }
+      legacyNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < count; i++) {
+        int attack = attacks[i & 1023];
+        boolean critical = BattleCalculator.isSuccess(rolls[i & 1023], BattleConstants.PLAYER_CRITICAL_CHANCE);
+        int damage = critical ? BattleCalculator.scale(attack, criticalPermille) : attack;
+        sink += BattleCalculator.mitigate(damage, defense) + BattleCalculator.mitigate(BattleCalculator.skillDamage(attack, skillPermille), defense);
+      }
+      calculatorNanos = System.nanoTime() - start;
+    }
+
+    // 실제 전투와 같은 도메인 객체 경로 (로그 레벨 검사, 장비 방어력 합산 포함)
+    Monster dummy = new Monster("벤치마크 허수아비", Integer.MAX_VALUE, 1, 0, 0);
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink += dummy.takeDamage(attacks[i & 1023]);
+      dummy.setHp(Integer.MAX_VALUE);
+    }
+    long domainNanos = System.nanoTime() - start;
+
+    System.out.printf("   기존 실수 배율 계산: %,.0f 회/초%n", iterations * 1_000_000_000.0 / Math.max(1, legacyNanos));
+    System.out.printf("   BattleCalculator 정수 계산: %,.0f 회/초%n", iterations * 1_000_000_000.0 / Math.max(1, calculatorNanos));
+    System.out.printf("   Monster.takeDamage 경로: %,.0f 회/초%n", iterations * 1_000_000_000.0 / Math.max(1, domainNanos));
+    System.out.printf("   (검증값: %d)%n", sink);
+  }
+
+  /**
+   * 전투 출력 쓰기 횟수 측정
+   * 같은 시드의 전투를 줄 단위 콘솔 출력과 BattleDisplay 프레임 출력으로 각각 실행하고,
+   * System.out과 같은 구성(128바이트 버퍼, 자동 flush)의 스트림 아래에서 실제 쓰기 호출 수를 셉니다.
+   */
+  private void runBattleOutputBenchmark() {
+    System.out.println("\n🖥️ 전투 출력 쓰기 횟수 측정:");
+
+    int battles = 20;
+    WriteCountingStream lineCounter = new WriteCountingStream();
+    WriteCountingStream frameCounter = new WriteCountingStream();
+    BattleOutput lineOutput = BattleOutput.console(new PrintStream(new BufferedOutputStream(lineCounter, 128), true, StandardCharsets.UTF_8));
+    BattleDisplay frameOutput = new BattleDisplay(new PrintStream(new BufferedOutputStream(frameCounter, 128), true, StandardCharsets.UTF_8));
+
+    int lineTurns = runOutputBattles(BattleEngine.simulation(new AttackOnlyPolicy(), new RandomUtils(42), lineOutput), battles);
+    int frameTurns = runOutputBattles(BattleEngine.simulation(new AttackOnlyPolicy(), new RandomUtils(42), frameOutput), battles);
+
+    System.out.printf("   전투 %d회 (총 %d턴)%n", battles, lineTurns);
+    System.out.printf("   줄 단위 출력: 쓰기 %,d회 (전투당 %.1f회, %,d bytes)%n", lineCounter.writes, lineCounter.writes / (double) battles, lineCounter.bytes);
+    System.out.printf("   BattleDisplay: 쓰기 %,d회 (전투당 %.1f회, %,d bytes)%n", frameCounter.writes, frameCounter.writes / (double) battles, frameCounter.bytes);
+    if (lineTurns != frameTurns) {
+      System.out.println("   ⚠️ 두 실행의 턴 수가 다릅니다: " + lineTurns + " / " + frameTurns);
+    }
+  }
+
+  /**
+   * 장비 보너스가 포함된 스탯 조회 성능 측정
+   * 전투 1회 분량(20턴, 턴마다 공격력/방어력/최대 MP 1회, 최대 HP 2회 조회)을 반복해,
+   * 이전 방식(조회마다 세 슬롯 합산 + EquipmentBonus 생성)과 PlayerInventory 보너스 필드 조회를 비교합니다.
+   */
+  private void runEquipmentStatBenchmark() {
+    System.out.println("\n🛡️ 장비 스탯 조회 성능 테스트:");
+
+    int battleTurns = 20;
+    int readsPerTurn = 5;
+    int battles = 200_000;
+    int warmup = 20_000;
+
+    Player dummyPlayer = BalanceSimulator.createSyntheticPlayer(10, player.getQuestManager());
+    PlayerInventory inventory = dummyPlayer.getInventory();
+    GameItemFactory factory = GameItemFactory.getInstance();
+    for (String type : new String[] {"WEAPON", "ARMOR", "ACCESSORY"}) {
+      List<String> ids = factory.getItemIdsByType(type);
+      if (!ids.isEmpty() && factory.createItem(ids.get(0)) instanceof GameEquipment equipment) {
+        switch (equipment.getEquipmentType()) {
+          case WEAPON:
+            inventory.forceSetEquippedWeapon(equipment);
+            break;
+          case ARMOR:
+            inventory.forceSetEquippedArmor(equipment);
+            break;
+          case ACCESSORY:
+            inventory.forceSetEquippedAccessory(equipment);
+            break;
+        }
+      }
+    }
+
+    long sink = 0;
+    long legacyNanos = 0;
+    long fieldNanos = 0;
+    for (int pass = 0; pass < 2; pass++) {
+      int count = pass == 0 ? warmup : battles;
+
+      long start = System.nanoTime();
+      for (int b = 0; b < count; b++) {
+        for (int turn = 0; turn < battleTurns; turn++) {
+          sink += sumEquippedBonus(inventory).getAttackBonus() + sumEquippedBonus(inventory).getDefenseBonus();
+          sink += sumEquippedBonus(inventory).getHpBonus() + sumEquippedBonus(inventory).getHpBonus() + sumEquippedBonus(inventory).getMpBonus();
+        }
+      }
+      legacyNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int b = 0; b < count; b++) {
+        for (int turn = 0; turn < battleTurns; turn++) {
+          sink += dummyPlayer.getAttack() + dummyPlayer.getTotalDefense();
+          sink += dummyPlayer.getTotalMaxHp() + dummyPlayer.getTotalMaxHp() + dummyPlayer.getTotalMaxMp();
+        }
+      }
+      fieldNanos = System.nanoTime() - start;
+    }
+
+    long reads = (long) battles * battleTurns * readsPerTurn;
+    System.out.printf("   전투 %,d회 분량 (전투당 %d회 조회, 총 %,d회)%n", battles, battleTurns * readsPerTurn, reads);
+    System.out.printf("   이전 방식 (슬롯 합산 + 객체 생성): 전투당 %.0f ns%n", legacyNanos / (double) battles);
+    System.out.printf("   보너스 필드 조회 (Player 스탯 경로): 전투당 %.0f ns%n", fieldNanos / (double) battles);
+    System.out.printf("   (검증값: %d)%n", sink);
+  }
+
+  /**
+   * 아이템 카탈로그 성능 측정
+   * - 퀘스트 아이템 선택: 이전 방식(선택마다 basic_* 파일 재파싱)과 카탈로그 조회를 비교
+   * - 리로드: 읽기 스레드가 아이템을 계속 조회하는 동안 카탈로그를 반복 교체하고 조회 실패 수를 셉니다
+   */
+  private void runItemCatalogBenchmark() {
+    System.out.println("\n📚 아이템 카탈로그 성능 테스트:");
+
+    int picks = 40;
+    DynamicQuestDataProvider questData = DynamicQuestDataProvider.getInstance();
+    long sink = 0;
+
+    long start = System.nanoTime();
+    for (int i = 0; i < picks; i++) {
+      sink += ConfigDataLoader.loadAllItems().size();
+    }
+    long parseNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < picks / 2; i++) {
+      sink += questData.selectRandomCollectableItem().getValue() + questData.selectItemByType("CONSUMABLE").getValue();
+    }
+    long catalogNanos = System.nanoTime() - start;
+
+    System.out.printf("   퀘스트 아이템 선택 %d회 - 이전 방식 (파일 재파싱): %.1f ms%n", picks, parseNanos / 1_000_000.0);
+    System.out.printf("   퀘스트 아이템 선택 %d회 - 카탈로그 조회: %.1f ms%n", picks, catalogNanos / 1_000_000.0);
+
+    int readers = 4;
+    int reloads = 30;
+    GameItemFactory factory = GameItemFactory.getInstance();
+    List<String> itemIds = new ArrayList<>(factory.getAllItemIds());
+    List<String> catalogIds = new ArrayList<>(ItemCatalogLoader.getCatalog().getItems().keySet());
+    AtomicBoolean stop = new AtomicBoolean();
+    AtomicLong reads = new AtomicLong();
+    AtomicLong misses = new AtomicLong();
+
+    Thread[] threads = new Thread[readers];
+    for (int t = 0; t < readers; t++) {
+      threads[t] = new Thread(() -> {
+        int i = 0;
+        while (!stop.get()) {
+          GameItem item = factory.createItem(itemIds.get(i % itemIds.size()));
+          GameItemData data = ItemDataLoader.getItemDataById(catalogIds.get(i % catalogIds.size()));
+          if (item == null || data == null) {
+            misses.incrementAndGet();
+          }
+          reads.incrementAndGet();
+          i++;
+        }
+      }, "catalog-reader-" + t);
+      threads[t].start();
+    }
+
+    long reloadNanos = 0;
+    try {
+      for (int r = 0; r < reloads; r++) {
+        start = System.nanoTime();
+        ItemCatalogLoader.reload();
+        reloadNanos += System.nanoTime() - start;
+        sink += factory.getItemCount();
+        Thread.sleep(10);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      stop.set(true);
+    }
+    for (Thread thread : threads) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    System.out.printf("   리로드 %d회 (평균 %.1f ms), 읽기 스레드 %d개%n", reloads, reloadNanos / 1_000_000.0 / reloads, readers);
+    System.out.printf("   조회 %,d회 중 실패 %d회 (카탈로그 버전 v%d)%n", reads.get(), misses.get(), ItemCatalogLoader.getCatalog().getVersion());
+    System.out.printf("   (검증값: %d)%n", sink);
+  }
+
+  /**
+   * 이전 PlayerInventory.getTotalBonus 방식: 조회마다 세 슬롯을 합산해 새 객체로 반환
+   */
+  private static PlayerInventory.EquipmentBonus sumEquippedBonus(PlayerInventory inventory) {
+    GameEquipment weapon = inventory.getEquippedWeapon();
+    GameEquipment armor = inventory.getEquippedArmor();
+    GameEquipment accessory = inventory.getEquippedAccessory();
+    int attack = (weapon != null ? weapon.getAttackBonus() : 0) + (armor != null ? armor.getAttackBonus() : 0) + (accessory != null ? accessory.getAttackBonus() : 0);
+    int defense = (weapon != null ? weapon.getDefenseBonus() : 0) + (armor != null ? armor.getDefenseBonus() : 0) + (accessory != null ? accessory.getDefenseBonus() : 0);
+    int hp = (weapon != null ? weapon.getHpBonus() : 0) + (armor != null ? armor.getHpBonus() : 0) + (accessory != null ? accessory.getHpBonus() : 0);
+    int mp = (weapon != null ? weapon.getMpBonus() : 0) + (armor != null ? armor.getMpBonus() : 0) + (accessory != null ? accessory.getMpBonus() : 0);
+    return new PlayerInventory.EquipmentBonus(attack, defense, hp, mp);
+  }
+
+  private int runOutputBattles(BattleEngine engine, int battles) {
+    Player dummyPlayer = BalanceSimulator.createSyntheticPlayer(5, player.getQuestManager());
+    int turns = 0;
+    for (int i = 0; i < battles; i++) {
+      dummyPlayer.setHp(dummyPlayer.getTotalMaxHp());
+      engine.startBattle(dummyPlayer, new Monster("훈련용 허수아비", 120, 12, 0, 0));
+      turns += engine.getLastTurnCount();
+    }
+    return turns;
+  }
+
+  /**
+   * 하위 스트림 쓰기 호출(= 실제 출력 시스템 콜) 횟수를 세고 내용은 버리는 스트림
+   */
+  private static class WriteCountingStream extends OutputStream {
+    private int writes;
+    private long bytes;
+
+    @Override
+    public void write(int b) {
+      writes++;
+      bytes++;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+      writes++;
+      bytes += length;
+    }
+  }
+
+  /**
+   * 몬스터 × 레벨 밸런스 시뮬레이션 실행
+   */
+  private void runBalanceSimulation() {
+    System.out.println("\n=== ⚖️ 밸런스 시뮬레이션 ===");
+
+    int minLevel = InputValidator.getIntInput("최소 레벨 (1-50): ", 1, 50);
+    int maxLevel = InputValidator.getIntInput("최대 레벨 (" + minLevel + "-50): ", minLevel, 50);
+    int battles = InputValidator.getIntInput("칸당 전투 수 (1-100000): ", 1, 100000);
+    int seed = InputValidator.getIntInput("시드 (0-999999): ", 0, 999999);
+    int policyChoice = InputValidator.getIntInput("전투 정책 (1: 일반 공격만, 2: 기대값 자동 전투): ", 1, 2);
+    Supplier<BattleActionPolicy> policyFactory = policyChoice == 1 ? AttackOnlyPolicy::new : ExpectedValuePolicy::new;
+
+    try {
+      BalanceSimulator simulator = new BalanceSimulator(minLevel, maxLevel, battles, seed, policyFactory);
+      BalanceReport report = simulator.run();
+      report.printSummary();
+
+      List<Path> files = report.writeCsv(Paths.get(SystemConstants.REPORT_DIRECTORY));
+      files.forEach(file -> System.out.println("📄 리포트 저장: " + file.toAbsolutePath()));
+
+    } catch (Exception e) {
+      System.out.println("❌ 밸런스 시뮬레이션 실패: " + e.getMessage());
+      logger.error("밸런스 시뮬레이션 실패", e);
+    }
+
+    InputValidator.waitForAnyKey("계속하려면 Enter를 누르세요...");
+  }
+
+  /**
+   * 전투 이벤트 로그 재생/검증/저장
+   */
+  private void runBattleReplay() {
+    System.out.println("\n=== 🎞️ 전투 기록 재생 ===");
+    System.out.println("1. 마지막 전투 재생 및 검증");
+    System.out.println("2. 마지막 전투 기록 저장");
+    System.out.println("3. 파일에서 불러와 재생 및 검증");
+    System.out.println("0. 돌아가기");
+
+    int choice = InputValidator.getIntInput("선택 (0-3): ", 0, 3);
+    if (choice == 0) {
+      return;
+    }
+
+    try {
+      BattleEventLog log;
+      if (choice == 3) {
+        String path = InputValidator.getStringInput("파일 경로: ", 1, 200);
+        log = BattleEventLog.load(Paths.get(path));
+      } else {
+        log = battleEngine != null ? battleEngine.getLastBattleLog() : null;
+        if (log == null || log.getResult() == null) {
+          System.out.println("기록된 전투가 없습니다.");
+          return;
+        }
+      }
+
+      if (choice == 2) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path file = Paths.get(SystemConstants.REPORT_DIRECTORY, "battle_" + timestamp + ".btl");
+        log.save(file);
+        System.out.printf("📄 전투 기록 저장: %s (%d건, %,d bytes)%n", file.toAbsolutePath(), log.size(), log.size() * BattleEventLog.RECORD_SIZE);
+        return;
+      }
+
+      BattleReplayer.render(log, BattleOutput.console());
+      List<String> problems = BattleReplayer.verify(log);
+      if (problems.isEmpty()) {
+        System.out.println("✅ 검증 통과: 모든 데미지와 HP 변화가 전투 규칙과 일치합니다.");
+      } else {
+        System.out.printf("⚠️ 불일치 %d건:%n", problems.size());
+        problems.forEach(problem -> System.out.println("   " + problem));
+      }
+
+    } catch (Exception e) {
+      System.out.println("❌ 전투 기록 처리 실패: " + e.getMessage());
+      logger.error("전투 기록 처리 실패", e);
+    }
+  }
+
+  /**
+   * 지역별 탐험 통계 조회/저장/초기화
+   */
+  private void showExplorationTelemetry() {
+    ExplorationTelemetry telemetry = ExplorationTelemetry.getInstance();
+    TelemetrySnapshot snapshot = telemetry.snapshot();
+    snapshot.printSummary();
+
+    System.out.println("1. CSV로 저장");
+    System.out.println("2. 통계 초기화");
+    System.out.println("0. 돌아가기");
+
+    int choice = InputValidator.getIntInput("선택 (0-2): ", 0, 2);
+    try {
+      if (choice == 1) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path file = Paths.get(SystemConstants.REPORT_DIRECTORY, "telemetry_" + timestamp + ".csv");
+        snapshot.writeCsv(file);
+        System.out.println("📄 탐험 통계 저장: " + file.toAbsolutePath());
+      } else if (choice == 2 && InputValidator.getConfirmation("탐험 통계를 초기화하시겠습니까?")) {
+        telemetry.reset();
+        System.out.println("🔄 탐험 통계를 초기화했습니다.");
+      }
+    } catch (Exception e) {
+      System.out.println("❌ 탐험 통계 저장 실패: " + e.getMessage());
+      logger.error("탐험 통계 저장 실패", e);
+    }
+  }
+
   /**
    * 로그 파일 정보 표시
    */
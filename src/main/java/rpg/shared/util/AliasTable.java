@@ -0,0 +1,85 @@
+package rpg.shared.util;
+
+import java.util.Arrays;
+
+/**
+ * 가중치 기반 인덱스 추첨 테이블 (Walker 별칭 방식)
+ * - 생성 시 O(N)으로 칸마다 (자기 확률, 별칭) 쌍을 만들어 두고, 추첨은 난수 한 번으로 O(1)
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능, 추첨 시 객체 생성 없음
+ * - 음수 가중치는 0으로 보고, 가중치 합이 0이면 균등 추첨
+ */
+public final class AliasTable {
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  /**
+   * @param weights 칸별 가중치 (비어 있으면 안 됨)
+   */
+  public AliasTable(double[] weights) {
+    if (weights == null || weights.length == 0) {
+      throw new IllegalArgumentException("추첨할 항목이 없습니다.");
+    }
+    int size = weights.length;
+    this.probabilities = new double[size];
+    this.aliases = new int[size];
+
+    double totalWeight = 0;
+    for (double weight : weights) {
+      totalWeight += Math.max(0, weight);
+    }
+
+    // 평균이 1이 되도록 정규화한 뒤 1 미만(small)과 1 이상(large) 칸을 짝지음 (두 스택은 배열 하나를 양 끝에서 사용)
+    double[] scaled = new double[size];
+    int[] work = new int[size];
+    int smallTop = 0;
+    int largeBottom = size;
+    for (int i = 0; i < size; i++) {
+      scaled[i] = totalWeight > 0 ? Math.max(0, weights[i]) * size / totalWeight : 1.0;
+      if (scaled[i] < 1.0) {
+        work[smallTop++] = i;
+      } else {
+        work[--largeBottom] = i;
+      }
+    }
+    while (smallTop > 0 && largeBottom < size) {
+      int less = work[--smallTop];
+      int more = work[largeBottom++];
+      probabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] -= 1.0 - scaled[less];
+      if (scaled[more] < 1.0) {
+        work[smallTop++] = more;
+      } else {
+        work[--largeBottom] = more;
+      }
+    }
+    // 부동소수점 오차로 남은 칸은 자기 자신을 확률 1로 선택
+    for (int i = 0; i < smallTop; i++) {
+      probabilities[work[i]] = 1.0;
+      aliases[work[i]] = work[i];
+    }
+    for (int i = largeBottom; i < size; i++) {
+      probabilities[work[i]] = 1.0;
+      aliases[work[i]] = work[i];
+    }
+  }
+
+  /**
+   * 가중치에 따라 칸 번호 하나를 추첨합니다.
+   */
+  public int pick(RandomUtils random) {
+    // 난수 하나의 정수부로 칸을, 소수부로 칸 안의 자기/별칭을 고름
+    double roll = random.nextDouble() * probabilities.length;
+    int index = Math.min((int) roll, probabilities.length - 1);
+    return roll - index < probabilities[index] ? index : aliases[index];
+  }
+
+  public int size() {
+    return probabilities.length;
+  }
+
+  @Override
+  public String toString() {
+    return "AliasTable" + Arrays.toString(probabilities);
+  }
+}
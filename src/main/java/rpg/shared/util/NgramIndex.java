@@ -0,0 +1,134 @@
+package rpg.shared.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 부분 문자열 검색용 문자 n-gram 역색인 (1-gram + 2-gram)
+ * - 한글은 음절 단위로 색인하므로 "슬라"처럼 이름 중간의 일부만 입력해도 검색됨
+ * - 검색어의 2-gram 게시 목록 중 가장 짧은 목록의 후보만 실제 포함 여부로 확인하므로 전체 항목을 훑지 않음
+ * - 영문은 대소문자를 구분하지 않음
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유 가능
+ *
+ * @param <T> 색인 대상
+ */
+public final class NgramIndex<T> {
+  private static final int[] NO_POSTINGS = new int[0];
+
+  private final List<T> items;
+  private final String[][] texts; // [항목][필드] 정규화된 텍스트
+  private final Map<String, int[]> postings; // n-gram → 항목 인덱스 (오름차순)
+
+  /**
+   * @param items 색인할 항목 (검색 결과는 이 순서를 따름)
+   * @param fields 항목에서 검색 대상 텍스트를 꺼내는 함수 목록 (하나라도 포함하면 일치)
+   */
+  public NgramIndex(List<T> items, List<Function<T, String>> fields) {
+    if (items == null || fields == null || fields.isEmpty()) {
+      throw new IllegalArgumentException("색인할 항목과 필드는 null이거나 비어 있을 수 없습니다.");
+    }
+    this.items = List.copyOf(items);
+    this.texts = new String[this.items.size()][fields.size()];
+
+    Map<String, List<Integer>> building = new HashMap<>();
+    for (int i = 0; i < this.items.size(); i++) {
+      T item = this.items.get(i);
+      for (int f = 0; f < fields.size(); f++) {
+        String text = normalize(fields.get(f).apply(item));
+        texts[i][f] = text;
+        for (int start = 0; start < text.length(); start++) {
+          addPosting(building, text.substring(start, start + 1), i);
+          if (start + 1 < text.length()) {
+            addPosting(building, text.substring(start, start + 2), i);
+          }
+        }
+      }
+    }
+
+    this.postings = new HashMap<>(building.size() * 2);
+    for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+      List<Integer> list = entry.getValue();
+      int[] array = new int[list.size()];
+      for (int i = 0; i < array.length; i++) {
+        array[i] = list.get(i);
+      }
+      postings.put(entry.getKey(), array);
+    }
+  }
+
+  private static void addPosting(Map<String, List<Integer>> building, String gram, int index) {
+    List<Integer> list = building.computeIfAbsent(gram, key -> new ArrayList<>());
+    // 항목 순서대로 색인하므로 같은 항목의 중복만 마지막 값으로 걸러내면 오름차순 유지
+    if (list.isEmpty() || list.get(list.size() - 1) != index) {
+      list.add(index);
+    }
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 검색어를 포함하는 항목을 찾습니다. 빈 검색어는 모든 항목과 일치합니다.
+   *
+   * @return 일치하는 항목 (색인 순서, 읽기 전용)
+   */
+  public List<T> search(String query) {
+    String normalized = normalize(query);
+    if (normalized.isEmpty()) {
+      return items;
+    }
+
+    int[] candidates;
+    if (normalized.length() == 1) {
+      candidates = postings.getOrDefault(normalized, NO_POSTINGS);
+    } else {
+      candidates = null;
+      for (int start = 0; start + 1 < normalized.length(); start++) {
+        int[] list = postings.getOrDefault(normalized.substring(start, start + 2), NO_POSTINGS);
+        if (list.length == 0) {
+          return List.of();
+        }
+        if (candidates == null || list.length < candidates.length) {
+          candidates = list;
+        }
+      }
+    }
+
+    List<T> result = null;
+    for (int index : candidates) {
+      if (matches(index, normalized)) {
+        if (result == null) {
+          result = new ArrayList<>();
+        }
+        result.add(items.get(index));
+      }
+    }
+    return result != null ? Collections.unmodifiableList(result) : List.of();
+  }
+
+  private boolean matches(int index, String normalized) {
+    for (String text : texts[index]) {
+      if (text.contains(normalized)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * 색인된 n-gram 수
+   */
+  public int getGramCount() {
+    return postings.size();
+  }
+}
@@ -1,5 +1,141 @@
 package rpg.shared.util;
 
-public class RandomUtils {
+import java.util.List;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * 시드 기반 난수 스트림
+ * - 게임 세션마다 하나의 세션 스트림을 사용하고, 시드를 기록해 두면 같은 진행을 재현할 수 있음
+ * - 시뮬레이션은 split()으로 작업 단위마다 독립된 스트림을 받아 공유 시드 경합 없이 병렬 실행
+ * - SplittableRandom 기반이므로 한 인스턴스는 한 스레드에서만 사용해야 함
+ */
+public final class RandomUtils {
+  private static final Logger logger = LoggerFactory.getLogger(RandomUtils.class);
+
+  /** 재현 실행용 시드 시스템 프로퍼티 (예: -Drpg.seed=12345) */
+  public static final String SEED_PROPERTY = "rpg.seed";
+
+  private static final RandomUtils SESSION = new RandomUtils(initialSeed());
+
+  private long seed;
+  private SplittableRandom random;
+
+  public RandomUtils(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * 현재 게임 세션의 난수 스트림을 반환합니다. (게임 루프 스레드 전용)
+   */
+  public static RandomUtils session() {
+    return SESSION;
+  }
+
+  /**
+   * 새 시드로 게임 세션 스트림을 다시 시작합니다.
+   *
+   * @return 사용된 시드 (rpg.seed 프로퍼티가 있으면 그 값)
+   */
+  public static long startSession() {
+    long seed = initialSeed();
+    SESSION.reseed(seed);
+    logger.info("게임 세션 난수 시드: {}", seed);
+    return seed;
+  }
+
+  private static long initialSeed() {
+    Long fixedSeed = Long.getLong(SEED_PROPERTY);
+    return fixedSeed != null ? fixedSeed : System.nanoTime();
+  }
+
+  /**
+   * 스트림을 지정한 시드로 초기화합니다.
+   */
+  public void reseed(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * 현재 스트림에서 자식 시드를 뽑아 독립된 자식 스트림을 만듭니다.
+   * 분리 순서가 같으면 자식 시드도 항상 같으므로, 병렬 작업 전에 순서대로 분리하면 결과가 재현됨
+   * 자식 스트림의 getSeed()로 그 스트림만 따로 다시 만들 수 있음
+   */
+  public RandomUtils split() {
+    long childSeed = random.nextLong();
+    return new RandomUtils(childSeed);
+  }
+
+  /**
+   * 스트림 생성 시드 (new RandomUtils(getSeed())로 같은 스트림을 다시 만들 수 있음)
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * 0 이상 bound 미만의 정수
+   */
+  public int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+
+  /**
+   * origin 이상 bound 미만의 정수
+   */
+  public int nextInt(int origin, int bound) {
+    return random.nextInt(origin, bound);
+  }
+
+  /**
+   * 0.0 이상 1.0 미만의 실수
+   */
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+
+  public boolean nextBoolean() {
+    return random.nextBoolean();
+  }
+
+  /**
+   * 확률 판정
+   *
+   * @param probability 성공 확률 (0.0 ~ 1.0)
+   */
+  public boolean chance(double probability) {
+    return random.nextDouble() < probability;
+  }
+
+  /**
+   * 퍼센트 확률 판정
+   *
+   * @param percent 성공 확률 (0 ~ 100)
+   */
+  public boolean chancePercent(int percent) {
+    return random.nextInt(100) < percent;
+  }
+
+  /**
+   * 배열에서 무작위 원소를 선택합니다.
+   */
+  public <T> T pick(T[] values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("선택할 값이 없습니다.");
+    }
+    return values[random.nextInt(values.length)];
+  }
+
+  /**
+   * 리스트에서 무작위 원소를 선택합니다.
+   */
+  public <T> T pick(List<T> values) {
+    if (values == null || values.isEmpty()) {
+      throw new IllegalArgumentException("선택할 값이 없습니다.");
+    }
+    return values.get(random.nextInt(values.size()));
+  }
 }
@@ -0,0 +1,185 @@
+package rpg.application.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rpg.domain.item.GameEffectData;
+import rpg.domain.item.GameItemData;
+import rpg.domain.item.ItemRarity;
+import rpg.infrastructure.data.loader.ItemCatalogLoader;
+import rpg.shared.constant.GameConstants;
+import rpg.shared.constant.ItemConstants;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * ItemQueryIndex 조회 결과가 기존 스트림 필터와 같은지 실제 아이템 데이터로 검증
+ */
+class ItemQueryIndexTest {
+  private static final int DRAWS = 20_000;
+
+  private static Map<String, GameItemData> database;
+  private static ItemQueryIndex index;
+
+  @BeforeAll
+  static void setUp() {
+    database = ItemCatalogLoader.getCatalog().getBasicItems();
+    index = new ItemQueryIndex(database);
+    assertFalse(database.isEmpty(), "아이템 데이터가 비어 있음");
+  }
+
+  @Test
+  @DisplayName("전체/희귀도별 ID 목록이 스트림 필터와 같음")
+  void rarityQueriesMatchStreams() {
+    assertEquals(List.copyOf(database.keySet()), index.getAllIds());
+    for (ItemRarity rarity : ItemRarity.values()) {
+      List<GameItemData> expected = database.values().stream().filter(data -> data.getRarity() == rarity).collect(Collectors.toList());
+      assertEquals(expected, index.getByRarity(rarity), rarity.name());
+      assertEquals(ids(expected), index.getIdsByRarity(rarity), rarity.name());
+    }
+  }
+
+  @Test
+  @DisplayName("타입별 ID 목록이 스트림 필터와 같음 (대소문자 무시)")
+  void typeQueriesMatchStreams() {
+    Set<String> types = new LinkedHashSet<>();
+    database.values().forEach(data -> types.add(data.getType()));
+    types.add("UNKNOWN_TYPE");
+
+    for (String type : types) {
+      List<String> expected = database.entrySet().stream().filter(entry -> entry.getValue().getType().equalsIgnoreCase(type)).map(Map.Entry::getKey)
+          .collect(Collectors.toList());
+      assertEquals(expected, index.getIdsByType(type), type);
+      assertEquals(expected, index.getIdsByType(type.toLowerCase()), type);
+      assertEquals(expected.size(), index.countByType(type), type);
+    }
+  }
+
+  @Test
+  @DisplayName("효과 타입별 ID 목록이 스트림 필터와 같음 (대소문자 무시)")
+  void effectQueriesMatchStreams() {
+    Set<String> effectTypes = new LinkedHashSet<>();
+    for (GameItemData data : database.values()) {
+      for (GameEffectData effect : data.getEffects()) {
+        effectTypes.add(effect.getType());
+      }
+    }
+    assertFalse(effectTypes.isEmpty());
+    effectTypes.add("UNKNOWN_EFFECT");
+
+    for (String effectType : effectTypes) {
+      List<String> expected = database.entrySet().stream()
+          .filter(entry -> entry.getValue().getEffects().stream().anyMatch(effect -> effect.getType().equalsIgnoreCase(effectType))).map(Map.Entry::getKey)
+          .collect(Collectors.toList());
+      assertEquals(expected, index.getIdsByEffect(effectType), effectType);
+      assertEquals(expected, index.getIdsByEffect(effectType.toLowerCase()), effectType);
+    }
+  }
+
+  @Test
+  @DisplayName("레벨 제한 ID 목록이 기존 희귀도별 레벨 조건과 같음")
+  void levelQueriesMatchStreams() {
+    for (int level = 0; level <= ItemConstants.ULTRA_HIGH_LEVEL + 5; level++) {
+      int playerLevel = level;
+      List<String> expected = database.entrySet().stream().filter(entry -> switch (entry.getValue().getRarity()) {
+        case COMMON -> playerLevel >= GameConstants.NUMBER_ONE;
+        case UNCOMMON -> playerLevel >= ItemConstants.BEGINNER_LEVEL;
+        case RARE -> playerLevel >= ItemConstants.INTERMEDIATE_LEVEL;
+        case EPIC -> playerLevel >= ItemConstants.HIGH_LEVEL;
+        case LEGENDARY -> playerLevel >= ItemConstants.ULTRA_HIGH_LEVEL;
+      }).map(Map.Entry::getKey).collect(Collectors.toList());
+      assertEquals(expected, index.getIdsForLevel(level), "레벨 " + level);
+      assertEquals(expected.size(), index.countForLevel(level), "레벨 " + level);
+    }
+  }
+
+  @Test
+  @DisplayName("희귀도 추첨은 같은 시드에서 기존 리스트 추첨과 같은 아이템을 고름")
+  void rarityPickMatchesListPick() {
+    for (ItemRarity rarity : ItemRarity.values()) {
+      List<GameItemData> candidates = database.values().stream().filter(data -> data.getRarity() == rarity).collect(Collectors.toList());
+      RandomUtils expectedRandom = new RandomUtils(7);
+      RandomUtils actualRandom = new RandomUtils(7);
+      for (int i = 0; i < 1_000; i++) {
+        GameItemData expected = candidates.isEmpty() ? null : candidates.get(expectedRandom.nextInt(candidates.size()));
+        assertEquals(expected, index.pickByRarity(rarity, actualRandom), rarity.name());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("타입+희귀도 추첨은 같은 시드에서 기존 리스트 추첨과 같은 아이템을 고름")
+  void typeAndRarityPickMatchesListPick() {
+    for (String type : typesOf(database)) {
+      for (ItemRarity rarity : ItemRarity.values()) {
+        List<GameItemData> candidates = database.values().stream().filter(data -> type.equalsIgnoreCase(data.getType()) && data.getRarity() == rarity)
+            .collect(Collectors.toList());
+        RandomUtils expectedRandom = new RandomUtils(11);
+        RandomUtils actualRandom = new RandomUtils(11);
+        for (int i = 0; i < 200; i++) {
+          GameItemData expected = candidates.isEmpty() ? null : candidates.get(expectedRandom.nextInt(candidates.size()));
+          assertEquals(expected, index.pickByType(type, rarity, actualRandom), type + "/" + rarity);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("타입 추첨과 최대 희귀도 추첨은 기존 후보 전체를 균등하게 고름")
+  void typePicksCoverSameCandidates() {
+    RandomUtils random = new RandomUtils(3);
+    for (String type : typesOf(database)) {
+      List<GameItemData> typeCandidates = database.values().stream().filter(data -> type.equalsIgnoreCase(data.getType())).collect(Collectors.toList());
+      assertPicksCover(typeCandidates, () -> index.pickByType(type, random), type);
+
+      for (ItemRarity maxRarity : ItemRarity.values()) {
+        List<GameItemData> candidates = typeCandidates.stream().filter(data -> data.getRarity().ordinal() <= maxRarity.ordinal()).collect(Collectors.toList());
+        assertPicksCover(candidates, () -> index.pickByTypeUpTo(type, maxRarity, random), type + "/" + maxRarity);
+      }
+    }
+    assertNull(index.pickByType("UNKNOWN_TYPE", random));
+    assertNull(index.pickByType(null, random));
+  }
+
+  /**
+   * 추첨 결과가 모두 후보 안에 있고, 충분히 뽑으면 모든 후보가 나오며 한쪽으로 크게 치우치지 않는지 확인합니다.
+   */
+  private static void assertPicksCover(List<GameItemData> candidates, Supplier<GameItemData> picker, String label) {
+    if (candidates.isEmpty()) {
+      assertNull(picker.get(), label);
+      return;
+    }
+    Map<GameItemData, Integer> counts = new HashMap<>();
+    for (int i = 0; i < DRAWS; i++) {
+      GameItemData picked = picker.get();
+      assertTrue(candidates.contains(picked), label + ": 후보가 아닌 아이템 " + picked);
+      counts.merge(picked, 1, Integer::sum);
+    }
+    assertEquals(new HashSet<>(candidates), counts.keySet(), label);
+    double expected = (double) DRAWS / candidates.size();
+    for (Map.Entry<GameItemData, Integer> entry : counts.entrySet()) {
+      assertTrue(Math.abs(entry.getValue() - expected) < expected * 0.25 + 10, label + ": 치우친 추첨 " + entry.getKey().getId() + " " + entry.getValue());
+    }
+  }
+
+  private static Set<String> typesOf(Map<String, GameItemData> items) {
+    Set<String> types = new LinkedHashSet<>();
+    items.values().forEach(data -> types.add(data.getType()));
+    return types;
+  }
+
+  private static List<String> ids(List<GameItemData> items) {
+    return items.stream().map(GameItemData::getId).collect(Collectors.toList());
+  }
+}
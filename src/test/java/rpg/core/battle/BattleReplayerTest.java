@@ -0,0 +1,215 @@
+package rpg.core.battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rpg.application.service.QuestManager;
+import rpg.core.simulation.BalanceSimulator;
+import rpg.domain.battle.BattleCalculator;
+import rpg.domain.monster.Monster;
+import rpg.domain.monster.MonsterData;
+import rpg.domain.player.Player;
+import rpg.infrastructure.data.loader.MonsterDataLoader;
+import rpg.shared.util.RandomUtils;
+
+/**
+ * 시드 고정 시뮬레이션 전투의 이벤트 로그 재검증 테스트
+ */
+class BattleReplayerTest {
+  private static final long SEED = 42L;
+  private static final int[] LEVELS = {1, 5, 10, 20};
+
+  @Test
+  @DisplayName("일반 공격만 하는 전투 기록은 재검증을 통과")
+  void attackOnlyBattlesVerify() {
+    assertAllBattlesVerify(AttackOnlyPolicy::new);
+  }
+
+  @Test
+  @DisplayName("스킬/아이템을 쓰는 전투 기록도 재검증을 통과")
+  void expectedValueBattlesVerify() {
+    int skillRecords = assertAllBattlesVerify(ExpectedValuePolicy::new);
+    assertTrue(skillRecords > 0, "스킬 기록이 없어 스킬 검증이 실행되지 않음");
+  }
+
+  @Test
+  @DisplayName("피격 시 능력(경감/회피)은 스킬 데미지에도 적용되고 재검증을 통과")
+  void hitAbilitiesApplyToSkills() {
+    BattleEngine engine = BattleEngine.simulation(new ExpectedValuePolicy(), new RandomUtils(SEED));
+    Player player = BalanceSimulator.createSyntheticPlayer(10, new QuestManager());
+    int abilitySkillHits = 0;
+
+    for (MonsterData monsterData : MonsterDataLoader.getAllMonsters()) {
+      Monster probe = Monster.fromMonsterData(monsterData);
+      if (probe.getTemplate().getCompiledAbilities().onHit().length == 0) {
+        continue;
+      }
+      for (int i = 0; i < 5; i++) {
+        resetPlayer(player);
+        engine.startBattle(player, Monster.fromMonsterData(monsterData));
+        BattleEventLog log = engine.getLastBattleLog();
+        List<String> problems = BattleReplayer.verify(log);
+        assertTrue(problems.isEmpty(), () -> monsterData.getId() + ": " + problems);
+        for (int r = 0; r < log.size(); r++) {
+          if (log.getAction(r) == BattleEventLog.Action.SKILL && log.isAbility(r)) {
+            assertTrue(log.getActualValue(r) <= log.getRawValue(r), "#" + r);
+            abilitySkillHits++;
+          }
+        }
+      }
+    }
+    assertTrue(abilitySkillHits > 0, "피격 시 능력이 스킬에 발동한 기록이 없음");
+  }
+
+  @Test
+  @DisplayName("같은 시드면 같은 전투가 재현됨")
+  void sameSeedSameBattle() {
+    MonsterData monsterData = MonsterDataLoader.getAllMonsters().get(0);
+    List<String> first = summarizeBattles(monsterData);
+    List<String> second = summarizeBattles(monsterData);
+    assertEquals(first, second);
+  }
+
+  @Test
+  @DisplayName("조작된 데미지 기록은 불일치로 검출")
+  void tamperedRecordIsReported() {
+    Player player = BalanceSimulator.createSyntheticPlayer(5, new QuestManager());
+    Monster monster = Monster.fromMonsterData(MonsterDataLoader.getAllMonsters().get(0));
+    int raw = BattleCalculator.playerAttackDamage(player.getAttack(), false);
+    int actual = BattleCalculator.mitigate(raw, monster.getDefense());
+
+    BattleEventLog log = new BattleEventLog();
+    log.begin(player, List.of(monster));
+    log.record(1, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.ATTACK, 0, raw, actual, monster.getHp() - actual);
+    assertTrue(BattleReplayer.verify(log).isEmpty());
+
+    log.begin(player, List.of(monster));
+    log.record(1, BattleEventLog.Actor.PLAYER, 0, BattleEventLog.Action.ATTACK, 0, raw, actual + 1, monster.getHp() - actual - 1);
+    assertFalse(BattleReplayer.verify(log).isEmpty());
+  }
+
+  @Test
+  @DisplayName("저장한 기록을 다시 불러오면 헤더와 모든 레코드가 같고 재검증을 통과")
+  void saveAndLoadRoundTrip(@TempDir Path dir) throws IOException {
+    List<MonsterData> monsters = MonsterDataLoader.getAllMonsters();
+    BattleEngine engine = BattleEngine.simulation(new ExpectedValuePolicy(), new RandomUtils(SEED));
+    Player player = BalanceSimulator.createSyntheticPlayer(10, new QuestManager());
+    List<Monster> pack = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      pack.add(Monster.fromMonsterData(monsters.get(i % monsters.size())));
+    }
+    engine.startBattle(player, pack);
+    BattleEventLog original = engine.getLastBattleLog();
+    assertTrue(original.size() > 0);
+
+    Path file = dir.resolve("logs").resolve("battle.btl");
+    original.save(file);
+    BattleEventLog loaded = BattleEventLog.load(file);
+
+    assertEquals(original.getPlayerName(), loaded.getPlayerName());
+    assertEquals(original.getPlayerHp(), loaded.getPlayerHp());
+    assertEquals(original.getPlayerMaxHp(), loaded.getPlayerMaxHp());
+    assertEquals(original.getPlayerAttack(), loaded.getPlayerAttack());
+    assertEquals(original.getPlayerDefense(), loaded.getPlayerDefense());
+    assertEquals(original.getResult(), loaded.getResult());
+    assertEquals(pack.size(), loaded.getMonsterCount());
+    for (int slot = 0; slot < loaded.getMonsterCount(); slot++) {
+      assertEquals(original.getMonsterName(slot), loaded.getMonsterName(slot));
+      assertEquals(original.getMonsterHp(slot), loaded.getMonsterHp(slot));
+      assertEquals(original.getMonsterMaxHp(slot), loaded.getMonsterMaxHp(slot));
+      assertEquals(original.getMonsterAttack(slot), loaded.getMonsterAttack(slot));
+      assertEquals(original.getMonsterDefense(slot), loaded.getMonsterDefense(slot));
+    }
+
+    assertEquals(original.size(), loaded.size());
+    for (int i = 0; i < original.size(); i++) {
+      String record = "#" + i;
+      assertEquals(original.getTurn(i), loaded.getTurn(i), record);
+      assertEquals(original.getActor(i), loaded.getActor(i), record);
+      assertEquals(original.getAction(i), loaded.getAction(i), record);
+      assertEquals(original.getSlot(i), loaded.getSlot(i), record);
+      assertEquals(original.getFlags(i), loaded.getFlags(i), record);
+      assertEquals(original.getRawValue(i), loaded.getRawValue(i), record);
+      assertEquals(original.getActualValue(i), loaded.getActualValue(i), record);
+      assertEquals(original.getHpAfter(i), loaded.getHpAfter(i), record);
+    }
+
+    assertTrue(BattleReplayer.verify(loaded).isEmpty(), () -> BattleReplayer.verify(loaded).toString());
+    assertEquals(BattleReplayer.summarize(original), BattleReplayer.summarize(loaded));
+  }
+
+  @Test
+  @DisplayName("다른 버전의 기록 파일은 거부")
+  void loadRejectsOtherVersion(@TempDir Path dir) throws IOException {
+    BattleEngine engine = BattleEngine.simulation(new AttackOnlyPolicy(), new RandomUtils(SEED));
+    Player player = BalanceSimulator.createSyntheticPlayer(5, new QuestManager());
+    engine.startBattle(player, Monster.fromMonsterData(MonsterDataLoader.getAllMonsters().get(0)));
+
+    Path file = dir.resolve("battle.btl");
+    engine.getLastBattleLog().save(file);
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.seek(Integer.BYTES); // 매직 넘버 다음이 버전
+      raf.writeShort(1);
+    }
+    assertThrows(IOException.class, () -> BattleEventLog.load(file));
+  }
+
+  /**
+   * @return 검증한 기록 중 스킬 레코드 수
+   */
+  private int assertAllBattlesVerify(Supplier<BattleActionPolicy> policyFactory) {
+    BattleEngine engine = BattleEngine.simulation(policyFactory.get(), new RandomUtils(SEED));
+    QuestManager questManager = new QuestManager();
+    int skillRecords = 0;
+
+    for (int level : LEVELS) {
+      Player player = BalanceSimulator.createSyntheticPlayer(level, questManager);
+      for (MonsterData monsterData : MonsterDataLoader.getAllMonsters()) {
+        resetPlayer(player);
+        BattleEngine.BattleResult result = engine.startBattle(player, Monster.fromMonsterData(monsterData));
+
+        BattleEventLog log = engine.getLastBattleLog();
+        assertNotNull(log.getResult());
+        assertEquals(result, log.getResult());
+        assertTrue(log.size() > 0, "기록이 비어 있음: " + monsterData.getId());
+        List<String> problems = BattleReplayer.verify(log);
+        assertTrue(problems.isEmpty(), () -> monsterData.getId() + " (Lv" + level + "): " + problems);
+        for (int i = 0; i < log.size(); i++) {
+          if (log.getAction(i) == BattleEventLog.Action.SKILL) {
+            skillRecords++;
+          }
+        }
+      }
+    }
+    return skillRecords;
+  }
+
+  private List<String> summarizeBattles(MonsterData monsterData) {
+    BattleEngine engine = BattleEngine.simulation(new ExpectedValuePolicy(), new RandomUtils(SEED));
+    Player player = BalanceSimulator.createSyntheticPlayer(10, new QuestManager());
+    List<String> summaries = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      resetPlayer(player);
+      engine.startBattle(player, Monster.fromMonsterData(monsterData));
+      summaries.add(BattleReplayer.summarize(engine.getLastBattleLog()));
+    }
+    return summaries;
+  }
+
+  private void resetPlayer(Player player) {
+    player.setHp(player.getTotalMaxHp());
+    player.restoreMp(player.getTotalMaxMp());
+    player.getSkillManager().resetCooldowns();
+  }
+}
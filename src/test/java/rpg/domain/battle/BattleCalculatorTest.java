@@ -0,0 +1,74 @@
+package rpg.domain.battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rpg.shared.constant.GameConstants;
+
+/**
+ * BattleCalculator 천분율 데미지/방어력 계산 경계값 테스트
+ */
+class BattleCalculatorTest {
+
+  @Test
+  @DisplayName("방어력 0이면 데미지를 그대로 적용")
+  void mitigateWithZeroDefense() {
+    assertEquals(10, BattleCalculator.mitigate(10, 0));
+    assertEquals(1, BattleCalculator.mitigate(1, 0));
+  }
+
+  @Test
+  @DisplayName("방어력이 데미지 이상이면 최소 데미지")
+  void mitigateWithHighDefense() {
+    assertEquals(BattleCalculator.MIN_DAMAGE, BattleCalculator.mitigate(10, 10));
+    assertEquals(BattleCalculator.MIN_DAMAGE, BattleCalculator.mitigate(10, 9_999));
+    assertEquals(BattleCalculator.MIN_DAMAGE, BattleCalculator.mitigate(0, 0));
+    assertEquals(2, BattleCalculator.mitigate(11, 9));
+  }
+
+  @Test
+  @DisplayName("크리티컬 배율은 설정값의 천분율")
+  void criticalMultiplierMatchesConstant() {
+    assertEquals(1500, BattleCalculator.CRITICAL_MULTIPLIER_PERMILLE);
+    assertEquals(BattleCalculator.toPermille(GameConstants.CRITICAL_DAMAGE_MULTIPLIER), BattleCalculator.CRITICAL_MULTIPLIER_PERMILLE);
+  }
+
+  @Test
+  @DisplayName("최소 데미지에 크리티컬이 터져도 최소 데미지 이상 (소수점 이하 버림)")
+  void criticalOnMinimumDamage() {
+    assertEquals(1, BattleCalculator.applyCritical(1, true));
+    assertEquals(1, BattleCalculator.mitigate(BattleCalculator.applyCritical(1, true), 0));
+    assertEquals(BattleCalculator.MIN_DAMAGE, BattleCalculator.mitigate(BattleCalculator.playerAttackDamage(1, true), 5));
+    assertEquals(3, BattleCalculator.applyCritical(2, true));
+    assertEquals(4, BattleCalculator.applyCritical(3, true));
+    assertEquals(0, BattleCalculator.applyCritical(0, true));
+  }
+
+  @Test
+  @DisplayName("플레이어 공격 데미지는 기존 실수 계산과 같음")
+  void playerAttackMatchesFloatingPoint() {
+    for (int attack = 0; attack <= 10_000; attack++) {
+      assertEquals(attack, BattleCalculator.playerAttackDamage(attack, false));
+      assertEquals((int) (attack * GameConstants.CRITICAL_DAMAGE_MULTIPLIER), BattleCalculator.playerAttackDamage(attack, true), "공격력 " + attack);
+    }
+  }
+
+  @Test
+  @DisplayName("큰 값에 배율을 적용해도 int 범위에서 넘치지 않음")
+  void scaleUsesWideIntermediate() {
+    assertEquals(3_000_000, BattleCalculator.scale(2_000_000, 1500));
+    assertEquals(0, BattleCalculator.scale(999, 1));
+    assertEquals(1, BattleCalculator.scale(1000, 1));
+  }
+
+  @Test
+  @DisplayName("확률 판정 경계값")
+  void successBoundaries() {
+    assertFalse(BattleCalculator.isSuccess(0, 0));
+    assertTrue(BattleCalculator.isSuccess(99, 100));
+    assertTrue(BattleCalculator.isSuccess(29, 30));
+    assertFalse(BattleCalculator.isSuccess(30, 30));
+  }
+}
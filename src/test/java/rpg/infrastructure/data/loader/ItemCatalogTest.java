@@ -0,0 +1,39 @@
+package rpg.infrastructure.data.loader;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rpg.domain.item.GameItemData;
+
+/**
+ * 실제 아이템 파일로 만든 카탈로그의 로드 결과와 중복 ID 우선순위 검증
+ */
+class ItemCatalogTest {
+
+  @Test
+  @DisplayName("보물/장비/드롭 파일도 모두 읽힘")
+  void exploreFilesLoad() {
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
+    assertFalse(catalog.getBasicItems().isEmpty(), "기본 아이템");
+    assertFalse(catalog.getTreasureItems().isEmpty(), "보물 아이템");
+    assertFalse(catalog.getEquipmentItems().isEmpty(), "장비 아이템");
+    assertFalse(catalog.getDropItems().isEmpty(), "드롭 아이템");
+  }
+
+  @Test
+  @DisplayName("중복 ID는 기본 아이템 정의가 우선하고 분류 목록도 같은 정의를 가리킴")
+  void basicDefinitionWins() {
+    ItemCatalog catalog = ItemCatalogLoader.getCatalog();
+    Map<String, GameItemData> basic = catalog.getBasicItems();
+    for (GameItemData data : basic.values()) {
+      assertSame(data, catalog.get(data.getId()), data.getId());
+    }
+    for (GameItemData data : catalog.getExploreItems()) {
+      assertSame(catalog.get(data.getId()), data, data.getId());
+    }
+    assertTrue(catalog.getExploreItems().stream().anyMatch(data -> basic.containsKey(data.getId())), "기본 아이템과 겹치는 탐험 아이템이 없음");
+  }
+}
@@ -0,0 +1,36 @@
+package rpg.shared.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RandomUtils 시드 재현 테스트
+ */
+class RandomUtilsTest {
+
+  @Test
+  @DisplayName("분리한 스트림은 자기 시드로 다시 만들 수 있음")
+  void splitStreamReplaysFromItsSeed() {
+    RandomUtils root = new RandomUtils(42);
+    for (int i = 0; i < 10; i++) {
+      RandomUtils child = root.split();
+      RandomUtils replay = new RandomUtils(child.getSeed());
+      assertNotEquals(root.getSeed(), child.getSeed());
+      for (int n = 0; n < 100; n++) {
+        assertEquals(replay.nextInt(1_000_000), child.nextInt(1_000_000));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("같은 시드에서 같은 순서로 분리하면 같은 자식 시드")
+  void splitOrderIsDeterministic() {
+    RandomUtils first = new RandomUtils(7);
+    RandomUtils second = new RandomUtils(7);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.split().getSeed(), second.split().getSeed());
+    }
+  }
+}